@@ -0,0 +1,117 @@
+package com.common.server.api.controller;
+
+import com.common.server.common.exception.BusinessException;
+import com.common.server.common.exception.ErrorCode;
+import com.common.server.common.file.FileResponseWriter;
+import com.common.server.common.file.FileSizeLimitExceededException;
+import com.common.server.common.file.FileStorageService;
+import com.common.server.common.file.StoredFile;
+import com.common.server.common.file.StreamingMultipartUploader;
+import com.common.server.common.file.UploadPolicy;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 파일 업로드/다운로드 컨트롤러
+ *
+ * 업로드(/api/files/{category})는 multipart 본문을 임시 파일 없이 스트리밍으로 읽어
+ * 내용 주소 기반 경로에 바로 저장합니다. (StreamingMultipartUploader)
+ *
+ * file.upload.base-url(/files/**)로 노출되는 업로드 파일을 스트리밍으로 제공합니다.
+ * Range(이어받기, 동영상 탐색), ETag/Last-Modified 조건부 요청(304)을 지원하며,
+ * 본문은 힙에 올리지 않고 sendfile/FileChannel.transferTo로 전송합니다.
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Tag(name = "파일 API", description = "파일 업로드/다운로드 API")
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+public class FileController {
+
+    private final FileStorageService fileStorageService;
+    private final StreamingMultipartUploader streamingMultipartUploader;
+
+    @Value("${file.download.cache-max-age:1h}")
+    private Duration cacheMaxAge;
+
+    /**
+     * 파일 업로드 (스트리밍 multipart)
+     *
+     * POST /api/files/{category}
+     *
+     * 폼 필드 이름과 관계없이 파일 파트를 모두 저장합니다.
+     * 본문을 직접 읽으므로 @RequestParam(쿼리 파라미터 포함)을 사용하지 않습니다.
+     * (getParameter 호출 시 Tomcat이 본문 전체를 파싱함)
+     *
+     * @param category images 또는 documents
+     * @return 저장된 파일 목록
+     */
+    @Operation(
+            summary = "파일 업로드",
+            description = "multipart/form-data의 파일 파트를 저장합니다. category: images(10MB), documents(50MB)"
+    )
+    @PostMapping(value = "/api/files/{category}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<List<StoredFile>> upload(@PathVariable String category,
+                                                   HttpServletRequest request) throws IOException {
+        UploadPolicy policy = UploadPolicy.forCategory(category)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND));
+
+        try {
+            return ResponseEntity.ok(streamingMultipartUploader.upload(request, policy));
+        } catch (FileSizeLimitExceededException e) {
+            throw new BusinessException(ErrorCode.FILE_SIZE_EXCEEDED, e.getMessage());
+        } catch (IllegalArgumentException | MultipartException e) {
+            log.warn("Upload rejected: {}", e.getMessage());
+            throw new BusinessException(ErrorCode.INVALID_FILE, e.getMessage());
+        }
+    }
+
+    /**
+     * 파일 다운로드 (GET/HEAD)
+     *
+     * GET /files/{filePath}
+     *
+     * @param filePath 업로드 디렉토리 기준 파일 경로
+     */
+    @Operation(
+            summary = "파일 다운로드",
+            description = "업로드된 파일을 전송합니다. Range, If-None-Match, If-Modified-Since, If-Range를 지원합니다."
+    )
+    @GetMapping("/files/{*filePath}")
+    public void download(@PathVariable String filePath, HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        String path = filePath.startsWith("/") ? filePath.substring(1) : filePath;
+
+        Resource resource;
+        try {
+            resource = fileStorageService.loadAsResource(path);
+        } catch (SecurityException e) {
+            // 업로드 디렉토리 밖을 가리키는 경로는 존재 여부를 노출하지 않음
+            throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND);
+        }
+        if (!resource.isReadable()) {
+            throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND);
+        }
+
+        FileResponseWriter.write(resource, request, response, cacheMaxAge);
+    }
+}
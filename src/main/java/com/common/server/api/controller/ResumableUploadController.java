@@ -0,0 +1,167 @@
+package com.common.server.api.controller;
+
+import com.common.server.common.exception.BusinessException;
+import com.common.server.common.exception.ErrorCode;
+import com.common.server.common.file.ChecksumMismatchException;
+import com.common.server.common.file.FileSizeLimitExceededException;
+import com.common.server.common.file.StoredFile;
+import com.common.server.common.file.UploadPolicy;
+import com.common.server.common.file.resumable.ResumableUploadService;
+import com.common.server.common.file.resumable.UploadSessionStatus;
+import com.common.server.dto.file.UploadSessionCreateRequestDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+
+/**
+ * 재개 가능한 조각 업로드 컨트롤러
+ *
+ * 네트워크가 끊겨도 받지 못한 조각만 다시 보내면 되므로 모바일 환경의 대용량 업로드에 사용합니다.
+ * 조각은 순서와 관계없이 병렬로 보낼 수 있습니다.
+ *
+ * 1. POST /api/files/uploads                      세션 생성 (크기, SHA-256 선언)
+ * 2. PUT  /api/files/uploads/{id}/chunks/{index}  조각 전송 (application/octet-stream)
+ * 3. GET  /api/files/uploads/{id}                 받지 못한 조각 조회 (재개 시)
+ * 4. POST /api/files/uploads/{id}/complete        체크섬 검증 후 저장
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Tag(name = "파일 API", description = "파일 업로드/다운로드 API")
+@RestController
+@RequestMapping("/api/files/uploads")
+@RequiredArgsConstructor
+@Slf4j
+public class ResumableUploadController {
+
+    private final ResumableUploadService resumableUploadService;
+
+    /**
+     * 업로드 세션 생성
+     *
+     * POST /api/files/uploads
+     */
+    @Operation(
+            summary = "재개 가능한 업로드 시작",
+            description = "파일 크기와 SHA-256을 선언하고 세션 ID와 조각 크기를 받습니다."
+    )
+    @PostMapping
+    public ResponseEntity<UploadSessionStatus> create(@Valid @RequestBody UploadSessionCreateRequestDto requestDto,
+                                                      Authentication authentication) throws IOException {
+        UploadPolicy policy = UploadPolicy.forCategory(requestDto.getCategory())
+                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "Unknown upload category"));
+        try {
+            UploadSessionStatus status = resumableUploadService.create(authentication.getName(),
+                    requestDto.getFilename(), requestDto.getContentType(), requestDto.getSize(),
+                    requestDto.getSha256(), policy);
+            return ResponseEntity.status(HttpStatus.CREATED).body(status);
+        } catch (RuntimeException e) {
+            throw translate(e);
+        }
+    }
+
+    /**
+     * 조각 전송 (같은 조각을 다시 보내면 덮어씀)
+     *
+     * PUT /api/files/uploads/{uploadId}/chunks/{index}
+     */
+    @Operation(
+            summary = "조각 전송",
+            description = "조각 index를 오프셋 index * chunkSize에 씁니다. 마지막 조각을 제외하면 길이는 chunkSize여야 합니다."
+    )
+    @PutMapping(value = "/{uploadId}/chunks/{index}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<UploadSessionStatus> writeChunk(@PathVariable String uploadId, @PathVariable int index,
+                                                          HttpServletRequest request,
+                                                          Authentication authentication) throws IOException {
+        try {
+            return ResponseEntity.ok(resumableUploadService.writeChunk(authentication.getName(), uploadId, index,
+                    request.getContentLengthLong(), request.getInputStream()));
+        } catch (RuntimeException e) {
+            throw translate(e);
+        }
+    }
+
+    /**
+     * 세션 상태 조회
+     *
+     * GET /api/files/uploads/{uploadId}
+     */
+    @Operation(summary = "업로드 상태 조회", description = "받지 못한 조각 번호와 만료 시각을 반환합니다.")
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<UploadSessionStatus> status(@PathVariable String uploadId,
+                                                      Authentication authentication) {
+        try {
+            return ResponseEntity.ok(resumableUploadService.status(authentication.getName(), uploadId));
+        } catch (RuntimeException e) {
+            throw translate(e);
+        }
+    }
+
+    /**
+     * 업로드 완료
+     *
+     * POST /api/files/uploads/{uploadId}/complete
+     */
+    @Operation(
+            summary = "업로드 완료",
+            description = "모든 조각이 모이면 SHA-256을 검증하고 저장합니다. 체크섬이 다르면 세션이 삭제됩니다."
+    )
+    @PostMapping("/{uploadId}/complete")
+    public ResponseEntity<StoredFile> complete(@PathVariable String uploadId, Authentication authentication) {
+        try {
+            return ResponseEntity.ok(resumableUploadService.complete(authentication.getName(), uploadId));
+        } catch (RuntimeException e) {
+            throw translate(e);
+        }
+    }
+
+    /**
+     * 업로드 취소
+     *
+     * DELETE /api/files/uploads/{uploadId}
+     */
+    @Operation(summary = "업로드 취소", description = "세션과 받은 조각을 삭제합니다.")
+    @DeleteMapping("/{uploadId}")
+    public ResponseEntity<Void> abort(@PathVariable String uploadId, Authentication authentication) {
+        try {
+            resumableUploadService.abort(authentication.getName(), uploadId);
+            return ResponseEntity.noContent().build();
+        } catch (RuntimeException e) {
+            throw translate(e);
+        }
+    }
+
+    /**
+     * 업로드 서비스 예외를 에러 코드로 변환
+     */
+    private static RuntimeException translate(RuntimeException e) {
+        if (e instanceof NoSuchElementException) {
+            return new BusinessException(ErrorCode.RESOURCE_NOT_FOUND);
+        }
+        if (e instanceof FileSizeLimitExceededException) {
+            return new BusinessException(ErrorCode.FILE_SIZE_EXCEEDED, e.getMessage());
+        }
+        if (e instanceof ChecksumMismatchException) {
+            return new BusinessException(ErrorCode.CHECKSUM_MISMATCH, e.getMessage());
+        }
+        if (e instanceof IllegalStateException) {
+            return new BusinessException(ErrorCode.UPLOAD_SESSION_CONFLICT, e.getMessage());
+        }
+        if (e instanceof IllegalArgumentException) {
+            log.warn("Upload rejected: {}", e.getMessage());
+            return new BusinessException(ErrorCode.INVALID_FILE, e.getMessage());
+        }
+        return e;
+    }
+}
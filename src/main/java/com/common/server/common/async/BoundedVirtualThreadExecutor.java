@@ -0,0 +1,230 @@
+package com.common.server.common.async;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 세마포어로 동시 실행 수를 제한하는 가상 스레드 Executor
+ *
+ * 작업마다 가상 스레드를 만들고, 가상 스레드 안에서 세마포어 허가를 얻은 뒤 실행합니다.
+ * - 스레드 수 대신 maxConcurrency(허가 수)로 동시 실행을 제한 (하위 자원 보호)
+ * - 허가를 기다리는 작업은 파킹된 가상 스레드로 대기하므로 제출 스레드는 막히지 않음
+ * - 대기 작업이 maxPending을 넘으면 RejectionPolicy에 따라 처리 (ABORT, CALLER_RUNS, BLOCK, DROP)
+ * - TaskDecorator(MdcTaskDecorator 등)를 그대로 적용
+ * - 종료 시 새 작업을 거부하고 awaitTermination 동안 실행/대기 중인 작업 완료를 기다린 뒤 남은 작업은 인터럽트
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Slf4j
+public class BoundedVirtualThreadExecutor implements AsyncTaskExecutor, DisposableBean {
+
+    private final String name;
+    private final ThreadFactory threadFactory;
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final int maxPending;
+
+    private final Semaphore admission;
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+    private TaskDecorator taskDecorator;
+    private RejectionPolicy rejectionPolicy = RejectionPolicy.ABORT;
+    private Duration blockTimeout = Duration.ZERO;
+    private ExecutorMetrics metrics;
+    private long awaitTerminationMillis;
+    private volatile boolean shutdown;
+
+    /**
+     * @param threadNamePrefix 가상 스레드 이름 접두사
+     * @param maxConcurrency 동시에 실행할 최대 작업 수
+     * @param maxPending 허가를 기다릴 수 있는 최대 작업 수
+     */
+    public BoundedVirtualThreadExecutor(String threadNamePrefix, int maxConcurrency, int maxPending) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+        }
+        this.name = threadNamePrefix;
+        this.threadFactory = Thread.ofVirtual().name(threadNamePrefix, 0).factory();
+        this.permits = new Semaphore(maxConcurrency);
+        this.maxConcurrency = maxConcurrency;
+        this.maxPending = Math.max(0, maxPending);
+        this.admission = new Semaphore(maxConcurrency + this.maxPending);
+    }
+
+    public void setTaskDecorator(TaskDecorator taskDecorator) {
+        this.taskDecorator = taskDecorator;
+    }
+
+    /**
+     * 대기 한도 초과 시 정책 (기본 ABORT)
+     *
+     * @param blockTimeout BLOCK 정책에서 자리가 나기를 기다리는 최대 시간
+     */
+    public void setRejectionPolicy(RejectionPolicy rejectionPolicy, Duration blockTimeout) {
+        this.rejectionPolicy = rejectionPolicy;
+        this.blockTimeout = blockTimeout;
+    }
+
+    /**
+     * 거부 기록용 메트릭 (대기/실행 시간은 TaskDecorator로 기록)
+     */
+    public void setMetrics(ExecutorMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public void setAwaitTerminationSeconds(int awaitTerminationSeconds) {
+        this.awaitTerminationMillis = TimeUnit.SECONDS.toMillis(awaitTerminationSeconds);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (shutdown) {
+            throw new TaskRejectedException("Executor [" + name + "] has been shut down");
+        }
+        Runnable decorated = taskDecorator != null ? taskDecorator.decorate(task) : task;
+        if (!admission.tryAcquire() && !handleSaturation(task, decorated)) {
+            return;
+        }
+
+        Thread thread = threadFactory.newThread(() -> run(decorated));
+        threads.add(thread);
+        try {
+            thread.start();
+        } catch (RuntimeException | OutOfMemoryError e) {
+            threads.remove(thread);
+            admission.release();
+            throw new TaskRejectedException("Executor [" + name + "] failed to start a virtual thread", e);
+        }
+    }
+
+    /**
+     * 대기 한도 초과 시 정책 적용
+     *
+     * @param task 제출된 원본 작업 (DROP 시 Future 취소 여부 판단)
+     * @param decorated TaskDecorator를 적용한 작업
+     * @return 자리를 얻어 가상 스레드로 실행해야 하면 true
+     */
+    private boolean handleSaturation(Runnable task, Runnable decorated) {
+        switch (rejectionPolicy) {
+            case CALLER_RUNS -> {
+                record("caller_runs");
+                decorated.run();
+                return false;
+            }
+            case BLOCK -> {
+                try {
+                    if (admission.tryAcquire(blockTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                        record("blocked");
+                        return true;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                record("timeout");
+                throw new TaskRejectedException("Executor [" + name + "] stayed saturated for "
+                        + blockTimeout.toMillis() + "ms");
+            }
+            case DROP -> {
+                if (!PolicyRejectedExecutionHandler.discard(task)) {
+                    // 결과를 기다리는 CompletableFuture는 버리지 않고 거부
+                    record("aborted");
+                    throw new TaskRejectedException("Executor [" + name + "] has " + maxPending
+                            + " tasks waiting for " + maxConcurrency + " permits");
+                }
+                record("dropped");
+                log.warn("Task dropped from saturated executor [{}]. Consider increasing max-concurrency.", name);
+                return false;
+            }
+            default -> {
+                record("aborted");
+                throw new TaskRejectedException("Executor [" + name + "] has " + maxPending
+                        + " tasks waiting for " + maxConcurrency + " permits");
+            }
+        }
+    }
+
+    private void record(String outcome) {
+        if (metrics != null) {
+            metrics.recordRejection(rejectionPolicy, outcome);
+        }
+    }
+
+    private void run(Runnable task) {
+        try {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                // 종료 중 허가 대기 상태에서 인터럽트됨
+                log.warn("Task on executor [{}] interrupted while waiting for a permit", name);
+                return;
+            }
+
+            activeCount.incrementAndGet();
+            try {
+                task.run();
+            } finally {
+                activeCount.decrementAndGet();
+                permits.release();
+            }
+        } finally {
+            admission.release();
+            threads.remove(Thread.currentThread());
+        }
+    }
+
+    /**
+     * 실행 중인 작업 수
+     */
+    public int getActiveCount() {
+        return activeCount.get();
+    }
+
+    /**
+     * 허가를 기다리는 작업 수
+     */
+    public int getPendingCount() {
+        int admitted = maxConcurrency + maxPending - admission.availablePermits();
+        return Math.max(0, admitted - activeCount.get());
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Graceful 종료: 새 작업 거부 → 완료 대기 → 남은 작업 인터럽트
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        shutdown = true;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(awaitTerminationMillis);
+        for (Thread thread : threads) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || !thread.join(Duration.ofNanos(remaining))) {
+                break;
+            }
+        }
+        if (!threads.isEmpty()) {
+            log.warn("Executor [{}] did not terminate within {}ms, interrupting {} tasks",
+                    name, awaitTerminationMillis, threads.size());
+            threads.forEach(Thread::interrupt);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.common.server.common.async;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * 비동기 Executor 포화 메트릭
+ *
+ * 작업 제출~시작(대기 시간)과 실행 시간을 히스토그램으로 기록하고,
+ * 실행 중/대기 중 작업 수와 거부 건수를 노출합니다. (tag: executor)
+ *
+ * 메트릭: async.executor.queue.wait, async.executor.execution (Timer),
+ * async.executor.active, async.executor.queued, async.executor.pool.size (Gauge),
+ * async.executor.rejected (Counter, tag: policy, outcome)
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+public class ExecutorMetrics {
+
+    private final String executorName;
+    private final MeterRegistry meterRegistry;
+    private final Timer queueWaitTimer;
+    private final Timer executionTimer;
+    private final Map<String, Counter> rejectionCounters = new ConcurrentHashMap<>();
+
+    public ExecutorMetrics(String executorName, MeterRegistry meterRegistry) {
+        this.executorName = executorName;
+        this.meterRegistry = meterRegistry;
+        this.queueWaitTimer = Timer.builder("async.executor.queue.wait")
+                .description("Time tasks spend between submission and start")
+                .tag("executor", executorName)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.executionTimer = Timer.builder("async.executor.execution")
+                .description("Task execution time")
+                .tag("executor", executorName)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 실행 중/대기 중/스레드 수 Gauge 등록
+     */
+    public void registerGauges(IntSupplier active, IntSupplier queued, IntSupplier poolSize) {
+        gauge("async.executor.active", "Tasks currently executing", active);
+        gauge("async.executor.queued", "Tasks waiting to start", queued);
+        gauge("async.executor.pool.size", "Threads (or concurrency permits) in use", poolSize);
+    }
+
+    private void gauge(String name, String description, IntSupplier supplier) {
+        Gauge.builder(name, supplier, IntSupplier::getAsInt)
+                .description(description)
+                .tag("executor", executorName)
+                .strongReference(true)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 대기/실행 시간을 기록하도록 TaskDecorator 감싸기 (제출 시점에 호출됨)
+     */
+    public TaskDecorator decorate(TaskDecorator delegate) {
+        return task -> {
+            Runnable decorated = delegate.decorate(task);
+            long submittedAt = System.nanoTime();
+            return () -> {
+                long startedAt = System.nanoTime();
+                queueWaitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    decorated.run();
+                } finally {
+                    executionTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            };
+        };
+    }
+
+    /**
+     * 거부 처리 결과 기록
+     *
+     * @param outcome caller_runs, blocked, timeout, dropped, aborted
+     */
+    public void recordRejection(RejectionPolicy policy, String outcome) {
+        rejectionCounters.computeIfAbsent(policy.name() + ":" + outcome, key ->
+                Counter.builder("async.executor.rejected")
+                        .description("Tasks that found the executor saturated")
+                        .tag("executor", executorName)
+                        .tag("policy", policy.name().toLowerCase(Locale.ROOT))
+                        .tag("outcome", outcome)
+                        .register(meterRegistry))
+                .increment();
+    }
+}
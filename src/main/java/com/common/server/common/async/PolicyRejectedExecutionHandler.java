@@ -0,0 +1,128 @@
+package com.common.server.common.async;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskDecorator;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RejectionPolicy를 적용하는 플랫폼 스레드 풀용 RejectedExecutionHandler
+ *
+ * BLOCK은 풀의 큐에 blockTimeout 동안 offer를 시도합니다.
+ * DROP은 결과를 기다리는 호출자가 영원히 대기하지 않도록 submit()으로 제출된 Future는 취소하고,
+ * 취소로 완료시킬 수 없는 CompletableFuture 비동기 작업은 버리는 대신 거부합니다.
+ * ThreadPoolTaskExecutor는 데코레이트한 작업을 핸들러에 넘기므로 {@link #retainingSource(TaskDecorator)}로
+ * 감싼 TaskDecorator를 사용해야 원본 Future를 확인할 수 있습니다.
+ * 종료 중인 풀에서는 정책과 관계없이 거부합니다.
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Slf4j
+public class PolicyRejectedExecutionHandler implements RejectedExecutionHandler {
+
+    private final String executorName;
+    private final RejectionPolicy policy;
+    private final Duration blockTimeout;
+    private final ExecutorMetrics metrics;
+
+    /**
+     * @param metrics 거부 기록용 (null이면 기록하지 않음)
+     */
+    public PolicyRejectedExecutionHandler(String executorName, RejectionPolicy policy, Duration blockTimeout,
+                                          ExecutorMetrics metrics) {
+        this.executorName = executorName;
+        this.policy = policy;
+        this.blockTimeout = blockTimeout;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("Executor [" + executorName + "] has been shut down");
+        }
+
+        switch (policy) {
+            case CALLER_RUNS -> {
+                record("caller_runs");
+                task.run();
+            }
+            case BLOCK -> {
+                try {
+                    if (executor.getQueue().offer(task, blockTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                        record("blocked");
+                        return;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                record("timeout");
+                throw new RejectedExecutionException("Executor [" + executorName + "] stayed saturated for "
+                        + blockTimeout.toMillis() + "ms");
+            }
+            case DROP -> {
+                if (!discard(task)) {
+                    record("aborted");
+                    throw new RejectedExecutionException("Executor [" + executorName + "] is saturated");
+                }
+                record("dropped");
+                log.warn("Task dropped from saturated executor [{}]. Consider increasing pool size.", executorName);
+            }
+            default -> {
+                record("aborted");
+                throw new RejectedExecutionException("Executor [" + executorName + "] is saturated");
+            }
+        }
+    }
+
+    private void record(String outcome) {
+        if (metrics != null) {
+            metrics.recordRejection(policy, outcome);
+        }
+    }
+
+    /**
+     * DROP 정책으로 작업을 버리기 전 결과를 기다리는 호출자 처리
+     *
+     * - Future(submit()의 FutureTask 등): cancel(false)로 취소하여 get()이 CancellationException으로 끝남
+     * - CompletableFuture 비동기 작업(submitCompletable, CompletableFuture 반환 {@literal @}Async):
+     *   결과 future를 완료시킬 수 없으므로 버리지 않음
+     *
+     * @return 버려도 되면 true, 거부해야 하면 false
+     */
+    static boolean discard(Runnable task) {
+        Runnable source = task instanceof SourceRetainingTask retaining ? retaining.source() : task;
+        if (source instanceof CompletableFuture.AsynchronousCompletionTask) {
+            return false;
+        }
+        if (source instanceof Future<?> future) {
+            future.cancel(false);
+        }
+        return true;
+    }
+
+    /**
+     * 데코레이트된 작업에서 원본 작업을 확인할 수 있도록 TaskDecorator를 감쌈
+     */
+    public static TaskDecorator retainingSource(TaskDecorator delegate) {
+        return task -> new SourceRetainingTask(task, delegate.decorate(task));
+    }
+
+    /**
+     * 원본 작업을 보존하는 데코레이트된 작업
+     */
+    private record SourceRetainingTask(Runnable source, Runnable decorated) implements Runnable {
+
+        @Override
+        public void run() {
+            decorated.run();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.common.server.common.async;
+
+/**
+ * Executor 포화 시 거부 정책
+ *
+ * - ABORT: 즉시 TaskRejectedException
+ * - CALLER_RUNS: 제출한 스레드에서 직접 실행 (자연스러운 역압, 유실 없음)
+ * - BLOCK: blockTimeout까지 자리가 나기를 기다린 뒤, 시간 초과 시 TaskRejectedException
+ * - DROP: 작업을 버리고 거부 카운터만 증가 (submit()의 Future는 취소,
+ *   CompletableFuture 비동기 작업은 완료시킬 수 없으므로 ABORT와 같이 거부)
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+public enum RejectionPolicy {
+    ABORT,
+    CALLER_RUNS,
+    BLOCK,
+    DROP
+}
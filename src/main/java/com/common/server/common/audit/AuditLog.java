@@ -9,6 +9,8 @@ import java.lang.annotation.Target;
  * 감사 로그 어노테이션
  *
  * 메서드에 적용하여 해당 작업의 감사 로그를 자동으로 기록합니다.
+ * 이름이 password/secret/token/credential을 포함하는 파라미터와 그런 필드를 가진 타입의 인자는
+ * 자동으로 마스킹되며, 그 밖의 파라미터는 masked로 지정합니다.
  *
  * @author Common Server Framework
  * @since 2025-01-13
@@ -31,4 +33,9 @@ public @interface AuditLog {
      * 추가 설명
      */
     String description() default "";
+
+    /**
+     * 추가로 마스킹할 파라미터 이름
+     */
+    String[] masked() default {};
 }
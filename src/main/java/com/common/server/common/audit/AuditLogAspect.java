@@ -1,68 +1,86 @@
 package com.common.server.common.audit;
 
+import com.common.server.common.context.RequestContext;
+import com.common.server.config.AuditProperties;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
-import java.util.Arrays;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 감사 로그 AOP Aspect
  *
- * @AuditLog 어노테이션이 붙은 메서드의 호출을 감사 로그로 기록합니다.
+ * @AuditLog 어노테이션이 붙은 메서드의 호출을 구조화된 감사 기록으로 남깁니다.
+ * 호출 스레드에서는 메서드별로 미리 컴파일된 규칙으로 인자를 마스킹한 문자열 스냅샷으로 만들어 AuditLogWriter 큐에 넣고,
+ * 저장(Mongo insertMany)은 백그라운드 스레드에서 수행합니다.
  *
  * @author Common Server Framework
  * @since 2025-01-13
  */
 @Aspect
 @Component
+@RequiredArgsConstructor
 @Slf4j
-public class AuditLogAspect {
+public class AuditLogAspect implements SmartInitializingSingleton {
+
+    private final AuditLogWriter auditLogWriter;
+    private final AuditProperties auditProperties;
+    private final ApplicationContext applicationContext;
+
+    // 메서드별 감사 규칙 (시작 시 컴파일, 인터페이스 프록시 등 누락분은 최초 호출 시 컴파일)
+    private final Map<Method, AuditMethodPlan> plans = new ConcurrentHashMap<>();
+
+    /**
+     * 시작 시 모든 {@literal @}AuditLog 메서드의 감사 규칙 컴파일
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (String beanName : applicationContext.getBeanNamesForType(Object.class, false, false)) {
+            Class<?> beanType = applicationContext.getType(beanName, false);
+            if (beanType == null) {
+                continue;
+            }
+            Class<?> targetType = AopUtils.isAopProxy(beanType) ? AopUtils.getTargetClass(beanType) : beanType;
+            MethodIntrospector.selectMethods(targetType,
+                    (MethodIntrospector.MetadataLookup<AuditLog>) method ->
+                            AnnotatedElementUtils.findMergedAnnotation(method, AuditLog.class))
+                    .forEach((method, auditLog) -> plans.put(method, AuditMethodPlan.compile(method, auditLog)));
+        }
+        log.debug("Compiled audit plans for {} methods", plans.size());
+    }
 
     @Around("@annotation(auditLog)")
     public Object logAudit(ProceedingJoinPoint joinPoint, AuditLog auditLog) throws Throwable {
-        LocalDateTime startTime = LocalDateTime.now();
-        String userId = getCurrentUserId();
-        String methodName = joinPoint.getSignature().getName();
-        String className = joinPoint.getTarget().getClass().getSimpleName();
-        Object[] args = joinPoint.getArgs();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        AuditMethodPlan plan = plans.computeIfAbsent(method, key -> AuditMethodPlan.compile(key, auditLog));
 
-        log.info("[AUDIT] START | User: {} | Action: {} | Resource: {} | Method: {}.{} | Args: {}",
-                userId,
-                auditLog.action(),
-                auditLog.resource(),
-                className,
-                methodName,
-                sanitizeArgs(args));
+        long timestamp = System.currentTimeMillis();
+        long start = System.nanoTime();
+        String[] args = plan.capture(joinPoint.getArgs(), auditProperties.getMaxArgLength());
+        String userId = getCurrentUserId();
 
         try {
             Object result = joinPoint.proceed();
-
-            log.info("[AUDIT] SUCCESS | User: {} | Action: {} | Resource: {} | Method: {}.{} | Duration: {}ms",
-                    userId,
-                    auditLog.action(),
-                    auditLog.resource(),
-                    className,
-                    methodName,
-                    java.time.Duration.between(startTime, LocalDateTime.now()).toMillis());
-
+            auditLogWriter.submit(new AuditRecord(timestamp, plan, userId, args,
+                    System.nanoTime() - start, null, RequestContext.currentTraceId()));
             return result;
-
-        } catch (Exception e) {
-            log.error("[AUDIT] FAILED | User: {} | Action: {} | Resource: {} | Method: {}.{} | Error: {} | Duration: {}ms",
-                    userId,
-                    auditLog.action(),
-                    auditLog.resource(),
-                    className,
-                    methodName,
-                    e.getMessage(),
-                    java.time.Duration.between(startTime, LocalDateTime.now()).toMillis());
+        } catch (Throwable e) {
+            auditLogWriter.submit(new AuditRecord(timestamp, plan, userId, args,
+                    System.nanoTime() - start, e, RequestContext.currentTraceId()));
             throw e;
         }
     }
@@ -78,31 +96,4 @@ public class AuditLogAspect {
         }
         return "anonymous";
     }
-
-    private String sanitizeArgs(Object[] args) {
-        if (args == null || args.length == 0) {
-            return "[]";
-        }
-
-        return Arrays.stream(args)
-                .map(arg -> {
-                    if (arg == null) {
-                        return "null";
-                    }
-                    String argStr = arg.toString();
-                    // 민감 정보 마스킹 (비밀번호 등)
-                    if (argStr.toLowerCase().contains("password") ||
-                            argStr.toLowerCase().contains("secret") ||
-                            argStr.toLowerCase().contains("token")) {
-                        return "[MASKED]";
-                    }
-                    // 너무 긴 값은 자르기
-                    if (argStr.length() > 100) {
-                        return argStr.substring(0, 100) + "...";
-                    }
-                    return argStr;
-                })
-                .toList()
-                .toString();
-    }
 }
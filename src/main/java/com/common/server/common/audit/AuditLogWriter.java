@@ -0,0 +1,214 @@
+package com.common.server.common.audit;
+
+import com.common.server.common.event.EventLifecyclePhases;
+import com.common.server.config.AuditProperties;
+import com.common.server.domain.mongo.audit.AuditLogDocument;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 감사 기록 비동기 배치 저장기
+ *
+ * AuditLogAspect가 넣은 기록을 제한된 큐에 모았다가 전용 스레드에서 batchSize개씩
+ * Mongo insertMany로 저장합니다. 감사 대상 메서드는 인자 스냅샷을 만들고 큐에 넣는 비용만 부담합니다.
+ *
+ * - MongoDB를 사용하지 않으면(spring.data.mongodb.enabled=false) AUDIT 로거에 기록당 한 줄로 출력
+ *   (Boot는 이 프로퍼티와 무관하게 MongoTemplate을 만들므로 빈 존재 여부가 아닌 프로퍼티로 판단)
+ * - 큐가 가득 차면 기록을 버리고 audit.records.dropped 증가 (업무 처리를 막지 않음)
+ * - Mongo 저장 실패 시 해당 배치를 AUDIT 로거로 출력
+ * - 종료 시 큐에 남은 기록을 모두 저장하고, 종료 후 들어온 기록은 호출 스레드에서 바로 저장
+ *
+ * 인자는 AuditMethodPlan이 호출 시점에 마스킹한 문자열로 넘어오므로 이 스레드는 객체를 다시 읽지 않습니다.
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Component
+@Slf4j
+public class AuditLogWriter implements SmartLifecycle {
+
+    private static final Logger auditLogger = LoggerFactory.getLogger("AUDIT");
+
+    private final AuditProperties properties;
+    private final ObjectProvider<MongoTemplate> mongoTemplateProvider;
+    private final boolean mongoEnabled;
+    private final BlockingQueue<AuditRecord> queue;
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+
+    private MongoTemplate mongoTemplate;
+    private Thread writerThread;
+    private volatile boolean running;
+    private volatile boolean stopped;
+
+    public AuditLogWriter(AuditProperties properties,
+                          ObjectProvider<MongoTemplate> mongoTemplateProvider,
+                          @Value("${spring.data.mongodb.enabled:false}") boolean mongoEnabled,
+                          MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.mongoTemplateProvider = mongoTemplateProvider;
+        this.mongoEnabled = mongoEnabled;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.writtenCounter = Counter.builder("audit.records.written")
+                .description("Audit records persisted").register(meterRegistry);
+        this.droppedCounter = Counter.builder("audit.records.dropped")
+                .description("Audit records dropped because the queue was full").register(meterRegistry);
+        this.failedCounter = Counter.builder("audit.records.failed")
+                .description("Audit records that could not be stored in MongoDB").register(meterRegistry);
+    }
+
+    /**
+     * 기록 추가 (블로킹 없음, 저장 스레드 종료 후에는 호출 스레드에서 저장)
+     */
+    void submit(AuditRecord record) {
+        if (!queue.offer(record)) {
+            droppedCounter.increment();
+        } else if (stopped) {
+            // 저장 스레드가 이미 끝났으므로 직접 비움 (종료와 경쟁한 기록 포함)
+            drainQueue();
+        }
+    }
+
+    @Override
+    public void start() {
+        mongoTemplate = mongoEnabled ? mongoTemplateProvider.getIfAvailable() : null;
+        running = true;
+        writerThread = Thread.ofPlatform().name("audit-writer").daemon(true).start(this::run);
+        log.info("Audit log writer started (sink: {})", mongoTemplate != null ? "mongodb" : "log");
+    }
+
+    /**
+     * 종료: 큐에 남은 기록을 모두 저장한 뒤 스레드 종료
+     */
+    @Override
+    public void stop() {
+        running = false;
+        if (writerThread != null) {
+            try {
+                writerThread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        stopped = true;
+        drainQueue();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return EventLifecyclePhases.AUDIT_WRITER;
+    }
+
+    private void run() {
+        List<AuditRecord> batch = new ArrayList<>(properties.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                AuditRecord first = queue.poll(properties.getFlushInterval(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.getBatchSize() - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Audit log writer failed to process {} records", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void drainQueue() {
+        List<AuditRecord> batch = new ArrayList<>(properties.getBatchSize());
+        while (queue.drainTo(batch, properties.getBatchSize()) > 0) {
+            try {
+                write(batch);
+            } catch (Exception e) {
+                log.error("Audit log writer failed to process {} records", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<AuditRecord> batch) {
+        List<AuditLogDocument> documents = new ArrayList<>(batch.size());
+        for (AuditRecord record : batch) {
+            documents.add(toDocument(record));
+        }
+
+        if (mongoTemplate != null) {
+            try {
+                mongoTemplate.insert(documents, AuditLogDocument.class);
+                writtenCounter.increment(documents.size());
+                return;
+            } catch (Exception e) {
+                failedCounter.increment(documents.size());
+                log.error("Failed to store {} audit records in MongoDB, writing to log", documents.size(), e);
+            }
+        }
+        documents.forEach(this::logDocument);
+        writtenCounter.increment(documents.size());
+    }
+
+    private AuditLogDocument toDocument(AuditRecord record) {
+        AuditMethodPlan plan = record.plan();
+        String[] names = plan.getParameterNames();
+        Map<String, String> args = new LinkedHashMap<>(names.length * 2);
+        for (int i = 0; i < record.args().length; i++) {
+            args.put(names[i], record.args()[i]);
+        }
+
+        Throwable error = record.error();
+        return AuditLogDocument.builder()
+                .timestamp(Instant.ofEpochMilli(record.timestampMillis()))
+                .userId(record.userId())
+                .action(plan.getAction())
+                .resource(plan.getResource())
+                .method(plan.getMethodName())
+                .args(args)
+                .success(error == null)
+                .error(error != null ? error.getClass().getSimpleName() + ": " + error.getMessage() : null)
+                .durationMicros(TimeUnit.NANOSECONDS.toMicros(record.durationNanos()))
+                .traceId(record.traceId())
+                .build();
+    }
+
+    private void logDocument(AuditLogDocument document) {
+        if (document.isSuccess()) {
+            auditLogger.info("[AUDIT] SUCCESS | User: {} | Action: {} | Resource: {} | Method: {} | Args: {} | Duration: {}us | Trace: {}",
+                    document.getUserId(), document.getAction(), document.getResource(), document.getMethod(),
+                    document.getArgs(), document.getDurationMicros(), document.getTraceId());
+        } else {
+            auditLogger.warn("[AUDIT] FAILED | User: {} | Action: {} | Resource: {} | Method: {} | Args: {} | Error: {} | Duration: {}us | Trace: {}",
+                    document.getUserId(), document.getAction(), document.getResource(), document.getMethod(),
+                    document.getArgs(), document.getError(), document.getDurationMicros(), document.getTraceId());
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.common.server.common.audit;
+
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 메서드별로 미리 컴파일된 감사 기록 규칙
+ *
+ * 파라미터 이름/타입을 한 번만 검사하여 인자마다 기록, 마스킹, 생략 여부를 정해 둡니다.
+ * 나머지 인자는 호출 스레드에서 최대 길이까지만 문자열로 고정합니다. 참조를 넘기면 AuditLogWriter 스레드가
+ * 나중에 toString을 호출하여 그 사이 바뀐 상태나 toString에 드러난 민감 값이 기록되기 때문입니다.
+ * 타입별 필드 목록과 필드별 마스킹 여부, 생략 여부는 클래스당 한 번만 계산하여 호출마다 이름을 검사하지 않습니다.
+ *
+ * - Map: 미리 정한 민감 키(SENSITIVE_KEYS, 대소문자 무시)의 값을 마스킹, 값은 재귀적으로 변환
+ * - Collection / 배열: 원소를 재귀적으로 변환
+ * - JDK 밖의 객체(DTO): toString 대신 필드를 직접 읽어 민감한 이름의 필드만 마스킹 (중첩 DTO도 동일)
+ * - Hibernate 프록시/영속 컬렉션: 초기화나 쿼리를 일으키지 않도록 타입 이름으로 대체
+ * - 최대 깊이(MAX_DEPTH)를 넘거나 읽을 수 없는 값은 타입 이름으로 대체
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+final class AuditMethodPlan {
+
+    static final String MASKED = "[MASKED]";
+
+    private static final String[] SENSITIVE_NAMES = {"password", "secret", "token", "credential"};
+    private static final Set<String> SENSITIVE_KEYS = sensitiveKeys(
+            "password", "passwd", "pwd", "newPassword", "oldPassword", "currentPassword",
+            "secret", "clientSecret", "client_secret", "token", "accessToken", "access_token",
+            "refreshToken", "refresh_token", "idToken", "id_token", "apiToken", "apiKey", "api_key",
+            "credential", "credentials", "authorization");
+    private static final Set<String> SKIPPED_TYPE_PREFIXES = Set.of(
+            "jakarta.servlet.", "org.springframework.web.multipart.", "org.springframework.security.core.",
+            "org.hibernate.");
+    private static final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+    private static final int MAX_DEPTH = 4;
+
+    // 타입별 기록 대상 인스턴스 필드와 마스킹 여부 (클래스당 한 번만 조회)
+    private static final ClassValue<RenderedFields> RENDERED_FIELDS = new ClassValue<>() {
+        @Override
+        protected RenderedFields computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+            ReflectionUtils.doWithFields(type, fields::add,
+                    field -> !Modifier.isStatic(field.getModifiers()) && !field.isSynthetic());
+            fields.forEach(ReflectionUtils::makeAccessible);
+            boolean[] masked = new boolean[fields.size()];
+            for (int i = 0; i < masked.length; i++) {
+                masked[i] = isSensitive(fields.get(i).getName());
+            }
+            return new RenderedFields(fields.toArray(Field[]::new), masked);
+        }
+    };
+
+    // 타입별 생략 여부 (Hibernate 프록시는 엔티티의 하위 클래스이므로 구현 인터페이스까지 검사)
+    private static final ClassValue<Boolean> SKIPPED = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            if (type == byte[].class || InputStream.class.isAssignableFrom(type) || hasSkippedPrefix(type)) {
+                return true;
+            }
+            return ClassUtils.getAllInterfacesForClassAsSet(type).stream().anyMatch(AuditMethodPlan::hasSkippedPrefix);
+        }
+    };
+
+    private record RenderedFields(Field[] fields, boolean[] masked) {
+    }
+
+    private final String action;
+    private final String resource;
+    private final String methodName;
+    private final String[] parameterNames;
+    private final Object[] fixedValues;
+
+    private AuditMethodPlan(String action, String resource, String methodName,
+                            String[] parameterNames, Object[] fixedValues) {
+        this.action = action;
+        this.resource = resource;
+        this.methodName = methodName;
+        this.parameterNames = parameterNames;
+        this.fixedValues = fixedValues;
+    }
+
+    /**
+     * 메서드의 감사 규칙 컴파일
+     */
+    static AuditMethodPlan compile(Method method, AuditLog auditLog) {
+        String[] names = parameterNameDiscoverer.getParameterNames(method);
+        Class<?>[] types = method.getParameterTypes();
+        if (names == null) {
+            names = new String[types.length];
+            for (int i = 0; i < types.length; i++) {
+                names[i] = "arg" + i;
+            }
+        }
+
+        Set<String> explicitlyMasked = Set.of(auditLog.masked());
+        Object[] fixedValues = new Object[types.length];
+        for (int i = 0; i < types.length; i++) {
+            if (explicitlyMasked.contains(names[i]) || isSensitive(names[i])) {
+                fixedValues[i] = MASKED;
+            } else if (isSkipped(types[i])) {
+                fixedValues[i] = "[" + types[i].getSimpleName() + "]";
+            }
+        }
+
+        return new AuditMethodPlan(auditLog.action(), auditLog.resource(),
+                method.getDeclaringClass().getSimpleName() + "." + method.getName(), names, fixedValues);
+    }
+
+    /**
+     * 인자 캡처 (마스킹/생략 대상은 고정 문자열로 대체, 나머지는 마스킹한 문자열 스냅샷)
+     *
+     * @param maxLength 인자별 최대 문자열 길이 (넘으면 잘라서 "..." 추가)
+     */
+    String[] capture(Object[] args, int maxLength) {
+        int length = Math.min(args.length, fixedValues.length);
+        String[] captured = new String[length];
+        for (int i = 0; i < length; i++) {
+            Object fixed = fixedValues[i];
+            captured[i] = fixed != null ? fixed.toString() : snapshot(args[i], maxLength);
+        }
+        return captured;
+    }
+
+    /**
+     * 값을 마스킹한 문자열로 변환
+     */
+    static String snapshot(Object value, int maxLength) {
+        if (value == null) {
+            return null;
+        }
+        StringBuilder builder = new StringBuilder();
+        try {
+            append(builder, value, 0, maxLength);
+        } catch (RuntimeException e) {
+            // 모듈 접근 제한, 순회 중 변경된 컬렉션 등
+            return "[" + value.getClass().getSimpleName() + "]";
+        }
+        return builder.length() > maxLength ? builder.substring(0, maxLength) + "..." : builder.toString();
+    }
+
+    private static void append(StringBuilder builder, Object value, int depth, int maxLength) {
+        if (value == null) {
+            builder.append("null");
+            return;
+        }
+        Class<?> type = value.getClass();
+        if (depth > MAX_DEPTH || isSkipped(type)) {
+            builder.append('[').append(type.getSimpleName()).append(']');
+            return;
+        }
+        if (value instanceof Map<?, ?> map) {
+            builder.append('{');
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (builder.length() > maxLength) {
+                    break;
+                }
+                Object key = entry.getKey();
+                builder.append(key).append('=');
+                appendMasked(builder, key instanceof String name && SENSITIVE_KEYS.contains(name),
+                        entry.getValue(), depth, maxLength);
+                builder.append(", ");
+            }
+            closeGroup(builder, '{', '}');
+        } else if (value instanceof Collection<?> collection) {
+            appendElements(builder, collection, depth, maxLength);
+        } else if (value instanceof Object[] array) {
+            appendElements(builder, Arrays.asList(array), depth, maxLength);
+        } else if (type.isArray() || type.isEnum() || isJdkType(type)) {
+            builder.append(type.isArray() ? "[" + type.getSimpleName() + "]" : value.toString());
+        } else {
+            RenderedFields rendered = RENDERED_FIELDS.get(type);
+            Field[] fields = rendered.fields();
+            builder.append(type.getSimpleName()).append('(');
+            for (int i = 0; i < fields.length; i++) {
+                if (builder.length() > maxLength) {
+                    break;
+                }
+                builder.append(fields[i].getName()).append('=');
+                appendMasked(builder, rendered.masked()[i], ReflectionUtils.getField(fields[i], value), depth, maxLength);
+                builder.append(", ");
+            }
+            closeGroup(builder, '(', ')');
+        }
+    }
+
+    private static void appendMasked(StringBuilder builder, boolean masked, Object value, int depth, int maxLength) {
+        if (value != null && masked) {
+            builder.append(MASKED);
+        } else {
+            append(builder, value, depth + 1, maxLength);
+        }
+    }
+
+    private static void appendElements(StringBuilder builder, Collection<?> elements, int depth, int maxLength) {
+        builder.append('[');
+        for (Object element : elements) {
+            if (builder.length() > maxLength) {
+                break;
+            }
+            append(builder, element, depth + 1, maxLength);
+            builder.append(", ");
+        }
+        closeGroup(builder, '[', ']');
+    }
+
+    /**
+     * 마지막 구분자(", ")를 지우고 닫는 괄호 추가
+     */
+    private static void closeGroup(StringBuilder builder, char open, char close) {
+        if (builder.charAt(builder.length() - 1) != open) {
+            builder.setLength(builder.length() - 2);
+        }
+        builder.append(close);
+    }
+
+    private static boolean isJdkType(Class<?> type) {
+        String name = type.getName();
+        return type.isPrimitive() || name.startsWith("java.") || name.startsWith("javax.");
+    }
+
+    String getAction() {
+        return action;
+    }
+
+    String getResource() {
+        return resource;
+    }
+
+    String getMethodName() {
+        return methodName;
+    }
+
+    String[] getParameterNames() {
+        return parameterNames;
+    }
+
+    private static boolean isSensitive(String name) {
+        String lower = name.toLowerCase(Locale.ROOT);
+        return Arrays.stream(SENSITIVE_NAMES).anyMatch(lower::contains);
+    }
+
+    private static Set<String> sensitiveKeys(String... keys) {
+        Set<String> set = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        set.addAll(Arrays.asList(keys));
+        return Collections.unmodifiableSet(set);
+    }
+
+    private static boolean isSkipped(Class<?> type) {
+        return SKIPPED.get(type);
+    }
+
+    private static boolean hasSkippedPrefix(Class<?> type) {
+        String name = type.getName();
+        return SKIPPED_TYPE_PREFIXES.stream().anyMatch(name::startsWith);
+    }
+}
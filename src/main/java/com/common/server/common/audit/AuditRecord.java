@@ -0,0 +1,19 @@
+package com.common.server.common.audit;
+
+/**
+ * 감사 기록 한 건 (호출 스레드에서 만드는 최소 정보)
+ *
+ * @param timestampMillis 호출 시각 (epoch 밀리초)
+ * @param plan 메서드 규칙 (액션/리소스/파라미터 이름)
+ * @param userId 사용자 ID
+ * @param args 캡처된 인자 (호출 스레드에서 마스킹한 문자열)
+ * @param durationNanos 실행 시간
+ * @param error 실패 시 예외 (성공이면 null)
+ * @param traceId TraceId
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+record AuditRecord(long timestampMillis, AuditMethodPlan plan, String userId, String[] args,
+                   long durationNanos, Throwable error, String traceId) {
+}
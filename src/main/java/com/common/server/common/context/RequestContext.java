@@ -0,0 +1,249 @@
+package com.common.server.common.context;
+
+import com.common.server.common.id.IdGenerator;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 요청 컨텍스트 (불변)
+ *
+ * HTTP 요청, gRPC 호출, STOMP 메시지마다 한 번 생성되어 traceId, spanId, 사용자 ID, 클라이언트 주소를 담습니다.
+ * - W3C Trace Context(traceparent) 헤더를 해석/생성
+ * - 현재 스레드에 참조로만 연결하며, 비동기 작업에는 같은 인스턴스를 그대로 넘김 (Map 복사 없음)
+ * - 값 변경이 필요하면 with* 메서드로 새 인스턴스를 만들어 다시 연결
+ * - MDC는 로그가 실제로 기록될 때만 RequestContextMdcTurboFilter가 채움
+ *
+ * @param traceId 32자리 16진수 Trace ID
+ * @param spanId 16자리 16진수 Span ID (현재 서비스에서 새로 생성)
+ * @param parentSpanId 상위 Span ID (traceparent로 전달받은 경우, 없으면 null)
+ * @param userId 인증된 사용자 ID (없으면 null)
+ * @param clientAddress 클라이언트 주소 (없으면 null)
+ * @param sampled traceparent의 sampled 플래그
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+public record RequestContext(
+        String traceId,
+        String spanId,
+        String parentSpanId,
+        String userId,
+        String clientAddress,
+        boolean sampled
+) {
+
+    public static final String TRACEPARENT_HEADER = "traceparent";
+
+    private static final String TRACEPARENT_VERSION = "00";
+    private static final String INVALID_TRACE_ID = "00000000000000000000000000000000";
+    private static final String INVALID_SPAN_ID = "0000000000000000";
+    private static final int MAX_EXTERNAL_TRACE_ID_LENGTH = 64;
+
+    private static final ThreadLocal<RequestContext> CURRENT = new ThreadLocal<>();
+
+    /**
+     * 새 Trace 시작
+     */
+    public static RequestContext newTrace(String clientAddress) {
+        return new RequestContext(newTraceId(), newSpanId(), null, null, clientAddress, true);
+    }
+
+    /**
+     * traceparent 헤더를 이어받아 생성 (헤더가 없거나 형식이 잘못되면 새 Trace 시작)
+     *
+     * @param traceparent W3C traceparent 헤더 값 (예: 00-{traceId}-{parentId}-01)
+     * @param clientAddress 클라이언트 주소
+     */
+    public static RequestContext fromTraceparent(String traceparent, String clientAddress) {
+        if (traceparent == null || traceparent.length() < 55) {
+            return newTrace(clientAddress);
+        }
+        String value = traceparent.trim();
+        // version(2)-trace-id(32)-parent-id(16)-flags(2)
+        if (value.length() < 55 || value.charAt(2) != '-' || value.charAt(35) != '-' || value.charAt(52) != '-'
+                || (value.length() > 55 && value.charAt(55) != '-')) {
+            return newTrace(clientAddress);
+        }
+        String version = value.substring(0, 2);
+        String traceId = value.substring(3, 35);
+        String parentId = value.substring(36, 52);
+        String flags = value.substring(53, 55);
+        if (!isLowerHex(version) || "ff".equals(version)
+                || !isLowerHex(traceId) || INVALID_TRACE_ID.equals(traceId)
+                || !isLowerHex(parentId) || INVALID_SPAN_ID.equals(parentId)
+                || !isLowerHex(flags)) {
+            return newTrace(clientAddress);
+        }
+        boolean sampled = (Integer.parseInt(flags, 16) & 0x01) != 0;
+        return new RequestContext(traceId, newSpanId(), parentId, null, clientAddress, sampled);
+    }
+
+    /**
+     * 외부에서 전달받은 Trace ID를 이어받아 생성 (X-Trace-Id 헤더, 아웃박스/스트림 레코드 등)
+     *
+     * 값이 없거나 허용되지 않는 문자가 있으면 새 Trace를 시작합니다.
+     */
+    public static RequestContext continueTrace(String traceId, String clientAddress) {
+        if (!isSafeTraceId(traceId)) {
+            return newTrace(clientAddress);
+        }
+        return new RequestContext(traceId, newSpanId(), null, null, clientAddress, true);
+    }
+
+    /**
+     * 사용자 ID를 바꾼 새 컨텍스트
+     */
+    public RequestContext withUserId(String userId) {
+        return new RequestContext(traceId, spanId, parentSpanId, userId, clientAddress, sampled);
+    }
+
+    /**
+     * 하위 호출에 전달할 traceparent 헤더 값 (현재 spanId가 상위 Span이 됨)
+     */
+    public String traceparent() {
+        return TRACEPARENT_VERSION + '-' + toW3cTraceId(traceId) + '-' + spanId + '-' + (sampled ? "01" : "00");
+    }
+
+    // ========== 현재 스레드 연결 ==========
+
+    /**
+     * 현재 스레드의 컨텍스트 (없으면 null)
+     */
+    public static RequestContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 현재 스레드의 Trace ID (없으면 null)
+     */
+    public static String currentTraceId() {
+        RequestContext context = CURRENT.get();
+        return context != null ? context.traceId : null;
+    }
+
+    /**
+     * 현재 스레드에 컨텍스트 연결
+     *
+     * 반환된 Scope를 닫으면 이전 컨텍스트로 복원됩니다.
+     * <pre>
+     * try (RequestContext.Scope ignored = RequestContext.attach(context)) {
+     *     ...
+     * }
+     * </pre>
+     */
+    public static Scope attach(RequestContext context) {
+        RequestContext previous = CURRENT.get();
+        if (context != null) {
+            CURRENT.set(context);
+        } else {
+            CURRENT.remove();
+        }
+        return () -> {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    /**
+     * 인증 후 현재 컨텍스트에 사용자 ID 반영 (연결된 컨텍스트가 없으면 무시)
+     *
+     * 바깥 Scope가 닫히면 함께 해제됩니다.
+     */
+    public static void bindUserId(String userId) {
+        RequestContext context = CURRENT.get();
+        if (context != null) {
+            CURRENT.set(context.withUserId(userId));
+        }
+    }
+
+    /**
+     * 현재 컨텍스트를 참조로 캡처하여 다른 스레드에서 실행되도록 감싸기
+     */
+    public static Runnable wrap(Runnable task) {
+        RequestContext context = CURRENT.get();
+        if (context == null) {
+            return task;
+        }
+        return () -> {
+            try (Scope ignored = attach(context)) {
+                task.run();
+            }
+        };
+    }
+
+    /**
+     * 현재 컨텍스트를 참조로 캡처하여 다른 스레드에서 실행되도록 감싸기
+     */
+    public static <V> Callable<V> wrap(Callable<V> task) {
+        RequestContext context = CURRENT.get();
+        if (context == null) {
+            return task;
+        }
+        return () -> {
+            try (Scope ignored = attach(context)) {
+                return task.call();
+            }
+        };
+    }
+
+    /**
+     * 컨텍스트 연결 범위 (닫을 때 이전 컨텍스트 복원)
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    // ========== ID ==========
+
+    private static String newTraceId() {
+        return IdGenerator.randomHex(16) + IdGenerator.randomHex(16);
+    }
+
+    private static String newSpanId() {
+        return IdGenerator.randomHex(16);
+    }
+
+    /**
+     * 32자리가 아닌 Trace ID(X-Trace-Id 등)는 traceparent 형식에 맞게 변환
+     */
+    private static String toW3cTraceId(String traceId) {
+        if (traceId.length() == 32 && isLowerHex(traceId)) {
+            return traceId;
+        }
+        if (traceId.length() < 32 && isLowerHex(traceId)) {
+            return "0".repeat(32 - traceId.length()) + traceId;
+        }
+        // 16진수가 아닌 외부 ID는 해시로 대체
+        long high = traceId.hashCode();
+        long low = new StringBuilder(traceId).reverse().toString().hashCode();
+        return String.format("%016x%016x", high, low);
+    }
+
+    private static boolean isSafeTraceId(String traceId) {
+        if (traceId == null || traceId.isEmpty() || traceId.length() > MAX_EXTERNAL_TRACE_ID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < traceId.length(); i++) {
+            char c = traceId.charAt(i);
+            if (!(c >= '0' && c <= '9') && !(c >= 'a' && c <= 'z') && !(c >= 'A' && c <= 'Z') && c != '-' && c != '_') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLowerHex(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!(c >= '0' && c <= '9') && !(c >= 'a' && c <= 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
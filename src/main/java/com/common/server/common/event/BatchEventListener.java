@@ -0,0 +1,59 @@
+package com.common.server.common.event;
+
+import java.lang.annotation.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배치 이벤트 리스너 어노테이션
+ *
+ * 이벤트를 리스너별로 모아 List로 한 번에 전달합니다.
+ * Mongo insertMany, Redis 파이프라인처럼 묶음 쓰기가 가능한 핸들러에 사용합니다.
+ *
+ * - maxBatchSize개가 모이면 즉시 전달
+ * - 첫 이벤트가 들어온 뒤 maxDelay가 지나면 모인 만큼 전달
+ * - 애플리케이션 종료 시 남은 이벤트를 모두 전달
+ *
+ * 트랜잭션 안에서 발행된 이벤트는 커밋 후에 배치에 추가되며(롤백 시 제외),
+ * 트랜잭션 밖에서 발행된 이벤트는 바로 추가됩니다.
+ * 한 리스너의 배치는 지정한 실행기에서 한 번에 하나씩 순서대로 실행됩니다.
+ *
+ * 사용 예시:
+ * <pre>
+ * {@literal @}Component
+ * public class ClickLogHandler {
+ *
+ *     {@literal @}BatchEventListener(maxBatchSize = 500, maxDelay = 200)
+ *     public void handleClicks(List&lt;AdClickedEvent&gt; events) {
+ *         mongoTemplate.insertAll(events.stream().map(ClickLog::from).toList());
+ *     }
+ * }
+ * </pre>
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface BatchEventListener {
+
+    /**
+     * 최대 배치 크기
+     */
+    int maxBatchSize() default 100;
+
+    /**
+     * 첫 이벤트 이후 최대 대기 시간
+     */
+    long maxDelay() default 1000;
+
+    /**
+     * 시간 단위
+     */
+    TimeUnit timeUnit() default TimeUnit.MILLISECONDS;
+
+    /**
+     * 배치를 실행할 Executor 빈 이름
+     */
+    String executor() default "notificationExecutor";
+}
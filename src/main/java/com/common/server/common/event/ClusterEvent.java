@@ -0,0 +1,58 @@
+package com.common.server.common.event;
+
+import java.lang.annotation.*;
+
+/**
+ * 클러스터 전파 이벤트 표시 어노테이션
+ *
+ * event.stream.enabled=true이면 이 어노테이션이 붙은 도메인 이벤트는 커밋 후 Redis Stream에 추가되어
+ * 다른 노드의 리스너({@literal @}EventListener)에도 전달됩니다.
+ *
+ * - BROADCAST: 모든 노드가 받음 (노드별 컨슈머 그룹). 발행 노드는 기존처럼 로컬에서 처리하고
+ *   스트림으로 돌아온 자신의 이벤트는 무시 (예: 캐시 무효화)
+ * - WORK_QUEUE: 클러스터에서 한 노드만 받음 (공유 컨슈머 그룹). 로컬에서는 바로 처리하지 않음
+ *
+ * 스트림에서 받은 이벤트는 수신 스레드에서 리스너 메서드를 직접 호출하고, 모두 성공한 뒤에 ACK합니다.
+ * - {@literal @}EventListener, {@literal @}TransactionalEventListener, {@literal @}AsyncEventListener 모두 동기로 실행
+ *   (리스너가 실패하면 ACK하지 않아 재전달되므로 리스너는 멱등이어야 함)
+ * - {@literal @}BatchEventListener, {@literal @}PartitionedEventListener는 다른 노드에서 온 이벤트를 받지 않음
+ *
+ * 사용 예시:
+ * <pre>
+ * {@literal @}ClusterEvent(stream = "cache-invalidation", delivery = ClusterEvent.Delivery.BROADCAST)
+ * public class AdConfigChangedEvent extends DomainEvent {
+ *     ...
+ * }
+ * </pre>
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+public @interface ClusterEvent {
+
+    /**
+     * 스트림 이름 (기본: 이벤트 클래스 단순 이름)
+     */
+    String stream() default "";
+
+    /**
+     * 전달 방식
+     */
+    Delivery delivery() default Delivery.BROADCAST;
+
+    enum Delivery {
+        /**
+         * 모든 노드에 전달
+         */
+        BROADCAST,
+
+        /**
+         * 한 노드에만 전달
+         */
+        WORK_QUEUE
+    }
+}
@@ -1,7 +1,8 @@
 package com.common.server.common.event;
 
+import com.common.server.common.id.IdGenerator;
+
 import java.time.LocalDateTime;
-import java.util.UUID;
 
 /**
  * 도메인 이벤트 기본 클래스
@@ -18,7 +19,7 @@ public abstract class DomainEvent {
     private final String eventType;
 
     protected DomainEvent() {
-        this.eventId = UUID.randomUUID().toString();
+        this.eventId = IdGenerator.uuidString();
         this.occurredAt = LocalDateTime.now();
         this.eventType = this.getClass().getSimpleName();
     }
@@ -34,4 +35,13 @@ public abstract class DomainEvent {
     public String getEventType() {
         return eventType;
     }
+
+    /**
+     * 파티션 키 (같은 키의 이벤트는 {@literal @}PartitionedEventListener에서 발행 순서대로 처리)
+     *
+     * 보통 애그리거트 ID를 반환하도록 재정의합니다. null이면 순서를 보장하지 않습니다.
+     */
+    public String getPartitionKey() {
+        return null;
+    }
 }
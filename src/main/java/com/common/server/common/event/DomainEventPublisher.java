@@ -1,14 +1,26 @@
 package com.common.server.common.event;
 
+import com.common.server.common.event.bus.EventBus;
+import com.common.server.common.event.outbox.OutboxEventWriter;
+import com.common.server.common.event.stream.RedisStreamEventBridge;
+import com.common.server.config.EventProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * 도메인 이벤트 발행기
  *
  * Spring의 ApplicationEventPublisher를 래핑하여 도메인 이벤트를 발행합니다.
+ * {@literal @}TransactionalOutbox 이벤트는 event.outbox.enabled=true일 때
+ * 현재 트랜잭션의 outbox 테이블에 저장되고 OutboxRelay가 전달합니다.
+ * {@literal @}ClusterEvent 이벤트는 event.stream.enabled=true일 때 Redis Stream으로 다른 노드에도 전달됩니다.
+ * {@literal @}EventBusListener가 등록된 이벤트는 event.bus.enabled=true일 때 Spring 리스너와 함께 EventBus로도 전달되며,
+ * 트랜잭션 안에서 발행하면 롤백된 변경을 버스 핸들러가 보지 않도록 커밋 후에 버스로 넘깁니다.
+ * 버스가 중지되어 받지 못한 이벤트는 경고 로그를 남깁니다 (EventBus가 event.bus.rejected로 집계).
  *
  * 사용 예시:
  * <pre>
@@ -32,7 +44,19 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class DomainEventPublisher {
 
+    // 이벤트 클래스별 @TransactionalOutbox 여부 (클래스당 한 번만 조회)
+    private static final ClassValue<Boolean> OUTBOX_EVENT_TYPES = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return type.isAnnotationPresent(TransactionalOutbox.class);
+        }
+    };
+
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final OutboxEventWriter outboxEventWriter;
+    private final RedisStreamEventBridge streamEventBridge;
+    private final EventBus eventBus;
+    private final EventProperties eventProperties;
 
     /**
      * 도메인 이벤트 발행
@@ -40,8 +64,16 @@ public class DomainEventPublisher {
      * @param event 발행할 이벤트
      */
     public void publish(DomainEvent event) {
+        if (eventProperties.getOutbox().isEnabled() && OUTBOX_EVENT_TYPES.get(event.getClass())) {
+            outboxEventWriter.write(event);
+            return;
+        }
+        if (streamEventBridge.append(event)) {
+            return;
+        }
         log.debug("Publishing domain event: {} (id: {})", event.getEventType(), event.getEventId());
         applicationEventPublisher.publishEvent(event);
+        publishToBus(event);
     }
 
     /**
@@ -52,5 +84,33 @@ public class DomainEventPublisher {
     public void publish(Object event) {
         log.debug("Publishing event: {}", event.getClass().getSimpleName());
         applicationEventPublisher.publishEvent(event);
+        publishToBus(event);
+    }
+
+    /**
+     * 버스 리스너가 있으면 EventBus로도 전달 (트랜잭션 안이면 커밋 후)
+     */
+    private void publishToBus(Object event) {
+        if (!eventBus.hasListeners(event.getClass())) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && TransactionSynchronizationManager.isActualTransactionActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deliverToBus(event);
+                }
+            });
+            return;
+        }
+        deliverToBus(event);
+    }
+
+    private void deliverToBus(Object event) {
+        if (!eventBus.publish(event)) {
+            log.warn("Event bus is not running, {} was not delivered to bus listeners",
+                    event.getClass().getSimpleName());
+        }
     }
 }
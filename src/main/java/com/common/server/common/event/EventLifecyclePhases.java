@@ -0,0 +1,30 @@
+package com.common.server.common.event;
+
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * 이벤트 처리기와 감사 기록기의 SmartLifecycle 단계
+ *
+ * SmartLifecycle은 단계가 낮을수록 먼저 시작하고 나중에 종료합니다.
+ * 웹 서버 graceful shutdown(DEFAULT_PHASE - 1024)이 끝나 더 이상 요청이 이벤트를 발행하지 않은 뒤에
+ * 이벤트 처리기(EventBus, 배치 리스너, 파티션 디스패처, Redis Streams 브리지)가 남은 이벤트를 처리하고 종료하며,
+ * 그 처리 중에 남긴 감사 기록까지 저장하도록 감사 기록기는 가장 나중에 종료합니다.
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+public final class EventLifecyclePhases {
+
+    /**
+     * 이벤트 처리기 단계
+     */
+    public static final int EVENT_PROCESSING = SmartLifecycle.DEFAULT_PHASE - 2048;
+
+    /**
+     * 감사 기록기 단계 (이벤트 처리기보다 나중에 종료)
+     */
+    public static final int AUDIT_WRITER = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private EventLifecyclePhases() {
+    }
+}
@@ -0,0 +1,147 @@
+package com.common.server.common.event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이벤트 리스너 동기 호출기
+ *
+ * OutboxRelay와 RedisStreamEventBridge는 확인(행 삭제, XACK)하기 전에 핸들러가 실제로 끝났는지 알아야 하므로,
+ * 이미 커밋된 이벤트는 ApplicationEventPublisher(AFTER_COMMIT, @Async 큐)를 거치지 않고 이 호출기로 직접 전달합니다.
+ *
+ * - 대상: {@literal @}EventListener, {@literal @}TransactionalEventListener, {@literal @}AsyncEventListener 메서드
+ *   (트랜잭션 단계와 condition은 적용하지 않음, 커밋된 이벤트만 전달하므로 항상 "커밋 후" 실행)
+ * - {@literal @}Async 메서드는 프록시를 건너뛰고 대상 객체를 직접 호출 (비동기 큐에 넣으면 완료를 알 수 없음)
+ *   이때 같은 프록시의 다른 어드바이스({@literal @}Transactional 등)도 적용되지 않으므로 필요한 트랜잭션은 핸들러가 직접 시작
+ * - 핸들러 하나라도 예외를 던지면 예외를 그대로 전파하여 호출자가 재시도 대상으로 남김
+ * - {@literal @}BatchEventListener, {@literal @}PartitionedEventListener는 메모리 큐 기반이라 이 경로의 이벤트를 받지 않음
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Component
+@Slf4j
+public class EventListenerInvoker implements SmartInitializingSingleton {
+
+    private static final Handler[] NO_HANDLERS = new Handler[0];
+
+    private final ConfigurableApplicationContext applicationContext;
+    private final List<Handler> handlers = new ArrayList<>();
+    private final ClassValue<Handler[]> routes = new ClassValue<>() {
+        @Override
+        protected Handler[] computeValue(Class<?> eventClass) {
+            List<Handler> matched = new ArrayList<>();
+            for (Handler handler : handlers) {
+                if (handler.eventType().isAssignableFrom(eventClass)) {
+                    matched.add(handler);
+                }
+            }
+            return matched.isEmpty() ? NO_HANDLERS : matched.toArray(NO_HANDLERS);
+        }
+    };
+
+    public EventListenerInvoker(ConfigurableApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (String beanName : applicationContext.getBeanNamesForType(Object.class, false, false)) {
+            Class<?> beanType = applicationContext.getType(beanName, false);
+            if (beanType == null) {
+                continue;
+            }
+            Class<?> targetType = AopUtils.isAopProxy(beanType) ? AopUtils.getTargetClass(beanType) : beanType;
+            Map<Method, EventListener> methods = MethodIntrospector.selectMethods(targetType,
+                    (MethodIntrospector.MetadataLookup<EventListener>) method ->
+                            AnnotatedElementUtils.findMergedAnnotation(method, EventListener.class));
+            if (!methods.isEmpty()) {
+                Object bean = applicationContext.getBean(beanName);
+                methods.forEach((method, annotation) -> register(bean, method, annotation));
+            }
+        }
+    }
+
+    void register(Object bean, Method method, EventListener annotation) {
+        if (method.getParameterCount() != 1) {
+            return;
+        }
+        if (!annotation.condition().isEmpty()) {
+            log.warn("Direct delivery ignores the condition of {}.{}", method.getDeclaringClass().getSimpleName(),
+                    method.getName());
+        }
+        handlers.add(Handler.of(bean, method));
+    }
+
+    /**
+     * 이벤트를 받는 모든 핸들러를 현재 스레드에서 순서대로 호출
+     *
+     * @return 호출한 핸들러 수
+     * @throws RuntimeException 핸들러가 던진 예외 (checked 예외는 감싸서 전달)
+     */
+    public int invoke(Object event) {
+        Handler[] eventHandlers = routes.get(event.getClass());
+        for (Handler handler : eventHandlers) {
+            handler.invoke(event);
+        }
+        return eventHandlers.length;
+    }
+
+    /**
+     * 빈에 바인딩된 리스너 메서드
+     */
+    record Handler(String name, Class<?> eventType, Object target, Method method) {
+
+        static Handler of(Object bean, Method method) {
+            Object target = bean;
+            if (AnnotatedElementUtils.hasAnnotation(method, Async.class)) {
+                target = ultimateTarget(bean);
+            }
+            Method invocable = AopUtils.selectInvocableMethod(method, target.getClass());
+            ReflectionUtils.makeAccessible(invocable);
+            return new Handler(method.getDeclaringClass().getSimpleName() + "." + method.getName(),
+                    method.getParameterTypes()[0], target, invocable);
+        }
+
+        private static Object ultimateTarget(Object bean) {
+            Object target = bean;
+            Object next;
+            while ((next = AopProxyUtils.getSingletonTarget(target)) != null) {
+                target = next;
+            }
+            return target;
+        }
+
+        void invoke(Object event) {
+            try {
+                method.invoke(target, event);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getTargetException();
+                if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw new IllegalStateException("Event handler " + name + " failed", cause);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot invoke event handler " + name, e);
+            }
+        }
+    }
+}
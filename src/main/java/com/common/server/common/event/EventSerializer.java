@@ -0,0 +1,62 @@
+package com.common.server.common.event;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.stereotype.Component;
+
+/**
+ * 도메인 이벤트 JSON 직렬화기
+ *
+ * Outbox 테이블, Redis Streams처럼 JVM 밖에 이벤트를 저장할 때 사용합니다.
+ * getter가 아닌 필드 기준으로 직렬화하고, 생성자 파라미터 이름으로 객체를 만든 뒤
+ * DomainEvent의 eventId/occurredAt까지 필드로 복원합니다.
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Component
+public class EventSerializer {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+            .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+            .setVisibility(PropertyAccessor.CREATOR, JsonAutoDetect.Visibility.ANY);
+
+    /**
+     * 이벤트를 JSON으로 변환
+     *
+     * @throws IllegalStateException 직렬화할 수 없는 경우
+     */
+    public String serialize(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize event " + event.getClass().getSimpleName(), e);
+        }
+    }
+
+    /**
+     * JSON에서 이벤트 복원
+     *
+     * 타입은 호출자가 EventTypeRegistry 등 허용 목록에서 찾은 것만 넘깁니다 (외부에서 온 클래스 이름을 그대로 쓰지 않음).
+     *
+     * @param json 직렬화된 이벤트
+     * @param eventClass 이벤트 클래스
+     * @throws IllegalStateException JSON이 손상된 경우
+     */
+    public <T> T deserialize(String json, Class<T> eventClass) {
+        try {
+            return objectMapper.readValue(json, eventClass);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot restore event of type " + eventClass.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.common.server.common.event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 역직렬화 허용 이벤트 타입 목록
+ *
+ * Outbox 행(payload_class)과 Redis Stream 항목(type)의 클래스 이름은 JVM 밖에서 온 값이므로
+ * Class.forName에 넘기지 않고, AutoConfigurationPackages(@SpringBootApplication 패키지)에서 찾은
+ * DomainEvent 하위 클래스 중에서만 찾습니다. 그 밖의 패키지에 있는 이벤트는 저장은 되지만 복원되지 않습니다.
+ *
+ * 목록은 처음 조회할 때 한 번만 만듭니다.
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Component
+@Slf4j
+public class EventTypeRegistry {
+
+    private final ConfigurableApplicationContext applicationContext;
+    private volatile Map<String, Class<? extends DomainEvent>> types;
+
+    public EventTypeRegistry(ConfigurableApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
+    }
+
+    /**
+     * 등록된 이벤트 타입 찾기
+     *
+     * @param className 이벤트 클래스 이름
+     * @return 등록된 타입 (없으면 null, 클래스를 로드하지 않음)
+     */
+    public Class<? extends DomainEvent> resolve(String className) {
+        return types().get(className);
+    }
+
+    /**
+     * 등록된 모든 이벤트 타입
+     */
+    public Collection<Class<? extends DomainEvent>> getTypes() {
+        return types().values();
+    }
+
+    private Map<String, Class<? extends DomainEvent>> types() {
+        Map<String, Class<? extends DomainEvent>> current = types;
+        if (current == null) {
+            synchronized (this) {
+                current = types;
+                if (current == null) {
+                    current = scan();
+                    types = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private Map<String, Class<? extends DomainEvent>> scan() {
+        Map<String, Class<? extends DomainEvent>> eventClasses = new LinkedHashMap<>();
+        if (!AutoConfigurationPackages.has(applicationContext.getBeanFactory())) {
+            log.warn("No auto-configuration packages registered, no domain event can be restored from outbox or streams");
+            return Map.of();
+        }
+        List<String> basePackages = AutoConfigurationPackages.get(applicationContext.getBeanFactory());
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AssignableTypeFilter(DomainEvent.class));
+        for (String basePackage : basePackages) {
+            for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+                Class<?> eventClass = ClassUtils.resolveClassName(candidate.getBeanClassName(),
+                        applicationContext.getClassLoader());
+                eventClasses.put(eventClass.getName(), eventClass.asSubclass(DomainEvent.class));
+            }
+        }
+        log.info("Registered {} domain event types from {}", eventClasses.size(), basePackages);
+        return Map.copyOf(eventClasses);
+    }
+}
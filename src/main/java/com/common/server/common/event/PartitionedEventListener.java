@@ -0,0 +1,38 @@
+package com.common.server.common.event;
+
+import java.lang.annotation.*;
+
+/**
+ * 키 파티션 순차 이벤트 리스너 어노테이션
+ *
+ * 이벤트의 파티션 키({@link DomainEvent#getPartitionKey()})를 해시하여 N개의 레인 중 하나에서 처리합니다.
+ * 레인마다 스레드가 하나이므로 같은 키의 이벤트는 발행(커밋) 순서대로 처리되고,
+ * 다른 키의 이벤트는 여러 레인에서 병렬로 처리됩니다.
+ * 같은 애그리거트 이벤트 처리를 위해 {@literal @}DistributedLock을 걸 필요가 없습니다.
+ *
+ * 트랜잭션 안에서 발행된 이벤트는 커밋 후 레인에 들어갑니다.
+ * 레인 수와 가상 스레드 사용 여부는 event.partition.* 설정을 따릅니다.
+ *
+ * 사용 예시:
+ * <pre>
+ * public class OrderStatusChangedEvent extends DomainEvent {
+ *     {@literal @}Override
+ *     public String getPartitionKey() {
+ *         return orderId;
+ *     }
+ * }
+ *
+ * {@literal @}PartitionedEventListener
+ * public void handleStatusChanged(OrderStatusChangedEvent event) {
+ *     // 같은 orderId는 순서대로 실행
+ * }
+ * </pre>
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface PartitionedEventListener {
+}
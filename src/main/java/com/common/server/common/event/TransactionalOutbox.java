@@ -0,0 +1,32 @@
+package com.common.server.common.event;
+
+import java.lang.annotation.*;
+
+/**
+ * Transactional Outbox 대상 이벤트 표시 어노테이션
+ *
+ * 이 어노테이션이 붙은 도메인 이벤트는 발행 시 메모리로 바로 전달되지 않고,
+ * 비즈니스 변경과 같은 트랜잭션에서 outbox_events 테이블에 저장됩니다.
+ * OutboxRelay가 커밋된 행을 배치로 가져가 리스너에 전달하므로
+ * 프로세스 종료나 실행기 큐 포화로 이벤트가 유실되지 않습니다.
+ *
+ * 릴레이는 최소 한 번(at-least-once) 전달하므로 핸들러는 eventId 기준으로 멱등해야 합니다.
+ * event.outbox.enabled=false이면 일반 이벤트와 같이 즉시 발행됩니다.
+ *
+ * 사용 예시:
+ * <pre>
+ * {@literal @}TransactionalOutbox
+ * public class OrderCreatedEvent extends DomainEvent {
+ *     ...
+ * }
+ * </pre>
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+public @interface TransactionalOutbox {
+}
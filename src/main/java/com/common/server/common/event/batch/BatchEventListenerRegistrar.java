@@ -0,0 +1,157 @@
+package com.common.server.common.event.batch;
+
+import com.common.server.common.event.BatchEventListener;
+import com.common.server.common.event.EventLifecyclePhases;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.GenericApplicationListener;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * {@literal @}BatchEventListener 등록기
+ *
+ * 시작 시 {@literal @}BatchEventListener 메서드를 찾아 리스너마다 EventBatcher를 만들고,
+ * 해당 이벤트 타입만 받는 ApplicationListener로 등록합니다.
+ * 종료 시에는 모든 배처에 남은 이벤트를 호출 스레드에서 전달합니다.
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Component
+@Slf4j
+public class BatchEventListenerRegistrar implements SmartInitializingSingleton, SmartLifecycle {
+
+    // SchedulingConfig의 스케줄러 (WebSocket 사용 시 messageBrokerTaskScheduler도 있으므로 이름으로 조회)
+    private static final String TASK_SCHEDULER_BEAN = "taskScheduler";
+
+    private final ConfigurableApplicationContext applicationContext;
+    private final List<EventBatcher> batchers = new ArrayList<>();
+    private volatile boolean running;
+
+    public BatchEventListenerRegistrar(ConfigurableApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (String beanName : applicationContext.getBeanNamesForType(Object.class, false, false)) {
+            Class<?> beanType = applicationContext.getType(beanName, false);
+            if (beanType == null) {
+                continue;
+            }
+            Class<?> targetType = AopUtils.isAopProxy(beanType) ? AopUtils.getTargetClass(beanType) : beanType;
+            Map<Method, BatchEventListener> methods = MethodIntrospector.selectMethods(targetType,
+                    (MethodIntrospector.MetadataLookup<BatchEventListener>) method ->
+                            AnnotatedElementUtils.findMergedAnnotation(method, BatchEventListener.class));
+            if (!methods.isEmpty()) {
+                Object bean = applicationContext.getBean(beanName);
+                methods.forEach((method, annotation) -> register(bean, method, annotation));
+            }
+        }
+    }
+
+    private void register(Object bean, Method method, BatchEventListener annotation) {
+        Class<?> eventType = resolveEventType(method);
+        Method invocable = AopUtils.selectInvocableMethod(method, bean.getClass());
+        ReflectionUtils.makeAccessible(invocable);
+        String name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+
+        EventBatcher batcher = new EventBatcher(
+                name,
+                annotation.maxBatchSize(),
+                Duration.ofNanos(annotation.timeUnit().toNanos(annotation.maxDelay())),
+                batch -> ReflectionUtils.invokeMethod(invocable, bean, batch),
+                applicationContext.getBean(annotation.executor(), Executor.class),
+                applicationContext.getBean(TASK_SCHEDULER_BEAN, TaskScheduler.class)
+        );
+        batchers.add(batcher);
+        applicationContext.addApplicationListener(new BatchingListener(eventType, batcher));
+        log.info("Registered batch event listener {} for {} (maxBatchSize={}, maxDelay={} {})",
+                name, eventType.getSimpleName(), annotation.maxBatchSize(), annotation.maxDelay(), annotation.timeUnit());
+    }
+
+    private static Class<?> resolveEventType(Method method) {
+        if (method.getParameterCount() != 1 || !List.class.isAssignableFrom(method.getParameterTypes()[0])) {
+            throw new IllegalStateException("@BatchEventListener method must take a single List<E> parameter: " + method);
+        }
+        Class<?> eventType = ResolvableType.forMethodParameter(method, 0).asCollection().resolveGeneric(0);
+        return eventType != null ? eventType : Object.class;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    /**
+     * 종료 시 모든 배처의 남은 이벤트 전달
+     */
+    @Override
+    public void stop() {
+        running = false;
+        batchers.forEach(EventBatcher::flushNow);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return EventLifecyclePhases.EVENT_PROCESSING;
+    }
+
+    /**
+     * 지정한 이벤트 타입만 받아 배처에 넘기는 리스너
+     */
+    private record BatchingListener(Class<?> eventType, EventBatcher batcher) implements GenericApplicationListener {
+
+        @Override
+        public boolean supportsEventType(ResolvableType type) {
+            Class<?> rawType = type.toClass();
+            if (PayloadApplicationEvent.class.isAssignableFrom(rawType)) {
+                Class<?> payloadType = type.as(PayloadApplicationEvent.class).getGeneric().toClass();
+                return eventType.isAssignableFrom(payloadType);
+            }
+            return eventType.isAssignableFrom(rawType);
+        }
+
+        @Override
+        public void onApplicationEvent(ApplicationEvent event) {
+            Object payload = event instanceof PayloadApplicationEvent<?> payloadEvent ? payloadEvent.getPayload() : event;
+            if (!eventType.isInstance(payload)) {
+                return;
+            }
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        batcher.add(payload);
+                    }
+                });
+            } else {
+                batcher.add(payload);
+            }
+        }
+    }
+}
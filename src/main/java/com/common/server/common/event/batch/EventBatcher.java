@@ -0,0 +1,178 @@
+package com.common.server.common.event.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 리스너 하나에 대한 마이크로 배처
+ *
+ * 이벤트를 모으다가 크기/시간 조건을 만족하면 배치를 잘라 실행기에 넘깁니다.
+ * 잘라낸 배치는 대기열(ready)에 순서대로 쌓이고, 실행 중인 배달 작업이 없을 때만
+ * 새 작업을 제출하므로 같은 리스너의 배치는 동시에 실행되지 않습니다.
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Slf4j
+final class EventBatcher {
+
+    private final String name;
+    private final int maxBatchSize;
+    private final Duration maxDelay;
+    private final Consumer<List<Object>> handler;
+    private final Executor executor;
+    private final TaskScheduler taskScheduler;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition deliveryFinished = lock.newCondition();
+    private List<Object> current;
+    private long generation;
+    private final List<List<Object>> ready = new ArrayList<>();
+    private boolean delivering;
+
+    EventBatcher(String name, int maxBatchSize, Duration maxDelay, Consumer<List<Object>> handler,
+                 Executor executor, TaskScheduler taskScheduler) {
+        this.name = name;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.maxDelay = maxDelay;
+        this.handler = handler;
+        this.executor = executor;
+        this.taskScheduler = taskScheduler;
+    }
+
+    /**
+     * 이벤트 추가 (크기 조건 충족 시 배치 전달 예약)
+     */
+    void add(Object event) {
+        boolean submit = false;
+        long scheduleGeneration = -1;
+
+        lock.lock();
+        try {
+            if (current == null) {
+                current = new ArrayList<>(Math.min(maxBatchSize, 1024));
+                scheduleGeneration = ++generation;
+            }
+            current.add(event);
+            if (current.size() >= maxBatchSize) {
+                submit = cut();
+                scheduleGeneration = -1;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (scheduleGeneration >= 0) {
+            long target = scheduleGeneration;
+            taskScheduler.schedule(() -> flushIfGeneration(target), Instant.now().plus(maxDelay));
+        }
+        if (submit) {
+            submitDelivery();
+        }
+    }
+
+    /**
+     * 시간 조건 충족 시 전달 (이미 크기 조건으로 잘린 배치면 무시)
+     */
+    private void flushIfGeneration(long target) {
+        boolean submit = false;
+        lock.lock();
+        try {
+            if (current != null && generation == target) {
+                submit = cut();
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (submit) {
+            submitDelivery();
+        }
+    }
+
+    /**
+     * 남은 이벤트를 호출 스레드에서 모두 전달 (종료 시 사용)
+     *
+     * 실행기에서 배달 중이면 끝날 때까지 기다린 뒤 같은 delivering 표시를 잡고 전달하므로
+     * 종료 중에도 같은 리스너의 배치가 동시에 또는 순서가 바뀌어 실행되지 않습니다.
+     */
+    void flushNow() {
+        lock.lock();
+        try {
+            if (current != null) {
+                ready.add(current);
+                current = null;
+            }
+            while (delivering) {
+                deliveryFinished.await();
+            }
+            delivering = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Batch listener {} interrupted while flushing, {} batches left undelivered", name, ready.size());
+            return;
+        } finally {
+            lock.unlock();
+        }
+        drainReady();
+    }
+
+    /**
+     * 현재 배치를 대기열로 이동 (lock 보유 상태에서 호출)
+     *
+     * @return 새 배달 작업을 제출해야 하면 true
+     */
+    private boolean cut() {
+        ready.add(current);
+        current = null;
+        if (delivering) {
+            return false;
+        }
+        delivering = true;
+        return true;
+    }
+
+    private void submitDelivery() {
+        try {
+            executor.execute(this::drainReady);
+        } catch (RejectedExecutionException e) {
+            log.warn("Batch listener {} executor rejected delivery, running on caller thread", name);
+            drainReady();
+        }
+    }
+
+    private void drainReady() {
+        while (true) {
+            List<Object> batch;
+            lock.lock();
+            try {
+                if (ready.isEmpty()) {
+                    delivering = false;
+                    deliveryFinished.signalAll();
+                    return;
+                }
+                batch = ready.remove(0);
+            } finally {
+                lock.unlock();
+            }
+            deliver(batch);
+        }
+    }
+
+    private void deliver(List<Object> batch) {
+        try {
+            handler.accept(batch);
+        } catch (Exception e) {
+            log.error("Batch listener {} failed for {} events", name, batch.size(), e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.common.server.common.event.bus;
+
+/**
+ * 이벤트 버스 링 버퍼가 가득 찼을 때의 처리 정책
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+public enum BackpressurePolicy {
+
+    /**
+     * 빈 슬롯이 생길 때까지 발행 스레드 대기 (유실 없음)
+     */
+    BLOCK,
+
+    /**
+     * 이벤트를 버리고 event.bus.dropped 카운터만 증가 (통계/추적성 이벤트용)
+     */
+    DROP,
+
+    /**
+     * 발행 스레드에서 직접 핸들러 실행 (유실 없이 발행 속도를 자연스럽게 제한)
+     */
+    CALLER_RUNS
+}
@@ -0,0 +1,31 @@
+package com.common.server.common.event.bus;
+
+import java.lang.annotation.*;
+
+/**
+ * 이벤트 타입별 백프레셔 정책 지정 어노테이션
+ *
+ * 지정하지 않은 이벤트는 event.bus.default-backpressure 정책을 따릅니다.
+ *
+ * 사용 예시:
+ * <pre>
+ * {@literal @}EventBackpressure(BackpressurePolicy.DROP)
+ * public class AdImpressionEvent extends DomainEvent {
+ *     ...
+ * }
+ * </pre>
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+public @interface EventBackpressure {
+
+    /**
+     * 링 버퍼가 가득 찼을 때의 정책
+     */
+    BackpressurePolicy value();
+}
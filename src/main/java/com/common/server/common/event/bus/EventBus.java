@@ -0,0 +1,401 @@
+package com.common.server.common.event.bus;
+
+import com.common.server.common.context.RequestContext;
+import com.common.server.common.event.EventLifecyclePhases;
+import com.common.server.config.EventProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 고성능 인프로세스 이벤트 버스
+ *
+ * ApplicationEventMulticaster는 발행마다 리스너를 타입으로 조회하고, {@literal @}Async는 이벤트마다
+ * 프록시 호출과 Future를 만듭니다. EventBus는 이를 피하기 위해:
+ * - 시작 시 {@literal @}EventBusListener 메서드를 수집하여 이벤트 클래스별 핸들러 배열을 미리 구성
+ *   (하위 클래스는 최초 발행 시 한 번 계산 후 ClassValue에 캐시)
+ * - 발행 시 고정 크기 링 버퍼에 넣기만 하고, 전용 소비 스레드가 꺼내어 MethodHandle로 직접 호출
+ * - 소비 스레드는 버퍼가 비면 잠깐 스핀한 뒤 Condition으로 대기하고, 발행자는 대기 중인 소비자가 있을 때만 깨움
+ * - 버퍼가 가득 차면 이벤트 타입별 정책(BLOCK / DROP / CALLER_RUNS)을 적용
+ * - 발행 스레드의 RequestContext를 이벤트와 함께 참조로 넘겨 소비 스레드에서 연결
+ *
+ * 버스는 ApplicationEventPublisher를 대체하지 않고 추가로 전달하는 경로입니다. DomainEventPublisher는 Spring 리스너에
+ * 그대로 발행한 뒤, 트랜잭션 안이면 커밋 후에 버스로 넘깁니다. 따라서 멀티캐스터 조회 비용은 버스를 써도 그대로 들며,
+ * 버스가 줄이는 것은 핸들러 실행 쪽({@literal @}Async 프록시/Future, 스레드 풀 큐)의 비용입니다.
+ * event.bus.enabled=false(기본값)이면 스레드를 만들지 않습니다.
+ *
+ * 메트릭: event.bus.published, event.bus.dropped, event.bus.caller.runs, event.bus.rejected,
+ * event.bus.handler.errors (Counter), event.bus.queue.size (Gauge)
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Component
+@Slf4j
+public class EventBus implements SmartInitializingSingleton, SmartLifecycle {
+
+    private static final Handler[] NO_HANDLERS = new Handler[0];
+    private static final int SPIN_TRIES = 100;
+    private static final long MAX_IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final ApplicationContext applicationContext;
+    private final EventProperties.Bus properties;
+    private final MeterRegistry meterRegistry;
+
+    private final List<Handler> handlers = new ArrayList<>();
+    private final ClassValue<Route> routes = new ClassValue<>() {
+        @Override
+        protected Route computeValue(Class<?> eventClass) {
+            return resolveRoute(eventClass);
+        }
+    };
+
+    private EventRingBuffer<Envelope> ringBuffer;
+    private Thread[] consumers;
+    private volatile boolean running;
+
+    // 버퍼가 비어 대기 중인 소비 스레드 (발행자는 0이 아닐 때만 락을 잡고 깨움)
+    private final ReentrantLock idleLock = new ReentrantLock();
+    private final Condition notEmpty = idleLock.newCondition();
+    private final AtomicInteger sleepingConsumers = new AtomicInteger();
+
+    private Counter publishedCounter;
+    private Counter droppedCounter;
+    private Counter callerRunsCounter;
+    private Counter rejectedCounter;
+    private Counter handlerErrorCounter;
+
+    public EventBus(ApplicationContext applicationContext, EventProperties eventProperties,
+                    MeterRegistry meterRegistry) {
+        this.applicationContext = applicationContext;
+        this.properties = eventProperties.getBus();
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 모든 싱글톤 생성 후 {@literal @}EventBusListener 메서드 수집
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        for (String beanName : applicationContext.getBeanNamesForType(Object.class, false, false)) {
+            Class<?> beanType = applicationContext.getType(beanName, false);
+            if (beanType == null) {
+                continue;
+            }
+            Class<?> targetType = AopUtils.isAopProxy(beanType) ? AopUtils.getTargetClass(beanType) : beanType;
+            Map<Method, EventBusListener> methods = MethodIntrospector.selectMethods(targetType,
+                    (MethodIntrospector.MetadataLookup<EventBusListener>) method ->
+                            AnnotatedElementUtils.findMergedAnnotation(method, EventBusListener.class));
+            if (!methods.isEmpty()) {
+                Object bean = applicationContext.getBean(beanName);
+                methods.keySet().forEach(method -> handlers.add(Handler.of(bean, method)));
+            }
+        }
+
+        ringBuffer = new EventRingBuffer<>(properties.getCapacity());
+        registerMetrics();
+
+        // 리스너가 선언한 이벤트 타입은 시작 시점에 라우팅 미리 계산
+        handlers.forEach(handler -> routes.get(handler.eventType()));
+        log.info("Event bus initialized: {} handlers, capacity={}, consumers={}",
+                handlers.size(), ringBuffer.capacity(), properties.getConsumers());
+    }
+
+    /**
+     * 이벤트 타입에 버스 리스너가 있는지 확인 (버스가 중지되어 있어도 리스너가 있으면 true)
+     */
+    public boolean hasListeners(Class<?> eventClass) {
+        return routes.get(eventClass).handlers().length > 0;
+    }
+
+    /**
+     * 이벤트 발행
+     *
+     * @param event 발행할 이벤트
+     * @return 버스가 이벤트를 받았으면 true, 버스 리스너가 없거나 버스가 중지되어 있으면 false
+     *         (리스너가 있는데 중지되어 있으면 event.bus.rejected 증가)
+     */
+    public boolean publish(Object event) {
+        Route route = routes.get(event.getClass());
+        if (route.handlers().length == 0) {
+            return false;
+        }
+        if (!running) {
+            rejectedCounter.increment();
+            return false;
+        }
+
+        Envelope envelope = new Envelope(event, route.handlers(), RequestContext.current());
+        if (ringBuffer.offer(envelope)) {
+            publishedCounter.increment();
+            wakeConsumer();
+            return true;
+        }
+
+        switch (route.policy()) {
+            case DROP -> {
+                droppedCounter.increment();
+                log.debug("Event bus full, dropped event: {}", event.getClass().getSimpleName());
+            }
+            case CALLER_RUNS -> {
+                callerRunsCounter.increment();
+                invoke(envelope.event(), envelope.handlers());
+            }
+            case BLOCK -> {
+                offerBlocking(envelope);
+                publishedCounter.increment();
+                wakeConsumer();
+            }
+        }
+        return true;
+    }
+
+    private void offerBlocking(Envelope envelope) {
+        int idle = 0;
+        while (!ringBuffer.offer(envelope)) {
+            if (!running) {
+                // 종료 중에는 발행 스레드에서 처리하여 유실 방지
+                invoke(envelope.event(), envelope.handlers());
+                return;
+            }
+            idle = idle(idle);
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled() || running) {
+            return;
+        }
+        running = true;
+        consumers = new Thread[properties.getConsumers()];
+        for (int i = 0; i < consumers.length; i++) {
+            consumers[i] = Thread.ofPlatform()
+                    .name("event-bus-" + i)
+                    .start(this::consume);
+        }
+    }
+
+    /**
+     * 종료: 새 이벤트 수신을 멈추고 남은 이벤트를 모두 처리한 뒤 소비 스레드 종료
+     */
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        wakeAllConsumers();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getShutdownTimeout());
+        for (Thread consumer : consumers) {
+            try {
+                consumer.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        int remaining = ringBuffer.size();
+        if (remaining > 0) {
+            log.warn("Event bus stopped with {} undelivered events", remaining);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return EventLifecyclePhases.EVENT_PROCESSING;
+    }
+
+    private void consume() {
+        int spins = 0;
+        while (true) {
+            Envelope envelope = ringBuffer.poll();
+            if (envelope == null) {
+                if (!running) {
+                    return;
+                }
+                if (spins < SPIN_TRIES) {
+                    spins++;
+                    Thread.onSpinWait();
+                } else {
+                    awaitEvents();
+                    spins = 0;
+                }
+                continue;
+            }
+            spins = 0;
+
+            try (RequestContext.Scope ignored = RequestContext.attach(envelope.context())) {
+                invoke(envelope.event(), envelope.handlers());
+            }
+        }
+    }
+
+    private void invoke(Object event, Handler[] eventHandlers) {
+        for (Handler handler : eventHandlers) {
+            try {
+                handler.invoke(event);
+            } catch (Throwable e) {
+                handlerErrorCounter.increment();
+                log.error("Event bus handler {} failed for event {}",
+                        handler.name(), event.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    /**
+     * 버퍼에 이벤트가 들어오거나 종료될 때까지 대기
+     *
+     * 대기 수를 먼저 올린 뒤 버퍼를 확인하므로, 발행자가 넣은 직후 대기 수를 읽으면 깨우고
+     * 그보다 먼저 읽었다면 여기서 버퍼가 비어 있지 않은 것을 봅니다.
+     */
+    private void awaitEvents() {
+        idleLock.lock();
+        sleepingConsumers.incrementAndGet();
+        try {
+            while (running && ringBuffer.size() == 0) {
+                notEmpty.await();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            sleepingConsumers.decrementAndGet();
+            idleLock.unlock();
+        }
+    }
+
+    private void wakeConsumer() {
+        if (sleepingConsumers.get() == 0) {
+            return;
+        }
+        idleLock.lock();
+        try {
+            notEmpty.signal();
+        } finally {
+            idleLock.unlock();
+        }
+    }
+
+    private void wakeAllConsumers() {
+        idleLock.lock();
+        try {
+            notEmpty.signalAll();
+        } finally {
+            idleLock.unlock();
+        }
+    }
+
+    /**
+     * 버퍼가 가득 찬 동안 발행자 대기 전략: 짧게 스핀 → 점점 길게 park (최대 1ms)
+     */
+    private static int idle(int idle) {
+        if (idle < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else {
+            LockSupport.parkNanos(Math.min(MAX_IDLE_PARK_NANOS, 1000L << Math.min(idle - SPIN_TRIES, 10)));
+        }
+        return idle + 1;
+    }
+
+    private Route resolveRoute(Class<?> eventClass) {
+        List<Handler> matched = new ArrayList<>();
+        for (Handler handler : handlers) {
+            if (handler.eventType().isAssignableFrom(eventClass)) {
+                matched.add(handler);
+            }
+        }
+        EventBackpressure backpressure = eventClass.getAnnotation(EventBackpressure.class);
+        BackpressurePolicy policy = backpressure != null ? backpressure.value() : properties.getDefaultBackpressure();
+        return new Route(matched.isEmpty() ? NO_HANDLERS : matched.toArray(NO_HANDLERS), policy);
+    }
+
+    private void registerMetrics() {
+        publishedCounter = Counter.builder("event.bus.published")
+                .description("Events accepted by the event bus")
+                .register(meterRegistry);
+        droppedCounter = Counter.builder("event.bus.dropped")
+                .description("Events dropped because the ring buffer was full")
+                .register(meterRegistry);
+        callerRunsCounter = Counter.builder("event.bus.caller.runs")
+                .description("Events handled on the publishing thread because the ring buffer was full")
+                .register(meterRegistry);
+        rejectedCounter = Counter.builder("event.bus.rejected")
+                .description("Events with bus listeners published while the event bus was not running")
+                .register(meterRegistry);
+        handlerErrorCounter = Counter.builder("event.bus.handler.errors")
+                .description("Exceptions thrown by event bus handlers")
+                .register(meterRegistry);
+        Gauge.builder("event.bus.queue.size", ringBuffer, EventRingBuffer::size)
+                .description("Events waiting in the ring buffer")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이벤트 클래스별 라우팅 (핸들러 배열 + 백프레셔 정책)
+     */
+    private record Route(Handler[] handlers, BackpressurePolicy policy) {
+    }
+
+    /**
+     * 링 버퍼 슬롯에 들어가는 이벤트 + 핸들러 + 발행 시점 RequestContext
+     */
+    private record Envelope(Object event, Handler[] handlers, RequestContext context) {
+    }
+
+    /**
+     * 빈에 바인딩된 리스너 메서드
+     */
+    private record Handler(String name, Class<?> eventType, MethodHandle methodHandle) {
+
+        static Handler of(Object bean, Method method) {
+            if (method.getParameterCount() != 1) {
+                throw new IllegalStateException("@EventBusListener method must have exactly one parameter: " + method);
+            }
+            Method invocable = AopUtils.selectInvocableMethod(method, bean.getClass());
+            try {
+                invocable.setAccessible(true);
+                MethodHandle handle = MethodHandles.lookup().unreflect(invocable)
+                        .bindTo(bean)
+                        .asType(MethodType.methodType(void.class, Object.class));
+                return new Handler(method.getDeclaringClass().getSimpleName() + "." + method.getName(),
+                        method.getParameterTypes()[0], handle);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot access @EventBusListener method: " + method, e);
+            }
+        }
+
+        void invoke(Object event) throws Throwable {
+            methodHandle.invokeExact(event);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.common.server.common.event.bus;
+
+import java.lang.annotation.*;
+
+/**
+ * 인프로세스 이벤트 버스 리스너 어노테이션
+ *
+ * event.bus.enabled=true일 때 EventBus가 애플리케이션 시작 시 이 어노테이션이 붙은 메서드를
+ * 이벤트 타입별로 미리 수집하고, 링 버퍼를 소비하는 전용 스레드에서 호출합니다.
+ * 메서드는 이벤트 하나를 파라미터로 받아야 합니다.
+ *
+ * DomainEventPublisher로 발행한 이벤트는 먼저 ApplicationEventMulticaster로 Spring 리스너에 전달된 뒤 버스에도 들어갑니다.
+ * 트랜잭션 안에서 발행하면 커밋 후에 버스에 들어가고, 롤백되면 버스 리스너는 호출되지 않습니다.
+ * 버스가 중지된 동안(시작 전, 종료 후) 발행된 이벤트는 버스 리스너에 전달되지 않습니다.
+ *
+ * 사용 예시:
+ * <pre>
+ * {@literal @}Component
+ * public class ClickEventHandler {
+ *
+ *     {@literal @}EventBusListener
+ *     public void handleClick(AdClickedEvent event) {
+ *         // 전용 소비 스레드에서 실행
+ *     }
+ * }
+ * </pre>
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface EventBusListener {
+}
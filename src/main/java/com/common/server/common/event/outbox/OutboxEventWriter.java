@@ -0,0 +1,70 @@
+package com.common.server.common.event.outbox;
+
+import com.common.server.common.context.RequestContext;
+import com.common.server.common.event.DomainEvent;
+import com.common.server.common.event.EventSerializer;
+import com.common.server.common.event.EventTypeRegistry;
+import com.common.server.domain.outbox.entity.OutboxEvent;
+import com.common.server.domain.outbox.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox 이벤트 저장/복원기
+ *
+ * 이벤트를 EventSerializer로 직렬화하여 현재 트랜잭션에 outbox 행으로 저장하고,
+ * 릴레이에서는 같은 형식으로 원래 이벤트 객체를 복원합니다.
+ * 복원할 타입은 payload_class를 EventTypeRegistry에서 찾아 정하며, 등록되지 않은 타입은 로드하지 않고 거부합니다.
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxEventWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final EventSerializer eventSerializer;
+    private final EventTypeRegistry eventTypeRegistry;
+
+    /**
+     * 이벤트를 outbox에 저장 (호출한 트랜잭션에 참여)
+     *
+     * @param event 저장할 이벤트
+     */
+    public void write(DomainEvent event) {
+        LocalDateTime now = LocalDateTime.now();
+        OutboxEvent outboxEvent = OutboxEvent.builder()
+                .eventId(event.getEventId())
+                .eventType(event.getEventType())
+                .payloadClass(event.getClass().getName())
+                .payload(eventSerializer.serialize(event))
+                .traceId(RequestContext.currentTraceId())
+                .availableAt(now)
+                .createdAt(now)
+                .build();
+
+        outboxEventRepository.save(outboxEvent);
+        log.debug("Domain event stored in outbox: {} (id: {})", event.getEventType(), event.getEventId());
+    }
+
+    /**
+     * 저장된 행에서 이벤트 객체 복원
+     *
+     * @param outboxEvent outbox 행
+     * @return 복원된 이벤트
+     * @throws IllegalStateException 등록되지 않은 타입이거나 JSON이 손상된 경우
+     *         (배포 중 새 이벤트 타입을 아직 모르는 노드일 수 있으므로 릴레이가 재시도 후 DEAD 처리)
+     */
+    public Object read(OutboxEvent outboxEvent) {
+        Class<? extends DomainEvent> eventClass = eventTypeRegistry.resolve(outboxEvent.getPayloadClass());
+        if (eventClass == null) {
+            throw new IllegalStateException("Unregistered event type: " + outboxEvent.getPayloadClass());
+        }
+        return eventSerializer.deserialize(outboxEvent.getPayload(), eventClass);
+    }
+}
@@ -0,0 +1,182 @@
+package com.common.server.common.event.outbox;
+
+import com.common.server.common.context.RequestContext;
+import com.common.server.common.event.EventListenerInvoker;
+import com.common.server.config.EventProperties;
+import com.common.server.domain.outbox.entity.OutboxEvent;
+import com.common.server.domain.outbox.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outbox 릴레이
+ *
+ * outbox_events 테이블의 발행 대기 행을 배치로 점유(FOR UPDATE SKIP LOCKED)하여
+ * EventListenerInvoker로 핸들러를 동기 호출하고, 모든 핸들러가 끝난 행만 한 번의 DELETE로 확인(ack)합니다.
+ *
+ * - 배치마다 하나의 트랜잭션: 점유 → 전달 → 일괄 삭제/실패 기록 → 커밋
+ * - SKIP LOCKED로 여러 노드가 서로 다른 행을 동시에 처리
+ * - ApplicationEventPublisher를 거치면 @AsyncEventListener(AFTER_COMMIT) 핸들러가 ack 커밋 뒤에 실행되어
+ *   실패해도 행이 이미 삭제되므로, 비동기 핸들러도 릴레이 스레드에서 직접 호출하여 완료를 확인
+ * - 핸들러는 릴레이 트랜잭션을 일시 중단한 상태로 실행 (핸들러 트랜잭션의 롤백이 배치 전체를 되돌리지 않도록)
+ * - 핸들러가 실패한 이벤트는 지수 백오프 후 재시도하므로 핸들러는 멱등이어야 함 (at-least-once)
+ * - 최대 시도 횟수를 넘긴 행은 DEAD 상태로 남겨 수동 확인
+ *
+ * 메트릭:
+ * - outbox.events.published / outbox.events.failed / outbox.events.dead (Counter)
+ * - outbox.relay.batch (Timer), outbox.lag (가장 오래된 대기 이벤트의 경과 초)
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Component
+@ConditionalOnProperty(name = "event.outbox.enabled", havingValue = "true", matchIfMissing = false)
+@Slf4j
+public class OutboxRelay {
+
+    private static final long MAX_BACKOFF_MILLIS = 300_000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxEventWriter outboxEventWriter;
+    private final EventListenerInvoker eventListenerInvoker;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate handlerTransactionTemplate;
+    private final EventProperties.Outbox properties;
+
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Counter deadCounter;
+    private final Timer batchTimer;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       OutboxEventWriter outboxEventWriter,
+                       EventListenerInvoker eventListenerInvoker,
+                       PlatformTransactionManager transactionManager,
+                       EventProperties eventProperties,
+                       MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxEventWriter = outboxEventWriter;
+        this.eventListenerInvoker = eventListenerInvoker;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.handlerTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.handlerTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+        this.properties = eventProperties.getOutbox();
+
+        this.publishedCounter = Counter.builder("outbox.events.published")
+                .description("Outbox events delivered to listeners")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("outbox.events.failed")
+                .description("Outbox event delivery failures (will be retried)")
+                .register(meterRegistry);
+        this.deadCounter = Counter.builder("outbox.events.dead")
+                .description("Outbox events that exceeded max attempts")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("outbox.relay.batch")
+                .description("Time to claim, deliver and acknowledge one outbox batch")
+                .register(meterRegistry);
+        Gauge.builder("outbox.lag", this, OutboxRelay::lagSeconds)
+                .description("Age of the oldest pending outbox event in seconds")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 발행 대기 이벤트 처리
+     *
+     * 가득 찬 배치가 나오는 동안 연속으로 처리하여 적체를 빠르게 해소합니다.
+     */
+    @Scheduled(fixedDelayString = "${event.outbox.poll-interval:1000}")
+    public void poll() {
+        for (int i = 0; i < properties.getMaxBatchesPerPoll(); i++) {
+            Integer claimed;
+            try {
+                claimed = batchTimer.record(() -> transactionTemplate.execute(status -> relayBatch()));
+            } catch (Exception e) {
+                log.error("Outbox relay batch failed", e);
+                return;
+            }
+            if (claimed == null || claimed < properties.getBatchSize()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 배치 하나 처리 (트랜잭션 내부)
+     *
+     * @return 점유한 행 수
+     */
+    private int relayBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> batch = outboxEventRepository.claimBatch(now, properties.getBatchSize());
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> delivered = new ArrayList<>(batch.size());
+        for (OutboxEvent outboxEvent : batch) {
+            if (deliver(outboxEvent, now)) {
+                delivered.add(outboxEvent.getId());
+            }
+        }
+
+        if (!delivered.isEmpty()) {
+            outboxEventRepository.deleteAllByIdIn(delivered);
+            publishedCounter.increment(delivered.size());
+        }
+        log.debug("Outbox relay batch: claimed={}, delivered={}", batch.size(), delivered.size());
+        return batch.size();
+    }
+
+    private boolean deliver(OutboxEvent outboxEvent, LocalDateTime now) {
+        // 저장 시점의 Trace를 이어받아 전달
+        try (RequestContext.Scope ignored =
+                     RequestContext.attach(RequestContext.continueTrace(outboxEvent.getTraceId(), null))) {
+            Object event = outboxEventWriter.read(outboxEvent);
+            handlerTransactionTemplate.executeWithoutResult(status -> eventListenerInvoker.invoke(event));
+            return true;
+        } catch (Exception e) {
+            outboxEvent.markFailed(e.toString(), now.plus(backoff(outboxEvent.getAttempts())),
+                    properties.getMaxAttempts());
+            failedCounter.increment();
+            if (outboxEvent.getStatus() == OutboxEvent.Status.DEAD) {
+                deadCounter.increment();
+                log.error("Outbox event {} ({}) exceeded {} attempts, marked as DEAD",
+                        outboxEvent.getEventId(), outboxEvent.getEventType(), properties.getMaxAttempts(), e);
+            } else {
+                log.warn("Outbox event {} ({}) delivery failed (attempt {}), will retry",
+                        outboxEvent.getEventId(), outboxEvent.getEventType(), outboxEvent.getAttempts(), e);
+            }
+            return false;
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        long delay = properties.getRetryBackoff() << Math.min(attempts, 16);
+        return Duration.ofMillis(Math.min(delay, MAX_BACKOFF_MILLIS));
+    }
+
+    private double lagSeconds() {
+        try {
+            LocalDateTime oldest = outboxEventRepository.findOldestPendingCreatedAt();
+            return oldest != null ? Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis() / 1000.0) : 0;
+        } catch (Exception e) {
+            return Double.NaN;
+        }
+    }
+
+}
@@ -0,0 +1,305 @@
+package com.common.server.common.event.partition;
+
+import com.common.server.common.context.RequestContext;
+import com.common.server.common.event.DomainEvent;
+import com.common.server.common.event.EventLifecyclePhases;
+import com.common.server.common.event.PartitionedEventListener;
+import com.common.server.config.EventProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.GenericApplicationListener;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 키 파티션 순차 이벤트 디스패처
+ *
+ * {@literal @}PartitionedEventListener 메서드를 시작 시 수집하고, 이벤트를 파티션 키 해시로
+ * 고정 개수의 레인 중 하나에 넣습니다. 레인마다 소비 스레드(플랫폼 또는 가상 스레드)가 하나이므로
+ * 같은 키는 순서대로, 다른 키는 병렬로 처리됩니다.
+ *
+ * - 파티션 키가 없는 이벤트는 임의의 레인에서 처리 (순서 보장 없음)
+ * - 레인 큐가 가득 차면 발행 스레드가 대기 (유실 없음)
+ * - 발행 스레드의 RequestContext를 레인 스레드에 참조로 연결
+ * - 종료 시 레인에 남은 이벤트를 모두 처리한 뒤 스레드 종료, 종료 이후 발행된 이벤트는 발행 스레드에서 처리
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Component
+@Slf4j
+public class PartitionedEventDispatcher implements SmartInitializingSingleton, SmartLifecycle, GenericApplicationListener {
+
+    private static final Handler[] NO_HANDLERS = new Handler[0];
+
+    private final ConfigurableApplicationContext applicationContext;
+    private final EventProperties.Partition properties;
+
+    private final List<Handler> handlers = new ArrayList<>();
+    private final ClassValue<Handler[]> routes = new ClassValue<>() {
+        @Override
+        protected Handler[] computeValue(Class<?> eventClass) {
+            List<Handler> matched = new ArrayList<>();
+            for (Handler handler : handlers) {
+                if (handler.eventType().isAssignableFrom(eventClass)) {
+                    matched.add(handler);
+                }
+            }
+            return matched.isEmpty() ? NO_HANDLERS : matched.toArray(NO_HANDLERS);
+        }
+    };
+
+    private Lane[] lanes;
+    private volatile boolean initialized;
+    private volatile boolean running;
+
+    // 레인에 넣는 동안(읽기)과 종료 표시(쓰기)를 배타적으로 만들어 종료 표시 뒤에 작업이 들어가지 않도록 함
+    private final ReadWriteLock lifecycleLock = new ReentrantReadWriteLock();
+
+    public PartitionedEventDispatcher(ConfigurableApplicationContext applicationContext,
+                                      EventProperties eventProperties) {
+        this.applicationContext = applicationContext;
+        this.properties = eventProperties.getPartition();
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (String beanName : applicationContext.getBeanNamesForType(Object.class, false, false)) {
+            Class<?> beanType = applicationContext.getType(beanName, false);
+            if (beanType == null) {
+                continue;
+            }
+            Class<?> targetType = AopUtils.isAopProxy(beanType) ? AopUtils.getTargetClass(beanType) : beanType;
+            Map<Method, PartitionedEventListener> methods = MethodIntrospector.selectMethods(targetType,
+                    (MethodIntrospector.MetadataLookup<PartitionedEventListener>) method ->
+                            AnnotatedElementUtils.findMergedAnnotation(method, PartitionedEventListener.class));
+            if (!methods.isEmpty()) {
+                Object bean = applicationContext.getBean(beanName);
+                methods.keySet().forEach(method -> handlers.add(Handler.of(bean, method)));
+            }
+        }
+        initialized = true;
+    }
+
+    /**
+     * 이벤트를 파티션 레인에 넣기 (커밋 후)
+     */
+    @Override
+    public void onApplicationEvent(ApplicationEvent applicationEvent) {
+        if (!initialized) {
+            return;
+        }
+        Object event = applicationEvent instanceof PayloadApplicationEvent<?> payloadEvent
+                ? payloadEvent.getPayload() : applicationEvent;
+        Handler[] eventHandlers = routes.get(event.getClass());
+        if (eventHandlers.length == 0) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            RequestContext context = RequestContext.current();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(new Task(event, eventHandlers, context));
+                }
+            });
+        } else {
+            dispatch(new Task(event, eventHandlers, RequestContext.current()));
+        }
+    }
+
+    /**
+     * 파티션 키로 레인을 골라 추가 (레인이 가득 차면 대기)
+     */
+    void dispatch(Task task) {
+        lifecycleLock.readLock().lock();
+        try {
+            if (running) {
+                lanes[laneIndex(task.event(), lanes.length)].queue.put(task);
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lifecycleLock.readLock().unlock();
+        }
+        log.warn("Partitioned dispatcher is not running, handling {} on caller thread",
+                task.event().getClass().getSimpleName());
+        task.run();
+    }
+
+    static int laneIndex(Object event, int laneCount) {
+        String key = event instanceof DomainEvent domainEvent ? domainEvent.getPartitionKey() : null;
+        if (key == null) {
+            return ThreadLocalRandom.current().nextInt(laneCount);
+        }
+        int hash = key.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), laneCount);
+    }
+
+    /**
+     * 리스너 수집 전에 발행된 이벤트로 결과가 캐시되지 않도록 모든 타입을 받고 onApplicationEvent에서 거름
+     */
+    @Override
+    public boolean supportsEventType(ResolvableType eventType) {
+        return true;
+    }
+
+    @Override
+    public void start() {
+        if (running || handlers.isEmpty()) {
+            return;
+        }
+        lanes = new Lane[Math.max(1, properties.getLanes())];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new Lane(i);
+        }
+        running = true;
+        log.info("Partitioned event dispatcher started: {} handlers, {} {} lanes",
+                handlers.size(), lanes.length, properties.isVirtualThreads() ? "virtual" : "platform");
+    }
+
+    /**
+     * 종료: 레인에 남은 이벤트를 처리한 뒤 스레드 종료
+     *
+     * 진행 중인 dispatch가 끝난 뒤 쓰기 락을 잡고 종료를 표시하므로 종료 표시 뒤에 레인에 들어가는 작업이 없고,
+     * 이후 dispatch는 발행 스레드에서 바로 처리합니다.
+     */
+    @Override
+    public void stop() {
+        lifecycleLock.writeLock().lock();
+        try {
+            if (!running) {
+                return;
+            }
+            running = false;
+            for (Lane lane : lanes) {
+                lane.shutdown();
+            }
+        } finally {
+            lifecycleLock.writeLock().unlock();
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getShutdownTimeout());
+        for (Lane lane : lanes) {
+            try {
+                lane.thread.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return EventLifecyclePhases.EVENT_PROCESSING;
+    }
+
+    /**
+     * 단일 소비 스레드 레인
+     */
+    private final class Lane {
+
+        private final BlockingQueue<Task> queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        private final Thread thread;
+
+        Lane(int index) {
+            Thread.Builder builder = properties.isVirtualThreads()
+                    ? Thread.ofVirtual().name("event-lane-" + index)
+                    : Thread.ofPlatform().name("event-lane-" + index);
+            this.thread = builder.start(this::run);
+        }
+
+        private void run() {
+            while (true) {
+                Task task;
+                try {
+                    task = queue.take();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (task == Task.SHUTDOWN) {
+                    return;
+                }
+                task.run();
+            }
+        }
+
+        void shutdown() {
+            try {
+                queue.put(Task.SHUTDOWN);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                thread.interrupt();
+            }
+        }
+    }
+
+    /**
+     * 레인에서 실행할 작업 (이벤트 + 핸들러 + 발행 시점 RequestContext)
+     */
+    record Task(Object event, Handler[] handlers, RequestContext context) {
+
+        static final Task SHUTDOWN = new Task(new Object(), NO_HANDLERS, null);
+
+        void run() {
+            try (RequestContext.Scope ignored = RequestContext.attach(context)) {
+                for (Handler handler : handlers) {
+                    handler.invoke(event);
+                }
+            }
+        }
+    }
+
+    /**
+     * 빈에 바인딩된 리스너 메서드
+     */
+    record Handler(String name, Class<?> eventType, Object bean, Method method) {
+
+        static Handler of(Object bean, Method method) {
+            if (method.getParameterCount() != 1) {
+                throw new IllegalStateException(
+                        "@PartitionedEventListener method must have exactly one parameter: " + method);
+            }
+            Method invocable = AopUtils.selectInvocableMethod(method, bean.getClass());
+            ReflectionUtils.makeAccessible(invocable);
+            return new Handler(method.getDeclaringClass().getSimpleName() + "." + method.getName(),
+                    method.getParameterTypes()[0], bean, invocable);
+        }
+
+        void invoke(Object event) {
+            try {
+                ReflectionUtils.invokeMethod(method, bean, event);
+            } catch (Exception e) {
+                log.error("Partitioned event handler {} failed for event {}", name, event.getClass().getSimpleName(), e);
+            }
+        }
+    }
+}
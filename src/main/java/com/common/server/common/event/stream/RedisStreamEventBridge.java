@@ -0,0 +1,545 @@
+package com.common.server.common.event.stream;
+
+import com.common.server.common.context.RequestContext;
+import com.common.server.common.event.ClusterEvent;
+import com.common.server.common.event.DomainEvent;
+import com.common.server.common.event.EventLifecyclePhases;
+import com.common.server.common.event.EventListenerInvoker;
+import com.common.server.common.event.EventSerializer;
+import com.common.server.common.event.EventTypeRegistry;
+import com.common.server.common.id.IdGenerator;
+import com.common.server.config.EventProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.stream.*;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis Streams 이벤트 브릿지
+ *
+ * {@literal @}ClusterEvent 도메인 이벤트를 Redis Stream에 추가하고, 다른 노드가 추가한 이벤트를
+ * 컨슈머 그룹으로 읽어 이 노드의 리스너에 전달합니다.
+ *
+ * 발행:
+ * - 이벤트는 커밋 후 버퍼에 들어가고, 전용 스레드가 최대 batchSize개씩 파이프라인 XADD로 전송
+ * - XADD MAXLEN ~ maxLength로 스트림 길이를 근사 제한
+ * - XADD가 실패한 WORK_QUEUE 이벤트는 유실되지 않도록 이 노드의 ApplicationEventPublisher로 발행
+ *   (BROADCAST 이벤트는 발행 시 이미 로컬에서 처리했으므로 다른 노드에만 전달되지 않음)
+ *
+ * 수신:
+ * - WORK_QUEUE 스트림은 공유 그룹({group}), BROADCAST 스트림은 노드별 그룹({group}:{nodeId})으로 XREADGROUP
+ * - 리스너는 EventListenerInvoker로 수신 스레드에서 직접 호출 ({@literal @}AsyncEventListener 포함)하여
+ *   모든 리스너가 끝난 항목만 ACK (비동기 큐에 넘긴 뒤 ACK하면 리스너 실패 시 재전달되지 않음)
+ * - 배치 처리 후 성공한 항목을 한 번의 XACK로 확인
+ * - claimIdleTime 이상 ACK되지 않은 항목(죽은 컨슈머 몫)은 XPENDING + XCLAIM으로 회수하여 재처리,
+ *   maxDeliveries를 넘긴 항목은 로그를 남기고 ACK하여 폐기
+ * - 종료 시 이 노드의 BROADCAST 컨슈머 그룹을 삭제 (노드 ID가 바뀌어도 그룹과 PEL이 쌓이지 않도록)
+ *
+ * 구독할 {@literal @}ClusterEvent 타입은 시작 시 EventTypeRegistry(@SpringBootApplication 패키지)에서
+ * 찾고 목록을 로그로 남깁니다. 그 밖의 패키지에 있는 이벤트는 추가는 되지만 어느 노드도 읽지 않습니다.
+ * 항목의 type은 그 스트림에 등록된 타입 중에서만 찾으며, 등록되지 않은 타입의 항목은 클래스를 로드하지 않고
+ * ACK하여 폐기합니다 (Redis에 쓸 수 있는 누구나 임의 클래스를 만들게 하지 않도록).
+ *
+ * 메트릭: event.stream.appended, event.stream.append.failed, event.stream.local.fallback, event.stream.consumed,
+ * event.stream.reclaimed, event.stream.discarded, event.stream.rejected (Counter)
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Component
+@Slf4j
+public class RedisStreamEventBridge implements SmartLifecycle {
+
+    private static final String FIELD_TYPE = "type";
+    private static final String FIELD_PAYLOAD = "payload";
+    private static final String FIELD_NODE = "node";
+    private static final String FIELD_TRACE_ID = "traceId";
+    private static final StreamTarget NO_TARGET = new StreamTarget(null, null);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final EventSerializer eventSerializer;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final EventListenerInvoker eventListenerInvoker;
+    private final EventTypeRegistry eventTypeRegistry;
+    private final EventProperties.Stream properties;
+    private final MeterRegistry meterRegistry;
+
+    private final ClassValue<StreamTarget> targets = new ClassValue<>() {
+        @Override
+        protected StreamTarget computeValue(Class<?> eventClass) {
+            ClusterEvent clusterEvent = eventClass.getAnnotation(ClusterEvent.class);
+            if (clusterEvent == null) {
+                return NO_TARGET;
+            }
+            String stream = StringUtils.hasText(clusterEvent.stream())
+                    ? clusterEvent.stream() : eventClass.getSimpleName();
+            return new StreamTarget(properties.getKeyPrefix() + stream, clusterEvent.delivery());
+        }
+    };
+
+    private String nodeId;
+    private XAddOptions addOptions;
+    private BlockingQueue<PendingEntry> buffer;
+    private final List<Subscription> subscriptions = new ArrayList<>();
+    // 스트림 키별 허용 타입 (클래스 이름 → 클래스)
+    private final Map<String, Map<String, Class<?>>> streamTypes = new HashMap<>();
+    private final List<Thread> threads = new ArrayList<>();
+    private volatile boolean running;
+
+    private Counter appendedCounter;
+    private Counter appendFailedCounter;
+    private Counter localFallbackCounter;
+    private Counter consumedCounter;
+    private Counter reclaimedCounter;
+    private Counter discardedCounter;
+    private Counter rejectedCounter;
+
+    public RedisStreamEventBridge(StringRedisTemplate stringRedisTemplate,
+                                  EventSerializer eventSerializer,
+                                  ApplicationEventPublisher applicationEventPublisher,
+                                  EventListenerInvoker eventListenerInvoker,
+                                  EventTypeRegistry eventTypeRegistry,
+                                  EventProperties eventProperties,
+                                  MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.eventSerializer = eventSerializer;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.eventListenerInvoker = eventListenerInvoker;
+        this.eventTypeRegistry = eventTypeRegistry;
+        this.properties = eventProperties.getStream();
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 클러스터 이벤트를 스트림에 추가 (트랜잭션 안이면 커밋 후)
+     *
+     * @param event 발행할 이벤트
+     * @return WORK_QUEUE 이벤트여서 로컬 발행을 생략해야 하면 true (XADD가 실패하면 브릿지가 로컬에서 발행)
+     */
+    public boolean append(DomainEvent event) {
+        if (!running) {
+            return false;
+        }
+        StreamTarget target = targets.get(event.getClass());
+        if (target == NO_TARGET) {
+            return false;
+        }
+
+        Map<String, String> entry = new HashMap<>(8);
+        entry.put(FIELD_TYPE, event.getClass().getName());
+        entry.put(FIELD_PAYLOAD, eventSerializer.serialize(event));
+        entry.put(FIELD_NODE, nodeId);
+        String traceId = RequestContext.currentTraceId();
+        if (traceId != null) {
+            entry.put(FIELD_TRACE_ID, traceId);
+        }
+        PendingEntry pendingEntry = new PendingEntry(target.key(), entry, event, target.delivery());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(pendingEntry);
+                }
+            });
+        } else {
+            enqueue(pendingEntry);
+        }
+        return target.delivery() == ClusterEvent.Delivery.WORK_QUEUE;
+    }
+
+    private void enqueue(PendingEntry entry) {
+        // 버퍼가 가득 차면 발행 스레드에서 직접 전송 (유실 대신 발행 속도 제한)
+        // 종료 후 커밋된 트랜잭션의 이벤트도 전송 스레드가 없으므로 직접 전송
+        if (!running || !buffer.offer(entry)) {
+            flush(List.of(entry));
+        }
+    }
+
+    // ========================================================================
+    // 발행 (파이프라인 XADD)
+    // ========================================================================
+
+    private void runFlusher() {
+        List<PendingEntry> batch = new ArrayList<>(properties.getBatchSize());
+        while (running || !buffer.isEmpty()) {
+            try {
+                PendingEntry first = buffer.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, properties.getBatchSize() - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingEntry> entries) {
+        try {
+            stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, String> stringOperations = (RedisOperations<String, String>) operations;
+                    for (PendingEntry entry : entries) {
+                        stringOperations.opsForStream().add(
+                                StreamRecords.newRecord().in(entry.key()).ofMap(entry.fields()), addOptions);
+                    }
+                    return null;
+                }
+            });
+            appendedCounter.increment(entries.size());
+        } catch (Exception e) {
+            appendFailedCounter.increment(entries.size());
+            log.error("Failed to append {} events to Redis streams", entries.size(), e);
+            publishLocally(entries);
+        }
+    }
+
+    /**
+     * 스트림에 추가하지 못한 WORK_QUEUE 이벤트를 이 노드에서 처리 (발행 노드가 로컬 발행을 생략했으므로)
+     */
+    private void publishLocally(List<PendingEntry> entries) {
+        for (PendingEntry entry : entries) {
+            if (entry.delivery() != ClusterEvent.Delivery.WORK_QUEUE) {
+                continue;
+            }
+            try (RequestContext.Scope ignored = RequestContext.attach(
+                    RequestContext.continueTrace(entry.fields().get(FIELD_TRACE_ID), null))) {
+                applicationEventPublisher.publishEvent(entry.event());
+                localFallbackCounter.increment();
+            } catch (Exception e) {
+                log.error("Failed to handle {} locally after stream append failure",
+                        entry.event().getEventType(), e);
+            }
+        }
+    }
+
+    // ========================================================================
+    // 수신 (XREADGROUP + 배치 XACK)
+    // ========================================================================
+
+    private void runConsumer(Subscription subscription) {
+        Consumer consumer = Consumer.from(subscription.group(), nodeId);
+        StreamReadOptions readOptions = StreamReadOptions.empty()
+                .count(properties.getBatchSize())
+                .block(Duration.ofMillis(properties.getBlockTimeout()));
+        // read()는 제네릭 가변 인자이므로 배열을 직접 만들어 전달 (원소 하나, 다른 타입을 넣지 않음)
+        @SuppressWarnings("unchecked")
+        StreamOffset<String>[] offsets = new StreamOffset[]{
+                StreamOffset.create(subscription.key(), ReadOffset.lastConsumed())};
+
+        while (running) {
+            try {
+                List<MapRecord<String, Object, Object>> records =
+                        stringRedisTemplate.opsForStream().read(consumer, readOptions, offsets);
+                if (records != null && !records.isEmpty()) {
+                    handle(subscription, records);
+                }
+            } catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Failed to read stream {} (group {}), retrying", subscription.key(), subscription.group(), e);
+                sleepQuietly(properties.getBlockTimeout());
+            }
+        }
+    }
+
+    private void handle(Subscription subscription, List<MapRecord<String, Object, Object>> records) {
+        List<RecordId> handled = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            if (dispatch(subscription, record)) {
+                handled.add(record.getId());
+            }
+        }
+        acknowledge(subscription, handled);
+    }
+
+    /**
+     * 리스너를 이 스레드에서 모두 호출
+     *
+     * @return ACK 해도 되면 true (모든 리스너 성공 또는 자신이 보낸 BROADCAST 이벤트)
+     */
+    private boolean dispatch(Subscription subscription, MapRecord<String, Object, Object> record) {
+        Map<Object, Object> fields = record.getValue();
+        if (subscription.delivery() == ClusterEvent.Delivery.BROADCAST && nodeId.equals(fields.get(FIELD_NODE))) {
+            return true;
+        }
+        String type = String.valueOf(fields.get(FIELD_TYPE));
+        Class<?> eventClass = streamTypes.getOrDefault(subscription.key(), Map.of()).get(type);
+        if (eventClass == null) {
+            // 재전달해도 처리할 수 없으므로 ACK하여 폐기
+            log.warn("Rejecting stream entry {} from {}: unregistered event type {}",
+                    record.getId(), subscription.key(), type);
+            rejectedCounter.increment();
+            return true;
+        }
+        Object traceId = fields.get(FIELD_TRACE_ID);
+        try (RequestContext.Scope ignored = RequestContext.attach(
+                RequestContext.continueTrace(traceId != null ? traceId.toString() : null, null))) {
+            Object event = eventSerializer.deserialize(String.valueOf(fields.get(FIELD_PAYLOAD)), eventClass);
+            eventListenerInvoker.invoke(event);
+            consumedCounter.increment();
+            return true;
+        } catch (Exception e) {
+            log.error("Failed to handle stream entry {} from {}, will be retried",
+                    record.getId(), subscription.key(), e);
+            return false;
+        }
+    }
+
+    private void acknowledge(Subscription subscription, List<RecordId> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.opsForStream().acknowledge(
+                    subscription.key(), subscription.group(), ids.toArray(RecordId[]::new));
+        } catch (Exception e) {
+            log.warn("Failed to acknowledge {} entries on {}", ids.size(), subscription.key(), e);
+        }
+    }
+
+    /**
+     * 죽은 컨슈머가 처리하지 못한 항목 회수 (XPENDING + XCLAIM)
+     */
+    @Scheduled(fixedDelayString = "${event.stream.claim-interval:30000}",
+            initialDelayString = "${event.stream.claim-interval:30000}")
+    public void reclaimPending() {
+        if (!running) {
+            return;
+        }
+        Duration minIdle = Duration.ofMillis(properties.getClaimIdleTime());
+        for (Subscription subscription : subscriptions) {
+            try {
+                reclaim(subscription, minIdle);
+            } catch (Exception e) {
+                log.warn("Failed to reclaim pending entries on {}", subscription.key(), e);
+            }
+        }
+    }
+
+    private void reclaim(Subscription subscription, Duration minIdle) {
+        PendingMessages pending = stringRedisTemplate.opsForStream().pending(
+                subscription.key(), subscription.group(), Range.unbounded(), properties.getBatchSize());
+
+        List<RecordId> claimable = new ArrayList<>();
+        List<RecordId> exhausted = new ArrayList<>();
+        for (PendingMessage message : pending) {
+            if (message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) < 0) {
+                continue;
+            }
+            if (message.getTotalDeliveryCount() >= properties.getMaxDeliveries()) {
+                exhausted.add(message.getId());
+            } else {
+                claimable.add(message.getId());
+            }
+        }
+
+        if (!exhausted.isEmpty()) {
+            log.error("Discarding {} entries on {} after {} deliveries: {}",
+                    exhausted.size(), subscription.key(), properties.getMaxDeliveries(), exhausted);
+            acknowledge(subscription, exhausted);
+            discardedCounter.increment(exhausted.size());
+        }
+        if (claimable.isEmpty()) {
+            return;
+        }
+
+        List<MapRecord<String, Object, Object>> claimed = stringRedisTemplate.opsForStream().claim(
+                subscription.key(), subscription.group(), nodeId,
+                XClaimOptions.minIdle(minIdle).ids(claimable.toArray(RecordId[]::new)));
+        if (!claimed.isEmpty()) {
+            reclaimedCounter.increment(claimed.size());
+            log.info("Reclaimed {} pending entries on {}", claimed.size(), subscription.key());
+            handle(subscription, claimed);
+        }
+    }
+
+    // ========================================================================
+    // Lifecycle
+    // ========================================================================
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled() || running) {
+            return;
+        }
+        nodeId = StringUtils.hasText(properties.getNodeId()) ? properties.getNodeId() : resolveHostName();
+        addOptions = XAddOptions.maxlen(properties.getMaxLength()).approximateTrimming(true);
+        buffer = new ArrayBlockingQueue<>(properties.getBufferCapacity());
+        registerMetrics();
+
+        for (Class<?> eventClass : scanClusterEvents()) {
+            StreamTarget target = targets.get(eventClass);
+            String group = target.delivery() == ClusterEvent.Delivery.WORK_QUEUE
+                    ? properties.getGroup() : properties.getGroup() + ":" + nodeId;
+            Subscription subscription = new Subscription(target.key(), group, target.delivery());
+            streamTypes.computeIfAbsent(target.key(), key -> new HashMap<>()).put(eventClass.getName(), eventClass);
+            if (!subscriptions.contains(subscription)) {
+                createGroup(subscription);
+                subscriptions.add(subscription);
+            }
+        }
+
+        running = true;
+        threads.add(Thread.ofPlatform().name("event-stream-flusher").start(this::runFlusher));
+        for (Subscription subscription : subscriptions) {
+            threads.add(Thread.ofPlatform()
+                    .name("event-stream-" + subscription.key())
+                    .start(() -> runConsumer(subscription)));
+        }
+        log.info("Redis stream event bridge started: node={}, streams={}", nodeId, subscriptions);
+    }
+
+    /**
+     * 종료: 발행 버퍼를 모두 전송하고 수신 스레드 종료 (처리하지 못한 항목은 다른 노드가 회수)
+     */
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        for (Thread thread : threads) {
+            try {
+                thread.join(properties.getBlockTimeout() * 2 + 1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        threads.clear();
+        destroyBroadcastGroups();
+    }
+
+    /**
+     * 이 노드 전용 BROADCAST 컨슈머 그룹 삭제 (재시작 시 latest부터 새로 만듦)
+     */
+    private void destroyBroadcastGroups() {
+        for (Subscription subscription : subscriptions) {
+            if (subscription.delivery() != ClusterEvent.Delivery.BROADCAST) {
+                continue;
+            }
+            try {
+                stringRedisTemplate.opsForStream().destroyGroup(subscription.key(), subscription.group());
+            } catch (Exception e) {
+                log.warn("Failed to destroy consumer group {} on {}", subscription.group(), subscription.key(), e);
+            }
+        }
+        subscriptions.clear();
+        streamTypes.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return EventLifecyclePhases.EVENT_PROCESSING;
+    }
+
+    private void createGroup(Subscription subscription) {
+        byte[] key = subscription.key().getBytes(StandardCharsets.UTF_8);
+        try {
+            stringRedisTemplate.execute((RedisCallback<String>) (RedisConnection connection) ->
+                    connection.streamCommands().xGroupCreate(key, subscription.group(), ReadOffset.latest(), true));
+        } catch (DataAccessException e) {
+            String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            if (message == null || !message.contains("BUSYGROUP")) {
+                throw e;
+            }
+            log.debug("Consumer group {} on {} already exists", subscription.group(), subscription.key());
+        }
+    }
+
+    private List<Class<?>> scanClusterEvents() {
+        List<Class<?>> eventClasses = new ArrayList<>();
+        for (Class<?> eventClass : eventTypeRegistry.getTypes()) {
+            if (targets.get(eventClass) != NO_TARGET) {
+                eventClasses.add(eventClass);
+            }
+        }
+        log.info("Consuming @ClusterEvent types: {}", eventClasses.stream().map(Class::getSimpleName).toList());
+        return eventClasses;
+    }
+
+    private void registerMetrics() {
+        appendedCounter = Counter.builder("event.stream.appended")
+                .description("Events appended to Redis streams").register(meterRegistry);
+        appendFailedCounter = Counter.builder("event.stream.append.failed")
+                .description("Events that could not be appended to Redis streams").register(meterRegistry);
+        localFallbackCounter = Counter.builder("event.stream.local.fallback")
+                .description("Work queue events handled locally because the stream append failed")
+                .register(meterRegistry);
+        consumedCounter = Counter.builder("event.stream.consumed")
+                .description("Stream entries delivered to local listeners").register(meterRegistry);
+        reclaimedCounter = Counter.builder("event.stream.reclaimed")
+                .description("Pending stream entries reclaimed from idle consumers").register(meterRegistry);
+        discardedCounter = Counter.builder("event.stream.discarded")
+                .description("Stream entries discarded after max deliveries").register(meterRegistry);
+        rejectedCounter = Counter.builder("event.stream.rejected")
+                .description("Stream entries discarded because their event type is not registered")
+                .register(meterRegistry);
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return IdGenerator.ulid();
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record StreamTarget(String key, ClusterEvent.Delivery delivery) {
+    }
+
+    private record PendingEntry(String key, Map<String, String> fields, DomainEvent event,
+                                ClusterEvent.Delivery delivery) {
+    }
+
+    private record Subscription(String key, String group, ClusterEvent.Delivery delivery) {
+    }
+}
@@ -27,7 +27,13 @@ public enum ErrorCode {
     REFRESH_TOKEN_NOT_FOUND(HttpStatus.NOT_FOUND, "A003", "Refresh Token을 찾을 수 없습니다."),
     INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "A004", "유효하지 않은 Refresh Token입니다."),
     UNAUTHORIZED_ACCESS(HttpStatus.UNAUTHORIZED, "A005", "인증이 필요합니다."),
-    FORBIDDEN_ACCESS(HttpStatus.FORBIDDEN, "A006", "접근 권한이 없습니다.");
+    FORBIDDEN_ACCESS(HttpStatus.FORBIDDEN, "A006", "접근 권한이 없습니다."),
+
+    // File Errors
+    FILE_SIZE_EXCEEDED(HttpStatus.PAYLOAD_TOO_LARGE, "F001", "파일 크기 제한을 초과했습니다."),
+    INVALID_FILE(HttpStatus.BAD_REQUEST, "F002", "허용되지 않는 파일입니다."),
+    UPLOAD_SESSION_CONFLICT(HttpStatus.CONFLICT, "F003", "업로드 세션 상태가 올바르지 않습니다."),
+    CHECKSUM_MISMATCH(HttpStatus.BAD_REQUEST, "F004", "파일 체크섬이 일치하지 않습니다.");
 
     private final HttpStatus status;
     private final String code;
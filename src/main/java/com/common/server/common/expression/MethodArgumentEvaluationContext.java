@@ -0,0 +1,133 @@
+package com.common.server.common.expression;
+
+import org.springframework.expression.BeanResolver;
+import org.springframework.expression.ConstructorResolver;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.IndexAccessor;
+import org.springframework.expression.MethodResolver;
+import org.springframework.expression.OperatorOverloader;
+import org.springframework.expression.PropertyAccessor;
+import org.springframework.expression.TypeComparator;
+import org.springframework.expression.TypeConverter;
+import org.springframework.expression.TypeLocator;
+import org.springframework.expression.TypedValue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메서드 인자 전용 경량 EvaluationContext
+ *
+ * 리졸버/접근자/변환기는 미리 초기화된 공유 컨텍스트에 위임하고,
+ * 변수 조회만 파라미터 이름 배열과 인자 배열에서 직접 수행합니다.
+ * 호출마다 Map이나 StandardEvaluationContext를 새로 만들지 않습니다.
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+final class MethodArgumentEvaluationContext implements EvaluationContext {
+
+    private final EvaluationContext shared;
+    private final String[] parameterNames;
+    private final Object[] args;
+
+    // 표현식 내부에서 변수를 설정하는 드문 경우에만 생성
+    private Map<String, Object> extraVariables;
+
+    MethodArgumentEvaluationContext(EvaluationContext shared, String[] parameterNames, Object[] args) {
+        this.shared = shared;
+        this.parameterNames = parameterNames;
+        this.args = args;
+    }
+
+    @Override
+    public Object lookupVariable(String name) {
+        if (extraVariables != null && extraVariables.containsKey(name)) {
+            return extraVariables.get(name);
+        }
+        for (int i = 0; i < parameterNames.length; i++) {
+            if (parameterNames[i].equals(name)) {
+                return i < args.length ? args[i] : null;
+            }
+        }
+        // 파라미터 이름을 얻지 못한 경우를 위한 위치 기반 변수 (#p0, #a0)
+        if (name.length() > 1 && (name.charAt(0) == 'p' || name.charAt(0) == 'a')) {
+            int index = parseIndex(name);
+            if (index >= 0 && index < args.length) {
+                return args[index];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void setVariable(String name, Object value) {
+        if (extraVariables == null) {
+            extraVariables = new HashMap<>(4);
+        }
+        extraVariables.put(name, value);
+    }
+
+    @Override
+    public TypedValue getRootObject() {
+        return TypedValue.NULL;
+    }
+
+    @Override
+    public List<PropertyAccessor> getPropertyAccessors() {
+        return shared.getPropertyAccessors();
+    }
+
+    @Override
+    public List<IndexAccessor> getIndexAccessors() {
+        return shared.getIndexAccessors();
+    }
+
+    @Override
+    public List<ConstructorResolver> getConstructorResolvers() {
+        return shared.getConstructorResolvers();
+    }
+
+    @Override
+    public List<MethodResolver> getMethodResolvers() {
+        return shared.getMethodResolvers();
+    }
+
+    @Override
+    public BeanResolver getBeanResolver() {
+        return shared.getBeanResolver();
+    }
+
+    @Override
+    public TypeLocator getTypeLocator() {
+        return shared.getTypeLocator();
+    }
+
+    @Override
+    public TypeConverter getTypeConverter() {
+        return shared.getTypeConverter();
+    }
+
+    @Override
+    public TypeComparator getTypeComparator() {
+        return shared.getTypeComparator();
+    }
+
+    @Override
+    public OperatorOverloader getOperatorOverloader() {
+        return shared.getOperatorOverloader();
+    }
+
+    private static int parseIndex(String name) {
+        int index = 0;
+        for (int i = 1; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            index = index * 10 + (c - '0');
+        }
+        return index;
+    }
+}
@@ -0,0 +1,122 @@
+package com.common.server.common.expression;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메서드 인자 기반 SpEL 평가기 (AOP 공용)
+ *
+ * Aspect에서 어노테이션 속성(락 키, 조건 등)을 메서드 인자로 평가할 때 사용합니다.
+ * - 파싱된 Expression을 메서드별로 캐싱 (SpEL 컴파일러 MIXED 모드)
+ * - 파라미터 이름을 메서드별로 한 번만 조회
+ * - 호출마다 StandardEvaluationContext를 만들지 않고 경량 컨텍스트 사용
+ *
+ * 사용 예시:
+ * <pre>
+ * String key = evaluator.evaluate("'order:' + #orderId", method, args, String.class);
+ * </pre>
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Component
+@Slf4j
+public class MethodExpressionEvaluator {
+
+    private static final String[] NO_PARAMETER_NAMES = new String[0];
+
+    private final ExpressionParser parser;
+    private final ParameterNameDiscoverer nameDiscoverer = new DefaultParameterNameDiscoverer();
+    private final EvaluationContext sharedContext;
+    private final Map<Method, MethodExpressions> cache = new ConcurrentHashMap<>();
+
+    public MethodExpressionEvaluator() {
+        this.parser = new SpelExpressionParser(
+                new SpelParserConfiguration(SpelCompilerMode.MIXED, getClass().getClassLoader()));
+        this.sharedContext = createSharedContext();
+    }
+
+    /**
+     * 메서드 인자를 변수로 하여 표현식 평가
+     *
+     * @param expression SpEL 표현식 (#파라미터명 또는 #p0 형식으로 인자 참조)
+     * @param method 대상 메서드
+     * @param args 메서드 인자
+     * @param resultType 결과 타입
+     * @return 평가 결과
+     */
+    public <T> T evaluate(String expression, Method method, Object[] args, Class<T> resultType) {
+        MethodExpressions expressions = cache.computeIfAbsent(method, this::createMethodExpressions);
+        Expression parsed = expressions.get(expression, parser);
+        EvaluationContext context = new MethodArgumentEvaluationContext(
+                sharedContext, expressions.parameterNames, args != null ? args : new Object[0]);
+        return parsed.getValue(context, resultType);
+    }
+
+    /**
+     * 메서드 파라미터 이름 조회 (캐싱)
+     */
+    public String[] getParameterNames(Method method) {
+        return cache.computeIfAbsent(method, this::createMethodExpressions).parameterNames.clone();
+    }
+
+    private MethodExpressions createMethodExpressions(Method method) {
+        String[] names = nameDiscoverer.getParameterNames(method);
+        if (names == null) {
+            log.debug("Parameter names not available for {}, use #p0/#a0 instead", method);
+            names = NO_PARAMETER_NAMES;
+        }
+        return new MethodExpressions(names);
+    }
+
+    /**
+     * 모든 호출이 공유하는 컨텍스트
+     * 지연 초기화되는 접근자/리졸버를 미리 생성해 두어 동시 접근 시에도 안전하게 재사용합니다.
+     */
+    private static EvaluationContext createSharedContext() {
+        StandardEvaluationContext context = new StandardEvaluationContext();
+        context.getPropertyAccessors();
+        context.getIndexAccessors();
+        context.getConstructorResolvers();
+        context.getMethodResolvers();
+        context.getTypeLocator();
+        context.getTypeConverter();
+        context.getTypeComparator();
+        context.getOperatorOverloader();
+        return context;
+    }
+
+    /**
+     * 메서드별 파라미터 이름과 파싱된 표현식
+     */
+    private static final class MethodExpressions {
+
+        private final String[] parameterNames;
+        private final Map<String, Expression> expressions = new ConcurrentHashMap<>(4);
+
+        private MethodExpressions(String[] parameterNames) {
+            this.parameterNames = parameterNames;
+        }
+
+        private Expression get(String expression, ExpressionParser parser) {
+            Expression parsed = expressions.get(expression);
+            if (parsed == null) {
+                parsed = expressions.computeIfAbsent(expression, parser::parseExpression);
+            }
+            return parsed;
+        }
+    }
+}
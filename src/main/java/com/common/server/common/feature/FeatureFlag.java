@@ -9,6 +9,7 @@ import java.lang.annotation.Target;
  * Feature Flag 어노테이션
  *
  * 메서드에 적용하여 Feature Flag가 활성화된 경우에만 실행되도록 합니다.
+ * 타게팅 규칙이 설정된 Flag는 현재 인증된 사용자 기준으로 평가됩니다.
  *
  * @author Common Server Framework
  * @since 2025-01-13
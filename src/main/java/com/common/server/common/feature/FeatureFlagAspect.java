@@ -6,12 +6,16 @@ import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
 /**
  * Feature Flag AOP Aspect
  *
  * @FeatureFlag 어노테이션이 붙은 메서드를 Feature Flag 상태에 따라 실행합니다.
+ * 인증된 사용자가 있으면 해당 사용자 기준으로 타게팅 규칙(비율 롤아웃, 허용 목록)을 평가합니다.
  *
  * @author Common Server Framework
  * @since 2025-01-13
@@ -27,7 +31,7 @@ public class FeatureFlagAspect {
     @Around("@annotation(featureFlag)")
     public Object checkFeatureFlag(ProceedingJoinPoint joinPoint, FeatureFlag featureFlag) throws Throwable {
         String featureName = featureFlag.value();
-        boolean isEnabled = featureFlagService.isEnabled(featureName);
+        boolean isEnabled = featureFlagService.isEnabled(featureName, getCurrentUserId());
 
         if (!isEnabled) {
             log.debug("Feature '{}' is disabled. Method: {}", featureName, joinPoint.getSignature().getName());
@@ -41,4 +45,16 @@ public class FeatureFlagAspect {
 
         return joinPoint.proceed();
     }
+
+    /**
+     * 현재 인증된 사용자 ID (없으면 null)
+     */
+    private String getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
 }
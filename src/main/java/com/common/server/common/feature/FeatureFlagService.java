@@ -1,20 +1,35 @@
 package com.common.server.common.feature;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Feature Flag 서비스
  *
- * Redis를 사용하여 Feature Flag를 관리합니다.
- * Redis 연결 실패 시 로컬 캐시를 사용합니다.
+ * Redis Hash(feature:flags:all) 하나에 모든 Flag를 저장하고, 조회는 로컬 스냅샷에서 수행합니다.
+ * - 전체 조회는 HGETALL 한 번으로 처리
+ * - setFlag/removeFlag 시 Redis Pub/Sub으로 변경을 알려 모든 노드의 스냅샷을 갱신
+ * - 알림 유실에 대비하여 주기적으로 전체 재동기화
+ * - Redis 장애 시에도 마지막 스냅샷으로 계속 동작
+ * - 값은 단순 on/off("true"/"false") 또는 타게팅 규칙(FeatureRuleDefinition JSON)이며,
+ *   값이 바뀔 때만 FeatureRule로 컴파일되어 평가는 메모리 내에서만 수행
  *
  * @author Common Server Framework
  * @since 2025-01-13
@@ -24,62 +39,107 @@ import java.util.concurrent.ConcurrentHashMap;
 @Slf4j
 public class FeatureFlagService {
 
-    private static final String FEATURE_FLAG_PREFIX = "feature:flag:";
-    private static final String FEATURE_FLAGS_SET = "feature:flags";
+    private static final String FEATURE_FLAGS_HASH = "feature:flags:all";
+    private static final String FEATURE_FLAGS_CHANNEL = "feature:flags:changed";
+
+    // 이전 저장 방식 (feature:flag:{name} String + feature:flags Set) - 마이그레이션 전용
+    private static final String LEGACY_FEATURE_FLAG_PREFIX = "feature:flag:";
+    private static final String LEGACY_FEATURE_FLAGS_SET = "feature:flags";
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    // 로컬 스냅샷 (변경 시 통째로 교체하므로 조회는 락 없이 수행)
+    private volatile Map<String, FeatureRule> snapshot = Collections.emptyMap();
 
-    // Redis 장애 시 폴백용 로컬 캐시
-    private final Map<String, Boolean> localCache = new ConcurrentHashMap<>();
+    // 로컬 반영 버전과 Flag별 마지막 반영 버전 (this로 보호, 재동기화가 읽은 뒤 반영된 변경을 덮어쓰지 않도록)
+    private long version;
+    private final Map<String, Long> changeVersions = new HashMap<>();
+
+    @PostConstruct
+    public void initialize() {
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onFlagChanged(message), new ChannelTopic(FEATURE_FLAGS_CHANNEL));
+        migrateLegacyFlags();
+        resync();
+    }
 
     /**
      * Feature Flag 활성화 여부 확인
      */
     public boolean isEnabled(String featureName) {
-        try {
-            String key = FEATURE_FLAG_PREFIX + featureName;
-            Object value = redisTemplate.opsForValue().get(key);
-            if (value != null) {
-                return Boolean.parseBoolean(value.toString());
-            }
-        } catch (Exception e) {
-            log.warn("Failed to get feature flag from Redis: {}", featureName, e);
-            // 로컬 캐시 폴백
-            return localCache.getOrDefault(featureName, false);
-        }
-        return false;
+        return isEnabled(featureName, false);
     }
 
     /**
      * Feature Flag 활성화 여부 확인 (기본값 지정)
      */
     public boolean isEnabled(String featureName, boolean defaultValue) {
-        try {
-            String key = FEATURE_FLAG_PREFIX + featureName;
-            Object value = redisTemplate.opsForValue().get(key);
-            if (value != null) {
-                return Boolean.parseBoolean(value.toString());
-            }
-        } catch (Exception e) {
-            log.warn("Failed to get feature flag from Redis: {}", featureName, e);
-            return localCache.getOrDefault(featureName, defaultValue);
+        FeatureRule rule = snapshot.get(featureName);
+        return rule != null ? rule.evaluate(null, null) : defaultValue;
+    }
+
+    /**
+     * 특정 사용자 기준 Feature Flag 활성화 여부 확인 (비율 롤아웃, 허용 목록 적용)
+     */
+    public boolean isEnabled(String featureName, String userId) {
+        return isEnabled(featureName, userId, null);
+    }
+
+    /**
+     * 특정 사용자/속성 기준 Feature Flag 활성화 여부 확인
+     *
+     * @param featureName Feature 이름
+     * @param userId 사용자 ID (없으면 null)
+     * @param attributes 속성 조건 평가에 사용할 사용자 속성 (없으면 null)
+     * @return 활성화 여부 (없는 Flag는 false)
+     */
+    public boolean isEnabled(String featureName, String userId, Map<String, String> attributes) {
+        FeatureRule rule = snapshot.get(featureName);
+        return rule != null && rule.evaluate(userId, attributes);
+    }
+
+    /**
+     * 여러 Feature Flag 활성화 여부를 한 번에 확인
+     *
+     * 같은 스냅샷에서 조회하므로 요청 중간에 Flag가 바뀌어도 일관된 결과를 반환합니다.
+     *
+     * @param featureNames 확인할 Feature 이름 목록
+     * @return Feature 이름별 활성화 여부 (없는 Flag는 false)
+     */
+    public Map<String, Boolean> isEnabled(Collection<String> featureNames) {
+        Map<String, FeatureRule> current = snapshot;
+        Map<String, Boolean> result = new HashMap<>(featureNames.size() * 2);
+        for (String featureName : featureNames) {
+            FeatureRule rule = current.get(featureName);
+            result.put(featureName, rule != null && rule.evaluate(null, null));
         }
-        return defaultValue;
+        return result;
     }
 
     /**
      * Feature Flag 설정
      */
     public void setFlag(String featureName, boolean enabled) {
+        store(featureName, String.valueOf(enabled));
+    }
+
+    /**
+     * 타게팅 규칙 설정 (비율 롤아웃, 사용자 허용 목록, 속성 조건)
+     */
+    public void setRule(String featureName, FeatureRuleDefinition definition) {
+        store(featureName, FeatureRule.toJson(definition));
+    }
+
+    private void store(String featureName, String raw) {
+        applyLocal(featureName, raw);
         try {
-            String key = FEATURE_FLAG_PREFIX + featureName;
-            redisTemplate.opsForValue().set(key, String.valueOf(enabled));
-            redisTemplate.opsForSet().add(FEATURE_FLAGS_SET, featureName);
-            localCache.put(featureName, enabled);
-            log.info("Feature flag '{}' set to: {}", featureName, enabled);
+            stringRedisTemplate.opsForHash().put(FEATURE_FLAGS_HASH, featureName, raw);
+            publishChange(featureName);
+            log.info("Feature flag '{}' set to: {}", featureName, raw);
         } catch (Exception e) {
             log.error("Failed to set feature flag: {}", featureName, e);
-            localCache.put(featureName, enabled);
         }
     }
 
@@ -87,35 +147,23 @@ public class FeatureFlagService {
      * Feature Flag 삭제
      */
     public void removeFlag(String featureName) {
+        applyLocal(featureName, null);
         try {
-            String key = FEATURE_FLAG_PREFIX + featureName;
-            redisTemplate.delete(key);
-            redisTemplate.opsForSet().remove(FEATURE_FLAGS_SET, featureName);
-            localCache.remove(featureName);
+            stringRedisTemplate.opsForHash().delete(FEATURE_FLAGS_HASH, featureName);
+            publishChange(featureName);
             log.info("Feature flag '{}' removed", featureName);
         } catch (Exception e) {
             log.error("Failed to remove feature flag: {}", featureName, e);
-            localCache.remove(featureName);
         }
     }
 
     /**
-     * 모든 Feature Flag 조회
+     * 모든 Feature Flag 조회 (현재 노드의 스냅샷 기준, 전체 활성화 스위치)
      */
     public Map<String, Boolean> getAllFlags() {
-        Map<String, Boolean> flags = new HashMap<>();
-        try {
-            Set<Object> featureNames = redisTemplate.opsForSet().members(FEATURE_FLAGS_SET);
-            if (featureNames != null) {
-                for (Object name : featureNames) {
-                    String featureName = name.toString();
-                    flags.put(featureName, isEnabled(featureName));
-                }
-            }
-        } catch (Exception e) {
-            log.error("Failed to get all feature flags", e);
-            return new HashMap<>(localCache);
-        }
+        Map<String, FeatureRule> current = snapshot;
+        Map<String, Boolean> flags = new HashMap<>(current.size() * 2);
+        current.forEach((name, rule) -> flags.put(name, rule.isEnabled()));
         return flags;
     }
 
@@ -127,4 +175,129 @@ public class FeatureFlagService {
             action.run();
         }
     }
+
+    /**
+     * Redis 전체 재동기화 (변경 알림 유실 대비)
+     *
+     * HGETALL을 읽는 동안 setFlag/변경 알림으로 로컬에 반영된 Flag는 읽은 값이 더 오래되었을 수 있으므로
+     * 현재 스냅샷 값을 유지합니다.
+     */
+    @Scheduled(fixedDelayString = "${feature.flag.resync-interval:30000}",
+            initialDelayString = "${feature.flag.resync-interval:30000}")
+    public void resync() {
+        try {
+            long readVersion;
+            synchronized (this) {
+                readVersion = version;
+            }
+            Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(FEATURE_FLAGS_HASH);
+
+            synchronized (this) {
+                Map<String, FeatureRule> current = snapshot;
+                Map<String, FeatureRule> fresh = new HashMap<>(entries.size() * 2);
+                for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+                    String name = entry.getKey().toString();
+                    if (!changedSince(name, readVersion)) {
+                        fresh.put(name, compile(name, entry.getValue().toString(), current.get(name)));
+                    }
+                }
+                changeVersions.forEach((name, changedAt) -> {
+                    FeatureRule rule = current.get(name);
+                    if (changedAt > readVersion && rule != null) {
+                        fresh.put(name, rule);
+                    }
+                });
+                snapshot = Collections.unmodifiableMap(fresh);
+            }
+            log.debug("Feature flags resynced: {} flags", entries.size());
+        } catch (Exception e) {
+            log.warn("Failed to resync feature flags from Redis, keeping last snapshot", e);
+        }
+    }
+
+    /**
+     * 다른 노드(또는 자신)에서 발생한 변경 알림 처리
+     */
+    private void onFlagChanged(Message message) {
+        String featureName = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            Object value = stringRedisTemplate.opsForHash().get(FEATURE_FLAGS_HASH, featureName);
+            applyLocal(featureName, value != null ? value.toString() : null);
+            log.debug("Feature flag '{}' refreshed from change notification", featureName);
+        } catch (Exception e) {
+            log.warn("Failed to refresh feature flag '{}' after change notification", featureName, e);
+        }
+    }
+
+    /**
+     * 이전 저장 방식(feature:flag:* + feature:flags Set)을 Hash로 마이그레이션
+     *
+     * 이미 Hash에 있는 값은 덮어쓰지 않으며(HSETNX), 완료 후 이전 키를 삭제합니다.
+     * 여러 노드가 동시에 실행해도 결과가 같도록 멱등하게 동작합니다.
+     */
+    public void migrateLegacyFlags() {
+        try {
+            Set<Object> members = redisTemplate.opsForSet().members(LEGACY_FEATURE_FLAGS_SET);
+            if (members == null || members.isEmpty()) {
+                return;
+            }
+
+            List<String> names = new ArrayList<>(members.size());
+            List<String> keys = new ArrayList<>(members.size());
+            for (Object member : members) {
+                names.add(member.toString());
+                keys.add(LEGACY_FEATURE_FLAG_PREFIX + member);
+            }
+
+            List<Object> values = redisTemplate.opsForValue().multiGet(keys);
+            int migrated = 0;
+            for (int i = 0; i < names.size(); i++) {
+                Object value = values != null ? values.get(i) : null;
+                if (value != null && Boolean.TRUE.equals(stringRedisTemplate.opsForHash()
+                        .putIfAbsent(FEATURE_FLAGS_HASH, names.get(i), value.toString()))) {
+                    migrated++;
+                }
+            }
+
+            List<String> legacyKeys = new ArrayList<>(keys);
+            legacyKeys.add(LEGACY_FEATURE_FLAGS_SET);
+            redisTemplate.delete(legacyKeys);
+            log.info("Migrated {} legacy feature flags to hash '{}'", migrated, FEATURE_FLAGS_HASH);
+        } catch (Exception e) {
+            log.warn("Failed to migrate legacy feature flags", e);
+        }
+    }
+
+    private void publishChange(String featureName) {
+        stringRedisTemplate.convertAndSend(FEATURE_FLAGS_CHANNEL, featureName);
+    }
+
+    /**
+     * 스냅샷 갱신 (copy-on-write, null이면 삭제)
+     */
+    private synchronized void applyLocal(String featureName, String raw) {
+        changeVersions.put(featureName, ++version);
+        Map<String, FeatureRule> next = new HashMap<>(snapshot);
+        if (raw != null) {
+            next.put(featureName, compile(featureName, raw, next.get(featureName)));
+        } else {
+            next.remove(featureName);
+        }
+        snapshot = Collections.unmodifiableMap(next);
+    }
+
+    private boolean changedSince(String featureName, long readVersion) {
+        Long changedAt = changeVersions.get(featureName);
+        return changedAt != null && changedAt > readVersion;
+    }
+
+    /**
+     * 원본 값이 바뀐 경우에만 재컴파일
+     */
+    private FeatureRule compile(String featureName, String raw, FeatureRule existing) {
+        if (existing != null && existing.getRaw().equals(raw)) {
+            return existing;
+        }
+        return FeatureRule.compile(featureName, raw);
+    }
 }
@@ -0,0 +1,155 @@
+package com.common.server.common.feature;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 컴파일된 Feature Flag 규칙
+ *
+ * Redis에 저장된 원본 값("true"/"false" 또는 FeatureRuleDefinition JSON)을
+ * Flag 버전(원본 값)마다 한 번만 컴파일하여 보관합니다.
+ * 평가 시에는 I/O나 객체 할당 없이 메모리 내에서만 판단합니다.
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Slf4j
+public final class FeatureRule {
+
+    /**
+     * 롤아웃 버킷 수 (0.01% 단위)
+     */
+    static final int BUCKETS = 10_000;
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String raw;
+    private final boolean enabled;
+    private final int threshold;
+    private final Set<String> allowUsers;
+    private final String[] attributeNames;
+    private final Set<String>[] attributeValues;
+    private final int seed;
+
+    private FeatureRule(String featureName, String raw, boolean enabled, int threshold,
+                        Set<String> allowUsers, String[] attributeNames, Set<String>[] attributeValues) {
+        this.raw = raw;
+        this.enabled = enabled;
+        this.threshold = threshold;
+        this.allowUsers = allowUsers;
+        this.attributeNames = attributeNames;
+        this.attributeValues = attributeValues;
+        this.seed = Murmur3.hashChars(featureName, 0);
+    }
+
+    /**
+     * 원본 값을 규칙으로 컴파일
+     *
+     * @param featureName Feature 이름 (버킷 해시 시드)
+     * @param raw Redis에 저장된 원본 값
+     * @return 컴파일된 규칙 (해석할 수 없는 값은 비활성 규칙)
+     */
+    @SuppressWarnings("unchecked")
+    public static FeatureRule compile(String featureName, String raw) {
+        String value = raw.trim();
+        if (!value.startsWith("{")) {
+            return new FeatureRule(featureName, raw, Boolean.parseBoolean(value), BUCKETS,
+                    Set.of(), new String[0], new Set[0]);
+        }
+
+        try {
+            FeatureRuleDefinition definition = objectMapper.readValue(value, FeatureRuleDefinition.class);
+
+            int threshold = BUCKETS;
+            if (definition.getPercentage() != null) {
+                long scaled = Math.round(definition.getPercentage() * (BUCKETS / 100));
+                threshold = (int) Math.max(0, Math.min(BUCKETS, scaled));
+            }
+
+            Set<String> allowUsers = definition.getAllowUsers() != null
+                    ? new HashSet<>(definition.getAllowUsers()) : Set.of();
+
+            Map<String, List<String>> attributes = definition.getAttributes() != null
+                    ? definition.getAttributes() : Map.of();
+            String[] names = new String[attributes.size()];
+            Set<String>[] values = new Set[attributes.size()];
+            int i = 0;
+            for (Map.Entry<String, List<String>> entry : attributes.entrySet()) {
+                names[i] = entry.getKey();
+                values[i] = new HashSet<>(entry.getValue());
+                i++;
+            }
+
+            return new FeatureRule(featureName, raw, definition.isEnabled(), threshold, allowUsers, names, values);
+        } catch (Exception e) {
+            log.warn("Invalid feature rule for '{}', treating as disabled: {}", featureName, e.getMessage());
+            return new FeatureRule(featureName, raw, false, 0, Set.of(), new String[0], new Set[0]);
+        }
+    }
+
+    /**
+     * 규칙 평가
+     *
+     * @param userId 사용자 ID (없으면 null, 비율 롤아웃 대상에서 제외)
+     * @param attributes 사용자 속성 (없으면 null)
+     * @return 활성화 여부
+     */
+    public boolean evaluate(String userId, Map<String, String> attributes) {
+        if (!enabled) {
+            return false;
+        }
+        if (userId != null && allowUsers.contains(userId)) {
+            return true;
+        }
+        for (int i = 0; i < attributeNames.length; i++) {
+            String actual = attributes != null ? attributes.get(attributeNames[i]) : null;
+            if (actual == null || !attributeValues[i].contains(actual)) {
+                return false;
+            }
+        }
+        if (threshold >= BUCKETS) {
+            return true;
+        }
+        if (userId == null || threshold <= 0) {
+            return false;
+        }
+        return bucketOf(userId) < threshold;
+    }
+
+    /**
+     * 사용자 버킷 (0 ~ BUCKETS-1), Flag마다 시드가 달라 Flag 간 롤아웃 대상이 겹치지 않음
+     */
+    int bucketOf(String userId) {
+        return (Murmur3.hashChars(userId, seed) & Integer.MAX_VALUE) % BUCKETS;
+    }
+
+    /**
+     * 전체 활성화 스위치 (사용자 조건과 무관)
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 컴파일 원본 값 (같은 값이면 재컴파일하지 않음)
+     */
+    public String getRaw() {
+        return raw;
+    }
+
+    /**
+     * 규칙 정의를 Redis 저장용 JSON으로 변환
+     */
+    static String toJson(FeatureRuleDefinition definition) {
+        try {
+            return objectMapper.writeValueAsString(definition);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Failed to serialize feature rule", e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.common.server.common.feature;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Feature Flag 타게팅 규칙 정의
+ *
+ * Redis에 JSON으로 저장되며, 각 노드에서 FeatureRule로 컴파일되어 평가됩니다.
+ *
+ * 평가 순서:
+ * 1. enabled=false 이면 항상 비활성
+ * 2. allowUsers에 포함된 사용자는 항상 활성
+ * 3. attributes의 모든 항목이 일치해야 함 (항목별로 허용 값 중 하나)
+ * 4. percentage 비율의 사용자만 활성 (flag 이름 + 사용자 ID 해시 기반, 노드 간 동일)
+ *
+ * 예시:
+ * <pre>
+ * {"enabled":true,"percentage":10.0,"allowUsers":["admin-1"],"attributes":{"plan":["pro","team"]}}
+ * </pre>
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeatureRuleDefinition {
+
+    /**
+     * 전체 활성화 스위치
+     */
+    @Builder.Default
+    private boolean enabled = true;
+
+    /**
+     * 롤아웃 비율 (0.0 ~ 100.0, null이면 100%)
+     */
+    private Double percentage;
+
+    /**
+     * 항상 활성화할 사용자 ID 목록
+     */
+    private List<String> allowUsers;
+
+    /**
+     * 속성 일치 조건 (속성명 -> 허용 값 목록)
+     */
+    private Map<String, List<String>> attributes;
+}
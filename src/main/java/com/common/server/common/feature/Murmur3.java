@@ -0,0 +1,61 @@
+package com.common.server.common.feature;
+
+/**
+ * MurmurHash3 (x86, 32bit)
+ *
+ * 문자열을 바이트 배열로 인코딩하지 않고 UTF-16 문자를 그대로 해시합니다 (할당 없음).
+ * JVM/노드와 무관하게 같은 입력이면 같은 값을 반환하므로 롤아웃 버킷 계산에 사용합니다.
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+final class Murmur3 {
+
+    private static final int C1 = 0xcc9e2d51;
+    private static final int C2 = 0x1b873593;
+
+    private Murmur3() {
+    }
+
+    /**
+     * 문자열 해시 (두 문자씩 32bit 블록으로 처리)
+     */
+    static int hashChars(CharSequence input, int seed) {
+        int h1 = seed;
+        int length = input.length();
+
+        for (int i = 1; i < length; i += 2) {
+            int k1 = input.charAt(i - 1) | (input.charAt(i) << 16);
+            h1 = mixH1(h1, mixK1(k1));
+        }
+
+        if ((length & 1) == 1) {
+            h1 ^= mixK1(input.charAt(length - 1));
+        }
+
+        return fmix(h1, 2 * length);
+    }
+
+    private static int mixK1(int k1) {
+        k1 *= C1;
+        k1 = Integer.rotateLeft(k1, 15);
+        k1 *= C2;
+        return k1;
+    }
+
+    private static int mixH1(int h1, int k1) {
+        h1 ^= k1;
+        h1 = Integer.rotateLeft(h1, 13);
+        return h1 * 5 + 0xe6546b64;
+    }
+
+    private static int fmix(int h1, int length) {
+        h1 ^= length;
+        h1 ^= h1 >>> 16;
+        h1 *= 0x85ebca6b;
+        h1 ^= h1 >>> 13;
+        h1 *= 0xc2b2ae35;
+        h1 ^= h1 >>> 16;
+        return h1;
+    }
+}
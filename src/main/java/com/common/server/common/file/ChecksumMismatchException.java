@@ -0,0 +1,16 @@
+package com.common.server.common.file;
+
+/**
+ * 업로드 체크섬 불일치
+ *
+ * 클라이언트가 선언한 SHA-256과 서버에서 계산한 값이 다른 경우 (전송 중 손상 또는 잘못된 조각)
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+public class ChecksumMismatchException extends IllegalArgumentException {
+
+    public ChecksumMismatchException(String expected, String actual) {
+        super("Checksum mismatch: expected " + expected + " but was " + actual);
+    }
+}
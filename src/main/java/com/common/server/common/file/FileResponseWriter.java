@@ -0,0 +1,167 @@
+package com.common.server.common.file;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 파일 Resource HTTP 응답 작성
+ *
+ * - ETag(크기-수정시각) / Last-Modified 조건부 요청 처리 (304, 412)
+ * - 단일 Range 요청은 206 Partial Content, 만족할 수 없는 Range는 416
+ *   (다중 Range는 RFC 9110에 따라 무시하고 전체 전송, If-Range가 일치하지 않아도 전체 전송)
+ * - 본문은 힙에 올리지 않고 전송:
+ *   Tomcat sendfile 지원 시 커널 sendfile로 위임, 아니면 FileChannel.transferTo,
+ *   파일이 아닌 Resource는 스트림 복사
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+public final class FileResponseWriter {
+
+    // Tomcat sendfile 요청 속성 (org.apache.coyote.Constants)
+    static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    // 이보다 작은 파일은 직접 쓰는 편이 저렴 (Tomcat DefaultServlet 기본값과 동일)
+    static final long SENDFILE_MIN_SIZE = 48 * 1024;
+
+    private FileResponseWriter() {
+    }
+
+    /**
+     * Resource를 조건부/Range 요청에 맞춰 응답으로 전송
+     *
+     * @param resource 읽을 수 있는 파일 Resource
+     * @param cacheMaxAge Cache-Control max-age (null이면 헤더 생략)
+     */
+    public static void write(Resource resource, HttpServletRequest request,
+                             HttpServletResponse response, Duration cacheMaxAge) throws IOException {
+        long length = resource.contentLength();
+        long lastModified = resource.lastModified();
+        String etag = "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+
+        if (cacheMaxAge != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.maxAge(cacheMaxAge).getHeaderValue());
+        }
+        // 304 / 412 처리 (ETag, Last-Modified 헤더도 설정)
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        // 업로드된 HTML/SVG가 같은 Origin에서 스크립트로 실행되지 않도록 격리
+        response.setHeader("Content-Security-Policy", "sandbox");
+        response.setContentType(MediaTypeFactory.getMediaType(resource)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+
+        long start = 0;
+        long end = length - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && length > 0 && ifRangeMatches(request, etag, lastModified)) {
+            List<HttpRange> ranges = parseRanges(rangeHeader);
+            if (ranges.size() == 1) {
+                start = ranges.get(0).getRangeStart(length);
+                end = ranges.get(0).getRangeEnd(length);
+                if (start >= length || start > end) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if (HttpMethod.HEAD.matches(request.getMethod()) || count <= 0) {
+            return;
+        }
+
+        if (resource.isFile()) {
+            Path path = resource.getFile().toPath();
+            if (count >= SENDFILE_MIN_SIZE && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))) {
+                // 서블릿 반환 후 Tomcat이 커널 sendfile로 전송 (end는 배타적)
+                request.setAttribute(SENDFILE_FILENAME_ATTR, path.toAbsolutePath().toString());
+                request.setAttribute(SENDFILE_START_ATTR, start);
+                request.setAttribute(SENDFILE_END_ATTR, end + 1);
+                return;
+            }
+            transfer(path, start, count, response);
+            return;
+        }
+
+        try (InputStream in = resource.getInputStream()) {
+            StreamUtils.copyRange(in, response.getOutputStream(), start, end);
+        }
+    }
+
+    /**
+     * FileChannel.transferTo로 구간 전송 (사용자 공간 버퍼 없이 채널 간 전송)
+     */
+    private static void transfer(Path path, long start, long count, HttpServletResponse response) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long written = channel.transferTo(position, remaining, out);
+                if (written <= 0) {
+                    // 전송 중 파일이 줄어든 경우
+                    break;
+                }
+                position += written;
+                remaining -= written;
+            }
+        }
+    }
+
+    private static List<HttpRange> parseRanges(String rangeHeader) {
+        try {
+            return HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            // 잘못된 Range 헤더는 무시하고 전체 전송
+            return List.of();
+        }
+    }
+
+    /**
+     * If-Range 검증 (없으면 true, 강한 ETag 또는 Last-Modified가 일치해야 Range 적용)
+     */
+    private static boolean ifRangeMatches(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(etag);
+        }
+        try {
+            long date = request.getDateHeader(HttpHeaders.IF_RANGE);
+            return date / 1000 == lastModified / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.common.server.common.file;
+
+/**
+ * 업로드 크기 제한 초과
+ *
+ * 스트리밍 업로드는 본문을 읽는 도중 제한을 넘는 순간 중단하므로,
+ * 다른 검증 실패(IllegalArgumentException)와 구분하여 413으로 응답할 수 있게 합니다.
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+public class FileSizeLimitExceededException extends IllegalArgumentException {
+
+    private final long limit;
+
+    public FileSizeLimitExceededException(String message, long limit) {
+        super(message + ": " + limit + " bytes");
+        this.limit = limit;
+    }
+
+    public long getLimit() {
+        return limit;
+    }
+}
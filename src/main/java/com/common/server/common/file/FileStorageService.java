@@ -1,8 +1,10 @@
 package com.common.server.common.file;
 
+import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.InputStream;
+import java.nio.file.Path;
 
 /**
  * 파일 스토리지 서비스 인터페이스
@@ -49,13 +51,62 @@ public interface FileStorageService {
     String upload(InputStream inputStream, String directory, String filename, String contentType);
 
     /**
-     * 파일 다운로드
+     * 내용 주소 기반 업로드 (스트림을 한 번만 읽음)
+     *
+     * 앞부분으로 Magic Number를 검증하고, 임시 파일에 쓰면서 SHA-256을 계산한 뒤
+     * 해시 경로(cas/ab/cd/{sha256}.{ext})로 원자적으로 이동합니다.
+     * 같은 내용이 이미 저장되어 있으면 기존 파일을 재사용합니다.
+     * (여러 업로드가 같은 파일을 공유하므로 개별 삭제하지 마세요)
+     *
+     * @param inputStream 파일 스트림 (이 메서드가 닫음)
+     * @param filename 원본 파일명 (확장자 결정용)
+     * @param contentType 선언된 MIME 타입
+     * @param policy 크기/MIME 타입 제한
+     * @return 저장된 파일 정보
+     * @throws IllegalArgumentException 제한 위반 또는 Magic Number 불일치
+     */
+    StoredFile uploadContentAddressed(InputStream inputStream, String filename, String contentType,
+                                      UploadPolicy policy);
+
+    /**
+     * 이미 로컬 디스크에 완성된 파일을 내용 주소 기반으로 저장
+     *
+     * 재개 가능한 업로드처럼 조각을 모아 만든 파일을 다시 복사하지 않고 저장소로 옮깁니다.
+     * 검증(크기, MIME 타입, Magic Number, 체크섬)에 실패하면 source는 그대로 남습니다.
+     *
+     * @param source 완성된 파일 (성공 시 이동 또는 삭제됨, 업로드 경로와 같은 파일 시스템 권장)
+     * @param filename 원본 파일명 (확장자 결정용)
+     * @param contentType 선언된 MIME 타입
+     * @param policy 크기/MIME 타입 제한
+     * @param expectedSha256 클라이언트가 보낸 SHA-256 (hex, null이면 검증 생략)
+     * @return 저장된 파일 정보
+     * @throws ChecksumMismatchException 계산한 SHA-256이 expectedSha256과 다른 경우
+     * @throws IllegalArgumentException 제한 위반 또는 Magic Number 불일치
+     */
+    StoredFile storeContentAddressed(Path source, String filename, String contentType, UploadPolicy policy,
+                                     String expectedSha256);
+
+    /**
+     * 파일 다운로드 (전체 내용을 메모리로 읽음, 큰 파일은 loadAsResource 사용)
      *
      * @param filePath 파일 경로
      * @return 파일 데이터
+     * @throws SecurityException 업로드 디렉토리 외부이거나 점으로 시작하는 숨김 경로(.tmp, .uploads 등)인 경우
      */
     byte[] download(String filePath);
 
+    /**
+     * 파일을 Resource로 조회 (스트리밍 다운로드용)
+     *
+     * 내용을 메모리에 올리지 않으므로 큰 파일도 일정한 힙으로 전송할 수 있습니다.
+     * 로컬 스토리지는 FileSystemResource를 반환하여 FileChannel.transferTo/sendfile 전송이 가능합니다.
+     *
+     * @param filePath 파일 경로
+     * @return 파일 Resource (존재하지 않으면 isReadable()이 false)
+     * @throws SecurityException 업로드 디렉토리 외부이거나 점으로 시작하는 숨김 경로(.tmp, .uploads 등)인 경우
+     */
+    Resource loadAsResource(String filePath);
+
     /**
      * 파일 삭제
      *
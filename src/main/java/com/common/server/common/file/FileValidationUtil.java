@@ -74,6 +74,13 @@ public class FileValidationUtil {
                     new byte[][] { {0x50, 0x4B, 0x03, 0x04} }) // PPTX (ZIP)
     );
 
+    // Magic Number 검증에 필요한 최대 앞부분 길이
+    public static final int MAX_SIGNATURE_LENGTH = MAGIC_NUMBERS.values().stream()
+            .flatMap(Arrays::stream)
+            .mapToInt(signature -> signature.length)
+            .max()
+            .orElse(0);
+
     // 기본 최대 파일 크기 (10MB)
     public static final long DEFAULT_MAX_FILE_SIZE = 10 * 1024 * 1024;
 
@@ -166,39 +173,46 @@ public class FileValidationUtil {
      * @throws IllegalArgumentException Magic Number가 일치하지 않는 경우
      */
     public static void validateMagicNumber(MultipartFile file, String contentType) {
-        byte[][] expectedSignatures = MAGIC_NUMBERS.get(contentType.toLowerCase());
-        if (expectedSignatures == null) {
+        if (!MAGIC_NUMBERS.containsKey(contentType.toLowerCase())) {
             // Magic Number가 정의되지 않은 타입은 검증 스킵
             return;
         }
 
         try (InputStream is = file.getInputStream()) {
-            // 가장 긴 시그니처 길이만큼 읽기
-            int maxLength = 0;
-            for (byte[] sig : expectedSignatures) {
-                maxLength = Math.max(maxLength, sig.length);
-            }
-
-            byte[] fileHeader = new byte[maxLength];
-            int bytesRead = is.read(fileHeader);
+            byte[] fileHeader = is.readNBytes(MAX_SIGNATURE_LENGTH);
+            validateMagicNumber(fileHeader, fileHeader.length, contentType);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to read file content for validation", e);
+        }
+    }
 
-            if (bytesRead < 0) {
-                throw new IllegalArgumentException("Empty file content");
-            }
+    /**
+     * 이미 읽은 파일 앞부분으로 Magic Number 검증 (스트림을 다시 열지 않는 단일 패스 업로드용)
+     *
+     * @param header 파일 앞부분 (MAX_SIGNATURE_LENGTH 바이트면 충분)
+     * @param length header 중 유효한 바이트 수
+     * @param contentType 검증할 MIME Type
+     * @throws IllegalArgumentException Magic Number가 일치하지 않는 경우
+     */
+    public static void validateMagicNumber(byte[] header, int length, String contentType) {
+        byte[][] expectedSignatures = MAGIC_NUMBERS.get(contentType.toLowerCase());
+        if (expectedSignatures == null) {
+            return;
+        }
+        if (length <= 0) {
+            throw new IllegalArgumentException("Empty file content");
+        }
 
-            // 시그니처 중 하나라도 일치하면 통과
-            for (byte[] signature : expectedSignatures) {
-                if (bytesRead >= signature.length && startsWith(fileHeader, signature)) {
-                    return;
-                }
+        // 시그니처 중 하나라도 일치하면 통과
+        for (byte[] signature : expectedSignatures) {
+            if (length >= signature.length && startsWith(header, signature)) {
+                return;
             }
-
-            throw new IllegalArgumentException(
-                    "File content does not match declared content type. " +
-                    "Expected: " + contentType + ", but file signature does not match.");
-        } catch (IOException e) {
-            throw new IllegalArgumentException("Failed to read file content for validation", e);
         }
+
+        throw new IllegalArgumentException(
+                "File content does not match declared content type. " +
+                "Expected: " + contentType + ", but file signature does not match.");
     }
 
     /**
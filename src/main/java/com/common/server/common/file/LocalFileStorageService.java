@@ -2,15 +2,21 @@ package com.common.server.common.file;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.UUID;
 
 /**
@@ -25,6 +31,10 @@ import java.util.UUID;
 @Slf4j
 public class LocalFileStorageService implements FileStorageService {
 
+    private static final String TEMP_DIRECTORY = ".tmp";
+    private static final String CONTENT_ADDRESSED_DIRECTORY = "cas";
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
     @Value("${file.upload.path:./uploads}")
     private String uploadPath;
 
@@ -66,10 +76,137 @@ public class LocalFileStorageService implements FileStorageService {
         }
     }
 
+    @Override
+    public StoredFile uploadContentAddressed(InputStream inputStream, String filename, String contentType,
+                                             UploadPolicy policy) {
+        policy.validateContentType(contentType);
+
+        Path basePath = Paths.get(uploadPath).toAbsolutePath().normalize();
+        Path tempFile = null;
+        try (InputStream in = inputStream) {
+            // 같은 파일 시스템에 임시 파일을 두어야 원자적 이동 가능
+            Path tempDirectory = basePath.resolve(TEMP_DIRECTORY);
+            Files.createDirectories(tempDirectory);
+            tempFile = Files.createTempFile(tempDirectory, "upload-", ".part");
+
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long size;
+            try (OutputStream out = Files.newOutputStream(tempFile)) {
+                size = copyVerified(in, out, digest, contentType, policy.maxSize());
+            }
+
+            String sha256 = HexFormat.of().formatHex(digest.digest());
+            StoredFile storedFile = moveToContentAddressedPath(basePath, tempFile, sha256, size, filename, contentType);
+            tempFile = null;
+            return storedFile;
+
+        } catch (IOException | NoSuchAlgorithmException e) {
+            log.error("Failed to upload file: {}", filename, e);
+            throw new RuntimeException("Failed to upload file", e);
+        } finally {
+            deleteQuietly(tempFile);
+        }
+    }
+
+    @Override
+    public StoredFile storeContentAddressed(Path source, String filename, String contentType, UploadPolicy policy,
+                                            String expectedSha256) {
+        policy.validateContentType(contentType);
+
+        Path basePath = Paths.get(uploadPath).toAbsolutePath().normalize();
+        try {
+            // 이미 디스크에 있으므로 쓰지 않고 읽기 한 번으로 검증과 해시 계산
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long size;
+            try (InputStream in = Files.newInputStream(source)) {
+                size = copyVerified(in, OutputStream.nullOutputStream(), digest, contentType, policy.maxSize());
+            }
+
+            String sha256 = HexFormat.of().formatHex(digest.digest());
+            if (expectedSha256 != null && !expectedSha256.equalsIgnoreCase(sha256)) {
+                throw new ChecksumMismatchException(expectedSha256, sha256);
+            }
+            return moveToContentAddressedPath(basePath, source, sha256, size, filename, contentType);
+
+        } catch (IOException | NoSuchAlgorithmException e) {
+            log.error("Failed to store file: {}", source, e);
+            throw new RuntimeException("Failed to store file", e);
+        }
+    }
+
+    /**
+     * 검증을 마친 파일을 해시 경로로 원자적 이동 (같은 내용이 있으면 파일을 삭제하고 기존 경로 반환)
+     */
+    private StoredFile moveToContentAddressedPath(Path basePath, Path file, String sha256, long size,
+                                                  String filename, String contentType) throws IOException {
+        String relativePath = contentAddressedPath(sha256, filename);
+        Path target = basePath.resolve(relativePath);
+
+        boolean deduplicated = Files.exists(target);
+        if (deduplicated) {
+            Files.delete(file);
+        } else {
+            Files.createDirectories(target.getParent());
+            // 같은 내용을 동시에 올려도 결과가 같으므로 덮어써도 무방
+            Files.move(file, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        }
+        log.info("File uploaded: {} ({} bytes, deduplicated={})", relativePath, size, deduplicated);
+        return new StoredFile(relativePath, getUrl(relativePath), sha256, size, contentType, deduplicated);
+    }
+
+    /**
+     * 스트림을 한 번 읽으며 Magic Number 검증, 크기 제한, 해시 계산, 쓰기를 수행
+     *
+     * @return 복사한 바이트 수
+     */
+    private long copyVerified(InputStream in, OutputStream out, MessageDigest digest, String contentType,
+                              long maxSize) throws IOException {
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+
+        // 앞부분만 먼저 읽어 시그니처 검증 (불일치 시 나머지를 읽지 않음)
+        int read = in.readNBytes(buffer, 0, FileValidationUtil.MAX_SIGNATURE_LENGTH);
+        if (contentType != null) {
+            FileValidationUtil.validateMagicNumber(buffer, read, contentType);
+        }
+
+        long total = 0;
+        while (read > 0) {
+            total += read;
+            if (total > maxSize) {
+                throw new FileSizeLimitExceededException("File size exceeds limit", maxSize);
+            }
+            digest.update(buffer, 0, read);
+            out.write(buffer, 0, read);
+            read = in.read(buffer);
+        }
+        return total;
+    }
+
+    /**
+     * 해시 기반 경로 (디렉토리당 파일 수를 제한하기 위해 앞 4자리로 2단계 분산)
+     */
+    private static String contentAddressedPath(String sha256, String filename) {
+        String extension = FileValidationUtil.getExtension(filename).toLowerCase();
+        String safeExtension = extension.matches("[a-z0-9]{1,10}") ? "." + extension : "";
+        return CONTENT_ADDRESSED_DIRECTORY + "/" + sha256.substring(0, 2) + "/" + sha256.substring(2, 4)
+                + "/" + sha256 + safeExtension;
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete temp file: {}", path, e);
+        }
+    }
+
     @Override
     public byte[] download(String filePath) {
         try {
-            Path path = resolveSafePath(filePath);
+            Path path = resolvePublicPath(filePath);
             return Files.readAllBytes(path);
         } catch (IOException e) {
             log.error("Failed to download file: {}", filePath, e);
@@ -77,6 +214,11 @@ public class LocalFileStorageService implements FileStorageService {
         }
     }
 
+    @Override
+    public Resource loadAsResource(String filePath) {
+        return new FileSystemResource(resolvePublicPath(filePath));
+    }
+
     @Override
     public boolean delete(String filePath) {
         try {
@@ -132,6 +274,26 @@ public class LocalFileStorageService implements FileStorageService {
         }
     }
 
+    /**
+     * 다운로드용 경로 검증
+     *
+     * 업로드 임시 파일(.tmp)과 조각 업로드 세션(.uploads)처럼 점으로 시작하는 디렉토리/파일은
+     * 업로드 디렉토리 안에 있어도 외부에 제공하지 않습니다.
+     *
+     * @throws SecurityException 업로드 디렉토리 외부이거나 숨김 경로인 경우
+     */
+    private Path resolvePublicPath(String filePath) {
+        Path resolvedPath = resolveSafePath(filePath);
+        Path relativePath = Paths.get(uploadPath).toAbsolutePath().normalize().relativize(resolvedPath);
+        for (Path segment : relativePath) {
+            if (segment.toString().startsWith(".")) {
+                log.warn("Hidden path access attempt detected: {}", filePath);
+                throw new SecurityException("Invalid file path: hidden path");
+            }
+        }
+        return resolvedPath;
+    }
+
     @Override
     public String getUrl(String filePath) {
         return baseUrl + "/" + filePath;
@@ -148,6 +310,7 @@ public class LocalFileStorageService implements FileStorageService {
         if (originalFilename != null && originalFilename.contains(".")) {
             extension = originalFilename.substring(originalFilename.lastIndexOf("."));
         }
-        return UUID.randomUUID().toString() + extension;
+        // 파일 이름이 곧 접근 경로이므로 추측할 수 없도록 SecureRandom 기반 UUID 사용
+        return UUID.randomUUID() + extension;
     }
 }
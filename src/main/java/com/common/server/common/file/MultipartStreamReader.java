@@ -0,0 +1,311 @@
+package com.common.server.common.file;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.multipart.MultipartException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * multipart/form-data 스트리밍 파서
+ *
+ * 요청 본문을 고정 크기 버퍼 하나로 읽으며 파트를 순서대로 반환합니다.
+ * 각 파트 본문은 다음 구분자(\r\n--boundary) 직전까지만 읽히는 InputStream이므로
+ * 임시 파일이나 메모리에 파트 전체를 모으지 않고 바로 목적지로 쓸 수 있습니다.
+ *
+ * - 파트는 순서대로만 읽을 수 있으며, nextPart() 호출 시 이전 파트의 남은 본문은 버림
+ * - 파트 헤더는 maxHeaderSize로 제한 (헤더만 보내 메모리를 소모시키는 요청 방지)
+ * - 형식 오류는 MultipartException
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+public class MultipartStreamReader {
+
+    static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    static final int DEFAULT_MAX_HEADER_SIZE = 8 * 1024;
+
+    // RFC 2046: boundary는 1~70자
+    private static final int MAX_BOUNDARY_LENGTH = 70;
+
+    private final InputStream in;
+    private final byte[] delimiter;
+    private final byte[] buffer;
+    private final int maxHeaderSize;
+
+    private int head;
+    private int tail;
+    private boolean eof;
+    private boolean finished;
+    private PartInputStream current;
+
+    public MultipartStreamReader(InputStream in, String boundary) {
+        this(in, boundary, DEFAULT_BUFFER_SIZE, DEFAULT_MAX_HEADER_SIZE);
+    }
+
+    MultipartStreamReader(InputStream in, String boundary, int bufferSize, int maxHeaderSize) {
+        byte[] boundaryBytes = boundary.getBytes(StandardCharsets.ISO_8859_1);
+        this.in = in;
+        this.delimiter = new byte[boundaryBytes.length + 4];
+        this.delimiter[0] = '\r';
+        this.delimiter[1] = '\n';
+        this.delimiter[2] = '-';
+        this.delimiter[3] = '-';
+        System.arraycopy(boundaryBytes, 0, this.delimiter, 4, boundaryBytes.length);
+        this.buffer = new byte[Math.max(bufferSize, delimiter.length * 2)];
+        this.maxHeaderSize = maxHeaderSize;
+
+        // 첫 구분자 앞에는 CRLF가 없으므로 미리 채워 두어 모든 구분자를 같은 패턴으로 찾음
+        this.buffer[0] = '\r';
+        this.buffer[1] = '\n';
+        this.tail = 2;
+        // 첫 구분자 앞의 preamble은 파트가 아니므로 버릴 본문으로 취급
+        this.current = new PartInputStream();
+    }
+
+    /**
+     * Content-Type 헤더에서 boundary 추출
+     *
+     * @throws MultipartException multipart/form-data가 아니거나 boundary가 잘못된 경우
+     */
+    public static String boundary(String contentType) {
+        MediaType mediaType;
+        try {
+            mediaType = MediaType.parseMediaType(contentType);
+        } catch (RuntimeException e) {
+            throw new MultipartException("Invalid content type: " + contentType);
+        }
+        if (!MediaType.MULTIPART_FORM_DATA.includes(mediaType)) {
+            throw new MultipartException("Not a multipart/form-data request: " + contentType);
+        }
+        String boundary = mediaType.getParameter("boundary");
+        if (boundary != null && boundary.length() >= 2 && boundary.startsWith("\"") && boundary.endsWith("\"")) {
+            boundary = boundary.substring(1, boundary.length() - 1);
+        }
+        if (boundary == null || boundary.isEmpty() || boundary.length() > MAX_BOUNDARY_LENGTH) {
+            throw new MultipartException("Invalid multipart boundary: " + boundary);
+        }
+        return boundary;
+    }
+
+    /**
+     * 다음 파트
+     *
+     * @return 다음 파트, 마지막 구분자 이후이면 null
+     */
+    public Part nextPart() throws IOException {
+        if (finished) {
+            return null;
+        }
+        // 이전 파트(또는 preamble)의 읽지 않은 본문과 구분자까지 건너뜀
+        current.skipRemaining();
+
+        // 구분자 뒤: "--"면 마지막, 아니면 (공백 후) CRLF
+        String rest = readLine(maxHeaderSize);
+        if (rest == null) {
+            throw new MultipartException("Unexpected end of multipart body");
+        }
+        if (rest.startsWith("--")) {
+            finished = true;
+            return null;
+        }
+        if (!rest.isBlank()) {
+            throw new MultipartException("Malformed multipart boundary line");
+        }
+
+        HttpHeaders headers = readHeaders();
+        current = new PartInputStream();
+        return toPart(headers, current);
+    }
+
+    private HttpHeaders readHeaders() throws IOException {
+        HttpHeaders headers = new HttpHeaders();
+        int remaining = maxHeaderSize;
+        while (true) {
+            String line = readLine(remaining);
+            if (line == null) {
+                throw new MultipartException("Unexpected end of multipart headers");
+            }
+            if (line.isEmpty()) {
+                return headers;
+            }
+            remaining -= line.length() + 2;
+            int colon = line.indexOf(':');
+            if (colon <= 0) {
+                throw new MultipartException("Malformed multipart header: " + line);
+            }
+            headers.add(line.substring(0, colon).trim(), line.substring(colon + 1).trim());
+        }
+    }
+
+    private static Part toPart(HttpHeaders headers, InputStream body) {
+        String disposition = headers.getFirst(HttpHeaders.CONTENT_DISPOSITION);
+        if (disposition == null) {
+            throw new MultipartException("Missing Content-Disposition in multipart part");
+        }
+        ContentDisposition contentDisposition;
+        try {
+            contentDisposition = ContentDisposition.parse(disposition);
+        } catch (IllegalArgumentException e) {
+            throw new MultipartException("Invalid Content-Disposition: " + disposition, e);
+        }
+
+        String contentType = headers.getFirst(HttpHeaders.CONTENT_TYPE);
+        if (contentType != null) {
+            int semicolon = contentType.indexOf(';');
+            contentType = (semicolon >= 0 ? contentType.substring(0, semicolon) : contentType).trim().toLowerCase();
+        }
+        return new Part(contentDisposition.getName(), contentDisposition.getFilename(), contentType, body);
+    }
+
+    /**
+     * CRLF까지 한 줄 읽기 (UTF-8, 브라우저는 파일명을 인코딩 없이 UTF-8로 보냄)
+     *
+     * @return 줄 내용 (CRLF 제외), 아무것도 읽지 못하고 스트림이 끝나면 null
+     */
+    private String readLine(int limit) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream(128);
+        int previous = -1;
+        while (true) {
+            int b = readByte();
+            if (b < 0) {
+                return line.size() == 0 ? null : line.toString(StandardCharsets.UTF_8);
+            }
+            if (previous == '\r' && b == '\n') {
+                byte[] bytes = line.toByteArray();
+                return new String(bytes, 0, bytes.length - 1, StandardCharsets.UTF_8);
+            }
+            if (line.size() >= limit) {
+                throw new MultipartException("Multipart headers exceed " + maxHeaderSize + " bytes");
+            }
+            line.write(b);
+            previous = b;
+        }
+    }
+
+    private int readByte() throws IOException {
+        if (head == tail && !fill()) {
+            return -1;
+        }
+        return buffer[head++] & 0xFF;
+    }
+
+    /**
+     * 남은 데이터를 버퍼 앞으로 옮기고 빈 공간을 채움
+     *
+     * @return 새로 읽은 데이터가 있으면 true
+     */
+    private boolean fill() throws IOException {
+        if (eof) {
+            return false;
+        }
+        if (head > 0) {
+            System.arraycopy(buffer, head, buffer, 0, tail - head);
+            tail -= head;
+            head = 0;
+        }
+        int read = in.read(buffer, tail, buffer.length - tail);
+        if (read < 0) {
+            eof = true;
+            return false;
+        }
+        tail += read;
+        return true;
+    }
+
+    /**
+     * 버퍼의 [head, tail) 구간에서 구분자 위치
+     */
+    private int indexOfDelimiter() {
+        int last = tail - delimiter.length;
+        outer:
+        for (int i = head; i <= last; i++) {
+            if (buffer[i] != '\r') {
+                continue;
+            }
+            for (int j = 1; j < delimiter.length; j++) {
+                if (buffer[i + j] != delimiter[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    // ========== 내부 타입 ==========
+
+    /**
+     * 파트 하나
+     *
+     * @param name 폼 필드 이름
+     * @param filename 파일명 (일반 필드면 null)
+     * @param contentType 파라미터를 제외한 MIME 타입 (소문자, 없으면 null)
+     * @param body 본문 (다음 파트로 넘어가면 더 이상 읽을 수 없음)
+     */
+    public record Part(String name, String filename, String contentType, InputStream body) {
+
+        public boolean isFile() {
+            return filename != null;
+        }
+    }
+
+    /**
+     * 다음 구분자 직전까지만 읽는 본문 스트림
+     */
+    private final class PartInputStream extends InputStream {
+
+        private boolean done;
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            int read = read(single, 0, 1);
+            return read < 0 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (done) {
+                return -1;
+            }
+            if (len == 0) {
+                return 0;
+            }
+            while (true) {
+                int index = indexOfDelimiter();
+                if (index == head) {
+                    // 본문 끝: 구분자까지 소비
+                    head += delimiter.length;
+                    done = true;
+                    return -1;
+                }
+                // 구분자가 없으면 버퍼 끝에 걸친 구분자 일부일 수 있는 바이트는 남겨 둠
+                int available = index >= 0 ? index - head : tail - head - (delimiter.length - 1);
+                if (available > 0) {
+                    int count = Math.min(available, len);
+                    System.arraycopy(buffer, head, b, off, count);
+                    head += count;
+                    return count;
+                }
+                if (!fill()) {
+                    throw new MultipartException("Unexpected end of multipart body");
+                }
+            }
+        }
+
+        /**
+         * 다음 파트로 넘어가기 위해 남은 본문을 버림 (close는 요청 스트림을 닫지 않음)
+         */
+        private void skipRemaining() throws IOException {
+            byte[] discard = new byte[4096];
+            while (read(discard, 0, discard.length) >= 0) {
+                // 버림
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.common.server.common.file;
+
+/**
+ * 저장된 파일 정보
+ *
+ * @param path 스토리지 내 상대 경로
+ * @param url 외부 접근 URL
+ * @param sha256 내용 해시 (hex)
+ * @param size 크기 (바이트)
+ * @param contentType MIME 타입
+ * @param deduplicated 같은 내용의 파일이 이미 있어 재사용했는지 여부
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+public record StoredFile(String path, String url, String sha256, long size, String contentType,
+                         boolean deduplicated) {
+}
@@ -0,0 +1,46 @@
+package com.common.server.common.file;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.multipart.support.StandardServletMultipartResolver;
+
+import java.util.List;
+
+/**
+ * 스트리밍 업로드 경로를 제외하는 MultipartResolver
+ *
+ * DispatcherServlet은 핸들러를 찾기 전에 multipart 요청을 파싱하므로(Tomcat이 임시 파일로 저장),
+ * StreamingMultipartUploader가 본문을 직접 읽는 경로는 여기서 multipart가 아닌 것으로 취급합니다.
+ * 그 외 경로는 StandardServletMultipartResolver와 동일하게 동작합니다.
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+public class StreamingMultipartResolver extends StandardServletMultipartResolver {
+
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+    private final List<String> streamingPathPatterns;
+
+    /**
+     * @param streamingPathPatterns 본문을 직접 읽는 경로 (Ant 패턴, context path 제외)
+     */
+    public StreamingMultipartResolver(List<String> streamingPathPatterns) {
+        this.streamingPathPatterns = List.copyOf(streamingPathPatterns);
+    }
+
+    @Override
+    public boolean isMultipart(HttpServletRequest request) {
+        return super.isMultipart(request) && !isStreamingPath(request);
+    }
+
+    private boolean isStreamingPath(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (String pattern : streamingPathPatterns) {
+            if (pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
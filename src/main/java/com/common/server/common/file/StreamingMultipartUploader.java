@@ -0,0 +1,125 @@
+package com.common.server.common.file;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartException;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 임시 파일 없이 multipart 요청을 스트리밍으로 저장
+ *
+ * 표준 multipart 처리는 Tomcat이 업로드를 임시 파일로 먼저 쓰고 스토리지가 다시 복사하므로
+ * 모든 바이트를 디스크에 두 번 씁니다. 이 업로더는 요청 본문을 MultipartStreamReader로 읽으며
+ * 파일 파트를 FileStorageService.uploadContentAddressed로 바로 넘겨 한 번만 씁니다.
+ *
+ * - 요청 전체 크기: Content-Length로 먼저 확인하고, 읽는 도중에도 누적 크기로 중단 (chunked 요청 대비)
+ * - 파일별 크기, MIME 타입, Magic Number: UploadPolicy로 쓰는 도중 검증
+ * - 파트 수 제한 (작은 파트를 대량으로 보내는 요청 방지)
+ * - 일반 폼 필드는 읽지 않고 버림
+ *
+ * 이미 저장된 파트는 뒤 파트가 실패해도 남습니다. 내용 주소 기반이라 같은 내용을 다시 올리면 재사용됩니다.
+ * spring.threads.virtual.enabled=true이면 요청 스레드가 가상 스레드이므로 느린 업로드를 기다리는 동안
+ * 플랫폼 스레드를 점유하지 않습니다.
+ *
+ * 사용 경로는 StreamingMultipartResolver에 등록하여 표준 multipart 처리에서 제외해야 합니다.
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StreamingMultipartUploader {
+
+    private final FileStorageService fileStorageService;
+
+    @Value("${spring.servlet.multipart.max-request-size:50MB}")
+    private DataSize maxRequestSize;
+
+    @Value("${file.upload.streaming.max-parts:10}")
+    private int maxParts;
+
+    /**
+     * 요청의 파일 파트를 모두 저장
+     *
+     * @param request multipart/form-data 요청 (본문을 아직 읽지 않은 상태)
+     * @param policy 파일별 크기/MIME 타입 제한
+     * @return 저장된 파일 (파트 순서)
+     * @throws FileSizeLimitExceededException 요청 또는 파일 크기 제한 초과
+     * @throws IllegalArgumentException MIME 타입 또는 Magic Number 검증 실패
+     * @throws MultipartException multipart 형식 오류 또는 파트 수 초과
+     */
+    public List<StoredFile> upload(HttpServletRequest request, UploadPolicy policy) throws IOException {
+        String boundary = MultipartStreamReader.boundary(request.getContentType());
+        long limit = maxRequestSize.toBytes();
+        if (request.getContentLengthLong() > limit) {
+            throw new FileSizeLimitExceededException("Request size exceeds limit", limit);
+        }
+
+        MultipartStreamReader reader = new MultipartStreamReader(
+                new LimitedInputStream(request.getInputStream(), limit), boundary);
+        List<StoredFile> storedFiles = new ArrayList<>();
+        int partCount = 0;
+        MultipartStreamReader.Part part;
+        while ((part = reader.nextPart()) != null) {
+            if (++partCount > maxParts) {
+                throw new MultipartException("Too many multipart parts: max " + maxParts);
+            }
+            if (!part.isFile()) {
+                continue;
+            }
+            storedFiles.add(fileStorageService.uploadContentAddressed(
+                    part.body(), part.filename(), part.contentType(), policy));
+        }
+        log.debug("Streaming upload completed: {} files, {} parts", storedFiles.size(), partCount);
+        return storedFiles;
+    }
+
+    /**
+     * 누적 읽기 크기가 제한을 넘으면 중단하는 스트림
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+
+        private final long limit;
+        private long count;
+
+        private LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                count(read);
+            }
+            return read;
+        }
+
+        private void count(int read) {
+            count += read;
+            if (count > limit) {
+                throw new FileSizeLimitExceededException("Request size exceeds limit", limit);
+            }
+        }
+    }
+}
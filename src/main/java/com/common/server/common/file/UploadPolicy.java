@@ -0,0 +1,65 @@
+package com.common.server.common.file;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 업로드 제한 정책 (최대 크기 + 허용 MIME Type)
+ *
+ * 스트림을 한 번만 읽는 업로드에서 크기는 쓰는 도중, MIME Type은 시작 전, Magic Number는 앞부분을 읽은 직후 검증합니다.
+ *
+ * @param maxSize 최대 파일 크기 (바이트)
+ * @param allowedContentTypes 허용 MIME Type (비어 있으면 모두 허용)
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+public record UploadPolicy(long maxSize, List<String> allowedContentTypes) {
+
+    /**
+     * 이미지 업로드 정책 (기본 10MB)
+     */
+    public static UploadPolicy images() {
+        return new UploadPolicy(FileValidationUtil.DEFAULT_MAX_FILE_SIZE, FileValidationUtil.IMAGE_CONTENT_TYPES);
+    }
+
+    /**
+     * 문서 업로드 정책 (기본 50MB)
+     */
+    public static UploadPolicy documents() {
+        return new UploadPolicy(FileValidationUtil.DEFAULT_MAX_FILE_SIZE * 5, FileValidationUtil.DOCUMENT_CONTENT_TYPES);
+    }
+
+    /**
+     * 업로드 API 카테고리 이름으로 정책 조회
+     *
+     * @param category images 또는 documents
+     */
+    public static Optional<UploadPolicy> forCategory(String category) {
+        return switch (category) {
+            case "images" -> Optional.of(images());
+            case "documents" -> Optional.of(documents());
+            default -> Optional.empty();
+        };
+    }
+
+    /**
+     * 같은 MIME Type 제한에 최대 크기만 바꾼 정책
+     */
+    public UploadPolicy withMaxSize(long maxSize) {
+        return new UploadPolicy(maxSize, allowedContentTypes);
+    }
+
+    /**
+     * MIME Type 허용 여부 검증
+     *
+     * @throws IllegalArgumentException 허용되지 않은 MIME Type인 경우
+     */
+    public void validateContentType(String contentType) {
+        if (allowedContentTypes == null || allowedContentTypes.isEmpty()) {
+            return;
+        }
+        if (contentType == null || !allowedContentTypes.contains(contentType.toLowerCase())) {
+            throw new IllegalArgumentException("Content type not allowed: " + contentType);
+        }
+    }
+}
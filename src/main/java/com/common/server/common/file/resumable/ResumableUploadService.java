@@ -0,0 +1,348 @@
+package com.common.server.common.file.resumable;
+
+import com.common.server.common.file.ChecksumMismatchException;
+import com.common.server.common.file.FileSizeLimitExceededException;
+import com.common.server.common.file.FileStorageService;
+import com.common.server.common.file.StoredFile;
+import com.common.server.common.file.UploadPolicy;
+import com.common.server.config.ResumableUploadProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 재개 가능한 조각 업로드
+ *
+ * 1. create: 크기와 SHA-256을 선언하면 전체 크기의 희소 파일을 미리 만들고 세션 ID와 조각 크기를 반환
+ * 2. writeChunk: 조각 i를 오프셋 i * chunkSize에 위치 지정 쓰기 (순서 무관, 병렬 전송 가능, 같은 조각 재전송 허용)
+ * 3. status: 연결이 끊긴 뒤 받지 못한 조각 목록 조회
+ * 4. complete: 모든 조각이 모이면 SHA-256을 검증하고 FileStorageService로 내용 주소 기반 경로에 이동
+ *
+ * 조각 본문은 FileChannel.transferFrom으로 요청 스트림에서 파일로 바로 쓰므로 조각 크기만큼 힙을 쓰지 않습니다.
+ * 세션과 조각 파일은 노드 로컬({file.upload.path}/.uploads)이므로 같은 세션의 요청은 같은 노드로 라우팅해야 하며,
+ * 만료 세션 정리도 노드마다 실행합니다 (@ClusterScheduled를 쓰지 않음).
+ * 재시작 후에는 세션 정보가 사라지고, 남은 조각 파일은 정리 작업이 TTL 이후 삭제합니다.
+ *
+ * 세션 수(노드/사용자별)와 디스크 용량은 create에서 원자적으로 예약하고 세션이 제거될 때 반납하므로,
+ * 동시에 생성 요청이 몰려도 제한을 넘지 않습니다. 희소 파일은 조각이 써질 때 블록을 차지하므로
+ * 활성 세션의 전체 크기를 예약분으로 보고 사용 가능한 공간에서 뺍니다.
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ResumableUploadService {
+
+    static final String SESSION_DIRECTORY = ".uploads";
+    private static final String PART_SUFFIX = ".part";
+
+    private final FileStorageService fileStorageService;
+    private final ResumableUploadProperties properties;
+    private final Map<String, UploadSession> sessions = new ConcurrentHashMap<>();
+    private final Map<String, Integer> sessionsPerOwner = new ConcurrentHashMap<>();
+    private final AtomicInteger reservedSessions = new AtomicInteger();
+    private final AtomicLong reservedBytes = new AtomicLong();
+
+    @Value("${file.upload.path}")
+    private String uploadPath;
+
+    /**
+     * 업로드 세션 생성
+     *
+     * @param owner 세션 소유자 (다른 사용자는 세션에 접근할 수 없음)
+     * @param size 전체 크기 (바이트)
+     * @param sha256 전체 파일 SHA-256 (hex)
+     * @param categoryPolicy MIME 타입과 최대 크기 제한 (file.upload.resumable.max-size와 작은 쪽 적용)
+     * @throws FileSizeLimitExceededException 최대 크기 초과
+     * @throws IllegalArgumentException 허용되지 않은 MIME 타입
+     * @throws IllegalStateException 노드/사용자별 세션 수 제한 초과 또는 디스크 공간 부족
+     */
+    public UploadSessionStatus create(String owner, String filename, String contentType, long size, String sha256,
+                                      UploadPolicy categoryPolicy) throws IOException {
+        // 조각 업로드로 일반 업로드의 카테고리 크기 제한을 우회하지 못하도록 둘 중 작은 값 적용
+        UploadPolicy policy = categoryPolicy.withMaxSize(
+                Math.min(categoryPolicy.maxSize(), properties.getMaxSize().toBytes()));
+        policy.validateContentType(contentType);
+        if (size <= 0) {
+            throw new IllegalArgumentException("Upload size must be positive: " + size);
+        }
+        if (size > policy.maxSize()) {
+            throw new FileSizeLimitExceededException("File size exceeds limit", policy.maxSize());
+        }
+
+        Path directory = sessionDirectory();
+        Files.createDirectories(directory);
+        reserve(owner, size, Files.getFileStore(directory).getUsableSpace());
+
+        // 세션 ID는 조각 업로드 URL에 쓰이므로 추측할 수 없도록 SecureRandom 기반 UUID 사용
+        String id = UUID.randomUUID().toString();
+        Path file = directory.resolve(id + PART_SUFFIX);
+        UploadSession session;
+        try {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE,
+                    StandardOpenOption.SPARSE)) {
+                // 마지막 바이트만 써서 전체 길이를 확보 (희소 파일을 지원하는 파일 시스템에서는 블록을 할당하지 않음)
+                channel.write(ByteBuffer.allocate(1), size - 1);
+            }
+            session = new UploadSession(id, owner, filename, contentType, size,
+                    properties.getChunkSize().toBytes(), sha256.toLowerCase(), policy, file, Instant.now());
+        } catch (IOException | RuntimeException e) {
+            unreserve(owner, size);
+            deleteQuietly(file);
+            throw e;
+        }
+        sessions.put(id, session);
+        UploadSessionStatus status = session.status(properties.getSessionTtl());
+        log.info("Upload session created: {} ({} bytes, {} chunks)", id, size, status.totalChunks());
+        return status;
+    }
+
+    /**
+     * 조각 쓰기
+     *
+     * @param index 조각 번호 (0부터)
+     * @param contentLength 요청 Content-Length (모르면 -1)
+     * @param body 조각 본문 (정확히 조각 길이만큼이어야 함)
+     * @throws NoSuchElementException 세션이 없거나 소유자가 다른 경우
+     * @throws IllegalArgumentException 조각 번호나 길이가 잘못된 경우
+     * @throws IllegalStateException 세션이 완료 중이거나 닫힌 경우
+     */
+    public UploadSessionStatus writeChunk(String owner, String uploadId, int index, long contentLength,
+                                          InputStream body) throws IOException {
+        UploadSession session = find(owner, uploadId);
+        if (!session.isValidChunk(index)) {
+            throw new IllegalArgumentException("Chunk index out of range: " + index);
+        }
+        long expected = session.chunkLength(index);
+        if (contentLength >= 0 && contentLength != expected) {
+            throw new IllegalArgumentException("Chunk " + index + " must be " + expected + " bytes but was "
+                    + contentLength);
+        }
+
+        session.beginWrite(Instant.now());
+        boolean success = false;
+        try (FileChannel channel = FileChannel.open(session.getFile(), StandardOpenOption.WRITE)) {
+            long written = transfer(Channels.newChannel(body), channel, session.chunkOffset(index), expected);
+            if (written < expected) {
+                throw new IllegalArgumentException("Chunk " + index + " is incomplete: " + written + " of "
+                        + expected + " bytes");
+            }
+            if (body.read() >= 0) {
+                throw new IllegalArgumentException("Chunk " + index + " exceeds " + expected + " bytes");
+            }
+            success = true;
+        } finally {
+            session.endWrite(index, success, Instant.now());
+        }
+        return session.status(properties.getSessionTtl());
+    }
+
+    /**
+     * 요청 스트림에서 파일의 지정 위치로 전송 (채널 위치를 쓰지 않으므로 같은 파일에 병렬 쓰기 가능)
+     */
+    private static long transfer(ReadableByteChannel source, FileChannel target, long position, long count)
+            throws IOException {
+        long written = 0;
+        while (written < count) {
+            long transferred = target.transferFrom(source, position + written, count - written);
+            if (transferred <= 0) {
+                break;
+            }
+            written += transferred;
+        }
+        return written;
+    }
+
+    /**
+     * 세션 상태 조회
+     *
+     * @throws NoSuchElementException 세션이 없거나 소유자가 다른 경우
+     */
+    public UploadSessionStatus status(String owner, String uploadId) {
+        return find(owner, uploadId).status(properties.getSessionTtl());
+    }
+
+    /**
+     * 업로드 완료: SHA-256 검증 후 FileStorageService로 저장
+     *
+     * 체크섬이 다르면 어느 조각이 손상됐는지 알 수 없으므로 세션을 삭제합니다.
+     * 그 외 검증 실패(Magic Number 등)는 세션을 유지하여 조각을 다시 보낼 수 있게 합니다.
+     *
+     * @throws NoSuchElementException 세션이 없거나 소유자가 다른 경우
+     * @throws IllegalStateException 받지 못한 조각이 있거나 쓰기가 진행 중인 경우
+     * @throws ChecksumMismatchException SHA-256 불일치
+     */
+    public StoredFile complete(String owner, String uploadId) {
+        UploadSession session = find(owner, uploadId);
+        session.beginComplete();
+        try {
+            StoredFile storedFile = fileStorageService.storeContentAddressed(session.getFile(),
+                    session.getFilename(), session.getContentType(), session.getPolicy(), session.getSha256());
+            remove(session);
+            log.info("Upload session completed: {} -> {}", uploadId, storedFile.path());
+            return storedFile;
+        } catch (ChecksumMismatchException e) {
+            log.warn("Upload session {} failed checksum verification", uploadId);
+            remove(session);
+            throw e;
+        } catch (RuntimeException e) {
+            session.cancelComplete(Instant.now());
+            throw e;
+        }
+    }
+
+    /**
+     * 업로드 취소
+     *
+     * @throws NoSuchElementException 세션이 없거나 소유자가 다른 경우
+     */
+    public void abort(String owner, String uploadId) {
+        remove(find(owner, uploadId));
+        log.info("Upload session aborted: {}", uploadId);
+    }
+
+    /**
+     * TTL 동안 조각이 오지 않은 세션과 세션 정보가 없는 조각 파일(재시작 이전 세션) 삭제
+     */
+    @Scheduled(fixedDelayString = "${file.upload.resumable.cleanup-interval:600000}")
+    public void cleanupExpiredSessions() {
+        int removed = cleanupExpired(Instant.now());
+        if (removed > 0) {
+            log.info("Removed {} expired upload sessions", removed);
+        }
+    }
+
+    int cleanupExpired(Instant now) {
+        Instant cutoff = now.minus(properties.getSessionTtl());
+        int removed = 0;
+        for (UploadSession session : sessions.values()) {
+            if (session.closeIfIdle(cutoff)) {
+                remove(session);
+                removed++;
+            }
+        }
+
+        Path directory = sessionDirectory();
+        if (!Files.isDirectory(directory)) {
+            return removed;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + PART_SUFFIX)) {
+            for (Path file : files) {
+                String id = file.getFileName().toString().replace(PART_SUFFIX, "");
+                if (!sessions.containsKey(id)
+                        && Files.getLastModifiedTime(file).toInstant().isBefore(cutoff)) {
+                    deleteQuietly(file);
+                    removed++;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to scan upload session directory: {}", directory, e);
+        }
+        return removed;
+    }
+
+    /**
+     * 노드 세션 수, 사용자 세션 수, 디스크 용량을 차례로 예약 (실패하면 앞서 예약한 것을 반납)
+     *
+     * @param usableSpace 세션 디렉터리 파일 시스템의 사용 가능한 공간
+     * @throws IllegalStateException 제한 초과 또는 디스크 공간 부족
+     */
+    private void reserve(String owner, long size, long usableSpace) {
+        int maxSessions = properties.getMaxSessions();
+        int current;
+        do {
+            current = reservedSessions.get();
+            if (current >= maxSessions) {
+                throw new IllegalStateException("Too many active upload sessions");
+            }
+        } while (!reservedSessions.compareAndSet(current, current + 1));
+
+        try {
+            int maxPerOwner = properties.getMaxSessionsPerOwner();
+            sessionsPerOwner.compute(owner, (key, count) -> {
+                int owned = count == null ? 0 : count;
+                if (owned >= maxPerOwner) {
+                    throw new IllegalStateException("Too many active upload sessions for this user: max "
+                            + maxPerOwner);
+                }
+                return owned + 1;
+            });
+        } catch (IllegalStateException e) {
+            reservedSessions.decrementAndGet();
+            throw e;
+        }
+
+        long reserved;
+        do {
+            reserved = reservedBytes.get();
+            if (usableSpace - reserved < size) {
+                releaseOwner(owner);
+                reservedSessions.decrementAndGet();
+                throw new IllegalStateException("Insufficient storage for upload of " + size + " bytes");
+            }
+        } while (!reservedBytes.compareAndSet(reserved, reserved + size));
+    }
+
+    private void unreserve(String owner, long size) {
+        reservedBytes.addAndGet(-size);
+        releaseOwner(owner);
+        reservedSessions.decrementAndGet();
+    }
+
+    private void releaseOwner(String owner) {
+        sessionsPerOwner.computeIfPresent(owner, (key, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private UploadSession find(String owner, String uploadId) {
+        UploadSession session = sessions.get(uploadId);
+        // 다른 사용자의 세션은 존재 여부도 노출하지 않음
+        if (session == null || !session.isOwnedBy(owner)) {
+            throw new NoSuchElementException("Upload session not found: " + uploadId);
+        }
+        return session;
+    }
+
+    private void remove(UploadSession session) {
+        session.close();
+        // 동시에 취소/만료되어도 예약은 한 번만 반납
+        if (sessions.remove(session.getId(), session)) {
+            unreserve(session.getOwner(), session.getSize());
+        }
+        deleteQuietly(session.getFile());
+    }
+
+    private Path sessionDirectory() {
+        return Paths.get(uploadPath).toAbsolutePath().normalize().resolve(SESSION_DIRECTORY);
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete upload session file: {}", path, e);
+        }
+    }
+}
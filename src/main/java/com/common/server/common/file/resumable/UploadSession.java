@@ -0,0 +1,178 @@
+package com.common.server.common.file.resumable;
+
+import com.common.server.common.file.UploadPolicy;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 업로드 세션 하나의 상태
+ *
+ * 조각 쓰기는 여러 요청에서 동시에 진행되므로 상태 전이(쓰기 시작/종료, 완료, 만료)는 모두 동기화합니다.
+ * 실제 파일 쓰기는 락 밖에서 위치 지정 쓰기로 수행합니다.
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+final class UploadSession {
+
+    enum State {
+        ACTIVE, COMPLETING, CLOSED
+    }
+
+    private final String id;
+    private final String owner;
+    private final String filename;
+    private final String contentType;
+    private final long size;
+    private final long chunkSize;
+    private final int totalChunks;
+    private final String sha256;
+    private final UploadPolicy policy;
+    private final Path file;
+
+    private final BitSet received;
+    private int inFlight;
+    private State state = State.ACTIVE;
+    private Instant lastActivity;
+
+    UploadSession(String id, String owner, String filename, String contentType, long size, long chunkSize,
+                  String sha256, UploadPolicy policy, Path file, Instant now) {
+        this.id = id;
+        this.owner = owner;
+        this.filename = filename;
+        this.contentType = contentType;
+        this.size = size;
+        this.chunkSize = chunkSize;
+        this.totalChunks = Math.toIntExact((size + chunkSize - 1) / chunkSize);
+        this.sha256 = sha256;
+        this.policy = policy;
+        this.file = file;
+        this.received = new BitSet(totalChunks);
+        this.lastActivity = now;
+    }
+
+    long chunkOffset(int index) {
+        return index * chunkSize;
+    }
+
+    long chunkLength(int index) {
+        return Math.min(chunkSize, size - chunkOffset(index));
+    }
+
+    boolean isValidChunk(int index) {
+        return index >= 0 && index < totalChunks;
+    }
+
+    boolean isOwnedBy(String user) {
+        return owner.equals(user);
+    }
+
+    /**
+     * 조각 쓰기 시작 (진행 중인 쓰기가 있으면 완료/만료 불가)
+     */
+    synchronized void beginWrite(Instant now) {
+        if (state != State.ACTIVE) {
+            throw new IllegalStateException("Upload session is " + state.name().toLowerCase() + ": " + id);
+        }
+        inFlight++;
+        lastActivity = now;
+    }
+
+    synchronized void endWrite(int index, boolean success, Instant now) {
+        inFlight--;
+        if (success) {
+            received.set(index);
+        }
+        lastActivity = now;
+    }
+
+    /**
+     * 완료 시작: 모든 조각을 받았고 진행 중인 쓰기가 없어야 함
+     */
+    synchronized void beginComplete() {
+        if (state != State.ACTIVE) {
+            throw new IllegalStateException("Upload session is " + state.name().toLowerCase() + ": " + id);
+        }
+        if (inFlight > 0) {
+            throw new IllegalStateException("Chunks still in flight: " + inFlight);
+        }
+        int missing = totalChunks - received.cardinality();
+        if (missing > 0) {
+            throw new IllegalStateException("Missing " + missing + " of " + totalChunks + " chunks");
+        }
+        state = State.COMPLETING;
+    }
+
+    /**
+     * 완료 실패 후 다시 조각을 받을 수 있게 되돌림 (예: 첫 조각을 다시 보내 Magic Number 오류 수정)
+     */
+    synchronized void cancelComplete(Instant now) {
+        if (state == State.COMPLETING) {
+            state = State.ACTIVE;
+            lastActivity = now;
+        }
+    }
+
+    synchronized void close() {
+        state = State.CLOSED;
+    }
+
+    /**
+     * cutoff 이후 활동이 없고 진행 중인 작업이 없으면 닫음
+     *
+     * @return 이번 호출로 닫혔으면 true
+     */
+    synchronized boolean closeIfIdle(Instant cutoff) {
+        if (state != State.ACTIVE || inFlight > 0 || !lastActivity.isBefore(cutoff)) {
+            return false;
+        }
+        state = State.CLOSED;
+        return true;
+    }
+
+    synchronized UploadSessionStatus status(Duration ttl) {
+        List<Integer> missing = new ArrayList<>(totalChunks - received.cardinality());
+        for (int i = received.nextClearBit(0); i < totalChunks; i = received.nextClearBit(i + 1)) {
+            missing.add(i);
+        }
+        return new UploadSessionStatus(id, filename, size, chunkSize, totalChunks, received.cardinality(),
+                missing, lastActivity.plus(ttl));
+    }
+
+    String getId() {
+        return id;
+    }
+
+    String getOwner() {
+        return owner;
+    }
+
+    long getSize() {
+        return size;
+    }
+
+    String getFilename() {
+        return filename;
+    }
+
+    String getContentType() {
+        return contentType;
+    }
+
+    String getSha256() {
+        return sha256;
+    }
+
+    UploadPolicy getPolicy() {
+        return policy;
+    }
+
+    Path getFile() {
+        return file;
+    }
+}
@@ -0,0 +1,22 @@
+package com.common.server.common.file.resumable;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 업로드 세션 상태 (클라이언트가 재개 시 missingChunks만 다시 보냄)
+ *
+ * @param uploadId 세션 ID
+ * @param filename 원본 파일명
+ * @param size 전체 크기 (바이트)
+ * @param chunkSize 조각 크기 (조각 i의 오프셋 = i * chunkSize)
+ * @param totalChunks 전체 조각 수
+ * @param receivedChunks 받은 조각 수
+ * @param missingChunks 아직 받지 않은 조각 번호
+ * @param expiresAt 이 시각까지 조각이 오지 않으면 세션 삭제
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+public record UploadSessionStatus(String uploadId, String filename, long size, long chunkSize, int totalChunks,
+                                  int receivedChunks, List<Integer> missingChunks, Instant expiresAt) {
+}
@@ -0,0 +1,173 @@
+package com.common.server.common.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간 순 ID 생성기
+ *
+ * UUID.randomUUID()는 모든 스레드가 하나의 SecureRandom을 공유하고, 무작위 UUIDv4 키는
+ * B-Tree 인덱스 전체에 흩어져 삽입됩니다. IdGenerator는 다음 ID를 제공합니다.
+ * - UUIDv7 (RFC 9562): 앞 48비트가 밀리초 타임스탬프라 생성 순서대로 정렬되며 인덱스 끝에 추가됨
+ * - ULID 형식 문자열: UUIDv7과 같은 128비트를 Crockford Base32 26자로 표현
+ * - Snowflake (64비트 long): 타임스탬프 41비트 + 노드 10비트 + 시퀀스 12비트
+ * - 짧은 무작위 16진수 (TraceId, SpanId, RequestId)
+ *
+ * 무작위 비트는 ThreadLocalRandom, UUIDv7 단조 증가 카운터는 스레드별 상태를 사용하므로
+ * 스레드 간 경합이 없습니다. Snowflake만 노드 내 유일성을 위해 CAS 하나를 사용합니다.
+ *
+ * ThreadLocalRandom은 예측 가능하므로 여기서 만든 ID는 내부 식별자(이벤트, 락 소유자, TraceId 등)에만 씁니다.
+ * 추측되면 안 되는 외부 노출 ID(파일 이름, 토큰 ID, 업로드 세션 ID)는 SecureRandom 기반의 UUID.randomUUID()를 사용하세요.
+ *
+ * Snowflake는 setNodeId로 클러스터 내 고유한 노드 번호를 설정하기 전에는 생성하지 않습니다.
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+public final class IdGenerator {
+
+    private static final char[] CROCKFORD = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    // UUIDv7 rand_a(12비트)를 같은 밀리초 안의 카운터로 사용 (RFC 9562 Method 1, 스레드별)
+    private static final int SEQUENCE_BITS = 12;
+    private static final int SEQUENCE_MASK = (1 << SEQUENCE_BITS) - 1;
+    private static final ThreadLocal<long[]> UUID_STATE = ThreadLocal.withInitial(() -> new long[2]);
+
+    // Snowflake: 2025-01-01T00:00:00Z 기준 41비트 밀리초 (약 69년)
+    private static final long SNOWFLAKE_EPOCH = 1735689600000L;
+    private static final int NODE_BITS = 10;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final AtomicLong SNOWFLAKE_STATE = new AtomicLong();
+    private static final long UNASSIGNED = -1;
+    private static volatile long nodeId = UNASSIGNED;
+
+    private IdGenerator() {
+    }
+
+    /**
+     * Snowflake 노드 ID 설정 (0 ~ 1023, 클러스터 내에서 고유해야 함)
+     */
+    public static void setNodeId(long id) {
+        if (id < 0 || id > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Snowflake node id must be between 0 and " + MAX_NODE_ID + ": " + id);
+        }
+        nodeId = id;
+    }
+
+    public static long getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 시간 순 UUIDv7 생성
+     */
+    public static UUID uuid() {
+        long[] state = UUID_STATE.get();
+        long now = System.currentTimeMillis();
+        long millis;
+        long sequence;
+        if (now > state[0]) {
+            millis = now;
+            // 같은 밀리초 안에서 충분히 증가할 수 있도록 하위 절반에서 시작
+            sequence = ThreadLocalRandom.current().nextInt(1 << (SEQUENCE_BITS - 1));
+        } else {
+            millis = state[0];
+            sequence = state[1] + 1;
+            if (sequence > SEQUENCE_MASK) {
+                // 카운터를 다 쓰면 타임스탬프를 1ms 앞당겨 단조성 유지
+                millis++;
+                sequence = 0;
+            }
+        }
+        state[0] = millis;
+        state[1] = sequence;
+
+        long msb = (millis << 16) | 0x7000L | sequence;
+        long lsb = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * 시간 순 UUIDv7 문자열 (36자)
+     */
+    public static String uuidString() {
+        return uuid().toString();
+    }
+
+    /**
+     * 시간 순 ULID 형식 문자열 (26자, 사전순 = 생성순)
+     */
+    public static String ulid() {
+        UUID uuid = uuid();
+        long msb = uuid.getMostSignificantBits();
+        long lsb = uuid.getLeastSignificantBits();
+
+        char[] chars = new char[26];
+        // 128비트를 상위부터 5비트씩 (첫 글자는 상위 3비트)
+        chars[0] = CROCKFORD[(int) (msb >>> 61)];
+        for (int i = 1; i < 26; i++) {
+            int shift = 128 - 3 - 5 * i;
+            int value;
+            if (shift >= 64) {
+                value = (int) (msb >>> (shift - 64)) & 0x1F;
+            } else if (shift > 59) {
+                value = (int) ((msb << (64 - shift)) | (lsb >>> shift)) & 0x1F;
+            } else {
+                value = (int) (lsb >>> shift) & 0x1F;
+            }
+            chars[i] = CROCKFORD[value];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 64비트 Snowflake ID (노드 내 단조 증가)
+     *
+     * @throws IllegalStateException 노드 번호를 설정하지 않은 경우
+     */
+    public static long snowflake() {
+        long node = nodeId;
+        if (node == UNASSIGNED) {
+            throw new IllegalStateException("Snowflake node id is not configured (id.snowflake.node-id)");
+        }
+        while (true) {
+            long previous = SNOWFLAKE_STATE.get();
+            long now = System.currentTimeMillis() - SNOWFLAKE_EPOCH;
+            long previousMillis = previous >>> SEQUENCE_BITS;
+            long next;
+            if (now > previousMillis) {
+                next = now << SEQUENCE_BITS;
+            } else if ((previous & SEQUENCE_MASK) < SEQUENCE_MASK) {
+                next = previous + 1;
+            } else {
+                // 시퀀스를 다 쓰면 다음 밀리초를 미리 사용
+                next = (previousMillis + 1) << SEQUENCE_BITS;
+            }
+            if (SNOWFLAKE_STATE.compareAndSet(previous, next)) {
+                long millis = next >>> SEQUENCE_BITS;
+                long sequence = next & SEQUENCE_MASK;
+                return (millis << (NODE_BITS + SEQUENCE_BITS)) | (node << SEQUENCE_BITS) | sequence;
+            }
+        }
+    }
+
+    /**
+     * 무작위 16진수 문자열 (TraceId, SpanId 등 짧은 식별자, 최대 16자)
+     *
+     * @param length 길이 (1 ~ 16)
+     */
+    public static String randomHex(int length) {
+        if (length < 1 || length > 16) {
+            throw new IllegalArgumentException("length must be between 1 and 16: " + length);
+        }
+        long bits = ThreadLocalRandom.current().nextLong();
+        char[] chars = new char[length];
+        for (int i = length - 1; i >= 0; i--) {
+            chars[i] = HEX[(int) (bits & 0xF)];
+            bits >>>= 4;
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,49 @@
+package com.common.server.common.latency;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 지연 시간 Actuator 엔드포인트
+ *
+ * - GET /actuator/latency : 엔드포인트별 최근 구간/누적 지연 시간 분포 (p50, p90, p99, p99.9, max)
+ * - GET /actuator/latency/slow : 느린 요청 샘플 (스택 + traceId, userId 등)
+ *
+ * 노출: 기본 비노출, management.endpoints.web.exposure.include에 latency 추가
+ * (스택과 사용자 ID가 포함되므로 SecurityConfig에서 인증을 요구하며, 운영 환경에서는 관리 포트 분리도 권장)
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Component
+@Endpoint(id = "latency")
+@RequiredArgsConstructor
+public class LatencyEndpoint {
+
+    private static final String SLOW = "slow";
+
+    private final LatencyProfiler latencyProfiler;
+
+    @ReadOperation
+    public Map<String, Object> latency() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", latencyProfiler.isEnabled());
+        result.put("inFlight", latencyProfiler.inFlightCount());
+        result.put("endpoints", latencyProfiler.summaries());
+        return result;
+    }
+
+    @ReadOperation
+    public Object section(@Selector String section) {
+        if (SLOW.equals(section)) {
+            return latencyProfiler.slowRequests();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,316 @@
+package com.common.server.common.latency;
+
+import com.common.server.common.context.RequestContext;
+import com.common.server.config.LatencyProfilerProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 엔드포인트별 지연 시간 프로파일러
+ *
+ * - System.nanoTime()으로 측정한 처리 시간을 엔드포인트별 HdrHistogram Recorder에 기록 (µs 단위, 기록은 대기 없음)
+ * - 전용 스레드가 주기적으로 구간 히스토그램을 교체하여 최근 구간/누적 분포를 만듦 (조회는 기록에 영향 없음)
+ * - 처리 중 요청이 slowThreshold를 넘으면 해당 스레드의 스택과 RequestContext를 캡처하여 링 버퍼에 보관
+ *   (완료 후가 아니라 느린 동안 캡처하므로 어디서 시간을 쓰고 있는지 확인 가능)
+ *
+ * LatencyEndpoint(/actuator/latency)로 조회합니다.
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Component
+@Slf4j
+public class LatencyProfiler {
+
+    static final String OTHER_ENDPOINT = "OTHER";
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    private final LatencyProfilerProperties properties;
+    private final long highestTrackableMicros;
+    private final long slowThresholdNanos;
+
+    private final Map<String, EndpointLatency> endpoints = new ConcurrentHashMap<>();
+    private final Set<InFlight> inFlight = ConcurrentHashMap.newKeySet();
+    private final AtomicReferenceArray<SlowRequestSample> slowSamples;
+    private final AtomicLong slowSampleSequence = new AtomicLong();
+
+    private ScheduledExecutorService scheduler;
+
+    public LatencyProfiler(LatencyProfilerProperties properties) {
+        this.properties = properties;
+        this.highestTrackableMicros = Math.max(2, properties.getHighestTrackableLatency().toNanos() / 1000);
+        this.slowThresholdNanos = properties.getSlowThreshold().toNanos();
+        this.slowSamples = new AtomicReferenceArray<>(Math.max(1, properties.getSlowSampleCapacity()));
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "latency-profiler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long sampleInterval = properties.getSampleInterval().toMillis();
+        long window = properties.getWindow().toMillis();
+        scheduler.scheduleWithFixedDelay(this::sampleSlowRequests, sampleInterval, sampleInterval, TimeUnit.MILLISECONDS);
+        scheduler.scheduleAtFixedRate(this::rotate, window, window, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 요청 처리 시작
+     */
+    public InFlight begin(String endpoint) {
+        InFlight request = new InFlight(Thread.currentThread(), System.nanoTime(), endpoint, RequestContext.current());
+        inFlight.add(request);
+        return request;
+    }
+
+    /**
+     * 요청 처리 종료 (지연 시간 기록)
+     */
+    public void end(InFlight request) {
+        long durationNanos = System.nanoTime() - request.startNanos;
+        inFlight.remove(request);
+        record(request.endpoint, durationNanos);
+
+        SlowRequestSample sample = request.sample;
+        if (sample != null) {
+            sample.totalMillis = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+        }
+    }
+
+    /**
+     * 지연 시간 기록
+     */
+    public void record(String endpoint, long durationNanos) {
+        long micros = Math.min(Math.max(durationNanos / 1000, 0), highestTrackableMicros);
+        latencyOf(endpoint).recorder.recordValue(micros);
+    }
+
+    private EndpointLatency latencyOf(String endpoint) {
+        EndpointLatency latency = endpoints.get(endpoint);
+        if (latency != null) {
+            return latency;
+        }
+        if (endpoints.size() >= properties.getMaxEndpoints() && !OTHER_ENDPOINT.equals(endpoint)) {
+            return latencyOf(OTHER_ENDPOINT);
+        }
+        return endpoints.computeIfAbsent(endpoint, key -> new EndpointLatency(highestTrackableMicros));
+    }
+
+    // ========== 백그라운드 작업 ==========
+
+    /**
+     * 임계값을 넘긴 처리 중 요청의 스택 캡처 (요청당 한 번)
+     */
+    void sampleSlowRequests() {
+        long now = System.nanoTime();
+        for (InFlight request : inFlight) {
+            long elapsed = now - request.startNanos;
+            if (request.sample != null || elapsed < slowThresholdNanos) {
+                continue;
+            }
+            StackTraceElement[] stack = request.thread.getStackTrace();
+            if (!inFlight.contains(request)) {
+                // 캡처하는 사이 완료된 요청의 스택은 다른 요청의 것일 수 있음
+                continue;
+            }
+            SlowRequestSample sample = new SlowRequestSample(request, TimeUnit.NANOSECONDS.toMillis(elapsed),
+                    stack, properties.getMaxStackDepth());
+            request.sample = sample;
+            long sequence = slowSampleSequence.getAndIncrement();
+            slowSamples.set((int) (sequence % slowSamples.length()), sample);
+            log.debug("Slow request captured: {} ({}ms, traceId={})",
+                    request.endpoint, sample.elapsedMillis, sample.traceId);
+        }
+    }
+
+    /**
+     * 구간 히스토그램 교체 (최근 구간 갱신 + 누적)
+     */
+    void rotate() {
+        for (EndpointLatency latency : endpoints.values()) {
+            latency.rotate();
+        }
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * 엔드포인트별 지연 시간 요약 (최근 구간, 누적)
+     */
+    public Map<String, EndpointSummary> summaries() {
+        List<Map.Entry<String, EndpointLatency>> entries = new ArrayList<>(endpoints.entrySet());
+        entries.sort(Map.Entry.comparingByKey());
+        Map<String, EndpointSummary> result = new LinkedHashMap<>(entries.size() * 2);
+        for (Map.Entry<String, EndpointLatency> entry : entries) {
+            result.put(entry.getKey(), entry.getValue().summary());
+        }
+        return result;
+    }
+
+    /**
+     * 캡처한 느린 요청 샘플 (최근 것부터)
+     */
+    public List<SlowRequestSample> slowRequests() {
+        List<SlowRequestSample> samples = new ArrayList<>(slowSamples.length());
+        for (int i = 0; i < slowSamples.length(); i++) {
+            SlowRequestSample sample = slowSamples.get(i);
+            if (sample != null) {
+                samples.add(sample);
+            }
+        }
+        samples.sort(Comparator.comparing(SlowRequestSample::getCapturedAt).reversed());
+        return Collections.unmodifiableList(samples);
+    }
+
+    /**
+     * 현재 처리 중인 요청 수
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    // ========== 내부 타입 ==========
+
+    /**
+     * 엔드포인트 하나의 Recorder와 구간/누적 히스토그램
+     */
+    private static final class EndpointLatency {
+
+        private final Recorder recorder;
+        private final Histogram total;
+        private Histogram interval;
+        private volatile Histogram lastWindow;
+
+        private EndpointLatency(long highestTrackableMicros) {
+            this.recorder = new Recorder(highestTrackableMicros, SIGNIFICANT_DIGITS);
+            this.total = new Histogram(highestTrackableMicros, SIGNIFICANT_DIGITS);
+            this.lastWindow = new Histogram(highestTrackableMicros, SIGNIFICANT_DIGITS);
+        }
+
+        private synchronized void rotate() {
+            interval = recorder.getIntervalHistogram(interval);
+            total.add(interval);
+            lastWindow = interval.copy();
+        }
+
+        private synchronized EndpointSummary summary() {
+            return new EndpointSummary(LatencySummary.of(lastWindow), LatencySummary.of(total));
+        }
+    }
+
+    /**
+     * 처리 중 요청
+     */
+    public static final class InFlight {
+
+        private final Thread thread;
+        private final long startNanos;
+        private final String endpoint;
+        private final RequestContext context;
+        private volatile SlowRequestSample sample;
+
+        private InFlight(Thread thread, long startNanos, String endpoint, RequestContext context) {
+            this.thread = thread;
+            this.startNanos = startNanos;
+            this.endpoint = endpoint;
+            this.context = context;
+        }
+    }
+
+    /**
+     * 엔드포인트 요약 (최근 구간 + 누적)
+     */
+    public record EndpointSummary(LatencySummary window, LatencySummary total) {
+    }
+
+    /**
+     * 지연 시간 분포 요약 (ms)
+     */
+    public record LatencySummary(long count, double mean, double p50, double p90, double p99, double p999,
+                                 double max) {
+
+        static LatencySummary of(Histogram histogram) {
+            return new LatencySummary(
+                    histogram.getTotalCount(),
+                    toMillis(histogram.getMean()),
+                    toMillis(histogram.getValueAtPercentile(50.0)),
+                    toMillis(histogram.getValueAtPercentile(90.0)),
+                    toMillis(histogram.getValueAtPercentile(99.0)),
+                    toMillis(histogram.getValueAtPercentile(99.9)),
+                    toMillis(histogram.getMaxValue()));
+        }
+
+        private static double toMillis(double micros) {
+            return Math.round(micros) / 1000.0;
+        }
+    }
+
+    /**
+     * 느린 요청 샘플 (캡처 시점의 스택 + 요청 컨텍스트)
+     */
+    @Getter
+    public static final class SlowRequestSample {
+
+        private final String endpoint;
+        private final String traceId;
+        private final String userId;
+        private final String clientAddress;
+        private final String thread;
+        private final Instant capturedAt;
+        private final long elapsedMillis;
+        private final List<String> stack;
+        private volatile long totalMillis = -1;
+
+        private SlowRequestSample(InFlight request, long elapsedMillis, StackTraceElement[] frames, int maxDepth) {
+            RequestContext context = request.context;
+            this.endpoint = request.endpoint;
+            this.traceId = context != null ? context.traceId() : null;
+            this.userId = context != null ? context.userId() : null;
+            this.clientAddress = context != null ? context.clientAddress() : null;
+            this.thread = request.thread.getName();
+            this.capturedAt = Instant.now();
+            this.elapsedMillis = elapsedMillis;
+            List<String> lines = new ArrayList<>(Math.min(frames.length, maxDepth));
+            for (int i = 0; i < frames.length && i < maxDepth; i++) {
+                lines.add(frames[i].toString());
+            }
+            this.stack = Collections.unmodifiableList(lines);
+        }
+    }
+}
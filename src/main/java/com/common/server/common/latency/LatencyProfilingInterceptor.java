@@ -0,0 +1,49 @@
+package com.common.server.common.latency;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 엔드포인트 지연 시간 측정 인터셉터
+ *
+ * 요청을 "HTTP 메서드 + 매핑 패턴"(예: GET /api/v1/users/{id}) 단위로 묶어 LatencyProfiler에 기록합니다.
+ * 패턴 단위로 묶으므로 경로 변수 값이 달라도 엔드포인트 수가 늘어나지 않습니다.
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Component
+@RequiredArgsConstructor
+public class LatencyProfilingInterceptor implements HandlerInterceptor {
+
+    private static final String IN_FLIGHT = LatencyProfilingInterceptor.class.getName() + ".inFlight";
+    private static final String UNMATCHED = "UNMATCHED";
+
+    private final LatencyProfiler latencyProfiler;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (latencyProfiler.isEnabled()) {
+            request.setAttribute(IN_FLIGHT, latencyProfiler.begin(endpointOf(request)));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        if (request.getAttribute(IN_FLIGHT) instanceof LatencyProfiler.InFlight inFlight) {
+            request.removeAttribute(IN_FLIGHT);
+            latencyProfiler.end(inFlight);
+        }
+    }
+
+    private static String endpointOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern.toString() : UNMATCHED);
+    }
+}
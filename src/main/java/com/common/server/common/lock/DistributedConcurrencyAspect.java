@@ -0,0 +1,87 @@
+package com.common.server.common.lock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+/**
+ * 분산 세마포어 / 읽기·쓰기 락 AOP Aspect
+ *
+ * @DistributedSemaphore, @DistributedReadWriteLock 어노테이션이 붙은 메서드에
+ * 클러스터 단위 동시성 제어를 적용합니다.
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DistributedConcurrencyAspect {
+
+    private final DistributedSemaphoreService semaphoreService;
+    private final DistributedReadWriteLockService readWriteLockService;
+    private final LockKeyResolver lockKeyResolver;
+
+    @Around("@annotation(semaphore)")
+    public Object aroundSemaphore(ProceedingJoinPoint joinPoint, DistributedSemaphore semaphore) throws Throwable {
+        String key = resolveKey(joinPoint, semaphore.key());
+
+        try {
+            return semaphoreService.executeWithPermit(
+                    key,
+                    semaphore.permits(),
+                    semaphore.waitTime(),
+                    semaphore.leaseTime(),
+                    semaphore.timeUnit(),
+                    () -> proceed(joinPoint)
+            );
+        } catch (LockAcquisitionException e) {
+            if (semaphore.throwOnFailure()) {
+                throw e;
+            }
+            log.warn("Semaphore permit acquisition failed for key: {}, returning null", key);
+            return null;
+        }
+    }
+
+    @Around("@annotation(readWriteLock)")
+    public Object aroundReadWriteLock(ProceedingJoinPoint joinPoint, DistributedReadWriteLock readWriteLock)
+            throws Throwable {
+        String key = resolveKey(joinPoint, readWriteLock.key());
+
+        try {
+            return readWriteLockService.execute(
+                    key,
+                    readWriteLock.mode(),
+                    readWriteLock.waitTime(),
+                    readWriteLock.leaseTime(),
+                    readWriteLock.timeUnit(),
+                    () -> proceed(joinPoint)
+            );
+        } catch (LockAcquisitionException e) {
+            if (readWriteLock.throwOnFailure()) {
+                throw e;
+            }
+            log.warn("{} lock acquisition failed for key: {}, returning null", readWriteLock.mode(), key);
+            return null;
+        }
+    }
+
+    private String resolveKey(ProceedingJoinPoint joinPoint, String keyExpression) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        return lockKeyResolver.resolve(keyExpression, signature.getMethod(), joinPoint.getArgs());
+    }
+
+    private Object proceed(ProceedingJoinPoint joinPoint) {
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
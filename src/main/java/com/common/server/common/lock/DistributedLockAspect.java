@@ -6,11 +6,6 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
-import org.springframework.core.DefaultParameterNameDiscoverer;
-import org.springframework.expression.EvaluationContext;
-import org.springframework.expression.ExpressionParser;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.stereotype.Component;
 
 import java.lang.reflect.Method;
@@ -30,8 +25,7 @@ import java.lang.reflect.Method;
 public class DistributedLockAspect {
 
     private final DistributedLockService lockService;
-    private final ExpressionParser parser = new SpelExpressionParser();
-    private final DefaultParameterNameDiscoverer nameDiscoverer = new DefaultParameterNameDiscoverer();
+    private final LockKeyResolver lockKeyResolver;
 
     @Around("@annotation(distributedLock)")
     public Object around(ProceedingJoinPoint joinPoint, DistributedLock distributedLock) throws Throwable {
@@ -39,7 +33,7 @@ public class DistributedLockAspect {
         Method method = signature.getMethod();
 
         // SpEL 표현식으로 락 키 생성
-        String lockKey = generateLockKey(distributedLock.key(), method, joinPoint.getArgs());
+        String lockKey = lockKeyResolver.resolve(distributedLock.key(), method, joinPoint.getArgs());
 
         log.debug("Attempting to acquire lock: {}", lockKey);
 
@@ -65,29 +59,4 @@ public class DistributedLockAspect {
             return null;
         }
     }
-
-    private String generateLockKey(String keyExpression, Method method, Object[] args) {
-        // 단순 문자열인 경우 그대로 반환
-        if (!keyExpression.contains("#")) {
-            return keyExpression.replace("'", "");
-        }
-
-        // SpEL 표현식 파싱
-        EvaluationContext context = new StandardEvaluationContext();
-        String[] paramNames = nameDiscoverer.getParameterNames(method);
-
-        if (paramNames != null) {
-            for (int i = 0; i < paramNames.length; i++) {
-                context.setVariable(paramNames[i], args[i]);
-            }
-        }
-
-        try {
-            Object result = parser.parseExpression(keyExpression).getValue(context);
-            return result != null ? result.toString() : keyExpression;
-        } catch (Exception e) {
-            log.warn("Failed to parse lock key expression: {}, using raw expression", keyExpression);
-            return keyExpression;
-        }
-    }
 }
@@ -1,12 +1,16 @@
 package com.common.server.common.lock;
 
+import com.common.server.common.id.IdGenerator;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
-import java.util.UUID;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 /**
@@ -14,6 +18,11 @@ import java.util.function.Supplier;
  *
  * Redis를 사용하여 분산 환경에서 락을 구현합니다.
  *
+ * 같은 노드의 스레드끼리는 키별 로컬 락에서 먼저 경쟁하고,
+ * 로컬 락을 획득한 스레드만 Redis 락을 폴링합니다.
+ * 따라서 Redis 요청 수는 스레드 수가 아닌 노드 수에 비례합니다.
+ * 같은 스레드에서 동일 키로 중첩 호출하면 재진입으로 처리됩니다.
+ *
  * @author Common Server Framework
  * @since 2025-01-13
  */
@@ -23,7 +32,14 @@ import java.util.function.Supplier;
 public class DistributedLockService {
 
     private static final String LOCK_PREFIX = "lock:";
+    private static final long RETRY_INTERVAL_MILLIS = 50;
+
+    // 현재 스레드가 보유 중인 Redis 락 (재진입 처리용)
+    private static final ThreadLocal<Map<String, HeldLock>> HELD_LOCKS =
+            ThreadLocal.withInitial(HashMap::new);
+
     private final RedisTemplate<String, Object> redisTemplate;
+    private final LocalKeyLocks localLocks = new LocalKeyLocks();
 
     /**
      * 락을 획득하고 작업 실행
@@ -38,21 +54,49 @@ public class DistributedLockService {
     public <T> T executeWithLock(String key, long waitTime, long leaseTime,
                                   TimeUnit timeUnit, Supplier<T> supplier) {
         String lockKey = LOCK_PREFIX + key;
-        String lockValue = UUID.randomUUID().toString();
+
+        // 재진입: 현재 스레드가 이미 보유한 락이면 바로 실행
+        Map<String, HeldLock> heldLocks = HELD_LOCKS.get();
+        HeldLock held = heldLocks.get(lockKey);
+        if (held != null) {
+            held.holdCount++;
+            try {
+                log.debug("Lock re-entered: {} (count: {})", key, held.holdCount);
+                return supplier.get();
+            } finally {
+                held.holdCount--;
+            }
+        }
+
+        long deadline = System.nanoTime() + timeUnit.toNanos(waitTime);
+        ReentrantLock localLock = localLocks.acquire(lockKey);
+        if (!tryLockLocal(localLock, timeUnit.toNanos(waitTime))) {
+            localLocks.release(lockKey);
+            throw new LockAcquisitionException("Failed to acquire lock for key: " + key);
+        }
+
+        String lockValue = IdGenerator.ulid();
         boolean locked = false;
 
         try {
-            locked = tryLock(lockKey, lockValue, waitTime, leaseTime, timeUnit);
+            locked = tryLockRemote(lockKey, lockValue, deadline - System.nanoTime(), leaseTime, timeUnit);
             if (!locked) {
                 throw new LockAcquisitionException("Failed to acquire lock for key: " + key);
             }
             log.debug("Lock acquired: {}", key);
+            heldLocks.put(lockKey, new HeldLock());
             return supplier.get();
         } finally {
             if (locked) {
+                heldLocks.remove(lockKey);
+                if (heldLocks.isEmpty()) {
+                    HELD_LOCKS.remove();
+                }
                 unlock(lockKey, lockValue);
                 log.debug("Lock released: {}", key);
             }
+            localLock.unlock();
+            localLocks.release(lockKey);
         }
     }
 
@@ -72,10 +116,29 @@ public class DistributedLockService {
      */
     public boolean tryLock(String lockKey, String lockValue, long waitTime,
                            long leaseTime, TimeUnit timeUnit) {
-        long waitTimeMillis = timeUnit.toMillis(waitTime);
-        long startTime = System.currentTimeMillis();
+        return tryLockRemote(lockKey, lockValue, timeUnit.toNanos(waitTime), leaseTime, timeUnit);
+    }
 
-        while (System.currentTimeMillis() - startTime < waitTimeMillis) {
+    /**
+     * 키별 로컬 락 획득 (노드 내 대기열)
+     */
+    private boolean tryLockLocal(ReentrantLock localLock, long waitNanos) {
+        try {
+            return localLock.tryLock(waitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Redis 락 획득 시도 (남은 대기 시간 동안 폴링)
+     */
+    private boolean tryLockRemote(String lockKey, String lockValue, long waitNanos,
+                                  long leaseTime, TimeUnit timeUnit) {
+        long deadline = System.nanoTime() + waitNanos;
+
+        while (true) {
             Boolean success = redisTemplate.opsForValue()
                     .setIfAbsent(lockKey, lockValue, leaseTime, timeUnit);
 
@@ -83,15 +146,18 @@ public class DistributedLockService {
                 return true;
             }
 
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMillis <= 0) {
+                return false;
+            }
+
             try {
-                Thread.sleep(50); // 50ms 간격으로 재시도
+                Thread.sleep(Math.min(RETRY_INTERVAL_MILLIS, remainingMillis)); // 50ms 간격으로 재시도
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 return false;
             }
         }
-
-        return false;
     }
 
     /**
@@ -120,4 +186,11 @@ public class DistributedLockService {
         String lockKey = LOCK_PREFIX + key;
         return Boolean.TRUE.equals(redisTemplate.hasKey(lockKey));
     }
+
+    /**
+     * 현재 스레드가 보유한 Redis 락의 재진입 횟수
+     */
+    private static final class HeldLock {
+        private int holdCount;
+    }
 }
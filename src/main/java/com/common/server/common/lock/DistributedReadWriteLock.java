@@ -0,0 +1,69 @@
+package com.common.server.common.lock;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분산 읽기/쓰기 락 어노테이션
+ *
+ * 같은 키에 대해 읽기 락은 여러 노드가 동시에 보유할 수 있고,
+ * 쓰기 락은 읽기/쓰기 락이 모두 없을 때만 단독으로 보유할 수 있습니다.
+ *
+ * 사용 예시:
+ * <pre>
+ * {@literal @}DistributedReadWriteLock(key = "'ad:' + #adId", mode = DistributedReadWriteLock.Mode.READ)
+ * public AdConfigDto getAdConfig(String adId) { ... }
+ *
+ * {@literal @}DistributedReadWriteLock(key = "'ad:' + #adId", mode = DistributedReadWriteLock.Mode.WRITE)
+ * public void updateAdConfig(String adId, AdConfigDto dto) { ... }
+ * </pre>
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DistributedReadWriteLock {
+
+    /**
+     * 락 키 (SpEL 표현식 지원)
+     */
+    String key();
+
+    /**
+     * 락 모드 (읽기/쓰기)
+     */
+    Mode mode();
+
+    /**
+     * 락 대기 시간 (기본: 5초)
+     */
+    long waitTime() default 5;
+
+    /**
+     * 락 유지 시간 (기본: 10초)
+     */
+    long leaseTime() default 10;
+
+    /**
+     * 시간 단위 (기본: 초)
+     */
+    TimeUnit timeUnit() default TimeUnit.SECONDS;
+
+    /**
+     * 락 획득 실패 시 예외 발생 여부
+     * false면 메서드 실행 없이 null 반환
+     */
+    boolean throwOnFailure() default true;
+
+    /**
+     * 락 모드
+     */
+    enum Mode {
+        READ,
+        WRITE
+    }
+}
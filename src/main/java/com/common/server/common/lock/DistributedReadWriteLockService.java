@@ -0,0 +1,220 @@
+package com.common.server.common.lock;
+
+import com.common.server.common.id.IdGenerator;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 분산 읽기/쓰기 락 서비스
+ *
+ * 키마다 세 개의 Redis 키를 사용합니다 (Cluster 환경을 위해 같은 해시 슬롯으로 묶음).
+ * - rwlock:{key}:readers : 읽기 락 보유자 (Sorted Set, score = 리스 만료 시각)
+ * - rwlock:{key}:writer  : 쓰기 락 보유자 (String, PX 만료)
+ * - rwlock:{key}:intent  : 대기 중인 쓰기 요청 표시 (새 읽기 락을 막아 쓰기 기아 방지)
+ *
+ * 같은 스레드의 중첩 호출은 재진입으로 처리합니다 (Redis 락을 다시 요청하지 않으며 리스도 연장하지 않음).
+ * - 읽기 안의 읽기, 쓰기 안의 쓰기: 보유 중인 락을 그대로 사용
+ * - 쓰기 안의 읽기: 쓰기 락이 읽기도 배제하므로 그대로 실행
+ * - 읽기 안의 쓰기(승격): 자기 자신의 읽기 락을 기다리며 교착되므로 IllegalStateException
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DistributedReadWriteLockService {
+
+    private static final String RW_LOCK_PREFIX = "rwlock:";
+    private static final long RETRY_INTERVAL_MILLIS = 50;
+    private static final long WRITE_INTENT_MILLIS = RETRY_INTERVAL_MILLIS * 10;
+
+    /**
+     * KEYS: readers, writer, intent / ARGV[1]: 리스 시간(ms), ARGV[2]: 보유자 ID
+     */
+    private static final RedisScript<Long> ACQUIRE_READ_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 1 or redis.call('EXISTS', KEYS[3]) == 1 then " +
+            "  return 0 " +
+            "end " +
+            "local t = redis.call('TIME') " +
+            "local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000) " +
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now) " +
+            "redis.call('ZADD', KEYS[1], now + tonumber(ARGV[1]), ARGV[2]) " +
+            "if redis.call('PTTL', KEYS[1]) < tonumber(ARGV[1]) then " +
+            "  redis.call('PEXPIRE', KEYS[1], ARGV[1]) " +
+            "end " +
+            "return 1",
+            Long.class);
+
+    /**
+     * KEYS: readers, writer, intent / ARGV[1]: 리스 시간(ms), ARGV[2]: 보유자 ID, ARGV[3]: 대기 표시 유지 시간(ms)
+     */
+    private static final RedisScript<Long> ACQUIRE_WRITE_SCRIPT = new DefaultRedisScript<>(
+            "local t = redis.call('TIME') " +
+            "local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000) " +
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now) " +
+            "if redis.call('ZCARD', KEYS[1]) > 0 or redis.call('EXISTS', KEYS[2]) == 1 then " +
+            "  redis.call('SET', KEYS[3], ARGV[2], 'PX', ARGV[3]) " +
+            "  return 0 " +
+            "end " +
+            "redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[1]) " +
+            "if redis.call('GET', KEYS[3]) == ARGV[2] then " +
+            "  redis.call('DEL', KEYS[3]) " +
+            "end " +
+            "return 1",
+            Long.class);
+
+    /**
+     * KEYS[1]: writer / ARGV[1]: 보유자 ID
+     */
+    private static final RedisScript<Long> RELEASE_WRITE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  return redis.call('DEL', KEYS[1]) " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    // 현재 스레드가 보유 중인 읽기/쓰기 락 (재진입 처리용)
+    private static final ThreadLocal<Map<String, HeldLock>> HELD_LOCKS =
+            ThreadLocal.withInitial(HashMap::new);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 읽기 락을 획득하고 작업 실행
+     */
+    public <T> T executeWithReadLock(String key, long waitTime, long leaseTime,
+                                     TimeUnit timeUnit, Supplier<T> supplier) {
+        return execute(key, DistributedReadWriteLock.Mode.READ, waitTime, leaseTime, timeUnit, supplier);
+    }
+
+    /**
+     * 쓰기 락을 획득하고 작업 실행
+     */
+    public <T> T executeWithWriteLock(String key, long waitTime, long leaseTime,
+                                      TimeUnit timeUnit, Supplier<T> supplier) {
+        return execute(key, DistributedReadWriteLock.Mode.WRITE, waitTime, leaseTime, timeUnit, supplier);
+    }
+
+    /**
+     * 모드에 따라 락을 획득하고 작업 실행
+     *
+     * @param key 락 키
+     * @param mode 읽기/쓰기 모드
+     * @param waitTime 락 대기 시간
+     * @param leaseTime 락 유지 시간
+     * @param timeUnit 시간 단위
+     * @param supplier 실행할 작업
+     * @return 작업 결과
+     * @throws IllegalStateException 읽기 락을 보유한 스레드가 같은 키의 쓰기 락을 요청한 경우
+     */
+    public <T> T execute(String key, DistributedReadWriteLock.Mode mode, long waitTime, long leaseTime,
+                         TimeUnit timeUnit, Supplier<T> supplier) {
+        // 재진입: 현재 스레드가 이미 보유한 락으로 충분하면 바로 실행
+        Map<String, HeldLock> heldLocks = HELD_LOCKS.get();
+        HeldLock held = heldLocks.get(key);
+        if (held != null) {
+            if (held.mode == DistributedReadWriteLock.Mode.READ && mode == DistributedReadWriteLock.Mode.WRITE) {
+                throw new IllegalStateException("Cannot upgrade READ lock to WRITE lock for key: " + key);
+            }
+            held.holdCount++;
+            try {
+                log.debug("{} lock re-entered: {} (held: {}, count: {})", mode, key, held.mode, held.holdCount);
+                return supplier.get();
+            } finally {
+                held.holdCount--;
+            }
+        }
+
+        List<String> keys = keysOf(key);
+        String holderId = IdGenerator.ulid();
+        boolean locked = false;
+
+        try {
+            locked = tryLock(keys, mode, holderId, waitTime, leaseTime, timeUnit);
+            if (!locked) {
+                throw new LockAcquisitionException("Failed to acquire " + mode + " lock for key: " + key);
+            }
+            log.debug("{} lock acquired: {}", mode, key);
+            heldLocks.put(key, new HeldLock(mode));
+            return supplier.get();
+        } finally {
+            if (locked) {
+                heldLocks.remove(key);
+                if (heldLocks.isEmpty()) {
+                    HELD_LOCKS.remove();
+                }
+                unlock(keys, mode, holderId);
+                log.debug("{} lock released: {}", mode, key);
+            }
+        }
+    }
+
+    private boolean tryLock(List<String> keys, DistributedReadWriteLock.Mode mode, String holderId,
+                            long waitTime, long leaseTime, TimeUnit timeUnit) {
+        long deadline = System.nanoTime() + timeUnit.toNanos(waitTime);
+        String leaseMillis = String.valueOf(timeUnit.toMillis(leaseTime));
+
+        while (true) {
+            Long result = mode == DistributedReadWriteLock.Mode.READ
+                    ? stringRedisTemplate.execute(ACQUIRE_READ_SCRIPT, keys, leaseMillis, holderId)
+                    : stringRedisTemplate.execute(ACQUIRE_WRITE_SCRIPT, keys, leaseMillis, holderId,
+                            String.valueOf(WRITE_INTENT_MILLIS));
+
+            if (result != null && result == 1L) {
+                return true;
+            }
+
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMillis <= 0) {
+                return false;
+            }
+
+            try {
+                Thread.sleep(Math.min(RETRY_INTERVAL_MILLIS, remainingMillis));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    private void unlock(List<String> keys, DistributedReadWriteLock.Mode mode, String holderId) {
+        if (mode == DistributedReadWriteLock.Mode.READ) {
+            stringRedisTemplate.opsForZSet().remove(keys.get(0), holderId);
+        } else {
+            stringRedisTemplate.execute(RELEASE_WRITE_SCRIPT, List.of(keys.get(1)), holderId);
+        }
+    }
+
+    /**
+     * 읽기/쓰기 락 키 목록 (Cluster 해시 태그로 같은 슬롯 보장)
+     */
+    private List<String> keysOf(String key) {
+        String base = RW_LOCK_PREFIX + "{" + key + "}";
+        return List.of(base + ":readers", base + ":writer", base + ":intent");
+    }
+
+    /**
+     * 현재 스레드가 보유한 락의 모드와 재진입 횟수
+     */
+    private static final class HeldLock {
+        private final DistributedReadWriteLock.Mode mode;
+        private int holdCount;
+
+        private HeldLock(DistributedReadWriteLock.Mode mode) {
+            this.mode = mode;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.common.server.common.lock;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분산 세마포어 어노테이션
+ *
+ * 메서드에 적용하여 클러스터 전체의 동시 실행 수를 제한합니다.
+ * Redis Sorted Set에 리스 만료 시각과 함께 퍼밋을 기록합니다.
+ *
+ * 사용 예시:
+ * <pre>
+ * {@literal @}DistributedSemaphore(key = "'export:statistics'", permits = 8, waitTime = 30, leaseTime = 300)
+ * public void exportStatistics(String adId) {
+ *     // 클러스터 전체에서 최대 8개만 동시 실행
+ * }
+ * </pre>
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DistributedSemaphore {
+
+    /**
+     * 세마포어 키 (SpEL 표현식 지원)
+     */
+    String key();
+
+    /**
+     * 최대 동시 실행 수
+     */
+    int permits();
+
+    /**
+     * 퍼밋 대기 시간 (기본: 5초)
+     */
+    long waitTime() default 5;
+
+    /**
+     * 퍼밋 유지 시간 (기본: 10초)
+     * 이 시간이 지나면 퍼밋이 만료되어 다른 요청이 사용할 수 있음
+     */
+    long leaseTime() default 10;
+
+    /**
+     * 시간 단위 (기본: 초)
+     */
+    TimeUnit timeUnit() default TimeUnit.SECONDS;
+
+    /**
+     * 퍼밋 획득 실패 시 예외 발생 여부
+     * false면 메서드 실행 없이 null 반환
+     */
+    boolean throwOnFailure() default true;
+}
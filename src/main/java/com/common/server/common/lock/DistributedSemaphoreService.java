@@ -0,0 +1,142 @@
+package com.common.server.common.lock;
+
+import com.common.server.common.id.IdGenerator;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 분산 세마포어 서비스
+ *
+ * Redis Sorted Set으로 카운팅 세마포어를 구현합니다.
+ * 각 퍼밋은 보유자 ID를 member, 리스 만료 시각을 score로 저장하며,
+ * 획득 시 만료된 퍼밋을 먼저 정리하므로 비정상 종료된 노드의 퍼밋도 자동 회수됩니다.
+ * 시각은 노드 간 시계 오차를 피하기 위해 Redis TIME을 사용합니다.
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DistributedSemaphoreService {
+
+    private static final String SEMAPHORE_PREFIX = "semaphore:";
+    private static final long RETRY_INTERVAL_MILLIS = 50;
+
+    /**
+     * KEYS[1]: 세마포어 키, ARGV[1]: 최대 퍼밋 수, ARGV[2]: 리스 시간(ms), ARGV[3]: 보유자 ID
+     */
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "local t = redis.call('TIME') " +
+            "local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000) " +
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now) " +
+            "if redis.call('ZCARD', KEYS[1]) < tonumber(ARGV[1]) then " +
+            "  redis.call('ZADD', KEYS[1], now + tonumber(ARGV[2]), ARGV[3]) " +
+            "  if redis.call('PTTL', KEYS[1]) < tonumber(ARGV[2]) then " +
+            "    redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+            "  end " +
+            "  return 1 " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    /**
+     * KEYS[1]: 세마포어 키 (리스 만료 시각이 Redis 현재 시각보다 뒤인 퍼밋 수)
+     */
+    private static final RedisScript<Long> USED_PERMITS_SCRIPT = new DefaultRedisScript<>(
+            "local t = redis.call('TIME') " +
+            "local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000) " +
+            "return redis.call('ZCOUNT', KEYS[1], '(' .. now, '+inf')",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 퍼밋을 획득하고 작업 실행
+     *
+     * @param key 세마포어 키
+     * @param permits 최대 동시 실행 수
+     * @param waitTime 퍼밋 대기 시간
+     * @param leaseTime 퍼밋 유지 시간
+     * @param timeUnit 시간 단위
+     * @param supplier 실행할 작업
+     * @return 작업 결과
+     */
+    public <T> T executeWithPermit(String key, int permits, long waitTime, long leaseTime,
+                                   TimeUnit timeUnit, Supplier<T> supplier) {
+        String semaphoreKey = SEMAPHORE_PREFIX + key;
+        String holderId = IdGenerator.ulid();
+        boolean acquired = false;
+
+        try {
+            acquired = tryAcquire(semaphoreKey, holderId, permits, waitTime, leaseTime, timeUnit);
+            if (!acquired) {
+                throw new LockAcquisitionException("Failed to acquire semaphore permit for key: " + key);
+            }
+            log.debug("Semaphore permit acquired: {} (permits: {})", key, permits);
+            return supplier.get();
+        } finally {
+            if (acquired) {
+                release(semaphoreKey, holderId);
+                log.debug("Semaphore permit released: {}", key);
+            }
+        }
+    }
+
+    /**
+     * 퍼밋 획득 시도
+     */
+    public boolean tryAcquire(String semaphoreKey, String holderId, int permits,
+                              long waitTime, long leaseTime, TimeUnit timeUnit) {
+        if (permits <= 0) {
+            throw new IllegalArgumentException("permits must be positive: " + permits);
+        }
+        long deadline = System.nanoTime() + timeUnit.toNanos(waitTime);
+        String leaseMillis = String.valueOf(timeUnit.toMillis(leaseTime));
+
+        while (true) {
+            Long result = stringRedisTemplate.execute(ACQUIRE_SCRIPT, List.of(semaphoreKey),
+                    String.valueOf(permits), leaseMillis, holderId);
+
+            if (result != null && result == 1L) {
+                return true;
+            }
+
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMillis <= 0) {
+                return false;
+            }
+
+            try {
+                Thread.sleep(Math.min(RETRY_INTERVAL_MILLIS, remainingMillis));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    /**
+     * 퍼밋 반환
+     */
+    public void release(String semaphoreKey, String holderId) {
+        stringRedisTemplate.opsForZSet().remove(semaphoreKey, holderId);
+    }
+
+    /**
+     * 현재 사용 중인 퍼밋 수 (만료되지 않은 퍼밋 기준, 획득과 같은 Redis TIME으로 판단)
+     */
+    public long usedPermits(String key) {
+        Long count = stringRedisTemplate.execute(USED_PERMITS_SCRIPT, List.of(SEMAPHORE_PREFIX + key));
+        return count != null ? count : 0;
+    }
+}
@@ -0,0 +1,48 @@
+package com.common.server.common.lock;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 키별 로컬 락
+ *
+ * 같은 노드에서 동일 키를 경쟁하는 스레드는 이 락에서 대기하고,
+ * 로컬 락을 획득한 스레드만 Redis 락 획득을 시도합니다.
+ * 락은 키마다 따로 생성되므로 서로 다른 키끼리는 대기하지 않으며,
+ * 참조 카운트가 0이 되면 맵에서 제거되어 키 수만큼 누적되지 않습니다.
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+final class LocalKeyLocks {
+
+    private final ConcurrentMap<String, Entry> locks = new ConcurrentHashMap<>();
+
+    /**
+     * 키에 해당하는 로컬 락 참조 (사용 후 반드시 {@link #release(String)} 호출)
+     */
+    ReentrantLock acquire(String key) {
+        return locks.compute(key, (k, entry) -> {
+            Entry target = entry != null ? entry : new Entry();
+            target.refCount++;
+            return target;
+        }).lock;
+    }
+
+    /**
+     * 로컬 락 참조 반환 (마지막 참조면 맵에서 제거)
+     */
+    void release(String key) {
+        locks.computeIfPresent(key, (k, entry) -> --entry.refCount == 0 ? null : entry);
+    }
+
+    int size() {
+        return locks.size();
+    }
+
+    private static final class Entry {
+        private final ReentrantLock lock = new ReentrantLock();
+        private int refCount; // compute 내부에서만 변경
+    }
+}
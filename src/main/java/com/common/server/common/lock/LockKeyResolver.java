@@ -0,0 +1,48 @@
+package com.common.server.common.lock;
+
+import com.common.server.common.expression.MethodExpressionEvaluator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+
+/**
+ * 락 키 SpEL 평가기
+ *
+ * 분산 락, 세마포어, 읽기/쓰기 락 Aspect에서 공통으로 사용합니다.
+ * 표현식 파싱/컴파일과 파라미터 이름 조회는 MethodExpressionEvaluator에서 캐싱됩니다.
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LockKeyResolver {
+
+    private final MethodExpressionEvaluator expressionEvaluator;
+
+    /**
+     * 메서드 인자를 변수로 하여 키 표현식 평가
+     *
+     * @param keyExpression 키 표현식 (예: "'order:' + #orderId")
+     * @param method 대상 메서드
+     * @param args 메서드 인자
+     * @return 평가된 락 키
+     */
+    public String resolve(String keyExpression, Method method, Object[] args) {
+        // 단순 문자열인 경우 그대로 반환
+        if (keyExpression.indexOf('#') < 0) {
+            return keyExpression.replace("'", "");
+        }
+
+        try {
+            Object result = expressionEvaluator.evaluate(keyExpression, method, args, Object.class);
+            return result != null ? result.toString() : keyExpression;
+        } catch (Exception e) {
+            log.warn("Failed to parse lock key expression: {}, using raw expression", keyExpression);
+            return keyExpression;
+        }
+    }
+}
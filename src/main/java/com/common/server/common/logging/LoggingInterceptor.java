@@ -1,80 +1,78 @@
 package com.common.server.common.logging;
 
+import com.common.server.common.context.RequestContext;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
-import org.springframework.web.servlet.ModelAndView;
 
-import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * HTTP 요청/응답 로깅 인터셉터
  *
- * 모든 HTTP 요청의 시작/종료 시점을 로깅합니다.
+ * 요청 완료 시점에 한 줄만 기록합니다.
+ * 기록 여부는 RequestLogSampler가 메시지를 만들기 전에 결정합니다.
+ * - 예외/오류 응답: ERROR(5xx, 예외) 또는 WARN(4xx)으로 항상 기록
+ * - 느린 요청: WARN으로 항상 기록
+ * - 빠르게 성공한 요청: 설정한 비율만 INFO로 기록
+ *
+ * Request ID와 클라이언트 IP는 MdcFilter가 만든 RequestContext를 사용합니다.
  */
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class LoggingInterceptor implements HandlerInterceptor {
 
     private static final String REQUEST_ID = "X-Request-ID";
     private static final String START_TIME = "startTime";
 
+    private final RequestLogSampler requestLogSampler;
+
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        // Request ID 생성
-        String requestId = request.getHeader(REQUEST_ID);
-        if (requestId == null || requestId.isEmpty()) {
-            requestId = UUID.randomUUID().toString().substring(0, 8);
-        }
-        request.setAttribute(REQUEST_ID, requestId);
-        request.setAttribute(START_TIME, System.currentTimeMillis());
-
-        // Response Header에 Request ID 추가
-        response.setHeader(REQUEST_ID, requestId);
-
-        log.info("[{}] --> {} {} (IP: {}, User-Agent: {})",
-                requestId,
-                request.getMethod(),
-                getFullURL(request),
-                getClientIP(request),
-                request.getHeader("User-Agent")
-        );
+        request.setAttribute(START_TIME, System.nanoTime());
 
+        // Response Header에 Request ID(= Trace ID) 추가
+        String traceId = RequestContext.currentTraceId();
+        if (traceId != null) {
+            response.setHeader(REQUEST_ID, traceId);
+        }
         return true;
     }
 
-    @Override
-    public void postHandle(HttpServletRequest request, HttpServletResponse response,
-                          Object handler, ModelAndView modelAndView) {
-        // Controller 처리 후
-    }
-
     @Override
     public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
                                Object handler, Exception ex) {
-        String requestId = (String) request.getAttribute(REQUEST_ID);
         Long startTime = (Long) request.getAttribute(START_TIME);
-        long duration = System.currentTimeMillis() - (startTime != null ? startTime : 0);
+        long durationNanos = startTime != null ? System.nanoTime() - startTime : 0;
+        int status = response.getStatus();
+
+        RequestLogSampler.Decision decision = requestLogSampler.decide(status, durationNanos, ex != null);
+        if (decision == RequestLogSampler.Decision.SKIP) {
+            return;
+        }
 
-        if (ex != null) {
-            log.error("[{}] <-- {} {} {} ({}ms) - Exception: {}",
-                    requestId,
-                    request.getMethod(),
-                    request.getRequestURI(),
-                    response.getStatus(),
-                    duration,
-                    ex.getMessage()
-            );
-        } else {
-            log.info("[{}] <-- {} {} {} ({}ms)",
-                    requestId,
-                    request.getMethod(),
-                    request.getRequestURI(),
-                    response.getStatus(),
-                    duration
-            );
+        RequestContext context = RequestContext.current();
+        String requestId = context != null ? context.traceId() : "-";
+        String clientIp = context != null ? context.clientAddress() : request.getRemoteAddr();
+        long durationMillis = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+        switch (decision) {
+            case ERROR -> {
+                if (ex != null || status >= 500) {
+                    log.error("[{}] {} {} {} ({}ms, IP: {}){}", requestId, request.getMethod(), getFullURL(request),
+                            status, durationMillis, clientIp, ex != null ? " - Exception: " + ex.getMessage() : "");
+                } else {
+                    log.warn("[{}] {} {} {} ({}ms, IP: {})", requestId, request.getMethod(), getFullURL(request),
+                            status, durationMillis, clientIp);
+                }
+            }
+            case SLOW -> log.warn("[{}] {} {} {} ({}ms, SLOW, IP: {}, User-Agent: {})", requestId, request.getMethod(),
+                    getFullURL(request), status, durationMillis, clientIp, request.getHeader("User-Agent"));
+            default -> log.info("[{}] {} {} {} ({}ms)", requestId, request.getMethod(), request.getRequestURI(),
+                    status, durationMillis);
         }
     }
 
@@ -89,31 +87,4 @@ public class LoggingInterceptor implements HandlerInterceptor {
         }
         return url.toString();
     }
-
-    /**
-     * 클라이언트 IP 추출 (프록시 고려)
-     */
-    private String getClientIP(HttpServletRequest request) {
-        String ip = request.getHeader("X-Forwarded-For");
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("Proxy-Client-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("WL-Proxy-Client-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("HTTP_CLIENT_IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("HTTP_X_FORWARDED_FOR");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getRemoteAddr();
-        }
-        // 여러 IP가 있는 경우 첫 번째 IP 반환
-        if (ip != null && ip.contains(",")) {
-            ip = ip.split(",")[0].trim();
-        }
-        return ip;
-    }
 }
@@ -1,23 +1,24 @@
 package com.common.server.common.logging;
 
+import com.common.server.common.context.RequestContext;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.slf4j.MDC;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.UUID;
 
 /**
- * MDC(Mapped Diagnostic Context) 필터
+ * 요청 컨텍스트 필터
  *
- * 모든 HTTP 요청에 TraceId를 생성하여 MDC에 저장합니다.
- * 분산 환경에서 요청 추적이 용이합니다.
+ * HTTP 요청마다 RequestContext를 한 번 생성하여 요청 스레드에 연결합니다.
+ * - W3C traceparent 헤더가 있으면 Trace를 이어받고, 없으면 X-Trace-Id 또는 새 Trace ID 사용
+ * - 응답 헤더에 traceparent, X-Trace-Id, X-Span-Id 추가
+ * - MDC는 RequestContextMdcTurboFilter가 로그 기록 시점에만 채움
  *
  * @author Common Server Framework
  * @since 2025-01-13
@@ -29,8 +30,6 @@ public class MdcFilter extends OncePerRequestFilter {
     public static final String TRACE_ID = "traceId";
     public static final String SPAN_ID = "spanId";
     public static final String USER_ID = "userId";
-    public static final String REQUEST_URI = "requestUri";
-    public static final String REQUEST_METHOD = "requestMethod";
     public static final String CLIENT_IP = "clientIp";
 
     private static final String TRACE_ID_HEADER = "X-Trace-Id";
@@ -40,44 +39,30 @@ public class MdcFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
-        try {
-            // TraceId: 외부에서 전달받거나 새로 생성
-            String traceId = request.getHeader(TRACE_ID_HEADER);
-            if (traceId == null || traceId.isEmpty()) {
-                traceId = generateTraceId();
-            }
+        RequestContext context = createContext(request);
 
-            // SpanId: 항상 새로 생성 (각 서비스마다 고유)
-            String spanId = generateSpanId();
-
-            // MDC에 값 설정
-            MDC.put(TRACE_ID, traceId);
-            MDC.put(SPAN_ID, spanId);
-            MDC.put(REQUEST_URI, request.getRequestURI());
-            MDC.put(REQUEST_METHOD, request.getMethod());
-            MDC.put(CLIENT_IP, getClientIp(request));
-
-            // 응답 헤더에 TraceId 추가
-            response.addHeader(TRACE_ID_HEADER, traceId);
-            response.addHeader(SPAN_ID_HEADER, spanId);
+        response.addHeader(RequestContext.TRACEPARENT_HEADER, context.traceparent());
+        response.addHeader(TRACE_ID_HEADER, context.traceId());
+        response.addHeader(SPAN_ID_HEADER, context.spanId());
 
+        try (RequestContext.Scope ignored = RequestContext.attach(context)) {
             filterChain.doFilter(request, response);
-
-        } finally {
-            // MDC 클리어 (메모리 누수 방지)
-            MDC.clear();
         }
     }
 
-    private String generateTraceId() {
-        return UUID.randomUUID().toString().replace("-", "").substring(0, 16);
-    }
-
-    private String generateSpanId() {
-        return UUID.randomUUID().toString().replace("-", "").substring(0, 8);
+    private RequestContext createContext(HttpServletRequest request) {
+        String clientIp = getClientIp(request);
+        String traceparent = request.getHeader(RequestContext.TRACEPARENT_HEADER);
+        if (traceparent != null) {
+            return RequestContext.fromTraceparent(traceparent, clientIp);
+        }
+        return RequestContext.continueTrace(request.getHeader(TRACE_ID_HEADER), clientIp);
     }
 
-    private String getClientIp(HttpServletRequest request) {
+    /**
+     * 클라이언트 IP 추출 (프록시 고려)
+     */
+    static String getClientIp(HttpServletRequest request) {
         String ip = request.getHeader("X-Forwarded-For");
         if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
             ip = request.getHeader("Proxy-Client-IP");
@@ -105,13 +90,13 @@ public class MdcFilter extends OncePerRequestFilter {
      * 현재 TraceId 조회 (다른 곳에서 사용 가능)
      */
     public static String getCurrentTraceId() {
-        return MDC.get(TRACE_ID);
+        return RequestContext.currentTraceId();
     }
 
     /**
-     * MDC에 사용자 ID 설정 (인증 후 호출)
+     * 현재 요청 컨텍스트에 사용자 ID 설정 (인증 후 호출)
      */
     public static void setUserId(String userId) {
-        MDC.put(USER_ID, userId);
+        RequestContext.bindUserId(userId);
     }
 }
@@ -1,14 +1,14 @@
 package com.common.server.common.logging;
 
-import org.slf4j.MDC;
+import com.common.server.common.context.RequestContext;
 import org.springframework.core.task.TaskDecorator;
 
-import java.util.Map;
-
 /**
- * MDC Task Decorator
+ * 요청 컨텍스트 전파 Task Decorator
  *
- * 비동기 작업(@Async)에서도 MDC 컨텍스트를 유지하도록 합니다.
+ * 비동기 작업(@Async)에서도 RequestContext(traceId, userId 등)를 유지하도록 합니다.
+ * 제출 시점의 컨텍스트를 참조로 넘기므로 작업마다 MDC Map을 복사하지 않으며,
+ * 로그의 MDC 값은 RequestContextMdcTurboFilter가 채웁니다.
  * AsyncConfig의 ThreadPoolTaskExecutor에 적용하여 사용합니다.
  *
  * @author Common Server Framework
@@ -18,20 +18,6 @@ public class MdcTaskDecorator implements TaskDecorator {
 
     @Override
     public Runnable decorate(Runnable runnable) {
-        // 현재 스레드의 MDC 값을 복사
-        Map<String, String> contextMap = MDC.getCopyOfContextMap();
-
-        return () -> {
-            try {
-                // 새 스레드에 MDC 값 설정
-                if (contextMap != null) {
-                    MDC.setContextMap(contextMap);
-                }
-                runnable.run();
-            } finally {
-                // MDC 클리어
-                MDC.clear();
-            }
-        };
+        return RequestContext.wrap(runnable);
     }
 }
@@ -0,0 +1,66 @@
+package com.common.server.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import com.common.server.common.context.RequestContext;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+/**
+ * RequestContext → MDC 지연 동기화 필터
+ *
+ * 로그 이벤트가 만들어지기 직전에만 현재 스레드의 RequestContext를 MDC에 반영합니다.
+ * - 레벨 때문에 버려지는 로그는 레벨 비교만 하고 통과
+ * - 스레드에 마지막으로 반영한 컨텍스트와 같으면 MDC를 다시 쓰지 않음
+ * - 컨텍스트가 없으면 이전 요청의 값을 MDC에서 제거
+ *
+ * logback-spring.xml에 turboFilter로 등록하여 사용합니다.
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+public class RequestContextMdcTurboFilter extends TurboFilter {
+
+    private static final ThreadLocal<RequestContext> APPLIED = new ThreadLocal<>();
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level != null && !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+
+        RequestContext context = RequestContext.current();
+        RequestContext applied = APPLIED.get();
+        // 다른 코드가 MDC를 비운 경우까지 감지하도록 traceId 참조도 비교
+        if (context != applied || (context != null && context.traceId() != MDC.get(MdcFilter.TRACE_ID))) {
+            apply(context);
+        }
+        return FilterReply.NEUTRAL;
+    }
+
+    private static void apply(RequestContext context) {
+        if (context == null) {
+            MDC.remove(MdcFilter.TRACE_ID);
+            MDC.remove(MdcFilter.SPAN_ID);
+            MDC.remove(MdcFilter.USER_ID);
+            MDC.remove(MdcFilter.CLIENT_IP);
+            APPLIED.remove();
+            return;
+        }
+        MDC.put(MdcFilter.TRACE_ID, context.traceId());
+        MDC.put(MdcFilter.SPAN_ID, context.spanId());
+        putOrRemove(MdcFilter.USER_ID, context.userId());
+        putOrRemove(MdcFilter.CLIENT_IP, context.clientAddress());
+        APPLIED.set(context);
+    }
+
+    private static void putOrRemove(String key, String value) {
+        if (value != null) {
+            MDC.put(key, value);
+        } else {
+            MDC.remove(key);
+        }
+    }
+}
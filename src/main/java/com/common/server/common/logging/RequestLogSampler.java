@@ -0,0 +1,55 @@
+package com.common.server.common.logging;
+
+import com.common.server.config.RequestLoggingProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청 로그 기록 여부 결정기
+ *
+ * 메시지를 만들기 전에 호출하여, 기록하지 않을 요청은 문자열 포맷 비용 없이 건너뜁니다.
+ * - 예외 또는 errorStatus 이상 응답: 항상 기록
+ * - slowThreshold 이상 걸린 요청: 항상 기록
+ * - 그 밖의 요청: sampleRate 비율로 기록
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestLogSampler {
+
+    private final RequestLoggingProperties properties;
+
+    /**
+     * 요청 처리 결과 분류
+     */
+    public enum Decision {
+        ERROR,
+        SLOW,
+        SAMPLED,
+        SKIP
+    }
+
+    /**
+     * @param status 응답 상태 코드
+     * @param durationNanos 처리 시간
+     * @param failed 예외 발생 여부
+     * @return 기록 분류 (SKIP이면 기록하지 않음)
+     */
+    public Decision decide(int status, long durationNanos, boolean failed) {
+        if (failed || status >= properties.getErrorStatus()) {
+            return Decision.ERROR;
+        }
+        if (durationNanos >= properties.getSlowThreshold().toNanos()) {
+            return Decision.SLOW;
+        }
+        double sampleRate = properties.getSampleRate();
+        if (sampleRate >= 1.0 || (sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRate)) {
+            return Decision.SAMPLED;
+        }
+        return Decision.SKIP;
+    }
+}
@@ -0,0 +1,204 @@
+package com.common.server.common.logging.spool;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 디스크 스풀 (메모리 매핑 세그먼트 파일의 FIFO 큐)
+ *
+ * - 세그먼트 파일(spool-{순번}.seg)을 순서대로 이어 붙여 기록하고, 가장 오래된 세그먼트부터 읽음
+ * - 전체 크기가 maxBytes를 넘으면 가장 오래된 세그먼트를 통째로 삭제 (읽지 않은 레코드는 유실로 집계)
+ * - 재시작 시 디렉토리의 세그먼트를 다시 열어 남은 레코드를 이어서 제공
+ *   (열 수 없는 세그먼트는 건너뜀: 레코드가 들어갈 수 없을 만큼 잘린 파일은 삭제, 그 외는 .corrupt로 격리)
+ * - 모두 읽으면 세그먼트 파일을 삭제하여 평상시에는 디스크를 사용하지 않음
+ *
+ * 스레드 안전하지 않으며 호출자가 동기화해야 합니다.
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+public final class LogSpool implements Closeable {
+
+    private static final String SEGMENT_PREFIX = "spool-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String QUARANTINE_SUFFIX = ".corrupt";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final Deque<SpoolSegment> segments = new ArrayDeque<>();
+    private final List<Path> skippedSegments = new ArrayList<>();
+    private long nextSequence;
+
+    /**
+     * @param directory 세그먼트 파일 디렉토리
+     * @param segmentSize 세그먼트 파일 크기 (bytes)
+     * @param maxBytes 스풀 전체 최대 크기 (bytes, 최소 세그먼트 1개)
+     */
+    public LogSpool(Path directory, int segmentSize, long maxBytes) throws IOException {
+        if (segmentSize <= SpoolSegment.HEADER_SIZE + SpoolSegment.RECORD_HEADER_SIZE) {
+            throw new IllegalArgumentException("segmentSize too small: " + segmentSize);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = (int) Math.max(1, Math.min(Integer.MAX_VALUE, maxBytes / segmentSize));
+        Files.createDirectories(directory);
+        recover();
+    }
+
+    private void recover() throws IOException {
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream.filter(path -> sequenceOf(path) >= 0)
+                    .sorted((a, b) -> Long.compare(sequenceOf(a), sequenceOf(b)))
+                    .toList();
+        }
+        for (Path file : files) {
+            long sequence = sequenceOf(file);
+            nextSequence = sequence + 1;
+            SpoolSegment segment;
+            try {
+                segment = SpoolSegment.open(file, sequence);
+            } catch (IOException | RuntimeException e) {
+                skip(file);
+                continue;
+            }
+            if (segment.hasUnread()) {
+                segments.addLast(segment);
+            } else {
+                segment.delete();
+            }
+        }
+    }
+
+    /**
+     * 열 수 없는 세그먼트를 건너뛰어 나머지 세그먼트로 스풀을 계속 사용
+     */
+    private void skip(Path file) throws IOException {
+        skippedSegments.add(file);
+        if (Files.size(file) < SpoolSegment.MIN_SIZE) {
+            Files.deleteIfExists(file);
+        } else {
+            Files.move(file, file.resolveSibling(file.getFileName() + QUARANTINE_SUFFIX),
+                    StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * 레코드 추가 (공간이 부족하면 가장 오래된 세그먼트부터 삭제)
+     *
+     * @return 공간 확보를 위해 버려진 레코드 수
+     */
+    public long append(byte[] data) throws IOException {
+        if (data.length > maxRecordSize()) {
+            throw new IllegalArgumentException("record too large for segment: " + data.length);
+        }
+        SpoolSegment tail = segments.peekLast();
+        if (tail != null && tail.append(data)) {
+            return 0;
+        }
+
+        long evicted = 0;
+        while (segments.size() >= maxSegments) {
+            SpoolSegment oldest = segments.removeFirst();
+            evicted += oldest.unreadCount();
+            oldest.delete();
+        }
+        long sequence = nextSequence++;
+        SpoolSegment segment = SpoolSegment.create(
+                directory.resolve(SEGMENT_PREFIX + String.format("%020d", sequence) + SEGMENT_SUFFIX),
+                sequence, segmentSize);
+        segment.append(data);
+        segments.addLast(segment);
+        return evicted;
+    }
+
+    /**
+     * 가장 오래된 레코드부터 최대 maxRecords개 조회 (같은 세그먼트 안에서만, 읽음 처리는 commit으로)
+     */
+    public List<SpoolRecord> peek(int maxRecords) {
+        SpoolSegment head = segments.peekFirst();
+        while (head != null && !head.hasUnread() && segments.size() > 1) {
+            segments.removeFirst().delete();
+            head = segments.peekFirst();
+        }
+        return head != null ? head.peek(maxRecords) : List.of();
+    }
+
+    /**
+     * 지정한 레코드까지 읽음 처리 (그 사이 세그먼트가 삭제되었으면 무시)
+     */
+    public void commit(SpoolRecord record) {
+        SpoolSegment head = segments.peekFirst();
+        if (head == null || !head.commit(record) || head.hasUnread()) {
+            return;
+        }
+        segments.removeFirst().delete();
+    }
+
+    public boolean isEmpty() {
+        for (SpoolSegment segment : segments) {
+            if (segment.hasUnread()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 디스크 사용량 (bytes)
+     */
+    public long sizeOnDisk() {
+        long size = 0;
+        for (SpoolSegment segment : segments) {
+            size += segment.capacity();
+        }
+        return size;
+    }
+
+    /**
+     * 복구 시 열 수 없어 건너뛴 세그먼트 파일 (삭제 또는 .corrupt로 격리됨)
+     */
+    public List<Path> skippedSegments() {
+        return List.copyOf(skippedSegments);
+    }
+
+    public int maxRecordSize() {
+        return segmentSize - SpoolSegment.HEADER_SIZE - SpoolSegment.RECORD_HEADER_SIZE;
+    }
+
+    @Override
+    public void close() {
+        for (SpoolSegment segment : segments) {
+            segment.force();
+            segment.close();
+        }
+        segments.clear();
+    }
+
+    private static long sequenceOf(Path path) {
+        String name = path.getFileName().toString();
+        if (!name.startsWith(SEGMENT_PREFIX) || !name.endsWith(SEGMENT_SUFFIX)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 스풀 레코드 (세그먼트 순번 + 위치로 commit 대상 식별)
+     */
+    public record SpoolRecord(long segment, int position, byte[] data) {
+    }
+}
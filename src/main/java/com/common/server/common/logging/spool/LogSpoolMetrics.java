@@ -0,0 +1,80 @@
+package com.common.server.common.logging.spool;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * SpoolingLogstashAppender 메트릭 등록
+ *
+ * Logback 설정에 등록된 스풀 Appender를 찾아 건수를 Micrometer로 노출합니다.
+ * (Appender는 Spring 컨텍스트보다 먼저 Logback이 생성하므로 시작 시 LoggerContext에서 조회)
+ *
+ * 메트릭: log.spool.dropped, log.spool.spooled, log.spool.replayed (FunctionCounter),
+ * log.spool.size (Gauge, bytes), log.spool.queue.size (Gauge)
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LogSpoolMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    @PostConstruct
+    public void registerMetrics() {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext loggerContext)) {
+            return;
+        }
+
+        Map<String, SpoolingLogstashAppender> appenders = new LinkedHashMap<>();
+        for (Logger logger : loggerContext.getLoggerList()) {
+            Iterator<Appender<ILoggingEvent>> iterator = logger.iteratorForAppenders();
+            while (iterator.hasNext()) {
+                if (iterator.next() instanceof SpoolingLogstashAppender appender) {
+                    appenders.putIfAbsent(appender.getName(), appender);
+                }
+            }
+        }
+
+        appenders.forEach((name, appender) -> {
+            FunctionCounter.builder("log.spool.dropped", appender, SpoolingLogstashAppender::getDroppedCount)
+                    .description("Log events dropped because the spool was full or unavailable")
+                    .tag("appender", name)
+                    .register(meterRegistry);
+            FunctionCounter.builder("log.spool.spooled", appender, SpoolingLogstashAppender::getSpooledCount)
+                    .description("Log events written to the disk spool")
+                    .tag("appender", name)
+                    .register(meterRegistry);
+            FunctionCounter.builder("log.spool.replayed", appender, SpoolingLogstashAppender::getReplayedCount)
+                    .description("Spooled log events replayed to Logstash")
+                    .tag("appender", name)
+                    .register(meterRegistry);
+            Gauge.builder("log.spool.size", appender, SpoolingLogstashAppender::getSpoolSizeBytes)
+                    .description("Disk space used by spool segments")
+                    .baseUnit("bytes")
+                    .tag("appender", name)
+                    .register(meterRegistry);
+            Gauge.builder("log.spool.queue.size", appender, SpoolingLogstashAppender::getQueueDepth)
+                    .description("Log events waiting in the in-memory queue")
+                    .tag("appender", name)
+                    .register(meterRegistry);
+            log.info("Log spool metrics registered for appender '{}'", name);
+        });
+    }
+}
@@ -0,0 +1,188 @@
+package com.common.server.common.logging.spool;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스풀 세그먼트 파일 (고정 크기, 메모리 매핑)
+ *
+ * 레이아웃: [읽기 위치(long)] [길이(int)][데이터] [길이(int)][데이터] ... [0]
+ * - 데이터를 먼저 쓰고 길이를 마지막에 기록하므로, 중간에 끊긴 레코드는 길이 0(끝)으로 보임
+ * - 읽기 위치를 헤더에 기록하여 재시작 후 이미 재전송한 레코드를 건너뜀
+ *
+ * 스레드 안전하지 않으며 LogSpool을 통해서만 사용합니다.
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+final class SpoolSegment {
+
+    static final int HEADER_SIZE = Long.BYTES;
+    static final int RECORD_HEADER_SIZE = Integer.BYTES;
+    static final int MIN_SIZE = HEADER_SIZE + RECORD_HEADER_SIZE;
+
+    private final long sequence;
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private int writePosition;
+    private int readPosition;
+
+    private SpoolSegment(long sequence, Path path, FileChannel channel, MappedByteBuffer buffer, int capacity) {
+        this.sequence = sequence;
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.capacity = capacity;
+    }
+
+    /**
+     * 새 세그먼트 파일 생성
+     */
+    static SpoolSegment create(Path path, long sequence, int capacity) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.setLength(capacity);
+        }
+        SpoolSegment segment = map(path, sequence, capacity);
+        segment.readPosition = HEADER_SIZE;
+        segment.writePosition = HEADER_SIZE;
+        segment.buffer.putLong(0, HEADER_SIZE);
+        return segment;
+    }
+
+    /**
+     * 기존 세그먼트 파일 열기 (읽기 위치부터 레코드를 따라가 쓰기 위치 복구)
+     *
+     * @throws IOException 헤더보다 작게 잘린 파일 등 읽을 수 없는 경우
+     */
+    static SpoolSegment open(Path path, long sequence) throws IOException {
+        int capacity = (int) Math.min(Files.size(path), Integer.MAX_VALUE);
+        if (capacity < MIN_SIZE) {
+            throw new IOException("Truncated spool segment: " + path + " (" + capacity + " bytes)");
+        }
+        SpoolSegment segment = map(path, sequence, capacity);
+
+        long storedReadPosition = segment.buffer.getLong(0);
+        int position = storedReadPosition >= HEADER_SIZE && storedReadPosition <= capacity
+                ? (int) storedReadPosition : HEADER_SIZE;
+        segment.readPosition = position;
+        while (position + RECORD_HEADER_SIZE <= capacity) {
+            int length = segment.buffer.getInt(position);
+            if (length <= 0 || position + RECORD_HEADER_SIZE + length > capacity) {
+                break;
+            }
+            position += RECORD_HEADER_SIZE + length;
+        }
+        segment.writePosition = position;
+        return segment;
+    }
+
+    private static SpoolSegment map(Path path, long sequence, int capacity) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            return new SpoolSegment(sequence, path, channel, buffer, capacity);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 레코드 추가
+     *
+     * @return 공간이 부족하면 false
+     */
+    boolean append(byte[] data) {
+        if (writePosition + RECORD_HEADER_SIZE + data.length > capacity) {
+            return false;
+        }
+        buffer.put(writePosition + RECORD_HEADER_SIZE, data);
+        buffer.putInt(writePosition, data.length);
+        writePosition += RECORD_HEADER_SIZE + data.length;
+        return true;
+    }
+
+    /**
+     * 읽기 위치부터 최대 maxRecords개의 레코드 조회 (읽기 위치는 바꾸지 않음)
+     */
+    List<LogSpool.SpoolRecord> peek(int maxRecords) {
+        List<LogSpool.SpoolRecord> records = new ArrayList<>(Math.min(maxRecords, 64));
+        int position = readPosition;
+        while (records.size() < maxRecords && position < writePosition) {
+            int length = buffer.getInt(position);
+            byte[] data = new byte[length];
+            buffer.get(position + RECORD_HEADER_SIZE, data);
+            records.add(new LogSpool.SpoolRecord(sequence, position, data));
+            position += RECORD_HEADER_SIZE + length;
+        }
+        return records;
+    }
+
+    /**
+     * 지정한 레코드까지 읽음 처리
+     *
+     * @return 읽기 위치가 바뀌었으면 true
+     */
+    boolean commit(LogSpool.SpoolRecord record) {
+        if (record.segment() != sequence || record.position() < readPosition) {
+            return false;
+        }
+        readPosition = record.position() + RECORD_HEADER_SIZE + record.data().length;
+        buffer.putLong(0, readPosition);
+        return true;
+    }
+
+    /**
+     * 아직 읽지 않은 레코드 수
+     */
+    int unreadCount() {
+        int count = 0;
+        int position = readPosition;
+        while (position < writePosition) {
+            position += RECORD_HEADER_SIZE + buffer.getInt(position);
+            count++;
+        }
+        return count;
+    }
+
+    boolean hasUnread() {
+        return readPosition < writePosition;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    /**
+     * 채널 닫기 (매핑은 GC 시 해제)
+     */
+    void close() {
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // 닫기 실패는 무시
+        }
+    }
+
+    void delete() {
+        close();
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // 다음 시작 시 다시 읽고 삭제됨
+        }
+    }
+}
@@ -0,0 +1,411 @@
+package com.common.server.common.logging.spool;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.encoder.Encoder;
+import ch.qos.logback.core.util.Duration;
+import ch.qos.logback.core.util.FileSize;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 디스크 스풀을 사용하는 Logstash TCP Appender
+ *
+ * 평상시에는 메모리 큐를 거쳐 전송 스레드가 TCP로 보내고, Logstash가 느리거나 끊겨 큐가 가득 차면
+ * 인코딩한 이벤트를 메모리 매핑 세그먼트 파일(LogSpool)에 기록합니다.
+ * - 스풀에 데이터가 있는 동안에는 새 이벤트도 스풀 뒤에 붙여 순서 유지
+ * - 연결이 복구되면 메모리 큐 → 스풀 순서로 재전송하고, 플러시 후 읽음 처리 (재시작 후에도 이어서 재전송)
+ * - 전송 중 연결이 끊기면 마지막 플러시 이후 쓰기 버퍼에만 있던 이벤트를 스풀에 다시 기록
+ * - 디스크 사용량은 maxSpoolSize로 제한하며 가장 오래된 세그먼트부터 삭제
+ * - 종료 시 메모리 큐에 남은 이벤트도 스풀에 기록
+ *
+ * 유실/스풀/재전송 건수는 LogSpoolMetrics가 Micrometer 메트릭으로 노출합니다.
+ *
+ * 설정 예시 (logback-spring.xml):
+ * <pre>
+ * &lt;appender name="LOGSTASH" class="com.common.server.common.logging.spool.SpoolingLogstashAppender"&gt;
+ *     &lt;destination&gt;localhost:5000&lt;/destination&gt;
+ *     &lt;encoder class="net.logstash.logback.encoder.LogstashEncoder"/&gt;
+ *     &lt;spoolDirectory&gt;./logs/spool&lt;/spoolDirectory&gt;
+ *     &lt;maxSpoolSize&gt;512MB&lt;/maxSpoolSize&gt;
+ * &lt;/appender&gt;
+ * </pre>
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+public class SpoolingLogstashAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+
+    private static final int REPLAY_BATCH_SIZE = 256;
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private String destination;
+    private Encoder<ILoggingEvent> encoder;
+    private String spoolDirectory = "./logs/spool";
+    private FileSize segmentSize = FileSize.valueOf("8MB");
+    private FileSize maxSpoolSize = FileSize.valueOf("512MB");
+    private int queueSize = 8192;
+    private int writeBufferSize = 16384;
+    private Duration reconnectionDelay = Duration.buildBySeconds(1);
+    private Duration connectionTimeout = Duration.buildBySeconds(5);
+
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder spooledCount = new LongAdder();
+    private final LongAdder replayedCount = new LongAdder();
+
+    private final Object spoolLock = new Object();
+    private BlockingQueue<ILoggingEvent> queue;
+    private LogSpool spool;
+    private volatile boolean spooling;
+    private volatile long spoolSizeBytes;
+
+    private String host;
+    private int port;
+    private Thread sender;
+    private volatile boolean running;
+
+    // 전송 스레드 전용
+    private Socket socket;
+    private OutputStream output;
+    private byte[] pending;
+    private final List<byte[]> unflushed = new ArrayList<>();
+    private int unflushedBytes;
+    private boolean connectFailureReported;
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (encoder == null) {
+            addError("No encoder set for the appender named [" + name + "].");
+            return;
+        }
+        if (!parseDestination()) {
+            return;
+        }
+
+        queue = new ArrayBlockingQueue<>(queueSize);
+        try {
+            spool = new LogSpool(Path.of(spoolDirectory), (int) segmentSize.getSize(), maxSpoolSize.getSize());
+            spooling = !spool.isEmpty();
+            spoolSizeBytes = spool.sizeOnDisk();
+            if (!spool.skippedSegments().isEmpty()) {
+                addWarn("Skipped unreadable spool segments " + spool.skippedSegments()
+                        + " (truncated files deleted, others renamed to *.corrupt)");
+            }
+            if (spooling) {
+                addInfo("Found spooled log events in [" + spoolDirectory + "], will replay after connecting");
+            }
+        } catch (IOException | RuntimeException e) {
+            addError("Failed to open log spool [" + spoolDirectory + "], events will be dropped when the queue is full", e);
+            spool = null;
+        }
+
+        running = true;
+        sender = new Thread(this::sendLoop, "logstash-spool-sender");
+        sender.setDaemon(true);
+        sender.start();
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        running = false;
+        sender.interrupt();
+        try {
+            sender.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        disconnect();
+
+        // 전송하지 못한 이벤트는 다음 시작 시 재전송되도록 스풀에 기록
+        if (pending != null) {
+            spool(pending);
+            pending = null;
+        }
+        ILoggingEvent event;
+        while ((event = queue.poll()) != null) {
+            spool(encoder.encode(event));
+        }
+        synchronized (spoolLock) {
+            if (spool != null) {
+                spool.close();
+            }
+        }
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        event.prepareForDeferredProcessing();
+        if (!spooling && queue.offer(event)) {
+            return;
+        }
+        spool(encoder.encode(event));
+    }
+
+    private void spool(byte[] data) {
+        if (spool == null || data.length > spool.maxRecordSize()) {
+            droppedCount.increment();
+            return;
+        }
+        synchronized (spoolLock) {
+            try {
+                long evicted = spool.append(data);
+                if (evicted > 0) {
+                    droppedCount.add(evicted);
+                }
+                spooledCount.increment();
+                spooling = true;
+                spoolSizeBytes = spool.sizeOnDisk();
+            } catch (IOException | RuntimeException e) {
+                droppedCount.increment();
+                addError("Failed to write log event to spool", e);
+            }
+        }
+    }
+
+    // ========== 전송 스레드 ==========
+
+    private void sendLoop() {
+        while (running) {
+            try {
+                if (output == null && !connect()) {
+                    Thread.sleep(reconnectionDelay.getMilliseconds());
+                    continue;
+                }
+                sendNext();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (IOException e) {
+                addWarn("Connection to Logstash [" + destination + "] lost, spooling until it recovers", e);
+                respoolUnflushed();
+                disconnect();
+            }
+        }
+        if (output != null) {
+            try {
+                flush();
+            } catch (IOException e) {
+                respoolUnflushed();
+            }
+        }
+    }
+
+    private void sendNext() throws IOException, InterruptedException {
+        // 1. 스풀보다 먼저 들어온 메모리 큐의 이벤트
+        if (pending == null) {
+            ILoggingEvent event = queue.poll();
+            if (event != null) {
+                pending = encoder.encode(event);
+            }
+        }
+        if (pending != null) {
+            write(pending);
+            pending = null;
+            return;
+        }
+
+        // 2. 스풀된 이벤트 (플러시 후 읽음 처리)
+        List<LogSpool.SpoolRecord> records = peekSpool();
+        if (!records.isEmpty()) {
+            for (LogSpool.SpoolRecord record : records) {
+                output.write(record.data());
+            }
+            flush();
+            synchronized (spoolLock) {
+                spool.commit(records.get(records.size() - 1));
+                spoolSizeBytes = spool.sizeOnDisk();
+            }
+            replayedCount.add(records.size());
+            return;
+        }
+
+        // 3. 보낼 것이 없으면 플러시 후 대기
+        flush();
+        ILoggingEvent event = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (event != null) {
+            pending = encoder.encode(event);
+        }
+    }
+
+    /**
+     * 메모리 큐에서 꺼낸 이벤트 쓰기
+     *
+     * 쓰기 버퍼에만 있는 동안은 연결이 끊기면 함께 버려지므로, 플러시에 성공할 때까지 보관합니다.
+     * 보관량이 writeBufferSize에 도달하면 바로 플러시합니다.
+     */
+    private void write(byte[] data) throws IOException {
+        output.write(data);
+        unflushed.add(data);
+        unflushedBytes += data.length;
+        if (unflushedBytes >= writeBufferSize) {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        output.flush();
+        unflushed.clear();
+        unflushedBytes = 0;
+    }
+
+    /**
+     * 전송이 확인되지 않은 이벤트를 스풀에 다시 기록 (일부는 중복 전송될 수 있음)
+     */
+    private void respoolUnflushed() {
+        for (byte[] data : unflushed) {
+            spool(data);
+        }
+        unflushed.clear();
+        unflushedBytes = 0;
+    }
+
+    private List<LogSpool.SpoolRecord> peekSpool() {
+        if (!spooling) {
+            return List.of();
+        }
+        synchronized (spoolLock) {
+            List<LogSpool.SpoolRecord> records = spool.peek(REPLAY_BATCH_SIZE);
+            if (records.isEmpty() && spool.isEmpty()) {
+                // 스풀을 모두 비웠으므로 새 이벤트는 다시 메모리 큐로
+                spooling = false;
+            }
+            return records;
+        }
+    }
+
+    private boolean connect() {
+        Socket newSocket = new Socket();
+        try {
+            // 재연결마다 주소를 다시 조회 (Logstash 재배포로 IP가 바뀌는 경우)
+            newSocket.connect(new InetSocketAddress(host, port), (int) connectionTimeout.getMilliseconds());
+            socket = newSocket;
+            output = new BufferedOutputStream(openOutput(newSocket), writeBufferSize);
+            connectFailureReported = false;
+            addInfo("Connected to Logstash [" + destination + "]");
+            return true;
+        } catch (IOException e) {
+            closeQuietly(newSocket);
+            if (!connectFailureReported) {
+                addWarn("Failed to connect to Logstash [" + destination + "], spooling until it recovers", e);
+                connectFailureReported = true;
+            }
+            return false;
+        }
+    }
+
+    OutputStream openOutput(Socket connected) throws IOException {
+        return connected.getOutputStream();
+    }
+
+    private void disconnect() {
+        closeQuietly(socket);
+        socket = null;
+        output = null;
+    }
+
+    private static void closeQuietly(Socket target) {
+        if (target != null) {
+            try {
+                target.close();
+            } catch (IOException ignored) {
+                // 닫기 실패는 무시
+            }
+        }
+    }
+
+    private boolean parseDestination() {
+        if (destination == null || destination.isBlank()) {
+            addError("No destination set for the appender named [" + name + "].");
+            return false;
+        }
+        int separator = destination.lastIndexOf(':');
+        try {
+            host = destination.substring(0, separator).trim();
+            port = Integer.parseInt(destination.substring(separator + 1).trim());
+            return !host.isEmpty();
+        } catch (RuntimeException e) {
+            addError("Invalid destination [" + destination + "], expected host:port", e);
+            return false;
+        }
+    }
+
+    // ========== 메트릭 ==========
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    public long getSpooledCount() {
+        return spooledCount.sum();
+    }
+
+    public long getReplayedCount() {
+        return replayedCount.sum();
+    }
+
+    public long getSpoolSizeBytes() {
+        return spoolSizeBytes;
+    }
+
+    public int getQueueDepth() {
+        BlockingQueue<ILoggingEvent> current = queue;
+        return current != null ? current.size() : 0;
+    }
+
+    // ========== 설정 ==========
+
+    public void setDestination(String destination) {
+        this.destination = destination;
+    }
+
+    public void setEncoder(Encoder<ILoggingEvent> encoder) {
+        this.encoder = encoder;
+    }
+
+    public void setSpoolDirectory(String spoolDirectory) {
+        this.spoolDirectory = spoolDirectory;
+    }
+
+    public void setSegmentSize(FileSize segmentSize) {
+        this.segmentSize = segmentSize;
+    }
+
+    public void setMaxSpoolSize(FileSize maxSpoolSize) {
+        this.maxSpoolSize = maxSpoolSize;
+    }
+
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public void setWriteBufferSize(int writeBufferSize) {
+        this.writeBufferSize = writeBufferSize;
+    }
+
+    public void setReconnectionDelay(Duration reconnectionDelay) {
+        this.reconnectionDelay = reconnectionDelay;
+    }
+
+    public void setConnectionTimeout(Duration connectionTimeout) {
+        this.connectionTimeout = connectionTimeout;
+    }
+}
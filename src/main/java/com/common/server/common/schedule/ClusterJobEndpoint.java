@@ -0,0 +1,36 @@
+package com.common.server.common.schedule;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 클러스터 스케줄 작업 Actuator 엔드포인트
+ *
+ * - GET /actuator/clusterjobs : 작업(샤드)별 마지막 실행 시각, 소요 시간, 실행 노드, 상태
+ *
+ * 노출: 기본 비노출, management.endpoints.web.exposure.include에 clusterjobs 추가
+ * (노드 이름과 작업 상태가 포함되므로 SecurityConfig에서 인증을 요구)
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Component
+@Endpoint(id = "clusterjobs")
+@RequiredArgsConstructor
+public class ClusterJobEndpoint {
+
+    private final ClusterJobService clusterJobService;
+
+    @ReadOperation
+    public Map<String, Object> clusterJobs() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("node", clusterJobService.getNodeId());
+        result.put("jobs", clusterJobService.lastRuns());
+        return result;
+    }
+}
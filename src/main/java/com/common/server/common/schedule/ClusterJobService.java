@@ -0,0 +1,274 @@
+package com.common.server.common.schedule;
+
+import com.common.server.common.id.IdGenerator;
+import com.common.server.config.ClusterScheduleProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클러스터 작업 리스/실행 기록 서비스
+ *
+ * - 실행(샤드)마다 Redis SET NX PX로 리스를 획득, 실패하면 다른 노드가 실행 중이므로 건너뜀
+ * - 샤드 리스는 이번 주기의 모든 샤드를 마칠 때까지 유지한 뒤 보유자 확인 후 해제
+ *   (minHoldTime이 남았으면 남은 시간만큼 유지)
+ * - 실행 결과를 {prefix}run:{job} 해시에 기록 (시작 시각, 소요 시간, 노드, 상태, 오류)
+ * - Redis 장애로 리스를 확인할 수 없으면 중복 실행 대신 건너뜀
+ *
+ * 메트릭: cluster.job.run (Timer, tag: job, outcome), cluster.job.skipped (Counter, tag: job)
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Service
+@Slf4j
+public class ClusterJobService {
+
+    /**
+     * KEYS[1]: 리스 / ARGV[1]: 보유자 토큰, ARGV[2]: 남은 최소 유지 시간(ms)
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) ~= ARGV[1] then " +
+            "  return 0 " +
+            "end " +
+            "if tonumber(ARGV[2]) > 0 then " +
+            "  return redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+            "end " +
+            "return redis.call('DEL', KEYS[1])",
+            Long.class);
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final String keyPrefix;
+    private final String nodeId;
+
+    public ClusterJobService(StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry,
+                             ClusterScheduleProperties properties) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.keyPrefix = properties.getKeyPrefix();
+        this.nodeId = StringUtils.hasText(properties.getNodeId()) ? properties.getNodeId() : resolveHostName();
+    }
+
+    /**
+     * 리스를 획득한 샤드마다 작업 실행
+     *
+     * 노드마다 시작 샤드를 다르게 하여 동시에 트리거된 노드들이 서로 다른 샤드부터 가져가도록 합니다.
+     * 끝난 샤드의 리스도 주기가 끝날 때까지 해제하지 않으므로, 같은 시각에 트리거된 노드가
+     * 순회 중 뒤늦게 그 샤드에 도달해도 다시 실행하지 않습니다.
+     * 한 샤드가 실패해도 나머지 샤드는 계속 실행하고, 순회가 끝난 뒤 첫 실패를 던집니다 (이후 실패는 suppressed).
+     *
+     * @param job 작업 이름
+     * @param shards 샤드 수
+     * @param leaseTime 리스 최대 유지 시간 (모든 샤드를 실행하는 시간보다 길게 지정)
+     * @param minHoldTime 리스 최소 유지 시간 (주기 시작 시각 기준)
+     * @param body 실행할 작업 (JobShard.current()로 샤드 확인)
+     * @return 이 노드가 실행한 샤드 수
+     */
+    public int run(String job, int shards, Duration leaseTime, Duration minHoldTime, JobBody body) throws Throwable {
+        int total = Math.max(1, shards);
+        int offset = Math.floorMod(nodeId.hashCode(), total);
+        long cycleStart = System.nanoTime();
+        List<Lease> held = new ArrayList<>(total);
+        Throwable failure = null;
+        try {
+            for (int i = 0; i < total; i++) {
+                JobShard shard = new JobShard((offset + i) % total, total);
+                Throwable shardFailure = runShard(job, shard, leaseTime, body, held);
+                if (shardFailure == null) {
+                    continue;
+                }
+                if (failure == null) {
+                    failure = shardFailure;
+                } else if (failure != shardFailure) {
+                    failure.addSuppressed(shardFailure);
+                }
+            }
+        } finally {
+            long remainingHoldNanos = minHoldTime.toNanos() - (System.nanoTime() - cycleStart);
+            for (Lease lease : held) {
+                release(lease.key(), lease.token(), remainingHoldNanos);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return held.size();
+    }
+
+    /**
+     * 샤드 하나 실행
+     *
+     * @return 작업이 던진 예외 (성공했거나 리스를 얻지 못했으면 null)
+     */
+    private Throwable runShard(String job, JobShard shard, Duration leaseTime, JobBody body, List<Lease> held) {
+        String runId = shard.total() > 1 ? job + ":" + shard.index() : job;
+        String leaseKey = keyPrefix + "lease:" + runId;
+        String token = nodeId + ":" + IdGenerator.ulid();
+
+        Boolean acquired;
+        try {
+            acquired = stringRedisTemplate.opsForValue().setIfAbsent(leaseKey, token, leaseTime);
+        } catch (Exception e) {
+            log.warn("Skipping cluster job '{}': lease could not be checked ({})", runId, e.getMessage());
+            skipped(job);
+            return null;
+        }
+        if (!Boolean.TRUE.equals(acquired)) {
+            log.debug("Skipping cluster job '{}': lease held by another node", runId);
+            skipped(job);
+            return null;
+        }
+        held.add(new Lease(leaseKey, token));
+
+        Instant startedAt = Instant.now();
+        long start = System.nanoTime();
+        Throwable failure = null;
+        JobShard previous = JobShard.bind(shard);
+        try {
+            body.run();
+        } catch (Throwable t) {
+            failure = t;
+        } finally {
+            JobShard.restore(previous);
+            long durationNanos = System.nanoTime() - start;
+            recordRun(job, runId, startedAt, durationNanos, failure);
+        }
+        return failure;
+    }
+
+    private void release(String leaseKey, String token, long remainingHoldNanos) {
+        try {
+            long remainingMillis = Math.max(0, TimeUnit.NANOSECONDS.toMillis(remainingHoldNanos));
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(leaseKey), token, String.valueOf(remainingMillis));
+        } catch (Exception e) {
+            // 해제에 실패해도 leaseTime이 지나면 만료됨
+            log.warn("Failed to release cluster job lease {}", leaseKey, e);
+        }
+    }
+
+    private void recordRun(String job, String runId, Instant startedAt, long durationNanos, Throwable failure) {
+        String outcome = failure == null ? ClusterJobRun.SUCCESS : ClusterJobRun.FAILED;
+        Timer.builder("cluster.job.run")
+                .description("Cluster job executions on this node")
+                .tag("job", job)
+                .tag("outcome", outcome.toLowerCase(Locale.ROOT))
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("node", nodeId);
+        fields.put("startedAt", startedAt.toString());
+        fields.put("durationMillis", String.valueOf(TimeUnit.NANOSECONDS.toMillis(durationNanos)));
+        fields.put("status", outcome);
+        fields.put("error", failure == null ? "" : abbreviate(String.valueOf(failure)));
+        try {
+            stringRedisTemplate.opsForHash().putAll(keyPrefix + "run:" + runId, fields);
+            stringRedisTemplate.opsForSet().add(keyPrefix + "jobs", runId);
+        } catch (Exception e) {
+            log.warn("Failed to record cluster job run '{}'", runId, e);
+        }
+        log.info("Cluster job '{}' {} on {} in {}ms", runId, outcome, nodeId,
+                TimeUnit.NANOSECONDS.toMillis(durationNanos));
+    }
+
+    private void skipped(String job) {
+        Counter.builder("cluster.job.skipped")
+                .description("Cluster job triggers skipped because another node held the lease")
+                .tag("job", job)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 모든 작업(샤드)의 마지막 실행 기록
+     */
+    public List<ClusterJobRun> lastRuns() {
+        Set<String> runIds = stringRedisTemplate.opsForSet().members(keyPrefix + "jobs");
+        if (runIds == null || runIds.isEmpty()) {
+            return List.of();
+        }
+        List<ClusterJobRun> runs = new ArrayList<>(runIds.size());
+        for (String runId : runIds) {
+            Map<Object, Object> fields = stringRedisTemplate.opsForHash().entries(keyPrefix + "run:" + runId);
+            if (!fields.isEmpty()) {
+                runs.add(ClusterJobRun.of(runId, fields));
+            }
+        }
+        runs.sort(Comparator.comparing(ClusterJobRun::job));
+        return runs;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private static String abbreviate(String value) {
+        return value.length() <= MAX_ERROR_LENGTH ? value : value.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return IdGenerator.ulid();
+        }
+    }
+
+    /**
+     * 이 노드가 획득한 샤드 리스
+     */
+    private record Lease(String key, String token) {
+    }
+
+    /**
+     * 실행할 작업 본문
+     */
+    @FunctionalInterface
+    public interface JobBody {
+        void run() throws Throwable;
+    }
+
+    /**
+     * 작업(샤드)의 마지막 실행 기록
+     */
+    public record ClusterJobRun(String job, String node, Instant startedAt, long durationMillis, String status,
+                                String error) {
+
+        static final String SUCCESS = "SUCCESS";
+        static final String FAILED = "FAILED";
+
+        static ClusterJobRun of(String job, Map<Object, Object> fields) {
+            Object startedAt = fields.get("startedAt");
+            Object duration = fields.get("durationMillis");
+            Object error = fields.get("error");
+            return new ClusterJobRun(
+                    job,
+                    (String) fields.get("node"),
+                    startedAt != null ? Instant.parse(startedAt.toString()) : null,
+                    duration != null ? Long.parseLong(duration.toString()) : -1,
+                    (String) fields.get("status"),
+                    error != null && !error.toString().isEmpty() ? error.toString() : null);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.common.server.common.schedule;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클러스터 단일 실행 스케줄 작업 어노테이션
+ *
+ * {@literal @}Scheduled와 함께 사용하여, 모든 노드에서 트리거되더라도 실행마다 Redis 리스를 획득한
+ * 노드 하나만 작업을 수행하도록 합니다. 리스를 얻지 못한 노드는 이번 실행을 건너뜁니다.
+ * 마지막 실행 시각, 소요 시간, 실행 노드는 Redis에 기록되어 /actuator/clusterjobs로 조회할 수 있습니다.
+ *
+ * shards를 2 이상으로 지정하면 작업을 샤드로 나누어 샤드마다 리스를 획득하므로,
+ * 여러 노드가 샤드를 나누어 처리합니다. 작업 안에서는 JobShard.current()로 담당 샤드를 확인합니다.
+ * 샤드 리스는 이번 주기의 모든 샤드를 마칠 때까지 유지되므로 같은 주기에 샤드가 중복 실행되지 않습니다.
+ *
+ * 사용 예시:
+ * <pre>
+ * {@literal @}Scheduled(cron = "0 0 4 * * *")
+ * {@literal @}ClusterScheduled(name = "refresh-token-cleanup", leaseTime = 30, timeUnit = TimeUnit.MINUTES)
+ * public void deleteExpiredRefreshTokens() { ... }
+ *
+ * {@literal @}Scheduled(fixedDelay = 60000)
+ * {@literal @}ClusterScheduled(name = "stats-rollup", shards = 8, minHoldTime = 50)
+ * public void rollup() {
+ *     JobShard shard = JobShard.current();
+ *     repository.findPending(shard.total(), shard.index()); // WHERE MOD(id, total) = index
+ * }
+ * </pre>
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ClusterScheduled {
+
+    /**
+     * 작업 이름 (리스/실행 기록 키, 기본: 클래스명.메서드명)
+     */
+    String name() default "";
+
+    /**
+     * 샤드 수 (기본: 1, 샤딩 없음)
+     */
+    int shards() default 1;
+
+    /**
+     * 리스 최대 유지 시간 (기본: 600초)
+     * 작업이 끝나지 않은 채 노드가 죽어도 이 시간이 지나면 다른 노드가 실행할 수 있음
+     * (작업 최대 소요 시간보다 길게 지정, 샤딩 시에는 모든 샤드의 소요 시간 합보다 길게 지정)
+     */
+    long leaseTime() default 600;
+
+    /**
+     * 리스 최소 유지 시간 (기본: 0)
+     * 작업이 빨리 끝나도 이 시간 동안은 리스를 유지하여, 트리거 시각이 조금씩 어긋난 다른 노드가
+     * 같은 주기에 다시 실행하지 않도록 함 (실행 주기보다 조금 짧게 지정, 샤딩 시 주기 시작 시각 기준)
+     */
+    long minHoldTime() default 0;
+
+    /**
+     * 시간 단위 (기본: 초)
+     */
+    TimeUnit timeUnit() default TimeUnit.SECONDS;
+}
@@ -0,0 +1,50 @@
+package com.common.server.common.schedule;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+
+/**
+ * 클러스터 스케줄 작업 AOP Aspect
+ *
+ * @ClusterScheduled 어노테이션이 붙은 메서드를 리스를 획득한 노드에서만 실행합니다.
+ * 트랜잭션 등 다른 Advice보다 바깥에서 리스를 잡도록 우선순위를 높게 둡니다.
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 100)
+@RequiredArgsConstructor
+@Slf4j
+public class ClusterScheduledAspect {
+
+    private final ClusterJobService clusterJobService;
+
+    @Around("@annotation(clusterScheduled)")
+    public Object around(ProceedingJoinPoint joinPoint, ClusterScheduled clusterScheduled) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        String job = !clusterScheduled.name().isEmpty()
+                ? clusterScheduled.name()
+                : method.getDeclaringClass().getSimpleName() + "." + method.getName();
+
+        clusterJobService.run(
+                job,
+                clusterScheduled.shards(),
+                Duration.ofNanos(clusterScheduled.timeUnit().toNanos(clusterScheduled.leaseTime())),
+                Duration.ofNanos(clusterScheduled.timeUnit().toNanos(clusterScheduled.minHoldTime())),
+                joinPoint::proceed);
+        // 스케줄 작업은 반환값을 사용하지 않음
+        return null;
+    }
+}
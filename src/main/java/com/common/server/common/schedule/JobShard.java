@@ -0,0 +1,53 @@
+package com.common.server.common.schedule;
+
+/**
+ * 현재 실행 중인 클러스터 작업의 샤드
+ *
+ * {@literal @}ClusterScheduled(shards = N) 작업 안에서 JobShard.current()로 담당 샤드를 확인합니다.
+ * 샤딩하지 않은 작업이나 작업 밖에서는 (0, 1)을 반환합니다.
+ *
+ * @param index 샤드 번호 (0부터)
+ * @param total 전체 샤드 수
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+public record JobShard(int index, int total) {
+
+    private static final JobShard SINGLE = new JobShard(0, 1);
+    private static final ThreadLocal<JobShard> CURRENT = new ThreadLocal<>();
+
+    /**
+     * 현재 스레드가 처리 중인 샤드
+     */
+    public static JobShard current() {
+        JobShard shard = CURRENT.get();
+        return shard != null ? shard : SINGLE;
+    }
+
+    /**
+     * 키가 이 샤드에 속하는지 확인 (hashCode 기준)
+     */
+    public boolean owns(Object key) {
+        return total <= 1 || Math.floorMod(key.hashCode(), total) == index;
+    }
+
+    /**
+     * 샤드 바인딩 (이전 값 반환)
+     */
+    static JobShard bind(JobShard shard) {
+        JobShard previous = CURRENT.get();
+        CURRENT.set(shard);
+        return previous;
+    }
+
+    /**
+     * 이전 샤드로 복원
+     */
+    static void restore(JobShard previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
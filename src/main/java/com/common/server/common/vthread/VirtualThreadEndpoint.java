@@ -0,0 +1,45 @@
+package com.common.server.common.vthread;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 가상 스레드 피닝 Actuator 엔드포인트
+ *
+ * - GET /actuator/vthreads : 피닝/제출 실패 건수와 상위 스택
+ * - DELETE /actuator/vthreads : 스택 집계 초기화 (수정 배포 후 재확인 용도)
+ *
+ * 노출: 기본 비노출, management.endpoints.web.exposure.include에 vthreads 추가
+ * (스택이 포함되고 DELETE로 집계를 지울 수 있으므로 SecurityConfig에서 인증을 요구)
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Component
+@Endpoint(id = "vthreads")
+@RequiredArgsConstructor
+public class VirtualThreadEndpoint {
+
+    private final VirtualThreadPinningMonitor monitor;
+
+    @ReadOperation
+    public Map<String, Object> vthreads() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("running", monitor.isRunning());
+        result.put("pinned", monitor.pinnedCount());
+        result.put("submitFailed", monitor.submitFailedCount());
+        result.put("topStacks", monitor.topStacks());
+        return result;
+    }
+
+    @DeleteOperation
+    public void reset() {
+        monitor.reset();
+    }
+}
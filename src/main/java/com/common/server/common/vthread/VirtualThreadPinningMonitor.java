@@ -0,0 +1,225 @@
+package com.common.server.common.vthread;
+
+import com.common.server.config.VirtualThreadMonitorProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가상 스레드 피닝 / 캐리어 스레드 고갈 모니터
+ *
+ * JFR RecordingStream으로 다음 이벤트를 구독하여 스택별로 집계합니다.
+ * - jdk.VirtualThreadPinned: synchronized 블록, 네이티브 프레임 안에서 블로킹하여 캐리어 스레드를 점유
+ * - jdk.VirtualThreadSubmitFailed: 캐리어 스케줄러에 가상 스레드 제출 실패 (캐리어 고갈)
+ *
+ * 이벤트는 발생할 때만 기록되고(피닝은 pinnedThreshold 이상만), 집계는 JFR 소비 스레드 하나에서 수행하므로
+ * 정상 상태 처리량에는 영향이 거의 없습니다.
+ *
+ * 메트릭: virtual.thread.pinned (Timer), virtual.thread.submit.failed (Counter),
+ * virtual.thread.pinned.stacks (Gauge, 집계 중인 스택 수)
+ * VirtualThreadEndpoint(/actuator/vthreads)로 상위 스택을 조회합니다.
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Component
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    static final String SUBMIT_FAILED_EVENT = "jdk.VirtualThreadSubmitFailed";
+    static final String OTHER_STACK = "OTHER";
+
+    private final VirtualThreadMonitorProperties properties;
+    private final Map<String, StackStats> stacks = new ConcurrentHashMap<>();
+    private final Timer pinnedTimer;
+    private final Counter submitFailedCounter;
+
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(VirtualThreadMonitorProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.pinnedTimer = Timer.builder("virtual.thread.pinned")
+                .description("Virtual thread parks or blocks that pinned a carrier thread")
+                .register(meterRegistry);
+        this.submitFailedCounter = Counter.builder("virtual.thread.submit.failed")
+                .description("Virtual threads that could not be submitted to the carrier scheduler")
+                .register(meterRegistry);
+        Gauge.builder("virtual.thread.pinned.stacks", stacks, Map::size)
+                .description("Distinct stacks aggregated by the pinning monitor")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            RecordingStream stream = new RecordingStream();
+            stream.enable(PINNED_EVENT).withThreshold(properties.getPinnedThreshold()).withStackTrace();
+            stream.enable(SUBMIT_FAILED_EVENT).withStackTrace();
+            stream.setMaxAge(Duration.ofSeconds(10));
+            stream.onEvent(PINNED_EVENT, this::onEvent);
+            stream.onEvent(SUBMIT_FAILED_EVENT, this::onEvent);
+            stream.startAsync();
+            recordingStream = stream;
+            log.info("Virtual thread pinning monitor started (threshold={})", properties.getPinnedThreshold());
+        } catch (RuntimeException e) {
+            // JFR을 사용할 수 없는 런타임에서는 모니터 없이 동작
+            log.warn("Virtual thread pinning monitor unavailable: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    public boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    private void onEvent(RecordedEvent event) {
+        RecordedThread thread = event.getThread();
+        record(event.getEventType().getName(), frames(event.getStackTrace()), event.getDuration(),
+                thread != null ? thread.getJavaName() : null);
+    }
+
+    private List<String> frames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return List.of();
+        }
+        List<RecordedFrame> recorded = stackTrace.getFrames();
+        int depth = Math.min(recorded.size(), properties.getMaxStackDepth());
+        List<String> frames = new ArrayList<>(depth);
+        for (int i = 0; i < depth; i++) {
+            RecordedFrame frame = recorded.get(i);
+            frames.add(frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                    + "(line:" + frame.getLineNumber() + ")");
+        }
+        return frames;
+    }
+
+    /**
+     * 이벤트 한 건 집계
+     */
+    void record(String eventType, List<String> frames, Duration duration, String threadName) {
+        if (PINNED_EVENT.equals(eventType)) {
+            pinnedTimer.record(duration);
+        } else {
+            submitFailedCounter.increment();
+        }
+
+        String key = eventType + "\n" + String.join("\n", frames);
+        StackStats stats = stacks.get(key);
+        if (stats == null) {
+            if (stacks.size() >= properties.getMaxStacks()) {
+                key = eventType + "\n" + OTHER_STACK;
+                frames = List.of(OTHER_STACK);
+            }
+            List<String> stack = List.copyOf(frames);
+            stats = stacks.computeIfAbsent(key, k -> new StackStats(eventType, stack));
+        }
+        stats.add(duration, threadName);
+    }
+
+    /**
+     * 발생 횟수 기준 상위 스택
+     */
+    public List<StackSummary> topStacks() {
+        List<StackSummary> summaries = new ArrayList<>(stacks.size());
+        for (StackStats stats : stacks.values()) {
+            summaries.add(stats.summary());
+        }
+        summaries.sort(Comparator.comparingLong(StackSummary::count).reversed());
+        return Collections.unmodifiableList(
+                summaries.subList(0, Math.min(summaries.size(), properties.getTopStacks())));
+    }
+
+    /**
+     * 피닝 이벤트 총 건수
+     */
+    public long pinnedCount() {
+        return pinnedTimer.count();
+    }
+
+    /**
+     * 제출 실패 이벤트 총 건수
+     */
+    public long submitFailedCount() {
+        return (long) submitFailedCounter.count();
+    }
+
+    /**
+     * 집계 초기화 (메트릭 누적값은 유지)
+     */
+    public void reset() {
+        stacks.clear();
+    }
+
+    // ========== 내부 타입 ==========
+
+    /**
+     * 스택 하나의 누적 통계
+     */
+    private static final class StackStats {
+
+        private final String event;
+        private final List<String> stack;
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private volatile Instant lastSeen;
+        private volatile String lastThread;
+
+        private StackStats(String event, List<String> stack) {
+            this.event = event;
+            this.stack = stack;
+        }
+
+        private void add(Duration duration, String threadName) {
+            long nanos = duration.toNanos();
+            count.incrementAndGet();
+            totalNanos.addAndGet(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+            lastSeen = Instant.now();
+            lastThread = threadName;
+        }
+
+        private StackSummary summary() {
+            return new StackSummary(event, count.get(), TimeUnit.NANOSECONDS.toMillis(totalNanos.get()),
+                    TimeUnit.NANOSECONDS.toMillis(maxNanos.get()), lastSeen, lastThread, stack);
+        }
+    }
+
+    /**
+     * 스택별 집계 결과
+     */
+    public record StackSummary(String event, long count, long totalMillis, long maxMillis, Instant lastSeen,
+                               String lastThread, List<String> stack) {
+    }
+}
@@ -1,10 +1,19 @@
 package com.common.server.config;
 
+import com.common.server.common.async.BoundedVirtualThreadExecutor;
+import com.common.server.common.async.ExecutorMetrics;
+import com.common.server.common.async.PolicyRejectedExecutionHandler;
 import com.common.server.common.logging.MdcTaskDecorator;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -15,7 +24,9 @@ import java.util.concurrent.Executor;
 /**
  * 비동기 처리 설정
  *
- * - 커스텀 ThreadPool 설정
+ * - 커스텀 ThreadPool 설정 (async.* 프로퍼티)
+ * - spring.threads.virtual.enabled=true이면 가상 스레드 + 세마포어(max-concurrency)로 동시 실행 제한
+ * - Executor별 포화 시 거부 정책 (rejection-policy) 및 Micrometer 메트릭 (async.executor.*)
  * - 비동기 예외 처리
  * - Graceful Shutdown 지원
  *
@@ -24,61 +35,83 @@ import java.util.concurrent.Executor;
  */
 @Configuration
 @EnableAsync
+@RequiredArgsConstructor
 @Slf4j
 public class AsyncConfig implements AsyncConfigurer {
 
+    private final AsyncProperties asyncProperties;
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
     /**
-     * 기본 비동기 작업용 ThreadPool
+     * 기본 비동기 작업용 Executor
      */
     @Bean(name = "taskExecutor")
-    public ThreadPoolTaskExecutor taskExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(10);           // 기본 스레드 수
-        executor.setMaxPoolSize(50);            // 최대 스레드 수
-        executor.setQueueCapacity(100);         // 대기 큐 크기
-        executor.setKeepAliveSeconds(60);       // 유휴 스레드 유지 시간
-        executor.setThreadNamePrefix("Async-");
-        executor.setTaskDecorator(new MdcTaskDecorator()); // MDC 컨텍스트 전파
-        executor.setWaitForTasksToCompleteOnShutdown(true);  // Graceful Shutdown
-        executor.setAwaitTerminationSeconds(30);             // 최대 대기 시간
-        executor.setRejectedExecutionHandler((r, e) -> {
-            log.warn("Task rejected from Async executor. Consider increasing pool size.");
-        });
-        executor.initialize();
-        return executor;
+    public AsyncTaskExecutor taskExecutor() {
+        return createExecutor("taskExecutor", asyncProperties.getTask());
     }
 
     /**
-     * 이메일/알림 전송용 별도 ThreadPool
+     * 이메일/알림 전송용 별도 Executor
      */
     @Bean(name = "notificationExecutor")
-    public ThreadPoolTaskExecutor notificationExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5);
-        executor.setMaxPoolSize(20);
-        executor.setQueueCapacity(200);
-        executor.setThreadNamePrefix("Notification-");
-        executor.setTaskDecorator(new MdcTaskDecorator()); // MDC 컨텍스트 전파
-        executor.setWaitForTasksToCompleteOnShutdown(true);
-        executor.setAwaitTerminationSeconds(60);
-        executor.initialize();
-        return executor;
+    public AsyncTaskExecutor notificationExecutor() {
+        return createExecutor("notificationExecutor", asyncProperties.getNotification());
     }
 
     /**
-     * 백그라운드 작업용 ThreadPool (배치, 정리 작업 등)
+     * 백그라운드 작업용 Executor (배치, 정리 작업 등)
      */
     @Bean(name = "backgroundExecutor")
-    public ThreadPoolTaskExecutor backgroundExecutor() {
+    public AsyncTaskExecutor backgroundExecutor() {
+        return createExecutor("backgroundExecutor", asyncProperties.getBackground());
+    }
+
+    /**
+     * 설정에 따라 가상 스레드 또는 플랫폼 스레드 풀 Executor 생성
+     * (MeterRegistry가 있으면 대기/실행 시간, 포화도, 거부 메트릭 등록)
+     */
+    private AsyncTaskExecutor createExecutor(String name, AsyncProperties.Executor config) {
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable();
+        ExecutorMetrics metrics = meterRegistry != null ? new ExecutorMetrics(name, meterRegistry) : null;
+        TaskDecorator taskDecorator = new MdcTaskDecorator(); // 요청 컨텍스트 전파
+        if (metrics != null) {
+            taskDecorator = metrics.decorate(taskDecorator);
+        }
+
+        if (virtualThreadsEnabled) {
+            BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor(
+                    config.getThreadNamePrefix(), config.getMaxConcurrency(), config.getMaxPending());
+            executor.setTaskDecorator(taskDecorator);
+            executor.setAwaitTerminationSeconds(config.getAwaitTerminationSeconds());
+            executor.setRejectionPolicy(config.getRejectionPolicy(), config.getBlockTimeout());
+            executor.setMetrics(metrics);
+            if (metrics != null) {
+                metrics.registerGauges(executor::getActiveCount, executor::getPendingCount,
+                        executor::getMaxConcurrency);
+            }
+            log.info("Executor '{}' uses virtual threads (maxConcurrency={}, maxPending={}, rejection={})",
+                    name, config.getMaxConcurrency(), config.getMaxPending(), config.getRejectionPolicy());
+            return executor;
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(3);
-        executor.setMaxPoolSize(10);
-        executor.setQueueCapacity(50);
-        executor.setThreadNamePrefix("Background-");
-        executor.setTaskDecorator(new MdcTaskDecorator()); // MDC 컨텍스트 전파
-        executor.setWaitForTasksToCompleteOnShutdown(true);
-        executor.setAwaitTerminationSeconds(120);
-        executor.initialize();
+        executor.setCorePoolSize(config.getCorePoolSize());       // 기본 스레드 수
+        executor.setMaxPoolSize(config.getMaxPoolSize());         // 최대 스레드 수
+        executor.setQueueCapacity(config.getQueueCapacity());     // 대기 큐 크기
+        executor.setKeepAliveSeconds(config.getKeepAliveSeconds()); // 유휴 스레드 유지 시간
+        executor.setThreadNamePrefix(config.getThreadNamePrefix());
+        // 거부 핸들러에서 원본 Future를 확인할 수 있도록 원본 작업 보존
+        executor.setTaskDecorator(PolicyRejectedExecutionHandler.retainingSource(taskDecorator));
+        executor.setWaitForTasksToCompleteOnShutdown(true);  // Graceful Shutdown
+        executor.setAwaitTerminationSeconds(config.getAwaitTerminationSeconds()); // 최대 대기 시간
+        executor.setRejectedExecutionHandler(new PolicyRejectedExecutionHandler(
+                name, config.getRejectionPolicy(), config.getBlockTimeout(), metrics));
+        if (metrics != null) {
+            metrics.registerGauges(executor::getActiveCount, executor::getQueueSize, executor::getPoolSize);
+        }
         return executor;
     }
 
@@ -0,0 +1,70 @@
+package com.common.server.config;
+
+import com.common.server.common.async.RejectionPolicy;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 비동기 Executor 설정 프로퍼티
+ *
+ * application.properties에서 async.* 프로퍼티를 바인딩합니다.
+ * spring.threads.virtual.enabled=true이면 스레드 풀 설정 대신 가상 스레드 + max-concurrency 세마포어를 사용합니다.
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Component
+@ConfigurationProperties(prefix = "async")
+@Getter
+@Setter
+public class AsyncProperties {
+
+    /** 기본 비동기 작업용 (taskExecutor) */
+    private Executor task = new Executor("Async-", 10, 50, 100, 30, 200, RejectionPolicy.CALLER_RUNS);
+    /** 이메일/알림 전송용 (notificationExecutor) */
+    private Executor notification = new Executor("Notification-", 5, 20, 200, 60, 100, RejectionPolicy.BLOCK);
+    /** 백그라운드 작업용 (backgroundExecutor) */
+    private Executor background = new Executor("Background-", 3, 10, 50, 120, 50, RejectionPolicy.CALLER_RUNS);
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Executor {
+        /** 스레드 이름 접두사 */
+        private String threadNamePrefix;
+        /** 기본 스레드 수 (플랫폼 스레드 풀) */
+        private int corePoolSize;
+        /** 최대 스레드 수 (플랫폼 스레드 풀) */
+        private int maxPoolSize;
+        /** 대기 큐 크기 (플랫폼 스레드 풀) */
+        private int queueCapacity;
+        /** 유휴 스레드 유지 시간 (초, 플랫폼 스레드 풀) */
+        private int keepAliveSeconds = 60;
+        /** 종료 시 실행 중인 작업 완료 대기 시간 (초) */
+        private int awaitTerminationSeconds;
+        /** 동시에 실행할 최대 작업 수 (가상 스레드, 세마포어 허가 수) */
+        private int maxConcurrency;
+        /** 허가를 기다릴 수 있는 최대 작업 수 (가상 스레드, 초과 시 거부) */
+        private int maxPending = 10000;
+        /** 포화 시 거부 정책 (ABORT, CALLER_RUNS, BLOCK, DROP) */
+        private RejectionPolicy rejectionPolicy = RejectionPolicy.ABORT;
+        /** BLOCK 정책에서 자리가 나기를 기다리는 최대 시간 */
+        private Duration blockTimeout = Duration.ofSeconds(5);
+
+        Executor(String threadNamePrefix, int corePoolSize, int maxPoolSize, int queueCapacity,
+                 int awaitTerminationSeconds, int maxConcurrency, RejectionPolicy rejectionPolicy) {
+            this.threadNamePrefix = threadNamePrefix;
+            this.corePoolSize = corePoolSize;
+            this.maxPoolSize = maxPoolSize;
+            this.queueCapacity = queueCapacity;
+            this.awaitTerminationSeconds = awaitTerminationSeconds;
+            this.maxConcurrency = maxConcurrency;
+            this.rejectionPolicy = rejectionPolicy;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.common.server.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 감사 로그 설정 속성
+ *
+ * application.properties 설정 예시:
+ * ```
+ * audit.queue-capacity=10000
+ * audit.batch-size=200
+ * audit.flush-interval=1000
+ * ```
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "audit")
+public class AuditProperties {
+
+    /**
+     * 기록 대기 큐 용량 (가득 차면 버리고 audit.records.dropped 증가)
+     */
+    private int queueCapacity = 10000;
+
+    /**
+     * 한 번에 저장할 최대 기록 수 (Mongo insertMany 단위)
+     */
+    private int batchSize = 200;
+
+    /**
+     * 배치가 차지 않아도 저장하는 주기 (밀리초)
+     */
+    private long flushInterval = 1000;
+
+    /**
+     * 인자 문자열 최대 길이
+     */
+    private int maxArgLength = 100;
+}
@@ -0,0 +1,35 @@
+package com.common.server.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 클러스터 스케줄 작업(@ClusterScheduled) 설정 속성
+ *
+ * application.properties 설정 예시:
+ * ```
+ * cluster-schedule.node-id=${HOSTNAME:}
+ * cluster-schedule.key-prefix=schedule:
+ * ```
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "cluster-schedule")
+public class ClusterScheduleProperties {
+
+    /**
+     * 실행 기록에 남길 노드 ID (비어 있으면 호스트 이름)
+     */
+    private String nodeId;
+
+    /**
+     * 리스/실행 기록 Redis 키 접두사
+     */
+    private String keyPrefix = "schedule:";
+}
@@ -0,0 +1,99 @@
+package com.common.server.config;
+
+import com.common.server.common.event.bus.BackpressurePolicy;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 도메인 이벤트 설정 프로퍼티
+ *
+ * application.properties에서 event.* 프로퍼티를 바인딩합니다.
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Component
+@ConfigurationProperties(prefix = "event")
+@Getter
+@Setter
+public class EventProperties {
+
+    private Outbox outbox = new Outbox();
+    private Bus bus = new Bus();
+    private Partition partition = new Partition();
+    private Stream stream = new Stream();
+
+    @Getter
+    @Setter
+    public static class Outbox {
+        /** Transactional Outbox 사용 여부 (false면 @TransactionalOutbox 이벤트도 즉시 메모리 발행) */
+        private boolean enabled = false;
+        /** 릴레이가 한 번에 가져오는 행 수 */
+        private int batchSize = 100;
+        /** 한 번의 폴링에서 처리할 최대 배치 수 */
+        private int maxBatchesPerPoll = 10;
+        /** 폴링 주기 (밀리초) */
+        private long pollInterval = 1000;
+        /** 최대 발행 시도 횟수 (초과 시 DEAD 처리) */
+        private int maxAttempts = 10;
+        /** 재시도 기본 지연 (밀리초, 시도 횟수에 따라 지수 증가) */
+        private long retryBackoff = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class Bus {
+        /** 인프로세스 이벤트 버스 사용 여부 (@EventBusListener 핸들러) */
+        private boolean enabled = false;
+        /** 링 버퍼 용량 (2의 거듭제곱으로 올림) */
+        private int capacity = 65536;
+        /** 소비 스레드 수 */
+        private int consumers = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        /** 버퍼가 가득 찼을 때의 기본 정책 (@EventBackpressure로 이벤트별 지정 가능) */
+        private BackpressurePolicy defaultBackpressure = BackpressurePolicy.BLOCK;
+        /** 종료 시 남은 이벤트 처리 대기 시간 (밀리초) */
+        private long shutdownTimeout = 10000;
+    }
+
+    @Getter
+    @Setter
+    public static class Partition {
+        /** 레인 수 (같은 파티션 키는 항상 같은 레인) */
+        private int lanes = Runtime.getRuntime().availableProcessors();
+        /** 레인별 대기 큐 용량 (가득 차면 발행 스레드 대기) */
+        private int queueCapacity = 10000;
+        /** 레인을 가상 스레드로 실행할지 여부 */
+        private boolean virtualThreads = false;
+        /** 종료 시 남은 이벤트 처리 대기 시간 (밀리초) */
+        private long shutdownTimeout = 10000;
+    }
+
+    @Getter
+    @Setter
+    public static class Stream {
+        /** Redis Streams 브릿지 사용 여부 (@ClusterEvent 이벤트) */
+        private boolean enabled = false;
+        /** 스트림 키 접두사 */
+        private String keyPrefix = "events:";
+        /** 공유 컨슈머 그룹 이름 (WORK_QUEUE), BROADCAST는 {group}:{nodeId} */
+        private String group = "server";
+        /** 노드 ID (비어 있으면 호스트 이름) */
+        private String nodeId;
+        /** 스트림 최대 길이 (XADD MAXLEN ~) */
+        private long maxLength = 100000;
+        /** XADD 파이프라인 / XREADGROUP 배치 크기 */
+        private int batchSize = 100;
+        /** 발행 대기 버퍼 용량 (가득 차면 발행 스레드에서 직접 XADD) */
+        private int bufferCapacity = 10000;
+        /** XREADGROUP 대기 시간 (밀리초) */
+        private long blockTimeout = 1000;
+        /** 이 시간 이상 ACK되지 않은 항목을 다른 노드가 회수 (밀리초) */
+        private long claimIdleTime = 60000;
+        /** 회수 시도 주기 (밀리초) */
+        private long claimInterval = 30000;
+        /** 최대 전달 횟수 (초과 시 ACK 후 폐기) */
+        private int maxDeliveries = 10;
+    }
+}
@@ -0,0 +1,37 @@
+package com.common.server.config;
+
+import com.common.server.common.id.IdGenerator;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * ID 생성기 설정
+ *
+ * Snowflake ID의 노드 번호(0 ~ 1023)를 설정합니다.
+ * 호스트 이름 해시 등으로 추정하면 노드 간에 충돌하여 같은 ID가 만들어질 수 있으므로
+ * Snowflake ID를 사용하는 서비스는 id.snowflake.node-id(SNOWFLAKE_NODE_ID)를 노드마다 다르게 지정해야 합니다.
+ * - 지정하지 않으면 노드 번호 없이 시작하고, IdGenerator.snowflake() 호출 시점에 실패
+ * - 범위(0 ~ 1023)를 벗어나면 시작에 실패
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Configuration
+@Slf4j
+public class IdGeneratorConfig {
+
+    @Value("${id.snowflake.node-id:-1}")
+    private long nodeId;
+
+    @PostConstruct
+    public void configureNodeId() {
+        if (nodeId < 0) {
+            log.info("Snowflake node id not configured (SNOWFLAKE_NODE_ID), IdGenerator.snowflake() is unavailable");
+            return;
+        }
+        IdGenerator.setNodeId(nodeId);
+        log.info("Snowflake node id: {}", nodeId);
+    }
+}
@@ -0,0 +1,69 @@
+package com.common.server.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 엔드포인트 지연 시간 프로파일러 설정 속성
+ *
+ * application.properties 설정 예시:
+ * ```
+ * latency-profiler.enabled=true
+ * latency-profiler.slow-threshold=1s
+ * latency-profiler.sample-interval=100ms
+ * latency-profiler.window=60s
+ * ```
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "latency-profiler")
+public class LatencyProfilerProperties {
+
+    /**
+     * 프로파일러 활성화 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 이 시간을 넘긴 처리 중 요청은 스택을 캡처
+     */
+    private Duration slowThreshold = Duration.ofSeconds(1);
+
+    /**
+     * 처리 중 요청을 검사하는 주기
+     */
+    private Duration sampleInterval = Duration.ofMillis(100);
+
+    /**
+     * 최근 구간 히스토그램을 교체하는 주기
+     */
+    private Duration window = Duration.ofSeconds(60);
+
+    /**
+     * 보관할 느린 요청 샘플 수 (링 버퍼, 오래된 것부터 덮어씀)
+     */
+    private int slowSampleCapacity = 128;
+
+    /**
+     * 샘플마다 보관할 최대 스택 프레임 수
+     */
+    private int maxStackDepth = 64;
+
+    /**
+     * 개별 히스토그램을 유지할 최대 엔드포인트 수 (초과분은 OTHER로 집계)
+     */
+    private int maxEndpoints = 200;
+
+    /**
+     * 히스토그램이 구분하는 최대 지연 시간 (초과값은 최대값으로 기록)
+     */
+    private Duration highestTrackableLatency = Duration.ofSeconds(60);
+}
@@ -0,0 +1,45 @@
+package com.common.server.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 요청 로깅 설정 속성
+ *
+ * 오류 응답과 느린 요청은 항상 기록하고, 빠르게 성공한 요청은 표본만 기록합니다.
+ *
+ * application.properties 설정 예시:
+ * ```
+ * request-logging.slow-threshold=500ms
+ * request-logging.sample-rate=0.01
+ * request-logging.error-status=400
+ * ```
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "request-logging")
+public class RequestLoggingProperties {
+
+    /**
+     * 이 시간 이상 걸린 요청은 항상 기록
+     */
+    private Duration slowThreshold = Duration.ofMillis(500);
+
+    /**
+     * 빠르게 성공한 요청의 기록 비율 (0.0 ~ 1.0)
+     */
+    private double sampleRate = 0.01;
+
+    /**
+     * 이 상태 코드 이상인 응답은 항상 기록
+     */
+    private int errorStatus = 400;
+}
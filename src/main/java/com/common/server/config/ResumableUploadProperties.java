@@ -0,0 +1,62 @@
+package com.common.server.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 재개 가능한 조각 업로드 설정 속성
+ *
+ * application.properties 설정 예시:
+ * ```
+ * file.upload.resumable.chunk-size=8MB
+ * file.upload.resumable.max-size=2GB
+ * file.upload.resumable.session-ttl=24h
+ * file.upload.resumable.max-sessions=1000
+ * file.upload.resumable.max-sessions-per-owner=5
+ * file.upload.resumable.cleanup-interval=600000
+ * ```
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "file.upload.resumable")
+public class ResumableUploadProperties {
+
+    /**
+     * 조각 크기 (마지막 조각만 더 작을 수 있음)
+     */
+    private DataSize chunkSize = DataSize.ofMegabytes(8);
+
+    /**
+     * 파일 최대 크기 (카테고리 정책의 최대 크기와 작은 쪽 적용, MIME 타입 제한은 카테고리 정책을 따름)
+     */
+    private DataSize maxSize = DataSize.ofGigabytes(2);
+
+    /**
+     * 마지막 조각 이후 세션을 유지하는 시간 (지나면 정리 대상)
+     */
+    private Duration sessionTtl = Duration.ofHours(24);
+
+    /**
+     * 노드당 동시에 열린 세션 수 제한
+     */
+    private int maxSessions = 1000;
+
+    /**
+     * 사용자당 동시에 열린 세션 수 제한 (한 사용자가 노드의 세션과 디스크를 모두 차지하지 못하도록)
+     */
+    private int maxSessionsPerOwner = 5;
+
+    /**
+     * 만료 세션 정리 주기 (밀리초)
+     */
+    private long cleanupInterval = 600_000;
+}
@@ -14,6 +14,9 @@ import org.springframework.scheduling.config.ScheduledTaskRegistrar;
  * - 스케줄 작업용 ThreadPool 설정
  * - Graceful Shutdown 지원
  *
+ * {@literal @}Scheduled 작업은 모든 노드에서 실행됩니다. 클러스터에서 한 번만 실행해야 하는 작업은
+ * {@literal @}ClusterScheduled를 함께 붙여 Redis 리스를 획득한 노드만 실행하도록 하세요.
+ *
  * @author Common Server Framework
  * @since 2025-01-13
  */
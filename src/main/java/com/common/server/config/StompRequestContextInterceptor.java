@@ -0,0 +1,125 @@
+package com.common.server.config;
+
+import com.common.server.common.context.RequestContext;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import java.net.InetSocketAddress;
+import java.security.Principal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * WebSocket(STOMP) 요청 컨텍스트 인터셉터
+ *
+ * STOMP 메시지마다 RequestContext를 한 번 생성하여 메시지를 처리하는 스레드에 연결합니다.
+ * - preSend에서 생성하여 메시지 헤더에 저장, beforeHandle에서는 저장된 인스턴스를 연결만 함
+ * - 핸드셰이크 시 클라이언트 주소를 세션 속성에 저장
+ * - 메시지의 traceparent 네이티브 헤더가 있으면 Trace를 이어받음
+ * - 인증된 세션이면 사용자 ID 포함
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Component
+@ConditionalOnProperty(name = "websocket.enabled", havingValue = "true", matchIfMissing = false)
+public class StompRequestContextInterceptor implements ExecutorChannelInterceptor, HandshakeInterceptor {
+
+    private static final String CLIENT_ADDRESS_ATTRIBUTE = "clientAddress";
+    private static final String CONTEXT_HEADER = StompRequestContextInterceptor.class.getName() + ".context";
+
+    private final ThreadLocal<RequestContext.Scope> scopes = new ThreadLocal<>();
+
+    // ========== Handshake ==========
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        String forwardedFor = request.getHeaders().getFirst("X-Forwarded-For");
+        if (forwardedFor != null && !forwardedFor.isEmpty() && !"unknown".equalsIgnoreCase(forwardedFor)) {
+            attributes.put(CLIENT_ADDRESS_ATTRIBUTE, forwardedFor.split(",")[0].trim());
+        } else {
+            InetSocketAddress remoteAddress = request.getRemoteAddress();
+            if (remoteAddress != null && remoteAddress.getAddress() != null) {
+                attributes.put(CLIENT_ADDRESS_ATTRIBUTE, remoteAddress.getAddress().getHostAddress());
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+
+    // ========== Inbound Message ==========
+
+    /**
+     * 메시지당 한 번 컨텍스트를 생성하여 메시지 헤더에 저장 (인증 인터셉터 다음에 실행되어 사용자 ID 포함)
+     */
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (message.getHeaders().get(CONTEXT_HEADER) instanceof RequestContext) {
+            return message;
+        }
+        RequestContext context = createContext(StompHeaderAccessor.wrap(message));
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor != null && accessor.isMutable()) {
+            accessor.setHeader(CONTEXT_HEADER, context);
+            return message;
+        }
+        return MessageBuilder.fromMessage(message).setHeader(CONTEXT_HEADER, context).build();
+    }
+
+    /**
+     * preSend에서 만든 컨텍스트를 처리 스레드에 연결
+     *
+     * 한 메시지를 여러 핸들러(어노테이션 메서드, 브로커, 사용자 목적지)가 처리해도 같은 인스턴스를 공유합니다.
+     */
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        RequestContext context = message.getHeaders().get(CONTEXT_HEADER) instanceof RequestContext stored
+                ? stored
+                : createContext(StompHeaderAccessor.wrap(message));
+        scopes.set(RequestContext.attach(context));
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        RequestContext.Scope scope = scopes.get();
+        if (scope != null) {
+            scopes.remove();
+            scope.close();
+        }
+    }
+
+    private static RequestContext createContext(StompHeaderAccessor accessor) {
+        List<String> traceparent = accessor.getNativeHeader(RequestContext.TRACEPARENT_HEADER);
+        RequestContext context = RequestContext.fromTraceparent(
+                traceparent != null && !traceparent.isEmpty() ? traceparent.get(0) : null, clientAddress(accessor));
+
+        Principal user = accessor.getUser();
+        if (user != null) {
+            context = context.withUserId(user.getName());
+        }
+        return context;
+    }
+
+    private static String clientAddress(StompHeaderAccessor accessor) {
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        Object address = attributes != null ? attributes.get(CLIENT_ADDRESS_ATTRIBUTE) : null;
+        return address != null ? address.toString() : null;
+    }
+}
@@ -1,5 +1,6 @@
 package com.common.server.config;
 
+import com.common.server.common.logging.MdcTaskDecorator;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
@@ -46,7 +47,9 @@ public class VirtualThreadConfig {
     @Bean(name = "virtualThreadExecutor")
     public AsyncTaskExecutor virtualThreadExecutor() {
         log.info("=== Virtual Thread Executor created ===");
-        return new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor());
+        TaskExecutorAdapter executor = new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor());
+        executor.setTaskDecorator(new MdcTaskDecorator()); // 요청 컨텍스트 전파
+        return executor;
     }
 
     /**
@@ -0,0 +1,53 @@
+package com.common.server.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 가상 스레드 피닝 모니터 설정 속성
+ *
+ * application.properties 설정 예시:
+ * ```
+ * virtual-thread-monitor.enabled=${spring.threads.virtual.enabled:false}
+ * virtual-thread-monitor.pinned-threshold=20ms
+ * virtual-thread-monitor.max-stacks=200
+ * ```
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "virtual-thread-monitor")
+public class VirtualThreadMonitorProperties {
+
+    /**
+     * 모니터 활성화 여부 (JFR RecordingStream 구독)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 이 시간 이상 캐리어 스레드를 점유한 피닝만 기록 (jdk.VirtualThreadPinned threshold)
+     */
+    private Duration pinnedThreshold = Duration.ofMillis(20);
+
+    /**
+     * 개별 집계할 최대 스택 수 (초과분은 OTHER로 집계)
+     */
+    private int maxStacks = 200;
+
+    /**
+     * 스택마다 보관할 최대 프레임 수
+     */
+    private int maxStackDepth = 32;
+
+    /**
+     * 조회 시 반환할 상위 스택 수
+     */
+    private int topStacks = 20;
+}
@@ -1,5 +1,6 @@
 package com.common.server.config;
 
+import com.common.server.common.context.RequestContext;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
@@ -8,6 +9,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ClientRequest;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
@@ -21,6 +23,7 @@ import java.util.concurrent.TimeUnit;
  *
  * 외부 API 호출을 위한 WebClient 빈 설정
  * - 타임아웃 설정
+ * - 현재 RequestContext의 traceparent 헤더 전파
  * - 로깅 필터
  * - 에러 처리
  *
@@ -54,6 +57,7 @@ public class WebClientConfig {
 
         return WebClient.builder()
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(propagateTraceparent())
                 .filter(logRequest())
                 .filter(logResponse())
                 .filter(handleErrors())
@@ -74,11 +78,29 @@ public class WebClientConfig {
 
         return WebClient.builder()
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(propagateTraceparent())
                 .filter(logRequest())
                 .filter(logResponse())
                 .filter(handleErrors());
     }
 
+    /**
+     * 구독하는 스레드에 연결된 RequestContext의 traceparent를 요청 헤더에 추가
+     *
+     * 요청 처리 스레드에서 block()/subscribe() 하는 경우에 적용되며, 호출자가 헤더를 직접 지정했으면 그대로 둡니다.
+     */
+    private ExchangeFilterFunction propagateTraceparent() {
+        return (clientRequest, next) -> {
+            RequestContext context = RequestContext.current();
+            if (context == null || clientRequest.headers().containsKey(RequestContext.TRACEPARENT_HEADER)) {
+                return next.exchange(clientRequest);
+            }
+            return next.exchange(ClientRequest.from(clientRequest)
+                    .header(RequestContext.TRACEPARENT_HEADER, context.traceparent())
+                    .build());
+        };
+    }
+
     private ExchangeFilterFunction logRequest() {
         return ExchangeFilterFunction.ofRequestProcessor(clientRequest -> {
             log.debug("External API Request: {} {}", clientRequest.method(), clientRequest.url());
@@ -1,17 +1,25 @@
 package com.common.server.config;
 
+import com.common.server.common.file.StreamingMultipartResolver;
+import com.common.server.common.latency.LatencyProfilingInterceptor;
 import com.common.server.common.logging.LoggingInterceptor;
 import com.common.server.common.ratelimit.RateLimitInterceptor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.DispatcherServlet;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 /**
  * 웹 MVC 설정
  *
  * CORS 설정을 CorsProperties에서 주입받아 적용합니다.
+ * 스트리밍 업로드 경로는 표준 multipart 처리에서 제외합니다.
  *
  * @author 정은성
  * @since 2025-01-08
@@ -23,6 +31,20 @@ public class WebConfig implements WebMvcConfigurer {
     private final CorsProperties corsProperties;
     private final RateLimitInterceptor rateLimitInterceptor;
     private final LoggingInterceptor loggingInterceptor;
+    private final LatencyProfilingInterceptor latencyProfilingInterceptor;
+
+    /**
+     * 스트리밍 업로드 경로(/api/files/**)를 제외한 MultipartResolver
+     *
+     * Spring Boot 기본 StandardServletMultipartResolver를 대체하므로 spring.servlet.multipart.*를 그대로 적용합니다.
+     */
+    @Bean(name = DispatcherServlet.MULTIPART_RESOLVER_BEAN_NAME)
+    public StreamingMultipartResolver multipartResolver(MultipartProperties multipartProperties) {
+        StreamingMultipartResolver resolver = new StreamingMultipartResolver(List.of("/api/files/**"));
+        resolver.setResolveLazily(multipartProperties.isResolveLazily());
+        resolver.setStrictServletCompliance(multipartProperties.isStrictServletCompliance());
+        return resolver;
+    }
 
     @Override
     public void addCorsMappings(CorsRegistry registry) {
@@ -41,9 +63,14 @@ public class WebConfig implements WebMvcConfigurer {
                 .order(1)
                 .addPathPatterns("/api/**");
 
+        // 지연 시간 프로파일링 인터셉터
+        registry.addInterceptor(latencyProfilingInterceptor)
+                .order(2)
+                .addPathPatterns("/api/**");
+
         // Rate Limiting 인터셉터
         registry.addInterceptor(rateLimitInterceptor)
-                .order(2)
+                .order(3)
                 .addPathPatterns("/api/**")
                 .excludePathPatterns("/api/auth/health", "/api/health/**");
     }
@@ -32,6 +32,7 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final WebSocketAuthInterceptor webSocketAuthInterceptor;
+    private final StompRequestContextInterceptor stompRequestContextInterceptor;
     private final CorsProperties corsProperties;
 
     @Override
@@ -57,11 +58,13 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         // WebSocket 연결 엔드포인트 - CORS 설정 적용
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns(allowedOrigins)
+                .addInterceptors(stompRequestContextInterceptor)
                 .withSockJS(); // SockJS 폴백 지원
 
         // SockJS 없는 순수 WebSocket 엔드포인트 - CORS 설정 적용
         registry.addEndpoint("/ws-native")
-                .setAllowedOriginPatterns(allowedOrigins);
+                .setAllowedOriginPatterns(allowedOrigins)
+                .addInterceptors(stompRequestContextInterceptor);
 
         log.info("WebSocket STOMP endpoints registered: /ws, /ws-native with allowed origins: {}",
                 corsProperties.getAllowedOrigins());
@@ -69,7 +72,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        // 인바운드 메시지에 인증 인터셉터 추가
-        registration.interceptors(webSocketAuthInterceptor);
+        // 인바운드 메시지에 인증 인터셉터, 요청 컨텍스트 인터셉터 추가
+        registration.interceptors(webSocketAuthInterceptor, stompRequestContextInterceptor);
     }
 }
@@ -1,5 +1,6 @@
 package com.common.server.config.security;
 
+import com.common.server.common.context.RequestContext;
 import com.common.server.core.service.interfaces.JwtService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -72,6 +73,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
                     // 5. SecurityContext에 인증 정보 저장
                     SecurityContextHolder.getContext().setAuthentication(authentication);
+                    RequestContext.bindUserId(userId);
 
                     log.debug("JWT 인증 성공: userId={}, path={}", userId, request.getRequestURI());
 
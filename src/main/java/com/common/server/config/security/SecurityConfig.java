@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -88,6 +89,10 @@ public class SecurityConfig {
                     .requestMatchers("/api/auth/refresh").permitAll()
                     .requestMatchers("/api/auth/health").permitAll()
                     .requestMatchers("/api/health/**").permitAll()
+                    // 운영 진단 엔드포인트: 노출 목록에 넣더라도 인증 필요
+                    .requestMatchers("/actuator/latency/**").authenticated()
+                    .requestMatchers("/actuator/vthreads/**").authenticated()
+                    .requestMatchers("/actuator/clusterjobs/**").authenticated()
                     .requestMatchers("/actuator/**").permitAll();
 
                 // Swagger: 환경 설정에 따라
@@ -97,6 +102,12 @@ public class SecurityConfig {
                     log.info("Swagger UI: ENABLED");
                 }
 
+                // 업로드 파일: 공개 설정 시 조회만 허용
+                if (securityProperties.getFiles().isPublicAccess()) {
+                    authz.requestMatchers(HttpMethod.GET, "/files/**").permitAll()
+                        .requestMatchers(HttpMethod.HEAD, "/files/**").permitAll();
+                }
+
                 // 나머지는 모두 인증 필요
                 authz.anyRequest().authenticated();
             })
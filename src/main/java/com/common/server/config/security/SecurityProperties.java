@@ -26,6 +26,7 @@ public class SecurityProperties {
     private Cors cors = new Cors();
     private Headers headers = new Headers();
     private Debug debug = new Debug();
+    private Files files = new Files();
 
     @Getter
     @Setter
@@ -64,4 +65,11 @@ public class SecurityProperties {
         /** 스택 트레이스 노출 여부 */
         private boolean exposeStackTrace = false;
     }
+
+    @Getter
+    @Setter
+    public static class Files {
+        /** 업로드 파일(/files/**) 인증 없이 조회 허용 여부 */
+        private boolean publicAccess = false;
+    }
 }
@@ -2,6 +2,8 @@ package com.common.server.core.service;
 
 import com.common.server.common.exception.ExpiredTokenException;
 import com.common.server.common.exception.InvalidTokenException;
+import com.common.server.common.id.IdGenerator;
+import com.common.server.common.schedule.ClusterScheduled;
 import com.common.server.config.JwtProperties;
 import com.common.server.core.service.interfaces.JwtService;
 import com.common.server.domain.auth.entity.RefreshToken;
@@ -15,6 +17,7 @@ import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,7 +27,7 @@ import java.time.LocalDateTime;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT 서비스 구현체
@@ -100,7 +103,7 @@ public class JwtServiceImpl implements JwtService {
 
         // DB에 Refresh Token 저장
         RefreshToken refreshToken = RefreshToken.builder()
-                .id(UUID.randomUUID().toString())
+                .id(IdGenerator.uuidString())
                 .userId(userId)
                 .token(token)
                 .expiresAt(LocalDateTime.now().plusSeconds(jwtProperties.getRefreshTokenExpiration() / 1000))
@@ -184,9 +187,12 @@ public class JwtServiceImpl implements JwtService {
 
     /**
      * 만료된 Refresh Token 일괄 삭제 (배치 작업용)
+     * 모든 노드에서 트리거되지만 리스를 획득한 노드 하나만 실행
      */
     @Override
     @Transactional
+    @Scheduled(cron = "${jwt.refresh-token-cleanup-cron:0 0 4 * * *}")
+    @ClusterScheduled(name = "refresh-token-cleanup", leaseTime = 30, minHoldTime = 10, timeUnit = TimeUnit.MINUTES)
     public void deleteExpiredRefreshTokens() {
         refreshTokenRepository.deleteAllByExpiresAtBefore(LocalDateTime.now());
         log.info("만료된 Refresh Token 삭제 완료");
@@ -0,0 +1,83 @@
+package com.common.server.domain.mongo.audit;
+
+import com.common.server.domain.mongo.BaseMongoDocument;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 감사 로그 Document
+ *
+ * {@literal @}AuditLog 메서드 호출 한 건을 구조화하여 저장합니다.
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Document(collection = "audit_logs")
+@CompoundIndexes({
+    @CompoundIndex(name = "user_time_idx", def = "{'userId': 1, 'timestamp': -1}"),
+    @CompoundIndex(name = "action_time_idx", def = "{'action': 1, 'timestamp': -1}")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuditLogDocument extends BaseMongoDocument {
+
+    /**
+     * 호출 시각
+     */
+    private Instant timestamp;
+
+    /**
+     * 사용자 ID (비로그인 시 anonymous)
+     */
+    private String userId;
+
+    /**
+     * 액션 타입
+     */
+    private String action;
+
+    /**
+     * 리소스 타입
+     */
+    private String resource;
+
+    /**
+     * 호출 메서드 (클래스.메서드)
+     */
+    private String method;
+
+    /**
+     * 인자 (파라미터 이름 → 값, 민감 정보는 [MASKED])
+     */
+    private Map<String, String> args;
+
+    /**
+     * 성공 여부
+     */
+    private boolean success;
+
+    /**
+     * 실패 시 예외 (클래스: 메시지)
+     */
+    private String error;
+
+    /**
+     * 실행 시간 (마이크로초)
+     */
+    private long durationMicros;
+
+    /**
+     * TraceId
+     */
+    private String traceId;
+}
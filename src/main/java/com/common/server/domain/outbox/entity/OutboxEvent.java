@@ -0,0 +1,120 @@
+package com.common.server.domain.outbox.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox Event Entity
+ *
+ * 비즈니스 변경과 같은 트랜잭션에서 저장되는 도메인 이벤트입니다.
+ * OutboxRelay가 배치로 가져가 발행한 뒤 삭제합니다.
+ *
+ * 비즈니스 규칙:
+ * - 발행 실패 시 attempts를 증가시키고 availableAt 이후 재시도
+ * - 최대 시도 횟수를 넘으면 DEAD 상태로 남겨 수동 확인
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+    @Index(name = "idx_outbox_events_status_available", columnList = "status, available_at, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 50)
+    @Column(name = "id")
+    private Long id;
+
+    /**
+     * 도메인 이벤트 ID
+     */
+    @Column(name = "event_id", length = 36, nullable = false)
+    private String eventId;
+
+    /**
+     * 이벤트 타입 (클래스 단순 이름)
+     */
+    @Column(name = "event_type", length = 100, nullable = false)
+    private String eventType;
+
+    /**
+     * 역직렬화에 사용할 이벤트 클래스 이름
+     */
+    @Column(name = "payload_class", length = 255, nullable = false)
+    private String payloadClass;
+
+    /**
+     * 이벤트 JSON
+     */
+    @Column(name = "payload", columnDefinition = "text", nullable = false)
+    private String payload;
+
+    /**
+     * 발행 시점의 TraceId (릴레이에서 RequestContext로 복원)
+     */
+    @Column(name = "trace_id", length = 64)
+    private String traceId;
+
+    /**
+     * 상태
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 10, nullable = false)
+    @Builder.Default
+    private Status status = Status.PENDING;
+
+    /**
+     * 발행 시도 횟수
+     */
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+
+    /**
+     * 마지막 실패 사유
+     */
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    /**
+     * 발행 가능 시각 (재시도 지연)
+     */
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    /**
+     * 저장 시각
+     */
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 발행 실패 기록
+     *
+     * @param error 실패 사유
+     * @param nextAttemptAt 다음 시도 시각
+     * @param maxAttempts 최대 시도 횟수
+     */
+    public void markFailed(String error, LocalDateTime nextAttemptAt, int maxAttempts) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        this.availableAt = nextAttemptAt;
+        if (this.attempts >= maxAttempts) {
+            this.status = Status.DEAD;
+        }
+    }
+
+    public enum Status {
+        PENDING,
+        DEAD
+    }
+}
@@ -0,0 +1,57 @@
+package com.common.server.domain.outbox.repository;
+
+import com.common.server.domain.outbox.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * OutboxEvent Repository
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 발행 대기 이벤트 배치 점유 (다른 노드가 잠근 행은 건너뜀)
+     *
+     * 반드시 트랜잭션 안에서 호출해야 하며, 커밋 시점까지 행 잠금이 유지됩니다.
+     *
+     * @param now 현재 시각
+     * @param limit 최대 행 수
+     * @return 점유한 이벤트 목록 (저장 순서)
+     */
+    @Query(value = "SELECT * FROM outbox_events " +
+            "WHERE status = 'PENDING' AND available_at <= :now " +
+            "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEvent> claimBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 발행 완료 이벤트 일괄 삭제
+     *
+     * @param ids 이벤트 ID 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 가장 오래된 발행 대기 이벤트의 저장 시각 (릴레이 지연 측정용)
+     */
+    @Query("SELECT MIN(e.createdAt) FROM OutboxEvent e WHERE e.status = com.common.server.domain.outbox.entity.OutboxEvent.Status.PENDING")
+    LocalDateTime findOldestPendingCreatedAt();
+
+    /**
+     * 상태별 이벤트 수
+     */
+    long countByStatus(OutboxEvent.Status status);
+}
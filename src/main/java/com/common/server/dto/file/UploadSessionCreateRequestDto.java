@@ -0,0 +1,41 @@
+package com.common.server.dto.file;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재개 가능한 업로드 세션 생성 요청 DTO
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadSessionCreateRequestDto {
+
+    @NotBlank(message = "파일명은 필수입니다")
+    private String filename;
+
+    @NotBlank(message = "MIME 타입은 필수입니다")
+    private String contentType;
+
+    @NotNull(message = "파일 크기는 필수입니다")
+    @Positive(message = "파일 크기는 0보다 커야 합니다")
+    private Long size;
+
+    @NotBlank(message = "SHA-256은 필수입니다")
+    @Pattern(regexp = "[0-9a-fA-F]{64}", message = "SHA-256은 64자리 16진수여야 합니다")
+    private String sha256;
+
+    /**
+     * 업로드 카테고리 (images, documents)
+     */
+    @NotBlank(message = "카테고리는 필수입니다")
+    private String category;
+}
@@ -22,9 +22,10 @@ public class GrpcConfig {
 
     /**
      * Global gRPC interceptor for logging
+     * (빈 이름이 HTTP LoggingInterceptor와 겹치지 않도록 grpc 접두사 사용)
      */
     @GrpcGlobalServerInterceptor
-    public ServerInterceptor loggingInterceptor() {
+    public ServerInterceptor grpcLoggingInterceptor() {
         return new LoggingInterceptor();
     }
 
@@ -1,5 +1,6 @@
 package com.common.server.grpc.interceptor;
 
+import com.common.server.common.context.RequestContext;
 import com.common.server.core.service.interfaces.JwtService;
 import io.grpc.*;
 import net.devh.boot.grpc.server.interceptor.GrpcGlobalServerInterceptor;
@@ -101,6 +102,7 @@ public class GrpcAuthInterceptor implements ServerInterceptor {
         // 개발 환경에서 인증 스킵 설정 확인 (프로파일 검증 포함)
         if (skipAuth && skipAuthAllowed) {
             log.debug("Auth skipped for development (grpc.auth.skip=true, profile allowed)");
+            RequestContext.bindUserId("dev-user");
             Context context = Context.current().withValue(USER_ID_KEY, "dev-user");
             return Contexts.interceptCall(context, call, headers, next);
         } else if (skipAuth && !skipAuthAllowed) {
@@ -127,7 +129,8 @@ public class GrpcAuthInterceptor implements ServerInterceptor {
 
             String userId = jwtService.validateTokenAndGetUserId(token);
 
-            // Context에 사용자 ID 저장
+            // Context에 사용자 ID 저장 (로그용 RequestContext에도 반영)
+            RequestContext.bindUserId(userId);
             Context context = Context.current().withValue(USER_ID_KEY, userId);
 
             return Contexts.interceptCall(context, call, headers, next);
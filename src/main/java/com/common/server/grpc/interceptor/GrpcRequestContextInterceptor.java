@@ -0,0 +1,117 @@
+package com.common.server.grpc.interceptor;
+
+import com.common.server.common.context.RequestContext;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Grpc;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import net.devh.boot.grpc.common.util.InterceptorOrder;
+import net.devh.boot.grpc.server.interceptor.GrpcGlobalServerInterceptor;
+import org.springframework.core.annotation.Order;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+
+/**
+ * gRPC 요청 컨텍스트 인터셉터
+ *
+ * gRPC 호출마다 RequestContext를 한 번 생성하여 호출 처리 구간에 연결합니다.
+ * - traceparent 메타데이터가 있으면 Trace를 이어받음
+ * - 리스너 콜백(onMessage, onHalfClose 등)은 다른 스레드에서 실행될 수 있으므로 콜백마다 연결/복원
+ * - 안쪽 인터셉터(GrpcAuthInterceptor)가 bindUserId로 바꾼 컨텍스트를 이후 콜백에 이어서 사용
+ *
+ * 인증 인터셉터보다 바깥에서 실행되도록 트레이싱 순서로 등록합니다.
+ *
+ * @author Common Server Framework
+ * @since 2025-01-13
+ */
+@GrpcGlobalServerInterceptor
+@Order(InterceptorOrder.ORDER_TRACING_METRICS)
+public class GrpcRequestContextInterceptor implements ServerInterceptor {
+
+    private static final Metadata.Key<String> TRACEPARENT_KEY =
+            Metadata.Key.of(RequestContext.TRACEPARENT_HEADER, Metadata.ASCII_STRING_MARSHALLER);
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+            ServerCall<ReqT, RespT> call,
+            Metadata headers,
+            ServerCallHandler<ReqT, RespT> next) {
+
+        RequestContext context = RequestContext.fromTraceparent(
+                headers.get(TRACEPARENT_KEY), clientAddress(call.getAttributes().get(Grpc.TRANSPORT_ATTR_REMOTE_ADDR)));
+
+        ServerCall.Listener<ReqT> delegate;
+        try (RequestContext.Scope ignored = RequestContext.attach(context)) {
+            delegate = next.startCall(call, headers);
+            context = RequestContext.current();
+        }
+        return new ContextListener<>(delegate, context);
+    }
+
+    private static String clientAddress(SocketAddress address) {
+        if (address instanceof InetSocketAddress inet) {
+            return inet.getAddress() != null ? inet.getAddress().getHostAddress() : inet.getHostString();
+        }
+        return address != null ? address.toString() : null;
+    }
+
+    /**
+     * 콜백마다 RequestContext를 연결하는 리스너
+     */
+    private static final class ContextListener<ReqT>
+            extends ForwardingServerCallListener.SimpleForwardingServerCallListener<ReqT> {
+
+        private volatile RequestContext context;
+
+        private ContextListener(ServerCall.Listener<ReqT> delegate, RequestContext context) {
+            super(delegate);
+            this.context = context;
+        }
+
+        @Override
+        public void onMessage(ReqT message) {
+            try (RequestContext.Scope ignored = enter()) {
+                super.onMessage(message);
+            }
+        }
+
+        @Override
+        public void onHalfClose() {
+            try (RequestContext.Scope ignored = enter()) {
+                super.onHalfClose();
+            }
+        }
+
+        @Override
+        public void onCancel() {
+            try (RequestContext.Scope ignored = enter()) {
+                super.onCancel();
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            try (RequestContext.Scope ignored = enter()) {
+                super.onComplete();
+            }
+        }
+
+        @Override
+        public void onReady() {
+            try (RequestContext.Scope ignored = enter()) {
+                super.onReady();
+            }
+        }
+
+        private RequestContext.Scope enter() {
+            RequestContext.Scope scope = RequestContext.attach(context);
+            return () -> {
+                context = RequestContext.current();
+                scope.close();
+            };
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.common.server.common.async;
+
+import com.common.server.common.context.RequestContext;
+import com.common.server.common.logging.MdcTaskDecorator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * BoundedVirtualThreadExecutor 단위 테스트
+ */
+@DisplayName("BoundedVirtualThreadExecutor 테스트")
+class BoundedVirtualThreadExecutorTest {
+
+    private BoundedVirtualThreadExecutor executor;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (executor != null) {
+            executor.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("동시 실행 수는 maxConcurrency를 넘지 않음")
+    void execute_BoundsConcurrency() throws InterruptedException {
+        // given
+        executor = new BoundedVirtualThreadExecutor("test-", 2, 100);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(10);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            executor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                    done.countDown();
+                }
+            });
+        }
+
+        // then
+        await().atMost(5, TimeUnit.SECONDS).until(() -> executor.getActiveCount() == 2);
+        assertThat(executor.getPendingCount()).isEqualTo(8);
+        release.countDown();
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(maxRunning.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("ABORT 정책: 대기 한도를 넘으면 거부")
+    void execute_AbortPolicy_RejectsOverPendingLimit() {
+        // given
+        executor = new BoundedVirtualThreadExecutor("test-", 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        saturate(release);
+
+        // when & then
+        assertThatThrownBy(() -> executor.execute(() -> { })).isInstanceOf(TaskRejectedException.class);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("CALLER_RUNS 정책: 포화 시 제출 스레드에서 실행")
+    void execute_CallerRunsPolicy_RunsInCaller() {
+        // given
+        executor = new BoundedVirtualThreadExecutor("test-", 1, 1);
+        executor.setRejectionPolicy(RejectionPolicy.CALLER_RUNS, Duration.ZERO);
+        CountDownLatch release = new CountDownLatch(1);
+        saturate(release);
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+
+        // when
+        executor.execute(() -> ranOn.set(Thread.currentThread()));
+
+        // then
+        assertThat(ranOn.get()).isSameAs(Thread.currentThread());
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("BLOCK 정책: 자리가 나면 제출, 시간 초과 시 거부")
+    void execute_BlockPolicy_WaitsForCapacity() throws InterruptedException {
+        // given
+        executor = new BoundedVirtualThreadExecutor("test-", 1, 1);
+        executor.setRejectionPolicy(RejectionPolicy.BLOCK, Duration.ofMillis(100));
+        CountDownLatch release = new CountDownLatch(1);
+        saturate(release);
+
+        // when & then: 시간 초과
+        assertThatThrownBy(() -> executor.execute(() -> { })).isInstanceOf(TaskRejectedException.class);
+
+        // when & then: 대기 중 자리가 나면 실행
+        executor.setRejectionPolicy(RejectionPolicy.BLOCK, Duration.ofSeconds(5));
+        CountDownLatch done = new CountDownLatch(1);
+        Thread.ofVirtual().start(() -> {
+            sleep(50);
+            release.countDown();
+        });
+        executor.execute(done::countDown);
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("DROP 정책: 포화 시 작업을 버리고 거부 메트릭 기록")
+    void execute_DropPolicy_CountsRejection() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        executor = new BoundedVirtualThreadExecutor("test-", 1, 1);
+        executor.setRejectionPolicy(RejectionPolicy.DROP, Duration.ZERO);
+        executor.setMetrics(new ExecutorMetrics("testExecutor", registry));
+        CountDownLatch release = new CountDownLatch(1);
+        saturate(release);
+        AtomicBoolean ran = new AtomicBoolean();
+
+        // when
+        executor.execute(() -> ran.set(true));
+
+        // then
+        release.countDown();
+        assertThat(ran.get()).isFalse();
+        assertThat(registry.get("async.executor.rejected")
+                .tags("executor", "testExecutor", "policy", "drop", "outcome", "dropped")
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("DROP 정책: 버린 submit() 작업의 Future는 취소하고 CompletableFuture 작업은 거부")
+    void execute_DropPolicy_CancelsAwaitedTasks() {
+        // given
+        executor = new BoundedVirtualThreadExecutor("test-", 1, 1);
+        executor.setRejectionPolicy(RejectionPolicy.DROP, Duration.ZERO);
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        CountDownLatch release = new CountDownLatch(1);
+        saturate(release);
+
+        // when
+        Future<String> future = executor.submit(() -> "never");
+
+        // then
+        assertThat(future.isCancelled()).isTrue();
+        assertThatThrownBy(future::get).isInstanceOf(CancellationException.class);
+        assertThatThrownBy(() -> executor.submitCompletable(() -> "never"))
+                .isInstanceOf(TaskRejectedException.class);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("TaskDecorator로 요청 컨텍스트 전파")
+    void execute_PropagatesRequestContext() throws InterruptedException {
+        // given
+        executor = new BoundedVirtualThreadExecutor("test-", 1, 10);
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        RequestContext context = RequestContext.newTrace("127.0.0.1");
+        AtomicReference<RequestContext> captured = new AtomicReference<>();
+        AtomicBoolean virtual = new AtomicBoolean();
+        CountDownLatch done = new CountDownLatch(1);
+
+        // when
+        try (RequestContext.Scope ignored = RequestContext.attach(context)) {
+            executor.execute(() -> {
+                captured.set(RequestContext.current());
+                virtual.set(Thread.currentThread().isVirtual());
+                done.countDown();
+            });
+        }
+
+        // then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(captured.get()).isSameAs(context);
+        assertThat(virtual.get()).isTrue();
+    }
+
+    @Test
+    @DisplayName("종료 시 실행 중인 작업 완료를 기다리고 새 작업은 거부")
+    void destroy_WaitsForRunningTasks() throws InterruptedException {
+        // given
+        executor = new BoundedVirtualThreadExecutor("test-", 2, 10);
+        executor.setAwaitTerminationSeconds(5);
+        AtomicInteger completed = new AtomicInteger();
+        for (int i = 0; i < 4; i++) {
+            executor.execute(() -> {
+                sleep(100);
+                completed.incrementAndGet();
+            });
+        }
+
+        // when
+        executor.destroy();
+
+        // then
+        assertThat(completed.get()).isEqualTo(4);
+        assertThatThrownBy(() -> executor.execute(() -> { })).isInstanceOf(TaskRejectedException.class);
+    }
+
+    @Test
+    @DisplayName("대기 시간을 넘긴 작업은 인터럽트")
+    void destroy_InterruptsAfterTimeout() throws InterruptedException {
+        // given
+        executor = new BoundedVirtualThreadExecutor("test-", 1, 10);
+        executor.setAwaitTerminationSeconds(0);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                Thread.sleep(60_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        });
+        await().atMost(5, TimeUnit.SECONDS).until(() -> executor.getActiveCount() == 1);
+
+        // when
+        executor.destroy();
+
+        // then
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    /**
+     * 실행 1건 + 대기 1건으로 (maxConcurrency=1, maxPending=1) Executor를 포화시킴
+     */
+    private void saturate(CountDownLatch release) {
+        Runnable blocking = () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        executor.execute(blocking);
+        executor.execute(blocking);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
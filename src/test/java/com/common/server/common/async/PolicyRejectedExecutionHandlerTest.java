@@ -0,0 +1,161 @@
+package com.common.server.common.async;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * PolicyRejectedExecutionHandler / ExecutorMetrics 단위 테스트 (플랫폼 스레드 풀)
+ */
+@DisplayName("PolicyRejectedExecutionHandler 테스트")
+class PolicyRejectedExecutionHandlerTest {
+
+    private SimpleMeterRegistry registry;
+    private ExecutorMetrics metrics;
+    private ThreadPoolTaskExecutor executor;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new ExecutorMetrics("testExecutor", registry);
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("CALLER_RUNS 정책: 큐가 가득 차면 제출 스레드에서 실행")
+    void callerRuns_RunsInSubmittingThread() {
+        // given
+        createSaturatedExecutor(RejectionPolicy.CALLER_RUNS, Duration.ZERO);
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+
+        // when
+        executor.execute(() -> ranOn.set(Thread.currentThread()));
+
+        // then
+        assertThat(ranOn.get()).isSameAs(Thread.currentThread());
+        assertThat(rejected("caller_runs", "caller_runs")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("BLOCK 정책: 시간 초과 시 TaskRejectedException")
+    void block_RejectsAfterTimeout() {
+        // given
+        createSaturatedExecutor(RejectionPolicy.BLOCK, Duration.ofMillis(50));
+
+        // when & then
+        assertThatThrownBy(() -> executor.execute(() -> { })).isInstanceOf(TaskRejectedException.class);
+        assertThat(rejected("block", "timeout")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("DROP 정책: 작업을 버리고 카운터 증가")
+    void drop_CountsDroppedTask() {
+        // given
+        createSaturatedExecutor(RejectionPolicy.DROP, Duration.ZERO);
+
+        // when
+        executor.execute(() -> { });
+        executor.execute(() -> { });
+
+        // then
+        assertThat(rejected("drop", "dropped")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("DROP 정책: 버린 submit() 작업의 Future는 취소하고 CompletableFuture 작업은 거부")
+    void drop_CancelsAwaitedTasks() {
+        // given
+        createSaturatedExecutor(RejectionPolicy.DROP, Duration.ZERO);
+
+        // when
+        Future<String> future = executor.submit(() -> "never");
+
+        // then
+        assertThat(future.isCancelled()).isTrue();
+        assertThatThrownBy(future::get).isInstanceOf(CancellationException.class);
+        assertThatThrownBy(() -> executor.submitCompletable(() -> "never"))
+                .isInstanceOf(TaskRejectedException.class);
+        assertThat(rejected("drop", "dropped")).isEqualTo(1.0);
+        assertThat(rejected("drop", "aborted")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("대기/실행 시간과 포화도 메트릭 기록")
+    void metrics_RecordQueueWaitAndExecution() {
+        // given
+        createSaturatedExecutor(RejectionPolicy.ABORT, Duration.ZERO);
+        metrics.registerGauges(executor::getActiveCount, executor::getQueueSize, executor::getPoolSize);
+
+        // when & then: 포화 상태
+        assertThat(registry.get("async.executor.active").gauge().value()).isEqualTo(1.0);
+        assertThat(registry.get("async.executor.queued").gauge().value()).isEqualTo(1.0);
+        assertThatThrownBy(() -> executor.execute(() -> { })).isInstanceOf(TaskRejectedException.class);
+
+        // when & then: 해소 후 두 작업 모두 대기/실행 시간 기록
+        release.countDown();
+        Timer execution = registry.get("async.executor.execution").timer();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> execution.count() == 2);
+        assertThat(registry.get("async.executor.queue.wait").timer().count()).isEqualTo(2);
+        assertThat(rejected("abort", "aborted")).isEqualTo(1.0);
+    }
+
+    /**
+     * 스레드 1개 + 큐 1칸을 모두 채운 Executor 생성
+     */
+    private void createSaturatedExecutor(RejectionPolicy policy, Duration blockTimeout) {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setTaskDecorator(PolicyRejectedExecutionHandler.retainingSource(metrics.decorate(task -> task)));
+        executor.setRejectedExecutionHandler(new PolicyRejectedExecutionHandler(
+                "testExecutor", policy, blockTimeout, metrics));
+        executor.initialize();
+
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            awaitRelease();
+        });
+        executor.execute(this::awaitRelease);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> started.getCount() == 0);
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double rejected(String policy, String outcome) {
+        return registry.get("async.executor.rejected")
+                .tags("policy", policy, "outcome", outcome)
+                .counter().count();
+    }
+}
@@ -0,0 +1,100 @@
+package com.common.server.common.audit;
+
+import com.common.server.common.event.EventLifecyclePhases;
+import com.common.server.config.AuditProperties;
+import com.common.server.domain.mongo.audit.AuditLogDocument;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * AuditLogWriter 테스트
+ */
+@DisplayName("AuditLogWriter 테스트")
+class AuditLogWriterTest {
+
+    private SimpleMeterRegistry registry;
+    private MongoTemplate mongoTemplate;
+    private ObjectProvider<MongoTemplate> mongoTemplateProvider;
+    private AuditLogWriter writer;
+    private AuditMethodPlan plan;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws NoSuchMethodException {
+        registry = new SimpleMeterRegistry();
+        // Boot는 Mongo 사용 여부와 관계없이 MongoTemplate 빈을 만듦
+        mongoTemplate = mock(MongoTemplate.class);
+        mongoTemplateProvider = mock(ObjectProvider.class);
+        when(mongoTemplateProvider.getIfAvailable()).thenReturn(mongoTemplate);
+        writer = new AuditLogWriter(new AuditProperties(), mongoTemplateProvider, false, registry);
+        Method method = SampleService.class.getDeclaredMethod("rename", String.class);
+        plan = AuditMethodPlan.compile(method, method.getAnnotation(AuditLog.class));
+    }
+
+    @Test
+    @DisplayName("웹 서버 graceful shutdown보다 늦게 종료되는 단계 사용")
+    void getPhase_StopsAfterWebServer() {
+        assertThat(writer.getPhase()).isLessThan(EventLifecyclePhases.EVENT_PROCESSING);
+    }
+
+    @Test
+    @DisplayName("종료 전 기록은 남김없이 저장하고 종료 후 들어온 기록은 호출 스레드에서 저장")
+    void submit_AfterStop_WritesWithoutDropping() {
+        // given
+        writer.start();
+        writer.submit(record());
+
+        // when
+        writer.stop();
+        writer.submit(record());
+
+        // then
+        assertThat(writer.isRunning()).isFalse();
+        assertThat(registry.get("audit.records.written").counter().count()).isEqualTo(2);
+        assertThat(registry.get("audit.records.dropped").counter().count()).isZero();
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    @DisplayName("spring.data.mongodb.enabled=true이면 MongoDB에 배치로 저장")
+    @SuppressWarnings("unchecked")
+    void submit_MongoEnabled_InsertsBatch() {
+        // given
+        AuditLogWriter mongoWriter = new AuditLogWriter(new AuditProperties(), mongoTemplateProvider, true, registry);
+        mongoWriter.start();
+
+        // when
+        mongoWriter.submit(record());
+        mongoWriter.submit(record());
+        mongoWriter.stop();
+
+        // then
+        ArgumentCaptor<List<AuditLogDocument>> documents = ArgumentCaptor.forClass(List.class);
+        verify(mongoTemplate, atLeastOnce()).insert(documents.capture(), eq(AuditLogDocument.class));
+        assertThat(documents.getAllValues().stream().mapToInt(List::size).sum()).isEqualTo(2);
+        assertThat(documents.getValue().get(0).getAction()).isEqualTo("RENAME");
+        assertThat(registry.get("audit.records.written").counter().count()).isEqualTo(2);
+    }
+
+    private AuditRecord record() {
+        return new AuditRecord(System.currentTimeMillis(), plan, "user-1", new String[]{"nick"}, 1_000, null,
+                "trace-1");
+    }
+
+    static class SampleService {
+        @AuditLog(action = "RENAME", resource = "USER")
+        void rename(String nickname) {
+        }
+    }
+}
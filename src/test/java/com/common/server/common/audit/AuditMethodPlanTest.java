@@ -0,0 +1,133 @@
+package com.common.server.common.audit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * AuditMethodPlan 단위 테스트
+ */
+@DisplayName("AuditMethodPlan 테스트")
+class AuditMethodPlanTest {
+
+    @Test
+    @DisplayName("민감한 이름의 파라미터와 지정한 파라미터는 마스킹, DTO는 민감 필드만 마스킹")
+    void capture_MasksSensitiveArguments() throws NoSuchMethodException {
+        // given
+        Method method = SampleService.class.getDeclaredMethod(
+                "changePassword", String.class, String.class, LoginRequest.class, String.class);
+        AuditMethodPlan plan = AuditMethodPlan.compile(method, method.getAnnotation(AuditLog.class));
+        LoginRequest request = new LoginRequest("user-1", "pw");
+
+        // when
+        String[] captured = plan.capture(new Object[]{"user-1", "new-pw", request, "010-1234"}, 100);
+
+        // then
+        assertThat(plan.getParameterNames()).containsExactly("userId", "newPassword", "request", "phone");
+        assertThat(captured).containsExactly("user-1", AuditMethodPlan.MASKED,
+                "LoginRequest(username=user-1, password=[MASKED])", AuditMethodPlan.MASKED);
+        assertThat(plan.getMethodName()).isEqualTo("SampleService.changePassword");
+    }
+
+    @Test
+    @DisplayName("마스킹 대상이 아닌 인자는 호출 시점 상태의 문자열로 캡처")
+    void capture_SnapshotsAtCallTime() throws NoSuchMethodException {
+        // given
+        Method method = SampleService.class.getDeclaredMethod("rename", Profile.class);
+        AuditMethodPlan plan = AuditMethodPlan.compile(method, method.getAnnotation(AuditLog.class));
+        Profile profile = new Profile("nick", null);
+
+        // when
+        String[] captured = plan.capture(new Object[]{profile}, 100);
+
+        // then
+        assertThat(captured[0]).isEqualTo("Profile(nickname=nick, account=null)");
+    }
+
+    @Test
+    @DisplayName("Map 인자는 민감한 이름의 키 값을 중첩된 Map까지 마스킹")
+    void capture_MasksSensitiveMapEntries() throws NoSuchMethodException {
+        // given
+        Method method = SampleService.class.getDeclaredMethod("update", Map.class);
+        AuditMethodPlan plan = AuditMethodPlan.compile(method, method.getAnnotation(AuditLog.class));
+        Map<String, Object> nested = new LinkedHashMap<>();
+        nested.put("apiToken", "t-123");
+        nested.put("region", "kr");
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("username", "user-1");
+        body.put("password", "pw");
+        body.put("settings", nested);
+
+        // when
+        String[] captured = plan.capture(new Object[]{body}, 200);
+
+        // then
+        assertThat(captured[0])
+                .isEqualTo("{username=user-1, password=[MASKED], settings={apiToken=[MASKED], region=kr}}")
+                .doesNotContain("pw", "t-123");
+    }
+
+    @Test
+    @DisplayName("중첩 DTO와 컬렉션 안의 민감 필드를 마스킹")
+    void capture_MasksNestedDtoFields() throws NoSuchMethodException {
+        // given
+        Method method = SampleService.class.getDeclaredMethod("rename", Profile.class);
+        AuditMethodPlan plan = AuditMethodPlan.compile(method, method.getAnnotation(AuditLog.class));
+        Profile profile = new Profile("nick", new Account("user-1", List.of(new ApiKey("k-1", "s-1"))));
+
+        // when
+        String[] captured = plan.capture(new Object[]{profile}, 200);
+
+        // then
+        assertThat(captured[0])
+                .isEqualTo("Profile(nickname=nick, account=Account(username=user-1, "
+                        + "keys=[ApiKey(id=k-1, clientSecret=[MASKED])]))")
+                .doesNotContain("s-1");
+    }
+
+    @Test
+    @DisplayName("최대 길이를 넘는 인자는 잘라서 캡처")
+    void capture_TruncatesLongArguments() throws NoSuchMethodException {
+        // given
+        Method method = SampleService.class.getDeclaredMethod("rename", Profile.class);
+        AuditMethodPlan plan = AuditMethodPlan.compile(method, method.getAnnotation(AuditLog.class));
+
+        // when
+        String[] captured = plan.capture(new Object[]{new Profile("x".repeat(50), null)}, 20);
+
+        // then
+        assertThat(captured[0]).hasSize(23).endsWith("...");
+    }
+
+    static class SampleService {
+        @AuditLog(action = "CHANGE_PASSWORD", resource = "USER", masked = "phone")
+        void changePassword(String userId, String newPassword, LoginRequest request, String phone) {
+        }
+
+        @AuditLog(action = "RENAME", resource = "USER")
+        void rename(Profile profile) {
+        }
+
+        @AuditLog(action = "UPDATE", resource = "USER")
+        void update(Map<String, Object> body) {
+        }
+    }
+
+    record LoginRequest(String username, String password) {
+    }
+
+    record Profile(String nickname, Account account) {
+    }
+
+    record Account(String username, List<ApiKey> keys) {
+    }
+
+    record ApiKey(String id, String clientSecret) {
+    }
+}
@@ -0,0 +1,101 @@
+package com.common.server.common.context;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * RequestContext 단위 테스트
+ */
+@DisplayName("RequestContext 테스트")
+class RequestContextTest {
+
+    @Nested
+    @DisplayName("traceparent")
+    class Traceparent {
+
+        @Test
+        @DisplayName("유효한 traceparent는 Trace를 이어받고 새 Span을 생성")
+        void fromTraceparent_Valid_ContinuesTrace() {
+            // when
+            RequestContext context = RequestContext.fromTraceparent(
+                    "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01", "10.0.0.1");
+
+            // then
+            assertThat(context.traceId()).isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+            assertThat(context.parentSpanId()).isEqualTo("00f067aa0ba902b7");
+            assertThat(context.spanId()).hasSize(16).isNotEqualTo("00f067aa0ba902b7");
+            assertThat(context.sampled()).isTrue();
+            assertThat(context.clientAddress()).isEqualTo("10.0.0.1");
+            assertThat(context.traceparent())
+                    .isEqualTo("00-4bf92f3577b34da6a3ce929d0e0e4736-" + context.spanId() + "-01");
+        }
+
+        @Test
+        @DisplayName("형식이 잘못되었거나 모두 0인 traceparent는 새 Trace 시작")
+        void fromTraceparent_Invalid_StartsNewTrace() {
+            assertThat(RequestContext.fromTraceparent("garbage", null).parentSpanId()).isNull();
+            assertThat(RequestContext.fromTraceparent(
+                    "00-00000000000000000000000000000000-00f067aa0ba902b7-01", null).parentSpanId()).isNull();
+            assertThat(RequestContext.fromTraceparent(
+                    "00-4BF92F3577B34DA6A3CE929D0E0E4736-00f067aa0ba902b7-01", null).parentSpanId()).isNull();
+
+            RequestContext fresh = RequestContext.fromTraceparent(null, null);
+            assertThat(fresh.traceId()).hasSize(32).matches("[0-9a-f]+");
+            assertThat(fresh.traceparent()).matches("00-[0-9a-f]{32}-[0-9a-f]{16}-01");
+        }
+
+        @Test
+        @DisplayName("짧은 외부 Trace ID도 traceparent 형식으로 변환")
+        void continueTrace_ShortId_PaddedInTraceparent() {
+            RequestContext context = RequestContext.continueTrace("a1b2c3d4e5f60718", null);
+
+            assertThat(context.traceId()).isEqualTo("a1b2c3d4e5f60718");
+            assertThat(context.traceparent()).startsWith("00-0000000000000000a1b2c3d4e5f60718-");
+        }
+    }
+
+    @Nested
+    @DisplayName("스레드 연결")
+    class Propagation {
+
+        @Test
+        @DisplayName("Scope를 닫으면 이전 컨텍스트로 복원되고 bindUserId도 함께 해제")
+        void attach_RestoresPrevious() {
+            RequestContext outer = RequestContext.newTrace(null);
+
+            try (RequestContext.Scope ignored = RequestContext.attach(outer)) {
+                try (RequestContext.Scope inner = RequestContext.attach(RequestContext.newTrace(null))) {
+                    RequestContext.bindUserId("user-1");
+                    assertThat(RequestContext.current().userId()).isEqualTo("user-1");
+                }
+                assertThat(RequestContext.current()).isSameAs(outer);
+            }
+            assertThat(RequestContext.current()).isNull();
+        }
+
+        @Test
+        @DisplayName("wrap은 같은 인스턴스를 다른 스레드에 참조로 전달")
+        void wrap_PropagatesSameInstance() throws Exception {
+            RequestContext context = RequestContext.newTrace("127.0.0.1").withUserId("user-1");
+            ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+            try {
+                Future<RequestContext> seen;
+                try (RequestContext.Scope ignored = RequestContext.attach(context)) {
+                    seen = executor.submit(RequestContext.wrap(RequestContext::current));
+                }
+
+                assertThat(seen.get()).isSameAs(context);
+                assertThat(executor.submit(RequestContext::current).get()).isNull();
+            } finally {
+                executor.shutdown();
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.common.server.common.event.batch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * EventBatcher 단위 테스트
+ */
+@DisplayName("EventBatcher 테스트")
+class EventBatcherTest {
+
+    private ThreadPoolTaskScheduler scheduler;
+    private final List<List<Object>> delivered = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    private EventBatcher batcher(int maxBatchSize, Duration maxDelay) {
+        return new EventBatcher("test", maxBatchSize, maxDelay, delivered::add, Runnable::run, scheduler);
+    }
+
+    @Test
+    @DisplayName("최대 크기에 도달하면 즉시 전달")
+    void add_FlushesOnSize() {
+        // given
+        EventBatcher batcher = batcher(3, Duration.ofHours(1));
+
+        // when
+        for (int i = 0; i < 7; i++) {
+            batcher.add(i);
+        }
+
+        // then
+        assertThat(delivered).containsExactly(List.of(0, 1, 2), List.of(3, 4, 5));
+    }
+
+    @Test
+    @DisplayName("최대 대기 시간이 지나면 모인 만큼 전달")
+    void add_FlushesOnDelay() {
+        // given
+        EventBatcher batcher = batcher(100, Duration.ofMillis(50));
+
+        // when
+        batcher.add("a");
+        batcher.add("b");
+
+        // then
+        await().atMost(Duration.ofSeconds(5)).until(() -> !delivered.isEmpty());
+        assertThat(delivered).containsExactly(List.of("a", "b"));
+    }
+
+    @Test
+    @DisplayName("종료 시 남은 이벤트를 모두 전달")
+    void flushNow_DeliversRemaining() {
+        // given
+        EventBatcher batcher = batcher(100, Duration.ofHours(1));
+        batcher.add("x");
+
+        // when
+        batcher.flushNow();
+
+        // then
+        assertThat(delivered).containsExactly(List.of("x"));
+    }
+
+    @Test
+    @DisplayName("실행기에서 배달 중이면 종료 전달은 끝날 때까지 기다린 뒤 순서대로 전달")
+    void flushNow_WaitsForInFlightDelivery() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        EventBatcher batcher = new EventBatcher("test", 1, Duration.ofHours(1), batch -> {
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            try {
+                if (batch.contains("a")) {
+                    release.await(5, TimeUnit.SECONDS);
+                }
+                delivered.add(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                active.decrementAndGet();
+            }
+        }, executor, scheduler);
+        batcher.add("a");
+        batcher.add("b");
+
+        // when
+        CompletableFuture<Void> flush = CompletableFuture.runAsync(batcher::flushNow);
+        Thread.sleep(100);
+        boolean flushedEarly = flush.isDone();
+        release.countDown();
+        flush.get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(flushedEarly).isFalse();
+        assertThat(maxActive.get()).isEqualTo(1);
+        assertThat(delivered).containsExactly(List.of("a"), List.of("b"));
+    }
+}
@@ -0,0 +1,120 @@
+package com.common.server.common.event.bus;
+
+import com.common.server.common.context.RequestContext;
+import com.common.server.config.EventProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * EventBus 테스트
+ */
+@DisplayName("EventBus 테스트")
+class EventBusTest {
+
+    private AnnotationConfigApplicationContext context;
+
+    @BeforeEach
+    void setUp() {
+        EventProperties properties = new EventProperties();
+        properties.getBus().setEnabled(true);
+        properties.getBus().setConsumers(2);
+
+        context = new AnnotationConfigApplicationContext();
+        context.registerBean(EventProperties.class, () -> properties);
+        context.registerBean(MeterRegistry.class, SimpleMeterRegistry::new);
+        context.registerBean(SampleHandler.class);
+        context.registerBean(EventBus.class);
+        context.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    @DisplayName("리스너가 있는 이벤트는 소비 스레드에서 발행 시점 RequestContext와 함께 처리")
+    void publish_DeliversWithRequestContext() throws InterruptedException {
+        // given
+        EventBus eventBus = context.getBean(EventBus.class);
+        SampleHandler handler = context.getBean(SampleHandler.class);
+
+        // when
+        boolean accepted;
+        try (RequestContext.Scope ignored = RequestContext.attach(RequestContext.continueTrace("trace-1", null))) {
+            accepted = eventBus.publish(new ClickEvent("ad-1"));
+        }
+
+        // then
+        assertThat(accepted).isTrue();
+        assertThat(handler.latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(handler.received).containsExactly("ad-1:trace-1");
+        assertThat(handler.threads.get(0)).startsWith("event-bus-");
+    }
+
+    @Test
+    @DisplayName("리스너가 없는 이벤트는 버스가 처리하지 않음")
+    void publish_NoHandler_ReturnsFalse() {
+        EventBus eventBus = context.getBean(EventBus.class);
+
+        assertThat(eventBus.publish("plain")).isFalse();
+    }
+
+    @Test
+    @DisplayName("대기 상태로 들어간 소비 스레드도 발행 시 깨어나 처리")
+    void publish_WakesIdleConsumer() throws InterruptedException {
+        // given
+        EventBus eventBus = context.getBean(EventBus.class);
+        SampleHandler handler = context.getBean(SampleHandler.class);
+        Thread.sleep(100);
+
+        // when
+        boolean accepted = eventBus.publish(new ClickEvent("ad-2"));
+
+        // then
+        assertThat(accepted).isTrue();
+        assertThat(handler.latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(handler.received).containsExactly("ad-2:null");
+    }
+
+    @Test
+    @DisplayName("종료 후에는 이벤트를 받지 않고 거부 건수로 집계")
+    void publish_AfterStop_ReturnsFalse() {
+        EventBus eventBus = context.getBean(EventBus.class);
+
+        eventBus.stop();
+
+        assertThat(eventBus.isRunning()).isFalse();
+        assertThat(eventBus.hasListeners(ClickEvent.class)).isTrue();
+        assertThat(eventBus.publish(new ClickEvent("ad-3"))).isFalse();
+        assertThat(context.getBean(MeterRegistry.class).get("event.bus.rejected").counter().count()).isEqualTo(1);
+    }
+
+    record ClickEvent(String adId) {
+    }
+
+    static class SampleHandler {
+        final List<String> received = new CopyOnWriteArrayList<>();
+        final List<String> threads = new CopyOnWriteArrayList<>();
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        @EventBusListener
+        void onClick(ClickEvent event) {
+            received.add(event.adId() + ":" + RequestContext.currentTraceId());
+            threads.add(Thread.currentThread().getName());
+            latch.countDown();
+        }
+    }
+}
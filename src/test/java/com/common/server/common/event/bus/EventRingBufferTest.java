@@ -0,0 +1,90 @@
+package com.common.server.common.event.bus;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * EventRingBuffer 단위 테스트
+ */
+@DisplayName("EventRingBuffer 테스트")
+class EventRingBufferTest {
+
+    @Test
+    @DisplayName("용량을 넘으면 offer 실패, 꺼내면 다시 추가 가능 (FIFO)")
+    void offerAndPoll_BoundedFifo() {
+        // given
+        EventRingBuffer<Integer> buffer = new EventRingBuffer<>(3);
+
+        // when & then
+        assertThat(buffer.capacity()).isEqualTo(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+        assertThat(buffer.offer(99)).isFalse();
+        assertThat(buffer.poll()).isEqualTo(0);
+        assertThat(buffer.offer(4)).isTrue();
+        assertThat(buffer.poll()).isEqualTo(1);
+        assertThat(buffer.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("여러 생산자/소비자가 동시에 사용해도 모든 원소를 정확히 한 번씩 전달")
+    void concurrentProducersAndConsumers_DeliverExactlyOnce() throws Exception {
+        // given
+        int producers = 4;
+        int perProducer = 50_000;
+        EventRingBuffer<Long> buffer = new EventRingBuffer<>(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(producers * 2);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger received = new AtomicInteger();
+        AtomicLong sum = new AtomicLong();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int p = 0; p < producers; p++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (long v = 1; v <= perProducer; v++) {
+                    while (!buffer.offer(v)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return null;
+            }));
+            futures.add(executor.submit(() -> {
+                start.await();
+                while (received.get() < producers * perProducer) {
+                    Long value = buffer.poll();
+                    if (value != null) {
+                        sum.addAndGet(value);
+                        received.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        long expected = (long) producers * perProducer * (perProducer + 1) / 2;
+        assertThat(received.get()).isEqualTo(producers * perProducer);
+        assertThat(sum.get()).isEqualTo(expected);
+        assertThat(buffer.poll()).isNull();
+    }
+}
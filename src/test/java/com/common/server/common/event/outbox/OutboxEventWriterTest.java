@@ -0,0 +1,105 @@
+package com.common.server.common.event.outbox;
+
+import com.common.server.common.event.EventSerializer;
+import com.common.server.common.event.EventTypeRegistry;
+import com.common.server.common.event.sample.SampleEvent;
+import com.common.server.domain.outbox.entity.OutboxEvent;
+import com.common.server.domain.outbox.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * OutboxEventWriter 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxEventWriter 테스트")
+class OutboxEventWriterTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    private OutboxEventWriter outboxEventWriter;
+
+    @BeforeEach
+    void setUp() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        AutoConfigurationPackages.register(beanFactory, SampleEvent.class.getPackageName());
+        ConfigurableApplicationContext applicationContext = mock(ConfigurableApplicationContext.class);
+        // 타입 목록은 처음 복원할 때 만들어지므로 복원하지 않는 테스트에서는 쓰이지 않음
+        lenient().when(applicationContext.getBeanFactory()).thenReturn(beanFactory);
+        lenient().when(applicationContext.getClassLoader()).thenReturn(getClass().getClassLoader());
+        outboxEventWriter = new OutboxEventWriter(outboxEventRepository, new EventSerializer(),
+                new EventTypeRegistry(applicationContext));
+    }
+
+    @Test
+    @DisplayName("저장한 이벤트를 ID와 발생 시각까지 동일하게 복원")
+    void writeAndRead_RestoresEvent() {
+        // given
+        SampleEvent event = new SampleEvent("resource-1", "CREATED", "user-1");
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+
+        // when
+        outboxEventWriter.write(event);
+        verify(outboxEventRepository).save(captor.capture());
+        Object restored = outboxEventWriter.read(captor.getValue());
+
+        // then
+        assertThat(captor.getValue().getStatus()).isEqualTo(OutboxEvent.Status.PENDING);
+        assertThat(restored).isInstanceOf(SampleEvent.class);
+        SampleEvent sample = (SampleEvent) restored;
+        assertThat(sample.getEventId()).isEqualTo(event.getEventId());
+        assertThat(sample.getOccurredAt()).isEqualTo(event.getOccurredAt());
+        assertThat(sample.getResourceId()).isEqualTo("resource-1");
+        assertThat(sample.getAction()).isEqualTo("CREATED");
+        assertThat(sample.getUserId()).isEqualTo("user-1");
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 payload_class는 로드하지 않고 거부")
+    void read_UnregisteredType_Rejected() {
+        // given
+        OutboxEvent outboxEvent = OutboxEvent.builder()
+                .eventId("e-1").eventType("ProcessBuilder").payloadClass("java.lang.ProcessBuilder")
+                .payload("{\"command\":[\"id\"]}").availableAt(LocalDateTime.now()).createdAt(LocalDateTime.now())
+                .build();
+
+        // when & then
+        assertThatThrownBy(() -> outboxEventWriter.read(outboxEvent))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Unregistered event type");
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에 도달하면 DEAD 상태로 전환")
+    void markFailed_BecomesDeadAfterMaxAttempts() {
+        // given
+        OutboxEvent outboxEvent = OutboxEvent.builder()
+                .eventId("e-1").eventType("SampleEvent").payloadClass(SampleEvent.class.getName())
+                .payload("{}").availableAt(LocalDateTime.now()).createdAt(LocalDateTime.now())
+                .build();
+
+        // when
+        outboxEvent.markFailed("boom", LocalDateTime.now(), 2);
+        OutboxEvent.Status afterFirst = outboxEvent.getStatus();
+        outboxEvent.markFailed("boom", LocalDateTime.now(), 2);
+
+        // then
+        assertThat(afterFirst).isEqualTo(OutboxEvent.Status.PENDING);
+        assertThat(outboxEvent.getStatus()).isEqualTo(OutboxEvent.Status.DEAD);
+        assertThat(outboxEvent.getAttempts()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,121 @@
+package com.common.server.common.event.outbox;
+
+import com.common.server.common.event.AsyncEventListener;
+import com.common.server.common.event.EventListenerInvoker;
+import com.common.server.common.event.sample.SampleEvent;
+import com.common.server.config.EventProperties;
+import com.common.server.domain.outbox.entity.OutboxEvent;
+import com.common.server.domain.outbox.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * OutboxRelay 테스트
+ */
+@DisplayName("OutboxRelay 테스트")
+class OutboxRelayTest {
+
+    private AnnotationConfigApplicationContext context;
+    private OutboxEventRepository outboxEventRepository;
+    private OutboxEventWriter outboxEventWriter;
+    private OutboxRelay outboxRelay;
+    private OutboxEvent outboxEvent;
+
+    @BeforeEach
+    void setUp() {
+        context = new AnnotationConfigApplicationContext(AsyncConfig.class, SampleHandler.class);
+        EventListenerInvoker invoker = new EventListenerInvoker(context);
+        invoker.afterSingletonsInstantiated();
+
+        outboxEventRepository = mock(OutboxEventRepository.class);
+        outboxEventWriter = mock(OutboxEventWriter.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+
+        outboxEvent = OutboxEvent.builder()
+                .id(1L).eventId("e-1").eventType("SampleEvent").payloadClass(SampleEvent.class.getName())
+                .payload("{}").availableAt(LocalDateTime.now()).createdAt(LocalDateTime.now())
+                .build();
+        when(outboxEventRepository.claimBatch(any(), anyInt())).thenReturn(List.of(outboxEvent));
+
+        outboxRelay = new OutboxRelay(outboxEventRepository, outboxEventWriter, invoker, transactionManager,
+                new EventProperties(), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    @DisplayName("비동기 핸들러도 릴레이 스레드에서 끝난 뒤에 행을 삭제")
+    void poll_AsyncHandlerSucceeds_AcknowledgesAfterHandler() {
+        // given
+        SampleHandler handler = context.getBean(SampleHandler.class);
+        when(outboxEventWriter.read(outboxEvent)).thenReturn(new SampleEvent("resource-1", "CREATED", "user-1"));
+
+        // when
+        outboxRelay.poll();
+
+        // then
+        assertThat(AopUtils.isAopProxy(handler)).isTrue();
+        assertThat(handler.getThreads()).containsExactly(Thread.currentThread().getName());
+        verify(outboxEventRepository).deleteAllByIdIn(List.of(1L));
+        assertThat(outboxEvent.getAttempts()).isZero();
+    }
+
+    @Test
+    @DisplayName("비동기 핸들러가 실패하면 행을 삭제하지 않고 재시도 대상으로 남김")
+    void poll_AsyncHandlerFails_LeavesRow() {
+        // given
+        when(outboxEventWriter.read(outboxEvent)).thenReturn(new SampleEvent("resource-1", "FAIL", "user-1"));
+
+        // when
+        outboxRelay.poll();
+
+        // then
+        verify(outboxEventRepository, never()).deleteAllByIdIn(anyCollection());
+        assertThat(outboxEvent.getStatus()).isEqualTo(OutboxEvent.Status.PENDING);
+        assertThat(outboxEvent.getAttempts()).isEqualTo(1);
+        assertThat(outboxEvent.getLastError()).contains("handler failed");
+        assertThat(outboxEvent.getAvailableAt()).isAfter(LocalDateTime.now());
+    }
+
+    @Configuration
+    @EnableAsync
+    static class AsyncConfig {
+    }
+
+    static class SampleHandler {
+        private final List<String> threads = new CopyOnWriteArrayList<>();
+
+        public List<String> getThreads() {
+            return threads;
+        }
+
+        @AsyncEventListener
+        public void on(SampleEvent event) {
+            threads.add(Thread.currentThread().getName());
+            if ("FAIL".equals(event.getAction())) {
+                throw new IllegalStateException("handler failed");
+            }
+        }
+    }
+}
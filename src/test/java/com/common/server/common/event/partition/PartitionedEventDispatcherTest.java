@@ -0,0 +1,125 @@
+package com.common.server.common.event.partition;
+
+import com.common.server.common.event.DomainEvent;
+import com.common.server.common.event.PartitionedEventListener;
+import com.common.server.config.EventProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * PartitionedEventDispatcher 테스트
+ */
+@DisplayName("PartitionedEventDispatcher 테스트")
+class PartitionedEventDispatcherTest {
+
+    private AnnotationConfigApplicationContext context;
+
+    @BeforeEach
+    void setUp() {
+        EventProperties properties = new EventProperties();
+        properties.getPartition().setLanes(4);
+        properties.getPartition().setVirtualThreads(true);
+
+        context = new AnnotationConfigApplicationContext();
+        context.registerBean(EventProperties.class, () -> properties);
+        context.registerBean(OrderHandler.class);
+        context.registerBean(PartitionedEventDispatcher.class);
+        context.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    @DisplayName("같은 파티션 키의 이벤트는 발행 순서대로 처리")
+    void publish_SameKeyKeepsOrder() {
+        // given
+        OrderHandler handler = context.getBean(OrderHandler.class);
+        int orders = 20;
+        int eventsPerOrder = 200;
+
+        // when
+        for (int seq = 0; seq < eventsPerOrder; seq++) {
+            for (int order = 0; order < orders; order++) {
+                context.publishEvent(new OrderChangedEvent("order-" + order, seq));
+            }
+        }
+
+        // then
+        await().atMost(Duration.ofSeconds(10)).until(() -> handler.count.get() == orders * eventsPerOrder);
+        handler.sequences.values().forEach(sequence ->
+                assertThat(sequence).isSortedAccordingTo(Integer::compare).hasSize(eventsPerOrder));
+    }
+
+    @Test
+    @DisplayName("같은 키는 항상 같은 레인으로 매핑")
+    void laneIndex_StableForKey() {
+        int first = PartitionedEventDispatcher.laneIndex(new OrderChangedEvent("order-7", 0), 8);
+
+        assertThat(PartitionedEventDispatcher.laneIndex(new OrderChangedEvent("order-7", 1), 8)).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("종료 중에 발행된 이벤트도 유실 없이 처리")
+    void stop_WhilePublishing_LosesNoEvents() throws InterruptedException {
+        // given
+        OrderHandler handler = context.getBean(OrderHandler.class);
+        PartitionedEventDispatcher dispatcher = context.getBean(PartitionedEventDispatcher.class);
+        int events = 5000;
+        Thread publisher = Thread.ofPlatform().start(() -> {
+            for (int seq = 0; seq < events; seq++) {
+                context.publishEvent(new OrderChangedEvent("order-" + (seq % 10), seq));
+            }
+        });
+
+        // when
+        await().atMost(Duration.ofSeconds(10)).until(() -> handler.count.get() > 0);
+        dispatcher.stop();
+        publisher.join();
+
+        // then
+        assertThat(dispatcher.isRunning()).isFalse();
+        assertThat(handler.count.get()).isEqualTo(events);
+    }
+
+    static class OrderChangedEvent extends DomainEvent {
+        private final String orderId;
+        private final int sequence;
+
+        OrderChangedEvent(String orderId, int sequence) {
+            this.orderId = orderId;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public String getPartitionKey() {
+            return orderId;
+        }
+    }
+
+    static class OrderHandler {
+        final Map<String, List<Integer>> sequences = new ConcurrentHashMap<>();
+        final AtomicInteger count = new AtomicInteger();
+
+        @PartitionedEventListener
+        void onChanged(OrderChangedEvent event) {
+            sequences.computeIfAbsent(event.orderId, key -> new CopyOnWriteArrayList<>()).add(event.sequence);
+            count.incrementAndGet();
+        }
+    }
+}
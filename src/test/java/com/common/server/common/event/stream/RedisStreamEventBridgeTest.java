@@ -0,0 +1,210 @@
+package com.common.server.common.event.stream;
+
+import com.common.server.common.event.ClusterEvent;
+import com.common.server.common.event.DomainEvent;
+import com.common.server.common.event.EventListenerInvoker;
+import com.common.server.common.event.EventSerializer;
+import com.common.server.common.event.EventTypeRegistry;
+import com.common.server.config.EventProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * RedisStreamEventBridge 테스트
+ */
+@DisplayName("RedisStreamEventBridge 테스트")
+class RedisStreamEventBridgeTest {
+
+    private StringRedisTemplate stringRedisTemplate;
+    private ApplicationEventPublisher applicationEventPublisher;
+    private RedisStreamEventBridge bridge;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        applicationEventPublisher = mock(ApplicationEventPublisher.class);
+        ConfigurableApplicationContext applicationContext = mock(ConfigurableApplicationContext.class);
+        when(applicationContext.getBeanFactory()).thenReturn(new DefaultListableBeanFactory());
+
+        EventProperties properties = new EventProperties();
+        properties.getStream().setEnabled(true);
+        properties.getStream().setNodeId("node-1");
+
+        bridge = new RedisStreamEventBridge(stringRedisTemplate, new EventSerializer(), applicationEventPublisher,
+                mock(EventListenerInvoker.class), new EventTypeRegistry(applicationContext), properties,
+                new SimpleMeterRegistry());
+        bridge.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        bridge.stop();
+    }
+
+    @Test
+    @DisplayName("WORK_QUEUE 이벤트를 스트림에 추가하지 못하면 로컬에서 발행")
+    void append_WorkQueueFlushFails_PublishesLocally() {
+        // given
+        when(stringRedisTemplate.executePipelined(any(SessionCallback.class)))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+        JobRequestedEvent event = new JobRequestedEvent();
+
+        // when
+        boolean skipLocal = bridge.append(event);
+
+        // then
+        assertThat(skipLocal).isTrue();
+        verify(applicationEventPublisher, timeout(5000)).publishEvent(event);
+    }
+
+    @Test
+    @DisplayName("BROADCAST 이벤트는 추가에 실패해도 다시 발행하지 않음 (발행 시 이미 로컬 처리)")
+    void append_BroadcastFlushFails_DoesNotPublishAgain() {
+        // given
+        when(stringRedisTemplate.executePipelined(any(SessionCallback.class)))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when
+        boolean skipLocal = bridge.append(new CacheInvalidatedEvent());
+
+        // then
+        assertThat(skipLocal).isFalse();
+        verify(stringRedisTemplate, timeout(5000)).executePipelined(any(SessionCallback.class));
+        verify(applicationEventPublisher, after(200).never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("수신한 항목은 리스너가 모두 끝난 뒤에 ACK하고 실패한 항목은 ACK하지 않음")
+    @SuppressWarnings("unchecked")
+    void consume_AcknowledgesOnlyAfterListenersSucceed() {
+        // given
+        StreamOperations<String, Object, Object> streamOperations = mock(StreamOperations.class);
+        when(stringRedisTemplate.<Object, Object>opsForStream()).thenReturn(streamOperations);
+        EventSerializer serializer = new EventSerializer();
+        MapRecord<String, Object, Object> succeeded = record("1-0", serializer);
+        MapRecord<String, Object, Object> failed = record("2-0", serializer);
+        AtomicBoolean delivered = new AtomicBoolean();
+        when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset[].class)))
+                .thenAnswer(invocation -> {
+                    Consumer reader = invocation.getArgument(0);
+                    if ("server".equals(reader.getGroup()) && !delivered.getAndSet(true)) {
+                        return List.of(succeeded, failed);
+                    }
+                    Thread.sleep(10);
+                    return List.of();
+                });
+        EventListenerInvoker invoker = mock(EventListenerInvoker.class);
+        when(invoker.invoke(any())).thenReturn(1).thenThrow(new IllegalStateException("handler failed"));
+        RedisStreamEventBridge consumer = consumer(serializer, invoker, new SimpleMeterRegistry());
+
+        // when
+        consumer.start();
+        try {
+            // then
+            verify(streamOperations, timeout(5000)).acknowledge("events:JobRequestedEvent", "server",
+                    RecordId.of("1-0"));
+            verify(invoker, times(2)).invoke(any(JobRequestedEvent.class));
+            verify(streamOperations, never()).acknowledge(anyString(), anyString(), eq(RecordId.of("2-0")));
+            verify(applicationEventPublisher, never()).publishEvent(any(Object.class));
+        } finally {
+            consumer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("스트림에 등록되지 않은 타입의 항목은 클래스를 로드하지 않고 ACK하여 폐기")
+    @SuppressWarnings("unchecked")
+    void consume_UnregisteredType_RejectsAndAcknowledges() {
+        // given - 다른 스트림의 이벤트 타입과 클래스패스의 임의 클래스
+        StreamOperations<String, Object, Object> streamOperations = mock(StreamOperations.class);
+        when(stringRedisTemplate.<Object, Object>opsForStream()).thenReturn(streamOperations);
+        EventSerializer serializer = new EventSerializer();
+        MapRecord<String, Object, Object> otherStream = record("1-0", CacheInvalidatedEvent.class.getName(), "{}");
+        MapRecord<String, Object, Object> arbitrary = record("2-0", "java.lang.ProcessBuilder", "{\"command\":[\"id\"]}");
+        AtomicBoolean delivered = new AtomicBoolean();
+        when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset[].class)))
+                .thenAnswer(invocation -> {
+                    Consumer reader = invocation.getArgument(0);
+                    if ("server".equals(reader.getGroup()) && !delivered.getAndSet(true)) {
+                        return List.of(otherStream, arbitrary);
+                    }
+                    Thread.sleep(10);
+                    return List.of();
+                });
+        EventListenerInvoker invoker = mock(EventListenerInvoker.class);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RedisStreamEventBridge consumer = consumer(serializer, invoker, registry);
+
+        // when
+        consumer.start();
+        try {
+            // then
+            verify(streamOperations, timeout(5000)).acknowledge("events:JobRequestedEvent", "server",
+                    RecordId.of("1-0"), RecordId.of("2-0"));
+            verify(invoker, never()).invoke(any());
+            assertThat(registry.get("event.stream.rejected").counter().count()).isEqualTo(2);
+        } finally {
+            consumer.stop();
+        }
+    }
+
+    private RedisStreamEventBridge consumer(EventSerializer serializer, EventListenerInvoker invoker,
+                                            SimpleMeterRegistry registry) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        AutoConfigurationPackages.register(beanFactory, RedisStreamEventBridgeTest.class.getPackageName());
+        ConfigurableApplicationContext applicationContext = mock(ConfigurableApplicationContext.class);
+        when(applicationContext.getBeanFactory()).thenReturn(beanFactory);
+        when(applicationContext.getClassLoader()).thenReturn(getClass().getClassLoader());
+        EventProperties properties = new EventProperties();
+        properties.getStream().setEnabled(true);
+        properties.getStream().setNodeId("node-1");
+        return new RedisStreamEventBridge(stringRedisTemplate, serializer, applicationEventPublisher, invoker,
+                new EventTypeRegistry(applicationContext), properties, registry);
+    }
+
+    private static MapRecord<String, Object, Object> record(String id, EventSerializer serializer) {
+        return record(id, JobRequestedEvent.class.getName(), serializer.serialize(new JobRequestedEvent()));
+    }
+
+    private static MapRecord<String, Object, Object> record(String id, String type, String payload) {
+        Map<Object, Object> fields = new HashMap<>();
+        fields.put("type", type);
+        fields.put("payload", payload);
+        fields.put("node", "node-2");
+        return StreamRecords.newRecord().in("events:JobRequestedEvent").withId(RecordId.of(id)).ofMap(fields);
+    }
+
+    @ClusterEvent(delivery = ClusterEvent.Delivery.WORK_QUEUE)
+    static class JobRequestedEvent extends DomainEvent {
+    }
+
+    @ClusterEvent
+    static class CacheInvalidatedEvent extends DomainEvent {
+    }
+}
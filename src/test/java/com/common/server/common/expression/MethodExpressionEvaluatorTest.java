@@ -0,0 +1,71 @@
+package com.common.server.common.expression;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * MethodExpressionEvaluator 단위 테스트
+ */
+@DisplayName("MethodExpressionEvaluator 테스트")
+class MethodExpressionEvaluatorTest {
+
+    private MethodExpressionEvaluator evaluator;
+    private Method method;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        evaluator = new MethodExpressionEvaluator();
+        method = SampleTarget.class.getDeclaredMethod("process", String.class, Order.class);
+    }
+
+    @Test
+    @DisplayName("파라미터 이름과 프로퍼티 접근으로 키 생성")
+    void evaluate_ParameterNameAndProperty() {
+        // when
+        String key = evaluator.evaluate("'order:' + #userId + ':' + #order.id", method,
+                new Object[]{"user-1", new Order("order-9")}, String.class);
+
+        // then
+        assertThat(key).isEqualTo("order:user-1:order-9");
+    }
+
+    @Test
+    @DisplayName("위치 기반 변수(#p0)로 인자 참조")
+    void evaluate_PositionalVariable() {
+        // when
+        String key = evaluator.evaluate("'user:' + #p0", method,
+                new Object[]{"user-2", null}, String.class);
+
+        // then
+        assertThat(key).isEqualTo("user:user-2");
+    }
+
+    @Test
+    @DisplayName("반복 호출(컴파일 이후)에도 호출별 인자로 평가")
+    void evaluate_RepeatedCallsUseCurrentArguments() {
+        for (int i = 0; i < 500; i++) {
+            // when
+            String key = evaluator.evaluate("'order:' + #order.id", method,
+                    new Object[]{"user", new Order("o-" + i)}, String.class);
+
+            // then
+            assertThat(key).isEqualTo("order:o-" + i);
+        }
+    }
+
+    static class SampleTarget {
+        void process(String userId, Order order) {
+        }
+    }
+
+    public record Order(String id) {
+        public String getId() {
+            return id;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.common.server.common.feature;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * FeatureFlagService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("FeatureFlagService 테스트")
+class FeatureFlagServiceTest {
+
+    private static final String HASH = "feature:flags:all";
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private SetOperations<String, Object> setOperations;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    private FeatureFlagService featureFlagService;
+
+    @BeforeEach
+    void setUp() {
+        when(stringRedisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(hashOperations.entries(HASH)).thenReturn(Map.of());
+        featureFlagService = new FeatureFlagService(redisTemplate, stringRedisTemplate, listenerContainer);
+        featureFlagService.initialize();
+    }
+
+    @Test
+    @DisplayName("변경 알림을 받으면 Redis 값으로 스냅샷을 갱신하고 삭제된 Flag는 제거")
+    void onFlagChanged_RefreshesSnapshot() {
+        // given
+        MessageListener listener = changeListener();
+        when(hashOperations.get(HASH, "checkout")).thenReturn("true");
+
+        // when
+        listener.onMessage(message("checkout"), null);
+
+        // then
+        assertThat(featureFlagService.isEnabled("checkout")).isTrue();
+
+        // 다른 노드에서 삭제
+        when(hashOperations.get(HASH, "checkout")).thenReturn(null);
+        listener.onMessage(message("checkout"), null);
+        assertThat(featureFlagService.isEnabled("checkout", true)).isTrue();
+        assertThat(featureFlagService.getAllFlags()).doesNotContainKey("checkout");
+    }
+
+    @Test
+    @DisplayName("재동기화가 읽는 동안 반영된 변경은 읽은 값으로 덮어쓰지 않음")
+    void resync_KeepsChangeAppliedDuringRead() {
+        // given
+        when(hashOperations.entries(HASH)).thenAnswer(invocation -> {
+            featureFlagService.setFlag("checkout", true);
+            return Map.of("checkout", "false", "search", "true");
+        });
+
+        // when
+        featureFlagService.resync();
+
+        // then
+        assertThat(featureFlagService.isEnabled("checkout")).isTrue();
+        assertThat(featureFlagService.isEnabled("search")).isTrue();
+
+        // 이후 재동기화는 Redis 값을 그대로 반영
+        doReturn(Map.of("checkout", "false")).when(hashOperations).entries(HASH);
+        featureFlagService.resync();
+        assertThat(featureFlagService.isEnabled("checkout", true)).isFalse();
+        assertThat(featureFlagService.getAllFlags()).containsOnlyKeys("checkout");
+    }
+
+    @Test
+    @DisplayName("이전 방식의 Flag는 HSETNX로 옮겨 이미 있는 값을 덮어쓰지 않고 이전 키를 삭제")
+    void migrateLegacyFlags_PutsIfAbsentAndDeletesLegacyKeys() {
+        // given
+        when(setOperations.members("feature:flags"))
+                .thenReturn(new LinkedHashSet<>(List.of("checkout", "search", "stale")));
+        when(valueOperations.multiGet(List.of("feature:flag:checkout", "feature:flag:search", "feature:flag:stale")))
+                .thenReturn(Arrays.asList("true", "false", null));
+        when(hashOperations.putIfAbsent(HASH, "checkout", "true")).thenReturn(false);
+        when(hashOperations.putIfAbsent(HASH, "search", "false")).thenReturn(true);
+
+        // when
+        featureFlagService.migrateLegacyFlags();
+
+        // then
+        verify(hashOperations).putIfAbsent(HASH, "checkout", "true");
+        verify(hashOperations).putIfAbsent(HASH, "search", "false");
+        verify(hashOperations, never()).putIfAbsent(eq(HASH), eq("stale"), any());
+        verify(hashOperations, never()).put(any(), any(), any());
+        verify(redisTemplate).delete(List.of("feature:flag:checkout", "feature:flag:search", "feature:flag:stale",
+                "feature:flags"));
+    }
+
+    @Test
+    @DisplayName("이전 방식의 Flag가 없으면 아무것도 하지 않음")
+    void migrateLegacyFlags_NothingToMigrate() {
+        // given
+        when(setOperations.members("feature:flags")).thenReturn(Set.of());
+
+        // when
+        featureFlagService.migrateLegacyFlags();
+
+        // then
+        verify(valueOperations, never()).multiGet(anyCollection());
+        verify(redisTemplate, never()).delete(anyCollection());
+    }
+
+    private MessageListener changeListener() {
+        ArgumentCaptor<MessageListener> captor = ArgumentCaptor.forClass(MessageListener.class);
+        verify(listenerContainer).addMessageListener(captor.capture(), any(Topic.class));
+        return captor.getValue();
+    }
+
+    private static DefaultMessage message(String featureName) {
+        return new DefaultMessage("feature:flags:changed".getBytes(StandardCharsets.UTF_8),
+                featureName.getBytes(StandardCharsets.UTF_8));
+    }
+}
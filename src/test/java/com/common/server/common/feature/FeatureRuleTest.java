@@ -0,0 +1,94 @@
+package com.common.server.common.feature;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * FeatureRule 단위 테스트
+ */
+@DisplayName("FeatureRule 테스트")
+class FeatureRuleTest {
+
+    @Nested
+    @DisplayName("단순 on/off")
+    class SimpleFlag {
+
+        @Test
+        @DisplayName("\"true\" 값은 사용자와 무관하게 활성")
+        void trueValue_EnabledForEveryone() {
+            FeatureRule rule = FeatureRule.compile("new-ui", "true");
+
+            assertThat(rule.evaluate(null, null)).isTrue();
+            assertThat(rule.evaluate("user-1", null)).isTrue();
+        }
+
+        @Test
+        @DisplayName("해석할 수 없는 규칙은 비활성으로 처리")
+        void invalidRule_Disabled() {
+            FeatureRule rule = FeatureRule.compile("new-ui", "{not-json");
+
+            assertThat(rule.evaluate("user-1", null)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("타게팅 규칙")
+    class TargetingRule {
+
+        @Test
+        @DisplayName("비율 롤아웃은 같은 사용자에게 항상 같은 결과를 반환하고 비율에 근접")
+        void percentageRollout_StableAndProportional() {
+            FeatureRule rule = FeatureRule.compile("checkout-v2", FeatureRule.toJson(
+                    FeatureRuleDefinition.builder().percentage(25.0).build()));
+
+            int enabled = 0;
+            for (int i = 0; i < 20_000; i++) {
+                String userId = "user-" + i;
+                boolean first = rule.evaluate(userId, null);
+                assertThat(rule.evaluate(userId, null)).isEqualTo(first);
+                if (first) {
+                    enabled++;
+                }
+            }
+
+            assertThat(enabled / 20_000.0).isBetween(0.23, 0.27);
+            assertThat(rule.evaluate(null, null)).isFalse();
+        }
+
+        @Test
+        @DisplayName("허용 목록 사용자는 롤아웃 비율과 무관하게 활성")
+        void allowUsers_AlwaysEnabled() {
+            FeatureRule rule = FeatureRule.compile("checkout-v2", FeatureRule.toJson(
+                    FeatureRuleDefinition.builder().percentage(0.0).allowUsers(List.of("admin-1")).build()));
+
+            assertThat(rule.evaluate("admin-1", null)).isTrue();
+            assertThat(rule.evaluate("user-1", null)).isFalse();
+        }
+
+        @Test
+        @DisplayName("속성 조건이 모두 일치해야 활성")
+        void attributes_MustMatch() {
+            FeatureRule rule = FeatureRule.compile("reports", FeatureRule.toJson(
+                    FeatureRuleDefinition.builder().attributes(Map.of("plan", List.of("pro", "team"))).build()));
+
+            assertThat(rule.evaluate("user-1", Map.of("plan", "pro"))).isTrue();
+            assertThat(rule.evaluate("user-1", Map.of("plan", "free"))).isFalse();
+            assertThat(rule.evaluate("user-1", null)).isFalse();
+        }
+
+        @Test
+        @DisplayName("전체 스위치가 꺼져 있으면 허용 목록도 비활성")
+        void disabledSwitch_OverridesEverything() {
+            FeatureRule rule = FeatureRule.compile("checkout-v2", FeatureRule.toJson(
+                    FeatureRuleDefinition.builder().enabled(false).allowUsers(List.of("admin-1")).build()));
+
+            assertThat(rule.evaluate("admin-1", null)).isFalse();
+        }
+    }
+}
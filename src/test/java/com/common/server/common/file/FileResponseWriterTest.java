@@ -0,0 +1,179 @@
+package com.common.server.common.file;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * FileResponseWriter 단위 테스트
+ */
+@DisplayName("FileResponseWriter 테스트")
+class FileResponseWriterTest {
+
+    private static final String CONTENT = "0123456789abcdefghij";
+
+    @TempDir
+    Path tempDir;
+
+    private FileSystemResource resource;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path file = tempDir.resolve("sample.txt");
+        Files.writeString(file, CONTENT);
+        resource = new FileSystemResource(file);
+        request = new MockHttpServletRequest("GET", "/files/sample.txt");
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    @DisplayName("전체 전송 시 ETag, Last-Modified, Accept-Ranges 설정")
+    void write_FullContent() throws IOException {
+        // when
+        FileResponseWriter.write(resource, request, response, Duration.ofHours(1));
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+        assertThat(response.getContentLengthLong()).isEqualTo(CONTENT.length());
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNotBlank();
+        assertThat(response.getHeader(HttpHeaders.LAST_MODIFIED)).isNotBlank();
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("max-age=3600");
+        assertThat(response.getContentType()).startsWith("text/plain");
+    }
+
+    @Test
+    @DisplayName("ETag가 일치하면 304")
+    void write_IfNoneMatch_NotModified() throws IOException {
+        // given
+        FileResponseWriter.write(resource, request, response, null);
+        String etag = response.getHeader(HttpHeaders.ETAG);
+        request = new MockHttpServletRequest("GET", "/files/sample.txt");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        response = new MockHttpServletResponse();
+
+        // when
+        FileResponseWriter.write(resource, request, response, null);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("단일 Range는 206과 Content-Range")
+    void write_SingleRange_PartialContent() throws IOException {
+        // given
+        request.addHeader(HttpHeaders.RANGE, "bytes=5-9");
+
+        // when
+        FileResponseWriter.write(resource, request, response, null);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsString()).isEqualTo("56789");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 5-9/20");
+        assertThat(response.getContentLengthLong()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("접미사 Range는 마지막 N바이트")
+    void write_SuffixRange() throws IOException {
+        // given
+        request.addHeader(HttpHeaders.RANGE, "bytes=-3");
+
+        // when
+        FileResponseWriter.write(resource, request, response, null);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsString()).isEqualTo("hij");
+    }
+
+    @Test
+    @DisplayName("파일 범위를 벗어난 Range는 416")
+    void write_UnsatisfiableRange() throws IOException {
+        // given
+        request.addHeader(HttpHeaders.RANGE, "bytes=100-200");
+
+        // when
+        FileResponseWriter.write(resource, request, response, null);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */20");
+    }
+
+    @Test
+    @DisplayName("If-Range가 일치하지 않으면 Range를 무시하고 전체 전송")
+    void write_IfRangeMismatch_FullContent() throws IOException {
+        // given
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-4");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"stale\"");
+
+        // when
+        FileResponseWriter.write(resource, request, response, null);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    @DisplayName("sendfile 지원 시 본문 대신 Tomcat sendfile 속성 설정")
+    void write_SendfileSupported_DelegatesToContainer() throws IOException {
+        // given
+        Path large = tempDir.resolve("large.bin");
+        Files.write(large, new byte[(int) FileResponseWriter.SENDFILE_MIN_SIZE * 2]);
+        request.setAttribute(FileResponseWriter.SENDFILE_SUPPORTED_ATTR, Boolean.TRUE);
+        request.addHeader(HttpHeaders.RANGE, "bytes=100-");
+
+        // when
+        FileResponseWriter.write(new FileSystemResource(large), request, response, null);
+
+        // then
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(request.getAttribute(FileResponseWriter.SENDFILE_FILENAME_ATTR))
+                .isEqualTo(large.toAbsolutePath().toString());
+        assertThat(request.getAttribute(FileResponseWriter.SENDFILE_START_ATTR)).isEqualTo(100L);
+        assertThat(request.getAttribute(FileResponseWriter.SENDFILE_END_ATTR))
+                .isEqualTo(FileResponseWriter.SENDFILE_MIN_SIZE * 2);
+    }
+
+    @Test
+    @DisplayName("파일이 아닌 Resource는 스트림으로 구간 전송")
+    void write_NonFileResource_CopiesRange() throws IOException {
+        // given
+        ByteArrayResource bytes = new ByteArrayResource(CONTENT.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public long lastModified() {
+                return 0;
+            }
+        };
+        request.addHeader(HttpHeaders.RANGE, "bytes=10-");
+
+        // when
+        FileResponseWriter.write(bytes, request, response, null);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsString()).isEqualTo("abcdefghij");
+    }
+}
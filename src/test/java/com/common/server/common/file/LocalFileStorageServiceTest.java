@@ -0,0 +1,161 @@
+package com.common.server.common.file;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * LocalFileStorageService 내용 주소 기반 업로드 테스트
+ */
+@DisplayName("LocalFileStorageService 테스트")
+class LocalFileStorageServiceTest {
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 0x50, 0x4E, 0x47, 0x0D, 0x0A, 0x1A, 0x0A};
+
+    @TempDir
+    Path uploadDir;
+
+    private LocalFileStorageService storageService;
+
+    @BeforeEach
+    void setUp() {
+        storageService = new LocalFileStorageService();
+        ReflectionTestUtils.setField(storageService, "uploadPath", uploadDir.toString());
+        ReflectionTestUtils.setField(storageService, "baseUrl", "/files");
+    }
+
+    @Test
+    @DisplayName("해시 경로에 저장하고 SHA-256을 반환")
+    void uploadContentAddressed_StoresByHash() throws Exception {
+        // given
+        byte[] content = png(100_000);
+
+        // when
+        StoredFile stored = storageService.uploadContentAddressed(
+                new ByteArrayInputStream(content), "photo.PNG", "image/png", UploadPolicy.images());
+
+        // then
+        String sha256 = sha256(content);
+        assertThat(stored.sha256()).isEqualTo(sha256);
+        assertThat(stored.path()).isEqualTo("cas/" + sha256.substring(0, 2) + "/" + sha256.substring(2, 4)
+                + "/" + sha256 + ".png");
+        assertThat(stored.url()).isEqualTo("/files/" + stored.path());
+        assertThat(stored.size()).isEqualTo(content.length);
+        assertThat(stored.deduplicated()).isFalse();
+        assertThat(Files.readAllBytes(uploadDir.resolve(stored.path()))).isEqualTo(content);
+        assertNoTempFiles();
+    }
+
+    @Test
+    @DisplayName("같은 내용은 기존 파일을 재사용")
+    void uploadContentAddressed_DeduplicatesSameContent() {
+        // given
+        byte[] content = png(1_000);
+        StoredFile first = storageService.uploadContentAddressed(
+                new ByteArrayInputStream(content), "a.png", "image/png", UploadPolicy.images());
+
+        // when
+        StoredFile second = storageService.uploadContentAddressed(
+                new ByteArrayInputStream(content), "b.png", "image/png", UploadPolicy.images());
+
+        // then
+        assertThat(second.path()).isEqualTo(first.path());
+        assertThat(second.deduplicated()).isTrue();
+        assertNoTempFiles();
+    }
+
+    @Test
+    @DisplayName("Magic Number가 선언된 타입과 다르면 거부")
+    void uploadContentAddressed_RejectsSignatureMismatch() {
+        // given
+        byte[] content = "<html><script>alert(1)</script></html>".getBytes();
+
+        // when & then
+        assertThatThrownBy(() -> storageService.uploadContentAddressed(
+                new ByteArrayInputStream(content), "evil.png", "image/png", UploadPolicy.images()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertNoTempFiles();
+    }
+
+    @Test
+    @DisplayName("허용되지 않은 MIME 타입은 읽기 전에 거부")
+    void uploadContentAddressed_RejectsContentType() {
+        // when & then
+        assertThatThrownBy(() -> storageService.uploadContentAddressed(
+                new ByteArrayInputStream(png(10)), "a.exe", "application/x-msdownload", UploadPolicy.images()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Content type not allowed");
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 쓰는 도중 중단하고 임시 파일 삭제")
+    void uploadContentAddressed_EnforcesMaxSize() {
+        // given
+        UploadPolicy policy = new UploadPolicy(1_024, List.of("image/png"));
+
+        // when & then
+        assertThatThrownBy(() -> storageService.uploadContentAddressed(
+                new ByteArrayInputStream(png(10_000)), "big.png", "image/png", policy))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("File size exceeds limit");
+        assertNoTempFiles();
+    }
+
+    @Test
+    @DisplayName("임시 파일과 조각 업로드 디렉토리 같은 숨김 경로는 다운로드할 수 없음")
+    void loadAsResource_HiddenPath_Rejected() throws Exception {
+        // given
+        Path part = uploadDir.resolve(".uploads").resolve("session.part");
+        Files.createDirectories(part.getParent());
+        Files.write(part, png(100));
+
+        // when & then
+        assertThatThrownBy(() -> storageService.loadAsResource(".uploads/session.part"))
+                .isInstanceOf(SecurityException.class);
+        assertThatThrownBy(() -> storageService.loadAsResource("images/../.tmp/upload.tmp"))
+                .isInstanceOf(SecurityException.class);
+        assertThatThrownBy(() -> storageService.download(".uploads/session.part"))
+                .isInstanceOf(SecurityException.class);
+        assertThat(storageService.loadAsResource("images/photo.png").getFile().toPath())
+                .isEqualTo(uploadDir.resolve("images/photo.png").toAbsolutePath().normalize());
+    }
+
+    private static byte[] png(int size) {
+        byte[] content = new byte[size];
+        for (int i = 0; i < size; i++) {
+            content[i] = (byte) (i * 31);
+        }
+        System.arraycopy(PNG_SIGNATURE, 0, content, 0, Math.min(size, PNG_SIGNATURE.length));
+        return content;
+    }
+
+    private static String sha256(byte[] content) throws NoSuchAlgorithmException {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+
+    private void assertNoTempFiles() {
+        Path tempDirectory = uploadDir.resolve(".tmp");
+        if (!Files.exists(tempDirectory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(tempDirectory)) {
+            assertThat(files).isEmpty();
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
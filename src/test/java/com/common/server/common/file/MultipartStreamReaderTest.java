@@ -0,0 +1,201 @@
+package com.common.server.common.file;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.multipart.MultipartException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * MultipartStreamReader 단위 테스트
+ */
+@DisplayName("MultipartStreamReader 테스트")
+class MultipartStreamReaderTest {
+
+    private static final String BOUNDARY = "----TestBoundary7MA4YWxk";
+
+    @Test
+    @DisplayName("필드와 파일 파트를 순서대로 파싱")
+    void nextPart_ParsesFieldsAndFiles() throws IOException {
+        // given
+        byte[] file = binary(200_000);
+        byte[] body = new MultipartBuilder()
+                .field("title", "hello")
+                .file("upload", "사진.png", "image/png; charset=binary", file)
+                .build();
+
+        // when
+        MultipartStreamReader reader = new MultipartStreamReader(new ByteArrayInputStream(body), BOUNDARY);
+        MultipartStreamReader.Part field = reader.nextPart();
+        String fieldValue = new String(field.body().readAllBytes(), StandardCharsets.UTF_8);
+        MultipartStreamReader.Part filePart = reader.nextPart();
+        byte[] fileContent = filePart.body().readAllBytes();
+
+        // then
+        assertThat(field.name()).isEqualTo("title");
+        assertThat(field.isFile()).isFalse();
+        assertThat(fieldValue).isEqualTo("hello");
+        assertThat(filePart.name()).isEqualTo("upload");
+        assertThat(filePart.filename()).isEqualTo("사진.png");
+        assertThat(filePart.contentType()).isEqualTo("image/png");
+        assertThat(fileContent).isEqualTo(file);
+        assertThat(reader.nextPart()).isNull();
+    }
+
+    @Test
+    @DisplayName("작은 버퍼와 1바이트씩 도착하는 입력에서도 구분자를 정확히 찾음")
+    void nextPart_HandlesDelimiterAcrossBufferBoundaries() throws IOException {
+        // given: 본문 안에 구분자 일부와 같은 바이트열 포함
+        byte[] tricky = ("abc\r\n--" + BOUNDARY.substring(0, 10) + "xyz\r\n-").getBytes(StandardCharsets.ISO_8859_1);
+        byte[] body = new MultipartBuilder()
+                .preamble("ignored preamble")
+                .file("a", "a.bin", "application/octet-stream", tricky)
+                .file("b", "b.bin", "application/octet-stream", binary(5_000))
+                .build();
+        InputStream trickle = new TrickleInputStream(body);
+
+        // when
+        MultipartStreamReader reader = new MultipartStreamReader(trickle, BOUNDARY, 64, 1024);
+        byte[] first = reader.nextPart().body().readAllBytes();
+        byte[] second = reader.nextPart().body().readAllBytes();
+
+        // then
+        assertThat(first).isEqualTo(tricky);
+        assertThat(second).isEqualTo(binary(5_000));
+        assertThat(reader.nextPart()).isNull();
+    }
+
+    @Test
+    @DisplayName("읽지 않은 파트는 nextPart 호출 시 건너뜀")
+    void nextPart_SkipsUnreadPart() throws IOException {
+        // given
+        byte[] body = new MultipartBuilder()
+                .file("a", "a.bin", "application/octet-stream", binary(100_000))
+                .field("b", "second")
+                .build();
+
+        // when
+        MultipartStreamReader reader = new MultipartStreamReader(new ByteArrayInputStream(body), BOUNDARY);
+        reader.nextPart();
+        MultipartStreamReader.Part second = reader.nextPart();
+
+        // then
+        assertThat(second.name()).isEqualTo("b");
+        assertThat(second.body().readAllBytes()).isEqualTo("second".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("마지막 구분자 없이 끝나면 MultipartException")
+    void nextPart_TruncatedBody_Throws() throws IOException {
+        // given
+        byte[] body = new MultipartBuilder().file("a", "a.bin", "application/octet-stream", binary(1_000)).build();
+        byte[] truncated = new byte[body.length - BOUNDARY.length() - 10];
+        System.arraycopy(body, 0, truncated, 0, truncated.length);
+        MultipartStreamReader reader = new MultipartStreamReader(new ByteArrayInputStream(truncated), BOUNDARY);
+        MultipartStreamReader.Part part = reader.nextPart();
+
+        // when & then
+        assertThatThrownBy(() -> part.body().readAllBytes()).isInstanceOf(MultipartException.class);
+    }
+
+    @Test
+    @DisplayName("헤더가 제한을 넘으면 MultipartException")
+    void nextPart_OversizedHeaders_Throws() {
+        // given
+        String body = "--" + BOUNDARY + "\r\nContent-Disposition: form-data; name=\"a\"\r\nX-Padding: "
+                + "x".repeat(2_000) + "\r\n\r\nvalue\r\n--" + BOUNDARY + "--\r\n";
+        MultipartStreamReader reader = new MultipartStreamReader(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.ISO_8859_1)), BOUNDARY, 1024, 1024);
+
+        // when & then
+        assertThatThrownBy(reader::nextPart)
+                .isInstanceOf(MultipartException.class)
+                .hasMessageContaining("headers exceed");
+    }
+
+    @Test
+    @DisplayName("Content-Type에서 boundary 추출")
+    void boundary_ExtractsFromContentType() {
+        assertThat(MultipartStreamReader.boundary("multipart/form-data; boundary=abc123")).isEqualTo("abc123");
+        assertThat(MultipartStreamReader.boundary("multipart/form-data; boundary=\"a b\"")).isEqualTo("a b");
+        assertThatThrownBy(() -> MultipartStreamReader.boundary("application/json"))
+                .isInstanceOf(MultipartException.class);
+        assertThatThrownBy(() -> MultipartStreamReader.boundary("multipart/form-data"))
+                .isInstanceOf(MultipartException.class);
+    }
+
+    static byte[] binary(int size) {
+        byte[] content = new byte[size];
+        for (int i = 0; i < size; i++) {
+            content[i] = (byte) (i * 7 + (i >> 8));
+        }
+        return content;
+    }
+
+    /**
+     * 테스트용 multipart 본문 작성
+     */
+    static final class MultipartBuilder {
+
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        private final String boundary;
+
+        MultipartBuilder() {
+            this(BOUNDARY);
+        }
+
+        MultipartBuilder(String boundary) {
+            this.boundary = boundary;
+        }
+
+        MultipartBuilder preamble(String text) {
+            write(text + "\r\n");
+            return this;
+        }
+
+        MultipartBuilder field(String name, String value) {
+            write("--" + boundary + "\r\nContent-Disposition: form-data; name=\"" + name + "\"\r\n\r\n");
+            out.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+            write("\r\n");
+            return this;
+        }
+
+        MultipartBuilder file(String name, String filename, String contentType, byte[] content) {
+            write("--" + boundary + "\r\nContent-Disposition: form-data; name=\"" + name + "\"; filename=\""
+                    + filename + "\"\r\nContent-Type: " + contentType + "\r\n\r\n");
+            out.writeBytes(content);
+            write("\r\n");
+            return this;
+        }
+
+        byte[] build() {
+            write("--" + boundary + "--\r\n");
+            return out.toByteArray();
+        }
+
+        private void write(String text) {
+            out.writeBytes(text.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * 호출마다 최대 3바이트만 반환하는 스트림 (네트워크 분할 도착 재현)
+     */
+    private static final class TrickleInputStream extends ByteArrayInputStream {
+
+        private TrickleInputStream(byte[] buf) {
+            super(buf);
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) {
+            return super.read(b, off, Math.min(len, 3));
+        }
+    }
+}
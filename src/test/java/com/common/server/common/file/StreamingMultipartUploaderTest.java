@@ -0,0 +1,124 @@
+package com.common.server.common.file;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * StreamingMultipartUploader 테스트 (실제 LocalFileStorageService 사용)
+ */
+@DisplayName("StreamingMultipartUploader 테스트")
+class StreamingMultipartUploaderTest {
+
+    private static final String BOUNDARY = "----TestBoundary7MA4YWxk";
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 0x50, 0x4E, 0x47, 0x0D, 0x0A, 0x1A, 0x0A};
+
+    @TempDir
+    Path uploadDir;
+
+    private StreamingMultipartUploader uploader;
+
+    @BeforeEach
+    void setUp() {
+        LocalFileStorageService storageService = new LocalFileStorageService();
+        ReflectionTestUtils.setField(storageService, "uploadPath", uploadDir.toString());
+        ReflectionTestUtils.setField(storageService, "baseUrl", "/files");
+
+        uploader = new StreamingMultipartUploader(storageService);
+        ReflectionTestUtils.setField(uploader, "maxRequestSize", DataSize.ofMegabytes(1));
+        ReflectionTestUtils.setField(uploader, "maxParts", 3);
+    }
+
+    @Test
+    @DisplayName("파일 파트를 스트리밍으로 저장하고 일반 필드는 버림")
+    void upload_StoresFileParts() throws Exception {
+        // given
+        byte[] first = png(300_000, 1);
+        byte[] second = png(1_000, 2);
+        MockHttpServletRequest request = request(new MultipartStreamReaderTest.MultipartBuilder(BOUNDARY)
+                .field("description", "ignored")
+                .file("files", "a.png", "image/png", first)
+                .file("files", "b.png", "image/png", second)
+                .build());
+
+        // when
+        List<StoredFile> stored = uploader.upload(request, UploadPolicy.images());
+
+        // then
+        assertThat(stored).hasSize(2);
+        assertThat(Files.readAllBytes(uploadDir.resolve(stored.get(0).path()))).isEqualTo(first);
+        assertThat(Files.readAllBytes(uploadDir.resolve(stored.get(1).path()))).isEqualTo(second);
+    }
+
+    @Test
+    @DisplayName("Content-Length가 요청 제한을 넘으면 본문을 읽기 전에 거부")
+    void upload_RejectsOversizedContentLength() {
+        // given
+        MockHttpServletRequest request = request(new MultipartStreamReaderTest.MultipartBuilder(BOUNDARY)
+                .file("file", "big.png", "image/png", png(2_000_000, 1))
+                .build());
+
+        // when & then
+        assertThatThrownBy(() -> uploader.upload(request, UploadPolicy.images()))
+                .isInstanceOf(FileSizeLimitExceededException.class)
+                .hasMessageContaining("Request size exceeds limit");
+    }
+
+    @Test
+    @DisplayName("파일별 크기 제한은 쓰는 도중 적용")
+    void upload_EnforcesPolicySizeWhileStreaming() {
+        // given
+        MockHttpServletRequest request = request(new MultipartStreamReaderTest.MultipartBuilder(BOUNDARY)
+                .file("file", "a.png", "image/png", png(50_000, 1))
+                .build());
+        UploadPolicy policy = new UploadPolicy(10_000, List.of("image/png"));
+
+        // when & then
+        assertThatThrownBy(() -> uploader.upload(request, policy))
+                .isInstanceOf(FileSizeLimitExceededException.class)
+                .hasMessageContaining("File size exceeds limit");
+    }
+
+    @Test
+    @DisplayName("파트 수 제한 초과 시 MultipartException")
+    void upload_RejectsTooManyParts() {
+        // given
+        MultipartStreamReaderTest.MultipartBuilder builder = new MultipartStreamReaderTest.MultipartBuilder(BOUNDARY);
+        for (int i = 0; i < 4; i++) {
+            builder.field("f" + i, "v");
+        }
+        MockHttpServletRequest request = request(builder.build());
+
+        // when & then
+        assertThatThrownBy(() -> uploader.upload(request, UploadPolicy.images()))
+                .isInstanceOf(MultipartException.class)
+                .hasMessageContaining("Too many multipart parts");
+    }
+
+    private static MockHttpServletRequest request(byte[] body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/files/images");
+        request.setContentType("multipart/form-data; boundary=" + BOUNDARY);
+        request.setContent(body);
+        return request;
+    }
+
+    private static byte[] png(int size, int seed) {
+        byte[] content = new byte[size];
+        for (int i = 0; i < size; i++) {
+            content[i] = (byte) (i * 31 + seed);
+        }
+        System.arraycopy(PNG_SIGNATURE, 0, content, 0, PNG_SIGNATURE.length);
+        return content;
+    }
+}
@@ -0,0 +1,282 @@
+package com.common.server.common.file.resumable;
+
+import com.common.server.common.file.ChecksumMismatchException;
+import com.common.server.common.file.FileSizeLimitExceededException;
+import com.common.server.common.file.LocalFileStorageService;
+import com.common.server.common.file.StoredFile;
+import com.common.server.common.file.UploadPolicy;
+import com.common.server.config.ResumableUploadProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ResumableUploadService 테스트 (실제 LocalFileStorageService 사용)
+ */
+@DisplayName("ResumableUploadService 테스트")
+class ResumableUploadServiceTest {
+
+    private static final String OWNER = "user-1";
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final int MAX_SESSIONS_PER_OWNER = 2;
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 0x50, 0x4E, 0x47, 0x0D, 0x0A, 0x1A, 0x0A};
+
+    @TempDir
+    Path uploadDir;
+
+    private ResumableUploadService service;
+
+    @BeforeEach
+    void setUp() {
+        LocalFileStorageService storageService = new LocalFileStorageService();
+        ReflectionTestUtils.setField(storageService, "uploadPath", uploadDir.toString());
+        ReflectionTestUtils.setField(storageService, "baseUrl", "/files");
+
+        ResumableUploadProperties properties = new ResumableUploadProperties();
+        properties.setChunkSize(DataSize.ofBytes(CHUNK_SIZE));
+        properties.setMaxSize(DataSize.ofMegabytes(10));
+        properties.setSessionTtl(Duration.ofHours(1));
+        properties.setMaxSessionsPerOwner(MAX_SESSIONS_PER_OWNER);
+
+        service = new ResumableUploadService(storageService, properties);
+        ReflectionTestUtils.setField(service, "uploadPath", uploadDir.toString());
+    }
+
+    @Test
+    @DisplayName("조각을 순서 없이 병렬로 보내고 완료하면 원본과 같은 파일이 저장됨")
+    void upload_OutOfOrderParallelChunks() throws Exception {
+        // given
+        byte[] content = png(CHUNK_SIZE * 5 + 123);
+        UploadSessionStatus created = create(content);
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < created.totalChunks(); i++) {
+            order.add(i);
+        }
+        Collections.shuffle(order);
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            List<Future<UploadSessionStatus>> futures = new ArrayList<>();
+            for (int index : order) {
+                futures.add(executor.submit(() -> writeChunk(created.uploadId(), index, content)));
+            }
+            for (Future<UploadSessionStatus> future : futures) {
+                future.get();
+            }
+        }
+        StoredFile stored = service.complete(OWNER, created.uploadId());
+
+        // then
+        assertThat(created.totalChunks()).isEqualTo(6);
+        assertThat(stored.sha256()).isEqualTo(sha256(content));
+        assertThat(Files.readAllBytes(uploadDir.resolve(stored.path()))).isEqualTo(content);
+        assertThatThrownBy(() -> service.status(OWNER, created.uploadId()))
+                .isInstanceOf(NoSuchElementException.class);
+        assertThat(partFiles()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("받지 못한 조각이 있으면 완료할 수 없고 상태에 표시됨")
+    void complete_WithMissingChunks_Throws() throws Exception {
+        // given
+        byte[] content = png(CHUNK_SIZE * 3);
+        UploadSessionStatus created = create(content);
+        writeChunk(created.uploadId(), 0, content);
+        writeChunk(created.uploadId(), 2, content);
+
+        // when & then
+        assertThatThrownBy(() -> service.complete(OWNER, created.uploadId()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Missing 1 of 3 chunks");
+        assertThat(service.status(OWNER, created.uploadId()).missingChunks()).containsExactly(1);
+
+        // 재개 후 완료
+        writeChunk(created.uploadId(), 1, content);
+        assertThat(service.complete(OWNER, created.uploadId()).size()).isEqualTo(content.length);
+    }
+
+    @Test
+    @DisplayName("체크섬이 다르면 세션과 조각 파일 삭제")
+    void complete_ChecksumMismatch_RemovesSession() throws Exception {
+        // given
+        byte[] content = png(CHUNK_SIZE + 10);
+        UploadSessionStatus created = create(content);
+        byte[] corrupted = content.clone();
+        corrupted[CHUNK_SIZE + 5] ^= 1;
+        writeChunk(created.uploadId(), 0, corrupted);
+        writeChunk(created.uploadId(), 1, corrupted);
+
+        // when & then
+        assertThatThrownBy(() -> service.complete(OWNER, created.uploadId()))
+                .isInstanceOf(ChecksumMismatchException.class);
+        assertThatThrownBy(() -> service.status(OWNER, created.uploadId()))
+                .isInstanceOf(NoSuchElementException.class);
+        assertThat(partFiles()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조각 길이가 다르면 거부하고 받은 조각으로 기록하지 않음")
+    void writeChunk_WrongLength_Rejected() throws Exception {
+        // given
+        byte[] content = png(CHUNK_SIZE * 2);
+        UploadSessionStatus created = create(content);
+        byte[] shortChunk = Arrays.copyOf(content, CHUNK_SIZE - 1);
+
+        // when & then
+        assertThatThrownBy(() -> service.writeChunk(OWNER, created.uploadId(), 0, -1,
+                new ByteArrayInputStream(shortChunk)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("incomplete");
+        assertThatThrownBy(() -> service.writeChunk(OWNER, created.uploadId(), 0, CHUNK_SIZE + 1,
+                new ByteArrayInputStream(content)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(service.status(OWNER, created.uploadId()).receivedChunks()).isZero();
+    }
+
+    @Test
+    @DisplayName("카테고리 최대 크기가 조각 업로드 최대 크기보다 작으면 카테고리 제한 적용")
+    void create_ExceedsCategoryMaxSize_Rejected() {
+        // given
+        byte[] content = png(2048);
+        UploadPolicy categoryPolicy = UploadPolicy.images().withMaxSize(1024);
+
+        // when & then
+        assertThatThrownBy(() -> service.create(OWNER, "photo.png", "image/png", content.length, sha256(content),
+                categoryPolicy))
+                .isInstanceOf(FileSizeLimitExceededException.class);
+    }
+
+    @Test
+    @DisplayName("사용자별 세션 수 제한을 넘으면 거부하고 다른 사용자는 계속 생성 가능")
+    void create_ExceedsSessionsPerOwner_Rejected() throws Exception {
+        // given
+        byte[] content = png(100);
+        for (int i = 0; i < MAX_SESSIONS_PER_OWNER; i++) {
+            create(content);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> create(content))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("for this user");
+        assertThat(service.create("user-2", "photo.png", "image/png", content.length, sha256(content),
+                UploadPolicy.images()).uploadId()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("동시에 생성해도 사용자별 세션 수 제한을 넘지 않고, 취소하면 다시 생성 가능")
+    void create_Concurrent_ReservesSlotsAtomically() throws Exception {
+        // given
+        byte[] content = png(100);
+        int attempts = 16;
+        List<Future<UploadSessionStatus>> futures = new ArrayList<>();
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(attempts)) {
+            for (int i = 0; i < attempts; i++) {
+                futures.add(executor.submit(() -> create(content)));
+            }
+        }
+
+        // then
+        List<UploadSessionStatus> created = new ArrayList<>();
+        for (Future<UploadSessionStatus> future : futures) {
+            try {
+                created.add(future.get());
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(IllegalStateException.class);
+            }
+        }
+        assertThat(created).hasSize(MAX_SESSIONS_PER_OWNER);
+        assertThat(partFiles()).hasSize(MAX_SESSIONS_PER_OWNER);
+
+        service.abort(OWNER, created.get(0).uploadId());
+        assertThat(create(content).uploadId()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 세션에는 접근할 수 없음")
+    void status_OtherOwner_NotFound() throws Exception {
+        // given
+        UploadSessionStatus created = create(png(100));
+
+        // when & then
+        assertThatThrownBy(() -> service.status("user-2", created.uploadId()))
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    @DisplayName("TTL 동안 활동이 없는 세션과 세션 정보가 없는 조각 파일 정리")
+    void cleanupExpired_RemovesIdleSessionsAndOrphans() throws Exception {
+        // given
+        UploadSessionStatus created = create(png(CHUNK_SIZE));
+        Path orphan = uploadDir.resolve(ResumableUploadService.SESSION_DIRECTORY).resolve("orphan.part");
+        Files.write(orphan, new byte[10]);
+        Files.setLastModifiedTime(orphan, FileTime.from(Instant.now().minus(Duration.ofDays(2))));
+
+        // when
+        int removed = service.cleanupExpired(Instant.now().plus(Duration.ofHours(2)));
+
+        // then
+        assertThat(removed).isEqualTo(2);
+        assertThatThrownBy(() -> service.status(OWNER, created.uploadId()))
+                .isInstanceOf(NoSuchElementException.class);
+        assertThat(partFiles()).isEmpty();
+    }
+
+    private UploadSessionStatus create(byte[] content) throws Exception {
+        return service.create(OWNER, "photo.png", "image/png", content.length, sha256(content),
+                UploadPolicy.images());
+    }
+
+    private UploadSessionStatus writeChunk(String uploadId, int index, byte[] content) throws IOException {
+        int from = index * CHUNK_SIZE;
+        int to = Math.min(content.length, from + CHUNK_SIZE);
+        byte[] chunk = Arrays.copyOfRange(content, from, to);
+        return service.writeChunk(OWNER, uploadId, index, chunk.length, new ByteArrayInputStream(chunk));
+    }
+
+    private List<Path> partFiles() throws IOException {
+        try (Stream<Path> files = Files.list(uploadDir.resolve(ResumableUploadService.SESSION_DIRECTORY))) {
+            return files.toList();
+        }
+    }
+
+    private static byte[] png(int size) {
+        byte[] content = new byte[size];
+        for (int i = 0; i < size; i++) {
+            content[i] = (byte) (i * 13 + (i >> 10));
+        }
+        System.arraycopy(PNG_SIGNATURE, 0, content, 0, Math.min(size, PNG_SIGNATURE.length));
+        return content;
+    }
+
+    private static String sha256(byte[] content) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+}
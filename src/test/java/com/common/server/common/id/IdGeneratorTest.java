@@ -0,0 +1,93 @@
+package com.common.server.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * IdGenerator 단위 테스트
+ */
+@DisplayName("IdGenerator 테스트")
+class IdGeneratorTest {
+
+    @Test
+    @DisplayName("UUIDv7은 버전/변형 비트가 맞고 같은 스레드에서 단조 증가")
+    void uuid_Version7AndMonotonic() {
+        UUID previous = IdGenerator.uuid();
+        for (int i = 0; i < 10_000; i++) {
+            UUID current = IdGenerator.uuid();
+
+            assertThat(current.version()).isEqualTo(7);
+            assertThat(current.variant()).isEqualTo(2);
+            assertThat(current.toString()).isGreaterThan(previous.toString());
+            previous = current;
+        }
+    }
+
+    @Test
+    @DisplayName("ULID는 26자 Crockford Base32이며 생성 순서대로 정렬")
+    void ulid_SortableCrockford() {
+        String previous = IdGenerator.ulid();
+        for (int i = 0; i < 10_000; i++) {
+            String current = IdGenerator.ulid();
+
+            assertThat(current).hasSize(26).matches("[0-7][0-9A-HJKMNP-TV-Z]{25}");
+            assertThat(current).isGreaterThan(previous);
+            previous = current;
+        }
+    }
+
+    @Test
+    @DisplayName("Snowflake ID는 여러 스레드에서 동시에 생성해도 중복 없음")
+    void snowflake_UniqueAcrossThreads() throws Exception {
+        IdGenerator.setNodeId(1);
+        int threads = 8;
+        int perThread = 20_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                long previous = 0;
+                for (int i = 0; i < perThread; i++) {
+                    long id = IdGenerator.snowflake();
+                    assertThat(id).isGreaterThan(previous);
+                    ids.add(id);
+                    previous = id;
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(ids).hasSize(threads * perThread);
+    }
+
+    @Test
+    @DisplayName("노드 번호는 0 ~ 1023 범위만 허용")
+    void setNodeId_RejectsOutOfRange() {
+        assertThatThrownBy(() -> IdGenerator.setNodeId(1024)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IdGenerator.setNodeId(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("무작위 16진수는 요청한 길이로 생성")
+    void randomHex_Length() {
+        assertThat(IdGenerator.randomHex(16)).matches("[0-9a-f]{16}");
+        assertThat(IdGenerator.randomHex(8)).matches("[0-9a-f]{8}");
+    }
+}
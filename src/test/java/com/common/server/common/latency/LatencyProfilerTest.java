@@ -0,0 +1,113 @@
+package com.common.server.common.latency;
+
+import com.common.server.common.context.RequestContext;
+import com.common.server.config.LatencyProfilerProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * LatencyProfiler 단위 테스트
+ */
+@DisplayName("LatencyProfiler 테스트")
+class LatencyProfilerTest {
+
+    private LatencyProfilerProperties properties;
+    private LatencyProfiler profiler;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LatencyProfilerProperties();
+        properties.setSlowThreshold(Duration.ofMillis(20));
+        properties.setMaxEndpoints(2);
+        properties.setSlowSampleCapacity(2);
+        profiler = new LatencyProfiler(properties);
+    }
+
+    @Test
+    @DisplayName("구간 교체 후 엔드포인트별 백분위 요약 제공")
+    void rotate_SummarizesPercentiles() {
+        // given
+        for (int i = 1; i <= 1000; i++) {
+            profiler.record("GET /api/items", TimeUnit.MILLISECONDS.toNanos(i));
+        }
+
+        // when
+        profiler.rotate();
+        LatencyProfiler.EndpointSummary summary = profiler.summaries().get("GET /api/items");
+
+        // then
+        assertThat(summary.window().count()).isEqualTo(1000);
+        assertThat(summary.window().p50()).isCloseTo(500, within(10.0));
+        assertThat(summary.window().p999()).isCloseTo(999, within(10.0));
+        assertThat(summary.total().count()).isEqualTo(1000);
+
+        // 다음 구간에 기록이 없으면 최근 구간은 비고 누적은 유지
+        profiler.rotate();
+        summary = profiler.summaries().get("GET /api/items");
+        assertThat(summary.window().count()).isZero();
+        assertThat(summary.total().count()).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("최대 엔드포인트 수를 넘으면 OTHER로 집계")
+    void record_OverflowToOther() {
+        profiler.record("GET /a", 1_000);
+        profiler.record("GET /b", 1_000);
+        profiler.record("GET /c", 1_000);
+        profiler.rotate();
+
+        assertThat(profiler.summaries()).containsKeys("GET /a", LatencyProfiler.OTHER_ENDPOINT)
+                .doesNotContainKey("GET /c");
+    }
+
+    @Test
+    @DisplayName("임계값을 넘긴 처리 중 요청은 스택과 컨텍스트를 한 번만 캡처")
+    void sampleSlowRequests_CapturesStackOnce() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<LatencyProfiler.InFlight> inFlight = new AtomicReference<>();
+        RequestContext context = RequestContext.newTrace("10.0.0.1").withUserId("user-1");
+
+        Thread worker = new Thread(() -> {
+            try (RequestContext.Scope ignored = RequestContext.attach(context)) {
+                inFlight.set(profiler.begin("GET /api/slow"));
+                started.countDown();
+                release.await();
+                profiler.end(inFlight.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "slow-worker");
+        worker.start();
+        started.await();
+        Thread.sleep(50);
+
+        // when
+        profiler.sampleSlowRequests();
+        profiler.sampleSlowRequests();
+        release.countDown();
+        worker.join();
+
+        // then
+        List<LatencyProfiler.SlowRequestSample> samples = profiler.slowRequests();
+        assertThat(samples).hasSize(1);
+        LatencyProfiler.SlowRequestSample sample = samples.get(0);
+        assertThat(sample.getEndpoint()).isEqualTo("GET /api/slow");
+        assertThat(sample.getTraceId()).isEqualTo(context.traceId());
+        assertThat(sample.getUserId()).isEqualTo("user-1");
+        assertThat(sample.getThread()).isEqualTo("slow-worker");
+        assertThat(sample.getStack()).anyMatch(frame -> frame.contains("CountDownLatch.await"));
+        assertThat(sample.getTotalMillis()).isGreaterThanOrEqualTo(sample.getElapsedMillis());
+        assertThat(profiler.inFlightCount()).isZero();
+    }
+}
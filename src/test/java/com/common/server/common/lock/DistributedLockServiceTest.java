@@ -0,0 +1,160 @@
+package com.common.server.common.lock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * DistributedLockService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DistributedLockService 테스트")
+class DistributedLockServiceTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    private DistributedLockService lockService;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lockService = new DistributedLockService(redisTemplate);
+    }
+
+    @Nested
+    @DisplayName("재진입")
+    class Reentrancy {
+
+        @Test
+        @DisplayName("같은 스레드의 중첩 호출은 Redis 락을 다시 요청하지 않음")
+        void nestedCall_ReusesHeldLock() {
+            // given
+            when(valueOperations.setIfAbsent(eq("lock:order:1"), anyString(), anyLong(), any(TimeUnit.class)))
+                    .thenReturn(true);
+
+            // when
+            String result = lockService.executeWithLock("order:1", 1, 10, TimeUnit.SECONDS,
+                    () -> lockService.executeWithLock("order:1", 1, 10, TimeUnit.SECONDS, () -> "done"));
+
+            // then
+            assertThat(result).isEqualTo("done");
+            verify(valueOperations, times(1))
+                    .setIfAbsent(eq("lock:order:1"), anyString(), anyLong(), any(TimeUnit.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("로컬 경쟁")
+    class LocalContention {
+
+        @Test
+        @DisplayName("같은 노드의 스레드는 로컬 락에서 대기하고 Redis 폴링 없이 순차 실행")
+        void concurrentCalls_QueueLocally() throws Exception {
+            // given
+            when(valueOperations.setIfAbsent(eq("lock:stock:1"), anyString(), anyLong(), any(TimeUnit.class)))
+                    .thenReturn(true);
+            int threads = 8;
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger maxRunning = new AtomicInteger();
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+            // when
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    lockService.executeWithLock("stock:1", 5, 10, TimeUnit.SECONDS, () -> {
+                        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        running.decrementAndGet();
+                    });
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+            executor.shutdown();
+
+            // then
+            assertThat(maxRunning.get()).isEqualTo(1);
+            verify(valueOperations, times(threads))
+                    .setIfAbsent(eq("lock:stock:1"), anyString(), anyLong(), any(TimeUnit.class));
+        }
+
+        @Test
+        @DisplayName("다른 키를 실행 중인 스레드가 있어도 대기하지 않음")
+        void differentKeys_DoNotBlockEachOther() throws Exception {
+            // given
+            when(valueOperations.setIfAbsent(anyString(), anyString(), anyLong(), any(TimeUnit.class)))
+                    .thenReturn(true);
+            CountDownLatch entered = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            Future<?> holder = executor.submit(() -> lockService.executeWithLock("stock:1", 1, 10,
+                    TimeUnit.SECONDS, () -> {
+                        entered.countDown();
+                        awaitQuietly(release);
+                    }));
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // when
+            String result;
+            try {
+                result = lockService.executeWithLock("stock:2", 100, 10, TimeUnit.MILLISECONDS, () -> "done");
+            } finally {
+                release.countDown();
+                holder.get(5, TimeUnit.SECONDS);
+                executor.shutdown();
+            }
+
+            // then
+            assertThat(result).isEqualTo("done");
+        }
+
+        @Test
+        @DisplayName("대기 시간 내 Redis 락을 얻지 못하면 LockAcquisitionException 발생")
+        void remoteLockBusy_ThrowsException() {
+            // given
+            when(valueOperations.setIfAbsent(eq("lock:busy"), anyString(), anyLong(), any(TimeUnit.class)))
+                    .thenReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> lockService.executeWithLock("busy", 100, 10, TimeUnit.MILLISECONDS,
+                    () -> "never"))
+                    .isInstanceOf(LockAcquisitionException.class);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
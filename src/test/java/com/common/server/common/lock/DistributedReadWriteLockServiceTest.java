@@ -0,0 +1,154 @@
+package com.common.server.common.lock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * DistributedReadWriteLockService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("DistributedReadWriteLockService 테스트")
+class DistributedReadWriteLockServiceTest {
+
+    private static final List<String> KEYS =
+            List.of("rwlock:{ad:1}:readers", "rwlock:{ad:1}:writer", "rwlock:{ad:1}:intent");
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    private DistributedReadWriteLockService lockService;
+
+    @BeforeEach
+    void setUp() {
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        lockService = new DistributedReadWriteLockService(stringRedisTemplate);
+    }
+
+    private void readLockAvailable(boolean available) {
+        when(stringRedisTemplate.execute(anyScript(), eq(KEYS), anyString(), anyString()))
+                .thenReturn(available ? 1L : 0L);
+    }
+
+    private void writeLockAvailable(boolean available) {
+        when(stringRedisTemplate.execute(anyScript(), eq(KEYS), anyString(), anyString(), anyString()))
+                .thenReturn(available ? 1L : 0L);
+    }
+
+    @Test
+    @DisplayName("읽기 락을 획득하면 작업을 실행하고 같은 보유자 ID로 해제")
+    void executeWithReadLock_AcquiresAndReleases() {
+        // given
+        readLockAvailable(true);
+
+        // when
+        String result = lockService.executeWithReadLock("ad:1", 1, 10, TimeUnit.SECONDS, () -> "config");
+
+        // then
+        ArgumentCaptor<String> holderId = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate).execute(anyScript(), eq(KEYS), eq("10000"), holderId.capture());
+        assertThat(result).isEqualTo("config");
+        verify(zSetOperations).remove("rwlock:{ad:1}:readers", holderId.getValue());
+    }
+
+    @Test
+    @DisplayName("대기 시간 내 쓰기 락을 얻지 못하면 LockAcquisitionException 발생")
+    void executeWithWriteLock_Busy_ThrowsException() {
+        // given
+        writeLockAvailable(false);
+
+        // when & then
+        assertThatThrownBy(() -> lockService.executeWithWriteLock("ad:1", 100, 10_000, TimeUnit.MILLISECONDS,
+                () -> "never"))
+                .isInstanceOf(LockAcquisitionException.class);
+        verify(stringRedisTemplate, never()).execute(anyScript(), eq(List.of("rwlock:{ad:1}:writer")),
+                anyString());
+    }
+
+    @Nested
+    @DisplayName("재진입")
+    class Reentrancy {
+
+        @Test
+        @DisplayName("읽기 락 안의 읽기 호출은 Redis 락을 다시 요청하지 않음")
+        void nestedRead_ReusesHeldReadLock() {
+            // given
+            readLockAvailable(true);
+
+            // when
+            String result = lockService.executeWithReadLock("ad:1", 1, 10, TimeUnit.SECONDS,
+                    () -> lockService.executeWithReadLock("ad:1", 1, 10, TimeUnit.SECONDS, () -> "config"));
+
+            // then
+            assertThat(result).isEqualTo("config");
+            verify(stringRedisTemplate, times(1)).execute(anyScript(), eq(KEYS), anyString(), anyString());
+            verify(zSetOperations, times(1)).remove(eq("rwlock:{ad:1}:readers"), any());
+        }
+
+        @Test
+        @DisplayName("쓰기 락 안의 읽기/쓰기 호출은 보유 중인 쓰기 락으로 실행")
+        void nestedInWrite_ReusesHeldWriteLock() {
+            // given
+            writeLockAvailable(true);
+
+            // when
+            String result = lockService.executeWithWriteLock("ad:1", 1, 10, TimeUnit.SECONDS,
+                    () -> lockService.executeWithReadLock("ad:1", 1, 10, TimeUnit.SECONDS,
+                            () -> lockService.executeWithWriteLock("ad:1", 1, 10, TimeUnit.SECONDS, () -> "saved")));
+
+            // then
+            assertThat(result).isEqualTo("saved");
+            verify(stringRedisTemplate, times(1))
+                    .execute(anyScript(), eq(KEYS), anyString(), anyString(), anyString());
+            verify(stringRedisTemplate, never()).execute(anyScript(), eq(KEYS), anyString(), anyString());
+            verify(stringRedisTemplate, times(1))
+                    .execute(anyScript(), eq(List.of("rwlock:{ad:1}:writer")), anyString());
+        }
+
+        @Test
+        @DisplayName("읽기 락 안에서 쓰기 락을 요청하면 교착 대신 IllegalStateException 발생하고 읽기 락 해제")
+        void writeInsideRead_Throws() {
+            // given
+            readLockAvailable(true);
+            writeLockAvailable(true);
+
+            // when & then
+            assertThatThrownBy(() -> lockService.executeWithReadLock("ad:1", 1, 10, TimeUnit.SECONDS,
+                    () -> lockService.executeWithWriteLock("ad:1", 1, 10, TimeUnit.SECONDS, () -> "never")))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("upgrade");
+            verify(stringRedisTemplate, never())
+                    .execute(anyScript(), eq(KEYS), anyString(), anyString(), anyString());
+            verify(zSetOperations).remove(eq("rwlock:{ad:1}:readers"), any());
+
+            // 해제 후에는 다시 획득
+            lockService.executeWithWriteLock("ad:1", 1, 10, TimeUnit.SECONDS, () -> "saved");
+            verify(stringRedisTemplate).execute(anyScript(), eq(KEYS), anyString(), anyString(), anyString());
+        }
+    }
+
+    private static RedisScript<Long> anyScript() {
+        return any();
+    }
+}
@@ -0,0 +1,109 @@
+package com.common.server.common.lock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * DistributedSemaphoreService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("DistributedSemaphoreService 테스트")
+class DistributedSemaphoreServiceTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    private DistributedSemaphoreService semaphoreService;
+
+    @BeforeEach
+    void setUp() {
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        semaphoreService = new DistributedSemaphoreService(stringRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("퍼밋을 획득하면 작업을 실행하고 같은 보유자 ID로 반환")
+    void executeWithPermit_AcquiresAndReleases() {
+        // given
+        when(stringRedisTemplate.execute(anyScript(), eq(List.of("semaphore:api")), eq("3"),
+                eq("10000"), anyString())).thenReturn(1L);
+
+        // when
+        String result = semaphoreService.executeWithPermit("api", 3, 1, 10, TimeUnit.SECONDS, () -> "done");
+
+        // then
+        ArgumentCaptor<String> holderId = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate).execute(anyScript(), eq(List.of("semaphore:api")), eq("3"),
+                eq("10000"), holderId.capture());
+        assertThat(result).isEqualTo("done");
+        verify(zSetOperations).remove("semaphore:api", holderId.getValue());
+    }
+
+    @Test
+    @DisplayName("대기 시간 내 퍼밋을 얻지 못하면 LockAcquisitionException 발생하고 반환하지 않음")
+    void executeWithPermit_Busy_ThrowsException() {
+        // given
+        when(stringRedisTemplate.execute(anyScript(), anyList(), anyString(), anyString(), anyString()))
+                .thenReturn(0L);
+
+        // when & then
+        assertThatThrownBy(() -> semaphoreService.executeWithPermit("api", 1, 100, 10_000,
+                TimeUnit.MILLISECONDS, () -> "never"))
+                .isInstanceOf(LockAcquisitionException.class);
+        verify(stringRedisTemplate, atLeast(2))
+                .execute(anyScript(), anyList(), anyString(), anyString(), anyString());
+        verify(zSetOperations, never()).remove(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("퍼밋 수가 0 이하이면 IllegalArgumentException 발생")
+    void tryAcquire_NonPositivePermits_Throws() {
+        // when & then
+        assertThatThrownBy(() -> semaphoreService.tryAcquire("semaphore:api", "holder", 0, 1, 10,
+                TimeUnit.SECONDS))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("사용 중인 퍼밋 수는 노드 시계가 아닌 Redis TIME 기준으로 계산")
+    @SuppressWarnings("unchecked")
+    void usedPermits_UsesRedisTime() {
+        // given
+        when(stringRedisTemplate.execute(anyScript(), eq(List.of("semaphore:api")))).thenReturn(2L);
+
+        // when
+        long used = semaphoreService.usedPermits("api");
+
+        // then
+        ArgumentCaptor<RedisScript<Long>> script = ArgumentCaptor.forClass(RedisScript.class);
+        verify(stringRedisTemplate).execute(script.capture(), eq(List.of("semaphore:api")));
+        assertThat(used).isEqualTo(2);
+        assertThat(script.getValue().getScriptAsString()).contains("TIME").contains("ZCOUNT");
+        verify(zSetOperations, never()).count(anyString(), anyDouble(), anyDouble());
+    }
+
+    private static RedisScript<Long> anyScript() {
+        return any();
+    }
+}
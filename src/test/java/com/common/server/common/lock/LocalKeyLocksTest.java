@@ -0,0 +1,47 @@
+package com.common.server.common.lock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * LocalKeyLocks 단위 테스트
+ */
+@DisplayName("LocalKeyLocks 테스트")
+class LocalKeyLocksTest {
+
+    private final LocalKeyLocks locks = new LocalKeyLocks();
+
+    @Test
+    @DisplayName("같은 키는 같은 락, 다른 키는 다른 락을 반환")
+    void acquire_ReturnsLockPerKey() {
+        // when
+        ReentrantLock first = locks.acquire("a");
+        ReentrantLock second = locks.acquire("a");
+        ReentrantLock other = locks.acquire("b");
+
+        // then
+        assertThat(first).isSameAs(second);
+        assertThat(other).isNotSameAs(first);
+    }
+
+    @Test
+    @DisplayName("마지막 참조를 반환하면 맵에서 제거")
+    void release_RemovesLockAfterLastReference() {
+        // given
+        locks.acquire("a");
+        locks.acquire("a");
+
+        // when
+        locks.release("a");
+        int afterFirstRelease = locks.size();
+        locks.release("a");
+
+        // then
+        assertThat(afterFirstRelease).isEqualTo(1);
+        assertThat(locks.size()).isZero();
+    }
+}
@@ -0,0 +1,63 @@
+package com.common.server.common.logging;
+
+import com.common.server.config.RequestLoggingProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * RequestLogSampler 단위 테스트
+ */
+@DisplayName("RequestLogSampler 테스트")
+class RequestLogSamplerTest {
+
+    private RequestLoggingProperties properties;
+    private RequestLogSampler sampler;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RequestLoggingProperties();
+        properties.setSlowThreshold(Duration.ofMillis(200));
+        properties.setSampleRate(0.0);
+        sampler = new RequestLogSampler(properties);
+    }
+
+    @Test
+    @DisplayName("예외와 오류 응답은 항상 기록")
+    void decide_ErrorsAlwaysLogged() {
+        assertThat(sampler.decide(200, 0, true)).isEqualTo(RequestLogSampler.Decision.ERROR);
+        assertThat(sampler.decide(404, 0, false)).isEqualTo(RequestLogSampler.Decision.ERROR);
+        assertThat(sampler.decide(503, 0, false)).isEqualTo(RequestLogSampler.Decision.ERROR);
+    }
+
+    @Test
+    @DisplayName("임계값 이상 걸린 요청은 항상 기록")
+    void decide_SlowAlwaysLogged() {
+        assertThat(sampler.decide(200, TimeUnit.MILLISECONDS.toNanos(200), false))
+                .isEqualTo(RequestLogSampler.Decision.SLOW);
+    }
+
+    @Test
+    @DisplayName("빠른 성공 요청은 표본 비율에 따라 기록")
+    void decide_FastSuccessSampled() {
+        long fast = TimeUnit.MILLISECONDS.toNanos(5);
+        assertThat(sampler.decide(200, fast, false)).isEqualTo(RequestLogSampler.Decision.SKIP);
+
+        properties.setSampleRate(1.0);
+        assertThat(sampler.decide(200, fast, false)).isEqualTo(RequestLogSampler.Decision.SAMPLED);
+
+        properties.setSampleRate(0.1);
+        int sampled = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (sampler.decide(200, fast, false) == RequestLogSampler.Decision.SAMPLED) {
+                sampled++;
+            }
+        }
+        assertThat(sampled / 100_000.0).isBetween(0.09, 0.11);
+    }
+}
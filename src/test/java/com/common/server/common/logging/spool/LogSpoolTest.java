@@ -0,0 +1,151 @@
+package com.common.server.common.logging.spool;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * LogSpool 단위 테스트
+ */
+@DisplayName("LogSpool 테스트")
+class LogSpoolTest {
+
+    private static final int SEGMENT_SIZE = 256;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("세그먼트를 넘겨 기록해도 기록한 순서대로 읽고, 모두 읽으면 파일 삭제")
+    void appendAndDrain_InOrderAcrossSegments() throws IOException {
+        // given
+        LogSpool spool = new LogSpool(directory, SEGMENT_SIZE, 1024 * 1024);
+        for (int i = 0; i < 50; i++) {
+            spool.append(record(i));
+        }
+        assertThat(segmentFiles()).hasSizeGreaterThan(1);
+
+        // when
+        List<String> drained = drain(spool);
+
+        // then
+        assertThat(drained).hasSize(50);
+        for (int i = 0; i < 50; i++) {
+            assertThat(drained.get(i)).isEqualTo("event-" + i);
+        }
+        assertThat(spool.isEmpty()).isTrue();
+        assertThat(segmentFiles()).isEmpty();
+        spool.close();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래된 세그먼트부터 삭제하고 버린 건수 반환")
+    void append_EvictsOldestSegment() throws IOException {
+        // given
+        LogSpool spool = new LogSpool(directory, SEGMENT_SIZE, SEGMENT_SIZE * 2L);
+
+        // when
+        long evicted = 0;
+        for (int i = 0; i < 100; i++) {
+            evicted += spool.append(record(i));
+        }
+
+        // then
+        assertThat(evicted).isPositive();
+        assertThat(spool.sizeOnDisk()).isLessThanOrEqualTo(SEGMENT_SIZE * 2L);
+        List<String> drained = drain(spool);
+        assertThat(drained).hasSize((int) (100 - evicted));
+        assertThat(drained.get(drained.size() - 1)).isEqualTo("event-99");
+        assertThat(drained.get(0)).isEqualTo("event-" + evicted);
+        spool.close();
+    }
+
+    @Test
+    @DisplayName("재시작 후에는 읽음 처리하지 않은 레코드부터 이어서 제공")
+    void reopen_ResumesFromCommittedPosition() throws IOException {
+        // given
+        LogSpool spool = new LogSpool(directory, SEGMENT_SIZE, 1024 * 1024);
+        for (int i = 0; i < 5; i++) {
+            spool.append(record(i));
+        }
+        List<LogSpool.SpoolRecord> first = spool.peek(2);
+        spool.commit(first.get(1));
+        spool.close();
+
+        // when
+        LogSpool reopened = new LogSpool(directory, SEGMENT_SIZE, 1024 * 1024);
+        reopened.append(record(5));
+
+        // then
+        assertThat(drain(reopened)).containsExactly("event-2", "event-3", "event-4", "event-5");
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("재시작 시 열 수 없는 세그먼트는 건너뛰고 나머지 레코드는 계속 제공")
+    void reopen_SkipsUnreadableSegments() throws IOException {
+        // given
+        LogSpool spool = new LogSpool(directory, SEGMENT_SIZE, 1024 * 1024);
+        for (int i = 0; i < 3; i++) {
+            spool.append(record(i));
+        }
+        spool.close();
+        Path truncated = directory.resolve("spool-" + String.format("%020d", 7) + ".seg");
+        Files.write(truncated, new byte[3]);
+        Path unreadable = Files.createDirectory(directory.resolve("spool-" + String.format("%020d", 8) + ".seg"));
+
+        // when
+        LogSpool reopened = new LogSpool(directory, SEGMENT_SIZE, 1024 * 1024);
+        reopened.append(record(3));
+
+        // then
+        assertThat(reopened.skippedSegments()).containsExactly(truncated, unreadable);
+        assertThat(truncated).doesNotExist();
+        assertThat(unreadable).doesNotExist();
+        assertThat(directory.resolve(unreadable.getFileName() + ".corrupt")).exists();
+        assertThat(drain(reopened)).containsExactly("event-0", "event-1", "event-2", "event-3");
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("세그먼트보다 큰 레코드는 거부")
+    void append_TooLarge_Rejected() throws IOException {
+        LogSpool spool = new LogSpool(directory, SEGMENT_SIZE, 1024 * 1024);
+
+        assertThatThrownBy(() -> spool.append(new byte[SEGMENT_SIZE]))
+                .isInstanceOf(IllegalArgumentException.class);
+        spool.close();
+    }
+
+    private static byte[] record(int index) {
+        return ("event-" + index).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> drain(LogSpool spool) {
+        List<String> drained = new ArrayList<>();
+        List<LogSpool.SpoolRecord> batch;
+        while (!(batch = spool.peek(7)).isEmpty()) {
+            for (LogSpool.SpoolRecord record : batch) {
+                drained.add(new String(record.data(), StandardCharsets.UTF_8));
+            }
+            spool.commit(batch.get(batch.size() - 1));
+        }
+        return drained;
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.toList();
+        }
+    }
+}
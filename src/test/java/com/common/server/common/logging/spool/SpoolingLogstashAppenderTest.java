@@ -0,0 +1,170 @@
+package com.common.server.common.logging.spool;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.util.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * SpoolingLogstashAppender 테스트 (로컬 TCP 서버 사용)
+ */
+@DisplayName("SpoolingLogstashAppender 테스트")
+class SpoolingLogstashAppenderTest {
+
+    @TempDir
+    Path spoolDirectory;
+
+    private final LoggerContext loggerContext = new LoggerContext();
+    private SpoolingLogstashAppender appender;
+    private ServerSocket server;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (appender != null) {
+            appender.stop();
+        }
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    @Test
+    @DisplayName("연결이 끊긴 동안 스풀에 기록하고 복구되면 순서대로 재전송")
+    void spoolWhileDown_ReplayInOrderOnRecovery() throws Exception {
+        // given - 아직 열리지 않은 포트로 시작
+        int port;
+        try (ServerSocket probe = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            port = probe.getLocalPort();
+        }
+        appender = startAppender(new SpoolingLogstashAppender(), port, 2);
+
+        // when - 큐(2개)를 넘는 이벤트 기록
+        for (int i = 0; i < 20; i++) {
+            appender.doAppend(event("event-" + i));
+        }
+
+        // then - 큐를 넘은 이벤트는 스풀에 기록
+        assertThat(appender.getSpooledCount()).isGreaterThanOrEqualTo(18);
+        assertThat(appender.getDroppedCount()).isZero();
+
+        // when - Logstash 복구
+        List<String> received = new CopyOnWriteArrayList<>();
+        server = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        Thread.ofVirtual().start(() -> readLines(received));
+
+        // then - 기록한 순서 그대로 모두 수신
+        await().atMost(10, TimeUnit.SECONDS).until(() -> received.size() == 20);
+        for (int i = 0; i < 20; i++) {
+            assertThat(received.get(i)).isEqualTo("event-" + i);
+        }
+        assertThat(appender.getReplayedCount()).isEqualTo(appender.getSpooledCount());
+    }
+
+    @Test
+    @DisplayName("쓰기 버퍼에 있던 이벤트는 플러시 중 연결이 끊겨도 스풀에 다시 기록")
+    void connectionBreaksBeforeFlush_RespoolBufferedEvents() throws Exception {
+        // given - 첫 연결에서는 소켓으로 나가는 첫 쓰기가 실패 (버퍼에 쌓인 이벤트를 내보내는 시점)
+        int port;
+        try (ServerSocket probe = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            port = probe.getLocalPort();
+        }
+        AtomicBoolean broken = new AtomicBoolean();
+        appender = startAppender(new SpoolingLogstashAppender() {
+            @Override
+            OutputStream openOutput(Socket connected) throws IOException {
+                return new FilterOutputStream(connected.getOutputStream()) {
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        if (broken.compareAndSet(false, true)) {
+                            throw new IOException("Broken pipe");
+                        }
+                        out.write(b, off, len);
+                    }
+                };
+            }
+        }, port, 64);
+
+        // 연결 전에 메모리 큐에 이벤트를 쌓아 두면, 연결 직후 한 번에 버퍼로 쓰인 뒤 플러시됨
+        for (int i = 0; i < 20; i++) {
+            appender.doAppend(event("event-" + i));
+        }
+        assertThat(appender.getSpooledCount()).isZero();
+
+        // when - Logstash 기동
+        List<String> received = new CopyOnWriteArrayList<>();
+        server = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        Thread.ofVirtual().start(() -> {
+            readLines(received);
+            readLines(received);
+        });
+
+        // then - 끊긴 연결의 버퍼에 있던 이벤트까지 재연결 후 모두 수신
+        await().atMost(10, TimeUnit.SECONDS).until(() -> received.size() >= 20);
+        assertThat(broken).isTrue();
+        assertThat(received).containsExactlyInAnyOrderElementsOf(
+                IntStream.range(0, 20).mapToObj(i -> "event-" + i).toList());
+        assertThat(appender.getSpooledCount()).isEqualTo(20);
+        assertThat(appender.getDroppedCount()).isZero();
+    }
+
+    private SpoolingLogstashAppender startAppender(SpoolingLogstashAppender spooling, int port, int queueSize) {
+        loggerContext.setMDCAdapter(new LogbackMDCAdapter());
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern("%msg%n");
+        encoder.start();
+
+        spooling.setContext(loggerContext);
+        spooling.setName("test-spool");
+        spooling.setDestination("127.0.0.1:" + port);
+        spooling.setEncoder(encoder);
+        spooling.setSpoolDirectory(spoolDirectory.toString());
+        spooling.setQueueSize(queueSize);
+        spooling.setReconnectionDelay(Duration.buildByMilliseconds(50));
+        spooling.start();
+        return spooling;
+    }
+
+    private LoggingEvent event(String message) {
+        return new LoggingEvent(getClass().getName(), loggerContext.getLogger("test"), Level.INFO, message, null, null);
+    }
+
+    private void readLines(List<String> received) {
+        try (Socket socket = server.accept();
+             BufferedReader reader = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                received.add(line);
+            }
+        } catch (Exception ignored) {
+            // 테스트 종료 시 소켓 닫힘
+        }
+    }
+}
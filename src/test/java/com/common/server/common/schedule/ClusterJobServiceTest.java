@@ -0,0 +1,229 @@
+package com.common.server.common.schedule;
+
+import com.common.server.config.ClusterScheduleProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ClusterJobService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("ClusterJobService 테스트")
+class ClusterJobServiceTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    private SimpleMeterRegistry registry;
+    private ClusterJobService clusterJobService;
+
+    @BeforeEach
+    void setUp() {
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(stringRedisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+        ClusterScheduleProperties properties = new ClusterScheduleProperties();
+        properties.setNodeId("node-1");
+        registry = new SimpleMeterRegistry();
+        clusterJobService = new ClusterJobService(stringRedisTemplate, registry, properties);
+    }
+
+    @Test
+    @DisplayName("리스를 획득하면 실행하고 결과를 기록")
+    void run_WithLease_ExecutesAndRecords() throws Throwable {
+        // given
+        when(valueOperations.setIfAbsent(eq("schedule:lease:cleanup"), startsWith("node-1:"), any(Duration.class)))
+                .thenReturn(true);
+        List<JobShard> shards = new ArrayList<>();
+
+        // when
+        int executed = clusterJobService.run("cleanup", 1, Duration.ofMinutes(10), Duration.ZERO,
+                () -> shards.add(JobShard.current()));
+
+        // then
+        assertThat(executed).isEqualTo(1);
+        assertThat(shards).containsExactly(new JobShard(0, 1));
+        verify(stringRedisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of("schedule:lease:cleanup")),
+                startsWith("node-1:"), eq("0"));
+        verify(hashOperations).putAll(eq("schedule:run:cleanup"), argThat(fields ->
+                "node-1".equals(fields.get("node")) && "SUCCESS".equals(fields.get("status"))));
+        verify(setOperations).add("schedule:jobs", "cleanup");
+        assertThat(registry.get("cluster.job.run").tags("job", "cleanup", "outcome", "success")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 리스를 보유하면 건너뜀")
+    void run_LeaseHeld_Skips() throws Throwable {
+        // given
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        List<JobShard> shards = new ArrayList<>();
+
+        // when
+        int executed = clusterJobService.run("cleanup", 1, Duration.ofMinutes(10), Duration.ZERO,
+                () -> shards.add(JobShard.current()));
+
+        // then
+        assertThat(executed).isZero();
+        assertThat(shards).isEmpty();
+        verify(hashOperations, never()).putAll(anyString(), anyMap());
+        assertThat(registry.get("cluster.job.skipped").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 중복 실행 대신 건너뜀")
+    void run_RedisUnavailable_Skips() throws Throwable {
+        // given
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        List<JobShard> shards = new ArrayList<>();
+
+        // when
+        int executed = clusterJobService.run("cleanup", 1, Duration.ofMinutes(10), Duration.ZERO,
+                () -> shards.add(JobShard.current()));
+
+        // then
+        assertThat(executed).isZero();
+        assertThat(shards).isEmpty();
+    }
+
+    @Test
+    @DisplayName("샤드마다 리스를 획득하여 획득한 샤드만 실행")
+    void run_Sharded_RunsLeasedShardsOnly() throws Throwable {
+        // given: 샤드 1은 다른 노드가 보유
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        when(valueOperations.setIfAbsent(eq("schedule:lease:rollup:1"), anyString(), any(Duration.class)))
+                .thenReturn(false);
+        List<Integer> indexes = new ArrayList<>();
+
+        // when
+        int executed = clusterJobService.run("rollup", 3, Duration.ofMinutes(10), Duration.ZERO,
+                () -> indexes.add(JobShard.current().index()));
+
+        // then
+        assertThat(executed).isEqualTo(2);
+        assertThat(indexes).containsExactlyInAnyOrder(0, 2);
+        verify(setOperations).add("schedule:jobs", "rollup:0");
+        verify(setOperations).add("schedule:jobs", "rollup:2");
+        assertThat(JobShard.current()).isEqualTo(new JobShard(0, 1));
+    }
+
+    @Test
+    @DisplayName("끝난 샤드의 리스도 주기가 끝날 때까지 유지한 뒤 한꺼번에 해제")
+    void run_Sharded_HoldsLeasesUntilCycleEnds() throws Throwable {
+        // given
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+
+        // when: 각 샤드 실행 중에는 앞서 끝난 샤드의 리스도 해제되지 않아야 함
+        int executed = clusterJobService.run("rollup", 3, Duration.ofMinutes(10), Duration.ZERO,
+                () -> verify(stringRedisTemplate, never()).execute(ArgumentMatchers.<RedisScript<Long>>any(),
+                        anyList(), any(Object[].class)));
+
+        // then
+        assertThat(executed).isEqualTo(3);
+        verify(stringRedisTemplate, times(3)).execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(),
+                startsWith("node-1:"), eq("0"));
+    }
+
+    @Test
+    @DisplayName("작업이 실패하면 FAILED로 기록하고 예외 전파, 최소 유지 시간만큼 리스 유지")
+    void run_Failure_RecordsAndRethrows() {
+        // given
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> clusterJobService.run("cleanup", 1, Duration.ofMinutes(10), Duration.ofMinutes(1),
+                () -> {
+                    throw new IllegalStateException("boom");
+                }))
+                .isInstanceOf(IllegalStateException.class);
+        verify(hashOperations).putAll(eq("schedule:run:cleanup"), argThat(fields ->
+                "FAILED".equals(fields.get("status"))
+                        && String.valueOf(fields.get("error")).contains("boom")));
+        verify(stringRedisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), anyString(),
+                argThat((Object remaining) -> Long.parseLong(remaining.toString()) > 50_000));
+    }
+
+    @Test
+    @DisplayName("한 샤드가 실패해도 나머지 샤드를 실행한 뒤 예외 전파")
+    void run_ShardFailure_RunsRemainingShards() {
+        // given
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        List<Integer> indexes = new ArrayList<>();
+
+        // when & then
+        assertThatThrownBy(() -> clusterJobService.run("rollup", 3, Duration.ofMinutes(10), Duration.ZERO,
+                () -> {
+                    int index = JobShard.current().index();
+                    indexes.add(index);
+                    if (index != 2) {
+                        throw new IllegalStateException("boom-" + index);
+                    }
+                }))
+                .isInstanceOf(IllegalStateException.class)
+                .satisfies(e -> assertThat(e.getSuppressed()).hasSize(1));
+        assertThat(indexes).containsExactlyInAnyOrder(0, 1, 2);
+        verify(hashOperations).putAll(eq("schedule:run:rollup:2"), argThat(fields ->
+                "SUCCESS".equals(fields.get("status"))));
+        verify(stringRedisTemplate, times(3)).execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(),
+                startsWith("node-1:"), eq("0"));
+    }
+
+    @Test
+    @DisplayName("마지막 실행 기록 조회")
+    void lastRuns_ReadsRecordedRuns() {
+        // given
+        when(setOperations.members("schedule:jobs")).thenReturn(Set.of("cleanup"));
+        when(hashOperations.entries("schedule:run:cleanup")).thenReturn(Map.of(
+                "node", "node-2",
+                "startedAt", "2025-01-13T04:00:00Z",
+                "durationMillis", "1234",
+                "status", "SUCCESS",
+                "error", ""));
+
+        // when
+        List<ClusterJobService.ClusterJobRun> runs = clusterJobService.lastRuns();
+
+        // then
+        assertThat(runs).singleElement().satisfies(run -> {
+            assertThat(run.job()).isEqualTo("cleanup");
+            assertThat(run.node()).isEqualTo("node-2");
+            assertThat(run.durationMillis()).isEqualTo(1234);
+            assertThat(run.error()).isNull();
+        });
+    }
+}
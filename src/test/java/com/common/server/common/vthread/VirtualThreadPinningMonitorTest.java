@@ -0,0 +1,109 @@
+package com.common.server.common.vthread;
+
+import com.common.server.config.VirtualThreadMonitorProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * VirtualThreadPinningMonitor 단위 테스트
+ */
+@DisplayName("VirtualThreadPinningMonitor 테스트")
+class VirtualThreadPinningMonitorTest {
+
+    private VirtualThreadMonitorProperties properties;
+    private SimpleMeterRegistry registry;
+    private VirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        properties = new VirtualThreadMonitorProperties();
+        properties.setMaxStacks(2);
+        properties.setTopStacks(10);
+        registry = new SimpleMeterRegistry();
+        monitor = new VirtualThreadPinningMonitor(properties, registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    @Test
+    @DisplayName("스택별로 집계하고 발생 횟수 순으로 정렬")
+    void record_AggregatesByStack() {
+        // given
+        List<String> hot = List.of("com.example.Dao.query(line:10)", "com.example.Service.find(line:20)");
+        List<String> cold = List.of("com.example.Cache.load(line:5)");
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            monitor.record(VirtualThreadPinningMonitor.PINNED_EVENT, hot, Duration.ofMillis(30), "worker-1");
+        }
+        monitor.record(VirtualThreadPinningMonitor.PINNED_EVENT, cold, Duration.ofMillis(50), "worker-2");
+
+        // then
+        List<VirtualThreadPinningMonitor.StackSummary> top = monitor.topStacks();
+        assertThat(top).hasSize(2);
+        assertThat(top.get(0).stack()).isEqualTo(hot);
+        assertThat(top.get(0).count()).isEqualTo(3);
+        assertThat(top.get(0).totalMillis()).isEqualTo(90);
+        assertThat(top.get(0).maxMillis()).isEqualTo(30);
+        assertThat(monitor.pinnedCount()).isEqualTo(4);
+        assertThat(registry.get("virtual.thread.pinned").timer().count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("최대 스택 수를 넘으면 OTHER로 집계")
+    void record_OverflowsToOther() {
+        // when
+        for (int i = 0; i < 5; i++) {
+            monitor.record(VirtualThreadPinningMonitor.SUBMIT_FAILED_EVENT, List.of("frame" + i), Duration.ZERO, null);
+        }
+
+        // then
+        assertThat(monitor.topStacks())
+                .extracting(VirtualThreadPinningMonitor.StackSummary::stack)
+                .contains(List.of(VirtualThreadPinningMonitor.OTHER_STACK));
+        assertThat(monitor.submitFailedCount()).isEqualTo(5);
+        assertThat(registry.get("virtual.thread.pinned.stacks").gauge().value()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("synchronized 안에서 블로킹한 가상 스레드의 피닝을 JFR로 감지")
+    void start_CapturesPinnedVirtualThread() throws InterruptedException {
+        // given
+        properties.setEnabled(true);
+        properties.setPinnedThreshold(Duration.ofMillis(1));
+        monitor.start();
+        assumeTrue(monitor.isRunning(), "JFR is not available");
+        Object lock = new Object();
+
+        // when
+        Thread thread = Thread.ofVirtual().start(() -> {
+            synchronized (lock) {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        thread.join();
+
+        // then
+        await().atMost(15, TimeUnit.SECONDS).until(() -> monitor.pinnedCount() > 0);
+        assertThat(monitor.topStacks().get(0).stack())
+                .anyMatch(frame -> frame.contains(VirtualThreadPinningMonitorTest.class.getName()));
+    }
+}
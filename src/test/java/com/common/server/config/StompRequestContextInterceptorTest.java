@@ -0,0 +1,69 @@
+package com.common.server.config;
+
+import com.common.server.common.context.RequestContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * StompRequestContextInterceptor 테스트
+ */
+@DisplayName("StompRequestContextInterceptor 테스트")
+class StompRequestContextInterceptorTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+
+    private final StompRequestContextInterceptor interceptor = new StompRequestContextInterceptor();
+    private final MessageChannel channel = mock(MessageChannel.class);
+
+    @Test
+    @DisplayName("preSend에서 한 번 만든 컨텍스트를 모든 핸들러가 공유")
+    void beforeHandle_SharesContextCreatedInPreSend() {
+        // given
+        Message<?> message = interceptor.preSend(stompMessage(), channel);
+
+        // when
+        RequestContext first = handle(message, mock(MessageHandler.class));
+        RequestContext second = handle(message, mock(MessageHandler.class));
+
+        // then
+        assertThat(first).isSameAs(second);
+        assertThat(first.traceId()).isEqualTo(TRACE_ID);
+        assertThat(first.parentSpanId()).isEqualTo("00f067aa0ba902b7");
+        assertThat(first.userId()).isEqualTo("user-1");
+        assertThat(first.clientAddress()).isEqualTo("10.0.0.1");
+        assertThat(RequestContext.current()).isNull();
+    }
+
+    private RequestContext handle(Message<?> message, MessageHandler handler) {
+        interceptor.beforeHandle(message, channel, handler);
+        try {
+            return RequestContext.current();
+        } finally {
+            interceptor.afterMessageHandled(message, channel, handler, null);
+        }
+    }
+
+    private static Message<byte[]> stompMessage() {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+        accessor.setDestination("/app/chat");
+        accessor.setNativeHeader(RequestContext.TRACEPARENT_HEADER, "00-" + TRACE_ID + "-00f067aa0ba902b7-01");
+        accessor.setUser(() -> "user-1");
+        Map<String, Object> sessionAttributes = new HashMap<>();
+        sessionAttributes.put("clientAddress", "10.0.0.1");
+        accessor.setSessionAttributes(sessionAttributes);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}